@@ -84,7 +84,65 @@ CREATE TABLE `admin_alarm_user_mappings` (
     `read_at` DATETIME NULL,
     `deleted_at` DATETIME NULL,
     FOREIGN KEY (`alarm_id`) REFERENCES admin_alarms(`id`) ON DELETE CASCADE,
-    FOREIGN KEY (`user_id`) REFERENCES users(`id`) ON DELETE CASCADE
+    FOREIGN KEY (`user_id`) REFERENCES users(`id`) ON DELETE CASCADE,
+    UNIQUE KEY `unique_alarm_user` (`alarm_id`, `user_id`)
+);
+
+-- 사용자별 공지 읽음/삭제 워터마크 (announcement.read-state=watermark) --
+CREATE TABLE `user_announcement_states`
+(
+    `user_id`                      BIGINT NOT NULL PRIMARY KEY,
+    `last_read_announcement_id`    BIGINT NOT NULL DEFAULT 0,  -- 이 ID 이하의 공지는 모두 읽음
+    `last_cleared_announcement_id` BIGINT NOT NULL DEFAULT 0,  -- 이 ID 이하의 공지는 모두 삭제 (가입 시점의 최신 공지 ID로 시작)
+    FOREIGN KEY (`user_id`) REFERENCES users (`id`) ON DELETE CASCADE
+);
+
+-- 워터마크 이후 공지 중 개별적으로 읽음/삭제한 공지 --
+CREATE TABLE `user_announcement_exceptions`
+(
+    `user_id`    BIGINT   NOT NULL,
+    `alarm_id`   BIGINT   NOT NULL,
+    `read_at`    DATETIME NULL,
+    `deleted_at` DATETIME NULL,
+    PRIMARY KEY (`user_id`, `alarm_id`),
+    FOREIGN KEY (`user_id`) REFERENCES users (`id`) ON DELETE CASCADE,
+    FOREIGN KEY (`alarm_id`) REFERENCES admin_alarms (`id`) ON DELETE CASCADE
+);
+
+-- 공지 매핑 생성 진행 상황 (사용자 ID 구간 단위 체크포인트, announcement.read-state=mapping) --
+CREATE TABLE `announcement_fanouts`
+(
+    `alarm_id`       BIGINT   NOT NULL PRIMARY KEY,
+    `last_user_id`   BIGINT   NOT NULL DEFAULT 0,  -- 매핑 생성이 끝난 마지막 사용자 ID
+    `max_user_id`    BIGINT   NOT NULL,            -- 공지 시점의 최대 사용자 ID
+    `inserted_count` BIGINT   NOT NULL DEFAULT 0,  -- 생성한 매핑 수
+    `created_at`     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP(),
+    `updated_at`     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP() ON UPDATE CURRENT_TIMESTAMP(),
+    `completed_at`   DATETIME NULL,
+    INDEX `idx_announcement_fanouts_incomplete` (`completed_at`, `updated_at`),
+    FOREIGN KEY (`alarm_id`) REFERENCES admin_alarms (`id`) ON DELETE CASCADE
+);
+
+-- 푸시 발송 대기열 (비즈니스 트랜잭션에서 기록, 백그라운드에서 FCM으로 발송) --
+CREATE TABLE `push_outbox`
+(
+    `id`              BIGINT AUTO_INCREMENT               NOT NULL PRIMARY KEY,
+    `receiver_id`     BIGINT                              NULL,      -- 개인 알림 수신자 (토픽 발송이면 NULL)
+    `topic`           VARCHAR(50)                         NULL,      -- 토픽 발송 대상 (개인 알림이면 NULL)
+    `title`           TEXT                                NOT NULL,
+    `body`            TEXT                                NULL,
+    `data`            TEXT                                NULL,      -- 데이터 페이로드 (JSON 문자열 맵)
+    `status`          ENUM ('PENDING', 'SENT', 'FAILED')  NOT NULL DEFAULT 'PENDING',
+    `attempt_count`   INT                                 NOT NULL DEFAULT 0,
+    `next_attempt_at` DATETIME                            NOT NULL DEFAULT CURRENT_TIMESTAMP(),
+    `claim_id`        VARCHAR(36)                         NULL,      -- 발송 중인 디스패처 식별자
+    `message_id`      VARCHAR(255)                        NULL,      -- FCM 응답 메시지 ID
+    `last_error`      VARCHAR(500)                        NULL,
+    `created_at`      DATETIME                            NOT NULL DEFAULT CURRENT_TIMESTAMP(),
+    `sent_at`         DATETIME                            NULL,
+    INDEX `idx_push_outbox_dispatch` (`status`, `next_attempt_at`),
+    INDEX `idx_push_outbox_claim` (`claim_id`),
+    FOREIGN KEY (`receiver_id`) REFERENCES users (`id`) ON DELETE CASCADE
 );
 --
 
@@ -136,8 +194,41 @@ CREATE TABLE `works`
     `gross_income`            INT                   DEFAULT 0,  -- 세전 일급 (위 4가지의 합)
     `estimated_net_income`    INT                   DEFAULT 0,  -- 추정 세후 일급 (캘린더 표시용)
     `repeat_group_id`         VARCHAR(36)           NULL,
+    `week_start`              DATE GENERATED ALWAYS AS (DATE_SUB(`work_date`, INTERVAL WEEKDAY(`work_date`) DAY)) STORED,     -- 근무일이 속한 주의 월요일 (주휴수당 집계용)
+    `work_month`              DATE GENERATED ALWAYS AS (DATE_SUB(`work_date`, INTERVAL DAYOFMONTH(`work_date`) - 1 DAY)) STORED, -- 근무일이 속한 월의 1일 (월별 집계용)
+    `updated_at`              DATETIME(6)           NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6), -- 마지막 변경 시각 (동기화 API용)
     FOREIGN KEY (`worker_id`) REFERENCES workers (`id`) ON DELETE CASCADE,
-    INDEX `idx_repeat_group_id` (`repeat_group_id`)
+    INDEX `idx_worker_work_date` (`worker_id`, `work_date`),
+    INDEX `idx_worker_start_time` (`worker_id`, `start_time`),
+    INDEX `idx_worker_week_start` (`worker_id`, `week_start`),
+    INDEX `idx_worker_work_month` (`worker_id`, `work_month`),
+    INDEX `idx_repeat_group_id` (`repeat_group_id`, `work_date`),
+    INDEX `idx_worker_updated_at` (`worker_id`, `updated_at`)
+);
+
+-- 삭제된 근무 기록 (동기화 API가 삭제를 전달하기 위한 tombstone, 보관 기간이 지나면 정리)
+CREATE TABLE `work_tombstones`
+(
+    `work_id`    BIGINT      NOT NULL PRIMARY KEY,
+    `worker_id`  BIGINT      NOT NULL,
+    `deleted_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX `idx_worker_deleted_at` (`worker_id`, `deleted_at`),
+    INDEX `idx_deleted_at` (`deleted_at`)
+);
+
+-- 반복 근무 규칙 (반복 정보 조회용, 근무일마다의 works 행은 생성 시 모두 만들어 둠)
+CREATE TABLE `work_repeat_groups`
+(
+    `id`                VARCHAR(36)                                                                              NOT NULL PRIMARY KEY, -- works.repeat_group_id
+    `worker_id`         BIGINT                                                                                   NOT NULL,
+    `repeat_days`       SET ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY')     NOT NULL, -- 반복 요일
+    `start_date`        DATE                                                                                     NOT NULL, -- 반복 시작일
+    `end_date`          DATE                                                                                     NOT NULL, -- 반복 종료일
+    `start_time`        TIME                                                                                     NOT NULL, -- 출근 시각
+    `end_time`          TIME                                                                                     NOT NULL, -- 퇴근 시각 (출근 시각 이하이면 다음 날)
+    `rest_time_minutes` INT                                                                                      DEFAULT 0,
+    `memo`              VARCHAR(200)                                                                             NULL,
+    FOREIGN KEY (`worker_id`) REFERENCES workers (`id`) ON DELETE CASCADE
 );
 
 CREATE TABLE `work_routine_mappings`
@@ -168,4 +259,21 @@ CREATE TABLE `salaries`
     `has_night_allowance`      TINYINT(1)                                                                          NOT NULL,
     FOREIGN KEY (`worker_id`) REFERENCES workers (`id`) ON DELETE CASCADE
 );
+
+CREATE TABLE `worker_month_summaries`
+(
+    `worker_id`          BIGINT NOT NULL,
+    `work_month`         DATE   NOT NULL,            -- 해당 월의 1일
+    `work_count`         INT    NOT NULL DEFAULT 0,  -- 근무일 수
+    `net_work_minutes`   INT    NOT NULL DEFAULT 0,  -- 순 근무시간(분) 합계
+    `night_work_minutes` INT    NOT NULL DEFAULT 0,  -- 야간 근무시간(분) 합계
+    `rest_time_minutes`  INT    NOT NULL DEFAULT 0,  -- 휴게시간(분) 합계
+    `base_pay`           INT    NOT NULL DEFAULT 0,  -- 기본급 합계
+    `night_allowance`    INT    NOT NULL DEFAULT 0,  -- 야간수당 합계
+    `holiday_allowance`  INT    NOT NULL DEFAULT 0,  -- 주휴수당 합계
+    `gross_income`       INT    NOT NULL DEFAULT 0,  -- 세전 일급 합계
+    `total_deductions`   INT    NOT NULL DEFAULT 0,  -- 추정 월 공제액
+    PRIMARY KEY (`worker_id`, `work_month`),
+    FOREIGN KEY (`worker_id`) REFERENCES workers (`id`) ON DELETE CASCADE
+);
 --
@@ -5,13 +5,20 @@ USE moup;
 SET FOREIGN_KEY_CHECKS = 0;
 TRUNCATE TABLE work_routine_mappings;
 TRUNCATE TABLE works;
+TRUNCATE TABLE work_tombstones;
+TRUNCATE TABLE work_repeat_groups;
+TRUNCATE TABLE worker_month_summaries;
 TRUNCATE TABLE routine_tasks;
 TRUNCATE TABLE routines;
 TRUNCATE TABLE salaries;
 TRUNCATE TABLE workers;
 TRUNCATE TABLE workplaces;
+TRUNCATE TABLE push_outbox;
 TRUNCATE TABLE normal_alarms;
 TRUNCATE TABLE admin_alarm_user_mappings;
+TRUNCATE TABLE announcement_fanouts;
+TRUNCATE TABLE user_announcement_exceptions;
+TRUNCATE TABLE user_announcement_states;
 TRUNCATE TABLE admin_alarms;
 TRUNCATE TABLE social_tokens;
 TRUNCATE TABLE user_tokens;
@@ -222,4 +229,15 @@ INSERT INTO admin_alarm_user_mappings (alarm_id, user_id, read_at, deleted_at) V
 (@admin_alarm_2, @u_owner_park, '2025-09-20 11:00:00', NULL),
 (@admin_alarm_2, @u_choi_worker, '2025-09-21 08:00:00', NULL),
 (@admin_alarm_2, @u_lee_worker, '2025-09-21 09:00:00', NULL),
-(@admin_alarm_2, @u_kang_worker, '2025-09-20 15:00:00', NULL);
\ No newline at end of file
+(@admin_alarm_2, @u_kang_worker, '2025-09-20 15:00:00', NULL);
+
+-- 워터마크 방식 (announcement.read-state=watermark): 위와 같은 읽음 상태를 개별 읽음 예외로 표현
+INSERT INTO user_announcement_exceptions (user_id, alarm_id, read_at, deleted_at) VALUES
+(@u_admin, @admin_alarm_1, '2025-10-15 10:00:00', NULL),
+(@u_owner_park, @admin_alarm_1, '2025-10-15 11:00:00', NULL),
+(@u_lee_worker, @admin_alarm_1, '2025-10-16 09:00:00', NULL),
+(@u_admin, @admin_alarm_2, '2025-09-20 10:30:00', NULL),
+(@u_owner_park, @admin_alarm_2, '2025-09-20 11:00:00', NULL),
+(@u_choi_worker, @admin_alarm_2, '2025-09-21 08:00:00', NULL),
+(@u_lee_worker, @admin_alarm_2, '2025-09-21 09:00:00', NULL),
+(@u_kang_worker, @admin_alarm_2, '2025-09-20 15:00:00', NULL);
\ No newline at end of file
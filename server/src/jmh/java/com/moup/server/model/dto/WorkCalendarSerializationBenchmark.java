@@ -0,0 +1,80 @@
+package com.moup.server.model.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/// 매장 캘린더 응답(근무자 30명 x 31일 = 930개 근무)의 JSON 직렬화 비용
+///
+/// `ObjectMapper`는 Spring Boot 기본 설정과 같게 만듭니다. (`JavaTimeModule`, 날짜를 ISO 문자열로 출력)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkCalendarSerializationBenchmark {
+
+    private static final int WORKER_COUNT = 30;
+    private static final LocalDate MONTH_START_DATE = LocalDate.of(2025, 12, 1);
+    private static final ZoneId SEOUL_ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private ObjectMapper objectMapper;
+    private WorkCalendarListResponse workCalendarListResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        WorkplaceSummaryResponse workplaceSummaryInfo = WorkplaceSummaryResponse.builder()
+                .workplaceId(1L).workplaceName("모업 카페 강남점").isShared(true).build();
+        List<WorkSummaryResponse> workSummaryInfoList = new ArrayList<>();
+        for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
+            WorkerSummaryResponse workerSummaryInfo = WorkerSummaryResponse.builder()
+                    .workerId((long) workerIndex + 1)
+                    .workerBasedLabelColor("red")
+                    .ownerBasedLabelColor("blue")
+                    .nickname("알바생" + workerIndex)
+                    .profileImg("https://example.com/profile/" + workerIndex + ".png")
+                    .build();
+            for (int day = 0; day < MONTH_START_DATE.lengthOfMonth(); day++) {
+                LocalDate workDate = MONTH_START_DATE.plusDays(day);
+                workSummaryInfoList.add(WorkSummaryResponse.builder()
+                        .workId((long) workSummaryInfoList.size() + 1)
+                        .workerSummaryInfo(workerSummaryInfo)
+                        .workplaceSummaryInfo(workplaceSummaryInfo)
+                        .workDate(workDate)
+                        .startTime(workDate.atTime(9, 0).atZone(SEOUL_ZONE_ID).toInstant())
+                        .endTime(workDate.atTime(18, 0).atZone(SEOUL_ZONE_ID).toInstant())
+                        .workMinutes(480L)
+                        .restTimeMinutes(60)
+                        .estimatedNetIncome(77_000)
+                        .repeatDays(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY))
+                        .repeatEndDate(MONTH_START_DATE.plusMonths(6))
+                        .isMyWork(workerIndex == 0)
+                        .isEditable(true)
+                        .build());
+            }
+        }
+        workCalendarListResponse = WorkCalendarListResponse.builder().workSummaryInfoList(workSummaryInfoList).build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(workCalendarListResponse);
+    }
+}
@@ -0,0 +1,143 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.Salary;
+import com.moup.server.model.entity.Work;
+import com.moup.server.model.enums.SalaryCalculation;
+import com.moup.server.model.enums.SalaryType;
+import com.moup.server.repository.*;
+import com.moup.server.util.ReadFanout;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/// 급여 계산 핫 패스 비용
+///
+/// - `calculateDailyIncome`: 하루 근무의 일급 계산 (`shift`: 주간 / 야간 / 자정을 넘기는 근무)
+/// - `recalculateWorkWeek`: 주 단위 일급 재계산 + 월 단위 추정 세후 일급 갱신 (Repository는 미리 만든 근무 목록을 반환하는 stub)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalaryCalculationBenchmark {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 11, 3); // 월요일
+
+    @Param({"DAY", "NIGHT", "OVERNIGHT"})
+    private String shift;
+
+    private SalaryCalculationService salaryCalculationService;
+    private Salary salary;
+    private Work work;
+
+    @Setup
+    public void setUp() {
+        WorkRepository workRepository = mock(WorkRepository.class, withSettings().stubOnly());
+        List<Work> weekWorks = createWorks(BASE_DATE, 5);
+        List<Work> monthWorks = createWorks(BASE_DATE.withDayOfMonth(1), 22);
+        when(workRepository.findAllByWorkerIdAndDateRange(anyLong(), any(), any())).thenAnswer(invocation -> {
+            LocalDate startDate = invocation.getArgument(1);
+            LocalDate endDate = invocation.getArgument(2);
+            return ChronoUnit.DAYS.between(startDate, endDate) <= 6 ? weekWorks : monthWorks;
+        });
+
+        salaryCalculationService = new SalaryCalculationService(
+                mock(WorkplaceRepository.class, withSettings().stubOnly()),
+                mock(WorkerRepository.class, withSettings().stubOnly()),
+                workRepository,
+                mock(SalaryRepository.class, withSettings().stubOnly()),
+                mock(UserRepository.class, withSettings().stubOnly()),
+                mock(WorkerMonthSummaryRepository.class, withSettings().stubOnly()),
+                mock(ReadFanout.class, withSettings().stubOnly()),
+                new SalaryRecalculationMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(salaryCalculationService, "nationalPensionRate", 0.045);
+        ReflectionTestUtils.setField(salaryCalculationService, "healthInsuranceRate", 0.03545);
+        ReflectionTestUtils.setField(salaryCalculationService, "longTermCareInsuranceRate", 0.1295);
+        ReflectionTestUtils.setField(salaryCalculationService, "employmentInsuranceRate", 0.009);
+        ReflectionTestUtils.setField(salaryCalculationService, "incomeTaxRate", 0.033);
+        ReflectionTestUtils.setField(salaryCalculationService, "insuranceMinHours", 60);
+
+        salary = Salary.builder()
+                .workerId(1L)
+                .salaryType(SalaryType.SALARY_MONTHLY)
+                .salaryCalculation(SalaryCalculation.SALARY_CALCULATION_HOURLY)
+                .hourlyRate(10_030)
+                .salaryDate(10)
+                .hasNationalPension(true)
+                .hasHealthInsurance(true)
+                .hasEmploymentInsurance(true)
+                .hasIndustrialAccident(true)
+                .hasIncomeTax(true)
+                .hasHolidayAllowance(true)
+                .hasNightAllowance(true)
+                .build();
+        work = createWork(BASE_DATE);
+    }
+
+    /// `shift`에 맞는 출/퇴근 시간으로 근무를 만듭니다.
+    private Work createWork(LocalDate workDate) {
+        LocalDateTime startTime;
+        LocalDateTime endTime;
+        switch (shift) {
+            case "NIGHT" -> {
+                startTime = workDate.atTime(LocalTime.of(22, 0));
+                endTime = workDate.atTime(LocalTime.of(23, 59));
+            }
+            case "OVERNIGHT" -> {
+                startTime = workDate.atTime(LocalTime.of(20, 0));
+                endTime = workDate.plusDays(1).atTime(LocalTime.of(5, 0));
+            }
+            default -> {
+                startTime = workDate.atTime(LocalTime.of(9, 0));
+                endTime = workDate.atTime(LocalTime.of(18, 0));
+            }
+        }
+        return Work.builder()
+                .workerId(1L)
+                .workDate(workDate)
+                .startTime(startTime)
+                .endTime(endTime)
+                .restTimeMinutes(60)
+                .hourlyRate(10_030)
+                .grossIncome(90_270)
+                .build();
+    }
+
+    private List<Work> createWorks(LocalDate startDate, int count) {
+        List<Work> works = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Work newWork = createWork(startDate.plusDays(i));
+            works.add(newWork.toBuilder().id((long) i + 1).build());
+        }
+        return works;
+    }
+
+    @Benchmark
+    public Work calculateDailyIncome() {
+        return salaryCalculationService.calculateDailyIncome(work, 0, true);
+    }
+
+    @Benchmark
+    public void recalculateWorkWeek() {
+        salaryCalculationService.recalculateWorkWeek(1L, BASE_DATE, salary);
+    }
+}
@@ -0,0 +1,174 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.Salary;
+import com.moup.server.model.entity.Work;
+import com.moup.server.model.entity.WorkRepeatGroup;
+import com.moup.server.model.entity.Worker;
+import com.moup.server.model.enums.SalaryCalculation;
+import com.moup.server.model.enums.SalaryType;
+import com.moup.server.repository.*;
+import com.moup.server.util.PermissionVerifyUtil;
+import com.moup.server.util.ReadFanout;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/// 근무 일정 핫 패스 비용 (Repository는 stub, 내부 헬퍼는 리플렉션으로 직접 호출)
+///
+/// - `createRecurringWorks`: 1년(평일 5일) 반복 근무 전개 + 반복 규칙 생성
+/// - `prefetchRepeatInfo`: 근무자 30명 x 31일 캘린더의 반복 정보 조회 (30개 그룹 중 5개는 규칙 행이 없는 이전 데이터)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkServiceBenchmark {
+
+    private static final int WORKER_COUNT = 30;
+    private static final int LEGACY_GROUP_COUNT = 5;
+    private static final LocalDate MONTH_START_DATE = LocalDate.of(2025, 12, 1);
+    private static final List<DayOfWeek> WEEKDAYS = List.of(
+            DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY);
+
+    private WorkService workService;
+    private Method createRecurringWorks;
+    private Method prefetchRepeatInfo;
+    private Worker worker;
+    private List<Work> calendarWorks;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        Salary salary = Salary.builder()
+                .workerId(1L)
+                .salaryType(SalaryType.SALARY_MONTHLY)
+                .salaryCalculation(SalaryCalculation.SALARY_CALCULATION_HOURLY)
+                .hourlyRate(10_030)
+                .hasHolidayAllowance(true)
+                .hasNightAllowance(true)
+                .build();
+        worker = Worker.builder().id(1L).userId(1L).workplaceId(1L).build();
+        calendarWorks = createCalendarWorks();
+
+        WorkRepository workRepository = mock(WorkRepository.class, withSettings().stubOnly());
+        when(workRepository.findLastWorkDatesByGroupIdList(any())).thenReturn(createLegacyLastWorkDates());
+        when(workRepository.findDistinctDayNamesByGroupIdList(any())).thenReturn(createLegacyDayNames());
+        WorkRepeatGroupRepository workRepeatGroupRepository = mock(WorkRepeatGroupRepository.class, withSettings().stubOnly());
+        when(workRepeatGroupRepository.findAllByIdListIn(any())).thenReturn(createWorkRepeatGroups());
+        SalaryRepository salaryRepository = mock(SalaryRepository.class, withSettings().stubOnly());
+        when(salaryRepository.findByWorkerId(anyLong())).thenReturn(Optional.of(salary));
+
+        SalaryCalculationService salaryCalculationService = new SalaryCalculationService(
+                null, null, workRepository, salaryRepository, null, null, null,
+                new SalaryRecalculationMetrics(new SimpleMeterRegistry()));
+        workService = new WorkService(
+                workRepository,
+                workRepeatGroupRepository,
+                salaryRepository,
+                mock(WorkerRepository.class, withSettings().stubOnly()),
+                mock(WorkplaceRepository.class, withSettings().stubOnly()),
+                mock(UserRepository.class, withSettings().stubOnly()),
+                mock(RoutineService.class, withSettings().stubOnly()),
+                salaryCalculationService,
+                mock(SalaryRecalculationCoordinator.class, withSettings().stubOnly()),
+                mock(AttendanceStateStore.class, withSettings().stubOnly()),
+                mock(WorkplaceEventHub.class, withSettings().stubOnly()),
+                mock(CalendarVersionStore.class, withSettings().stubOnly()),
+                mock(CalendarProjectionStore.class, withSettings().stubOnly()),
+                mock(WorkTombstoneRepository.class, withSettings().stubOnly()),
+                mock(PermissionVerifyUtil.class, withSettings().stubOnly()),
+                mock(ReadFanout.class, withSettings().stubOnly()),
+                mock(AccessContextResolver.class, withSettings().stubOnly()));
+
+        createRecurringWorks = WorkService.class.getDeclaredMethod("createRecurringWorks",
+                Worker.class, LocalDateTime.class, LocalDateTime.class, Integer.class, String.class,
+                List.class, LocalDate.class, Long.class, List.class);
+        createRecurringWorks.setAccessible(true);
+        prefetchRepeatInfo = WorkService.class.getDeclaredMethod("prefetchRepeatInfo", List.class);
+        prefetchRepeatInfo.setAccessible(true);
+    }
+
+    /// 근무자마다 반복 그룹 하나로 한 달 내내 근무하는 캘린더
+    private List<Work> createCalendarWorks() {
+        List<Work> works = new ArrayList<>();
+        for (int workerIndex = 0; workerIndex < WORKER_COUNT; workerIndex++) {
+            for (int day = 0; day < MONTH_START_DATE.lengthOfMonth(); day++) {
+                LocalDate workDate = MONTH_START_DATE.plusDays(day);
+                works.add(Work.builder()
+                        .id((long) works.size() + 1)
+                        .workerId((long) workerIndex + 1)
+                        .workDate(workDate)
+                        .startTime(workDate.atTime(9, 0))
+                        .endTime(workDate.atTime(18, 0))
+                        .repeatGroupId(repeatGroupId(workerIndex))
+                        .build());
+            }
+        }
+        return works;
+    }
+
+    private List<WorkRepeatGroup> createWorkRepeatGroups() {
+        List<WorkRepeatGroup> workRepeatGroups = new ArrayList<>();
+        for (int workerIndex = LEGACY_GROUP_COUNT; workerIndex < WORKER_COUNT; workerIndex++) {
+            workRepeatGroups.add(WorkRepeatGroup.builder()
+                    .id(repeatGroupId(workerIndex))
+                    .workerId((long) workerIndex + 1)
+                    .repeatDays("MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY,SATURDAY,SUNDAY")
+                    .startDate(MONTH_START_DATE)
+                    .endDate(MONTH_START_DATE.plusMonths(6))
+                    .build());
+        }
+        return workRepeatGroups;
+    }
+
+    private List<WorkRepository.GroupIdAndDate> createLegacyLastWorkDates() {
+        List<WorkRepository.GroupIdAndDate> lastWorkDates = new ArrayList<>();
+        for (int workerIndex = 0; workerIndex < LEGACY_GROUP_COUNT; workerIndex++) {
+            lastWorkDates.add(new WorkRepository.GroupIdAndDate(repeatGroupId(workerIndex), MONTH_START_DATE.plusMonths(6)));
+        }
+        return lastWorkDates;
+    }
+
+    private List<WorkRepository.GroupIdAndDayName> createLegacyDayNames() {
+        List<WorkRepository.GroupIdAndDayName> dayNames = new ArrayList<>();
+        for (int workerIndex = 0; workerIndex < LEGACY_GROUP_COUNT; workerIndex++) {
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                dayNames.add(new WorkRepository.GroupIdAndDayName(repeatGroupId(workerIndex), dayOfWeek.name()));
+            }
+        }
+        return dayNames;
+    }
+
+    private static String repeatGroupId(int workerIndex) {
+        return "00000000-0000-0000-0000-" + String.format("%012d", workerIndex);
+    }
+
+    @Benchmark
+    public Object createRecurringWorks() throws ReflectiveOperationException {
+        LocalDateTime startTime = LocalDateTime.of(2025, 11, 3, 9, 0);
+        return createRecurringWorks.invoke(workService, worker, startTime, startTime.withHour(18), 60, "오픈",
+                WEEKDAYS, startTime.toLocalDate().plusDays(365), null, null);
+    }
+
+    @Benchmark
+    public Object prefetchRepeatInfo() throws ReflectiveOperationException {
+        return prefetchRepeatInfo.invoke(workService, calendarWorks);
+    }
+}
@@ -0,0 +1,71 @@
+package com.moup.server.util;
+
+import com.moup.server.common.Role;
+import com.moup.server.model.dto.TokenCreateRequest;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/// `JwtFilter`가 요청마다 수행하는 토큰 검증 비용 비교
+///
+/// - `legacy`: 변경 전 방식 (`isValidToken` + `getUserId`, 호출마다 파서 생성 후 두 번 검증/파싱)
+/// - `verifyCached`: 같은 액세스 토큰이 반복해서 들어오는 경우 (검증된 토큰 캐시 적중)
+/// - `verifyUncached`: 캐시를 쓰지 않는 경우 (재사용 파서로 한 번만 검증/파싱)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET_KEY = "moup-benchmark-secret-key-for-hmac-sha-256";
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = createJwtUtil(10_000);
+        uncachedJwtUtil = createJwtUtil(0);
+        key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        token = jwtUtil.createAccessToken(TokenCreateRequest.builder()
+                .userId(1L)
+                .role(Role.ROLE_WORKER)
+                .username("moup")
+                .build());
+    }
+
+    private JwtUtil createJwtUtil(int verifiedTokenCacheMaxSize) {
+        JwtUtil newJwtUtil = new JwtUtil(SECRET_KEY);
+        ReflectionTestUtils.setField(newJwtUtil, "accessTokenExpiration", 1_200_000L);
+        ReflectionTestUtils.setField(newJwtUtil, "verifiedTokenCacheMaxSize", verifiedTokenCacheMaxSize);
+        return newJwtUtil;
+    }
+
+    @Benchmark
+    public Long legacy() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Long.parseLong(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject());
+    }
+
+    @Benchmark
+    public Long verifyCached() {
+        return jwtUtil.getUserId(jwtUtil.verify(token));
+    }
+
+    @Benchmark
+    public Long verifyUncached() {
+        return uncachedJwtUtil.getUserId(uncachedJwtUtil.verify(token));
+    }
+}
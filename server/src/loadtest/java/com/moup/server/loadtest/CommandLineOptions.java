@@ -0,0 +1,48 @@
+package com.moup.server.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/// `--key=value` 형식의 명령행 인자 (값이 없으면 환경 변수, 그다음 기본값 사용)
+final class CommandLineOptions {
+    private final Map<String, String> values = new HashMap<>();
+
+    CommandLineOptions(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) { throw new IllegalArgumentException("알 수 없는 인자: " + arg); }
+            int separatorIndex = arg.indexOf('=');
+            if (separatorIndex < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+    }
+
+    String getString(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    /// 인자가 없으면 환경 변수를 사용합니다. 둘 다 없으면 `IllegalArgumentException`을 던집니다.
+    String getRequiredString(String key, String environmentVariable) {
+        String value = values.getOrDefault(key, System.getenv(environmentVariable));
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("--" + key + " 인자 또는 " + environmentVariable + " 환경 변수가 필요합니다.");
+        }
+        return value;
+    }
+
+    int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    long getLong(String key, long defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    boolean getBoolean(String key) {
+        return Boolean.parseBoolean(values.get(key));
+    }
+}
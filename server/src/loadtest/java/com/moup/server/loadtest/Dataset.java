@@ -0,0 +1,27 @@
+package com.moup.server.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+
+/// 생성한 데이터의 요약 (`DatasetGenerator`가 JSON으로 저장하고 `LoadDriver`가 읽음)
+///
+/// 리프레시 토큰은 로그인(토큰 재발급) 요청마다 바뀌므로 `LoadDriver`가 실행을 마치면 마지막 토큰으로 다시 저장합니다.
+record Dataset(Instant generatedAt, List<OwnerAccount> owners, List<WorkerAccount> workers) {
+
+    /// 사장님 계정과 소유한 근무지 ID 목록
+    record OwnerAccount(Long userId, String refreshToken, List<Long> workplaceIdList) {
+        OwnerAccount withRefreshToken(String newRefreshToken) {
+            return new OwnerAccount(userId, newRefreshToken, workplaceIdList);
+        }
+    }
+
+    /// 알바생 계정과 근무지, 수정 요청에 사용할 근무 목록
+    record WorkerAccount(Long userId, String refreshToken, Long workplaceId, Long workerId, List<EditableWork> works) {
+        WorkerAccount withRefreshToken(String newRefreshToken) {
+            return new WorkerAccount(userId, newRefreshToken, workplaceId, workerId, works);
+        }
+    }
+
+    /// 단일 근무 수정 요청(`PATCH /works/{workId}`)에 사용할 근무
+    record EditableWork(Long workId, Instant startTime, Instant endTime, Integer restTimeMinutes) {}
+}
@@ -0,0 +1,382 @@
+package com.moup.server.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.moup.server.loadtest.Dataset.EditableWork;
+import com.moup.server.loadtest.Dataset.OwnerAccount;
+import com.moup.server.loadtest.Dataset.WorkerAccount;
+import com.moup.server.util.WorkTimeCalculator;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.moup.server.common.TimeConstants.SEOUL_ZONE_ID;
+
+/// 부하 테스트용 대량 데이터 생성기
+///
+/// 사장님 N명, 사장님당 근무지, 근무지당 알바생, 알바생별 반복 근무 일정(오늘이 가운데인 M개월), 알림, 공지를 만들고
+/// 테이블마다 여러 행 INSERT 문으로 MySQL에 저장합니다.
+/// 완료되면 `LoadDriver`가 사용할 계정/근무지/근무 요약을 JSON으로 저장합니다.
+///
+/// - 기존 데이터는 지우지 않고 각 테이블의 최대 ID 다음부터 ID를 직접 지정하므로 생성 중에는 다른 쓰기가 없어야 합니다.
+/// - 리프레시 토큰은 서버와 같은 비밀 키로 발급해 `user_tokens`에 저장합니다. (부하 테스트의 로그인은 토큰 재발급 API로 대신함)
+/// - 근무의 급여 컬럼은 기본급과 야간수당만 계산하고 주휴수당은 0, 추정 세후 일급은 3.3% 공제로 근사합니다.
+///
+/// 옵션 (`--key=value`): `owners`, `workplaces-per-owner`, `workers-per-workplace`, `months`, `announcements`,
+/// `alarms-per-worker`, `editable-works-per-worker`, `rows-per-statement`, `seed`, `output`,
+/// `jdbc-url`/`db-username`/`db-password`/`jwt-secret` (없으면 서버와 같은 환경 변수 사용)
+public final class DatasetGenerator {
+
+    private static final List<String> CATEGORY_NAMES = List.of("편의점", "카페", "음식점", "판매점", "기타");
+    private static final List<String> LABEL_COLORS = List.of("red", "orange", "yellow", "green", "blue", "purple", "pink", "gray");
+    private static final List<Shift> SHIFTS = List.of(
+            new Shift(LocalTime.of(9, 0), 6),
+            new Shift(LocalTime.of(13, 0), 5),
+            new Shift(LocalTime.of(17, 0), 5),
+            new Shift(LocalTime.of(22, 0), 8)); // 자정을 넘기는 야간 근무
+    private static final double INCOME_TAX_RATE = 0.033;
+
+    /// 출근 시각과 근무 시간(시간)
+    private record Shift(LocalTime startTime, int hours) {}
+
+    private final int ownerCount;
+    private final int workplacesPerOwner;
+    private final int workersPerWorkplace;
+    private final int months;
+    private final int announcementCount;
+    private final int alarmsPerWorker;
+    private final int editableWorksPerWorker;
+    private final int rowsPerStatement;
+    private final Random random;
+    private final SecretKey jwtKey;
+    private final Duration refreshTokenLifetime;
+
+    private DatasetGenerator(CommandLineOptions options) {
+        this.ownerCount = options.getInt("owners", 10);
+        this.workplacesPerOwner = options.getInt("workplaces-per-owner", 2);
+        this.workersPerWorkplace = options.getInt("workers-per-workplace", 15);
+        this.months = options.getInt("months", 6);
+        this.announcementCount = options.getInt("announcements", 20);
+        this.alarmsPerWorker = options.getInt("alarms-per-worker", 10);
+        this.editableWorksPerWorker = options.getInt("editable-works-per-worker", 5);
+        this.rowsPerStatement = options.getInt("rows-per-statement", 1000);
+        this.random = new Random(options.getLong("seed", 42L));
+        this.jwtKey = Keys.hmacShaKeyFor(options.getRequiredString("jwt-secret", "JWT_SECRET_KEY").getBytes(StandardCharsets.UTF_8));
+        // 서버의 jwt.refresh.token.expiration 기본값과 같은 7일
+        this.refreshTokenLifetime = Duration.ofMillis(options.getLong("refresh-token-expiration", 604_800_000L));
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        Path outputPath = Path.of(options.getString("output", "build/loadtest/dataset.json"));
+        DatasetGenerator generator = new DatasetGenerator(options);
+
+        try (Connection connection = DriverManager.getConnection(
+                options.getRequiredString("jdbc-url", "DATABASE_URL"),
+                options.getRequiredString("db-username", "DATABASE_USERNAME"),
+                options.getRequiredString("db-password", "DATABASE_PASSWORD"))) {
+            connection.setAutoCommit(false);
+            Dataset dataset = generator.generate(connection);
+
+            Files.createDirectories(outputPath.toAbsolutePath().getParent());
+            createObjectMapper().writeValue(outputPath.toFile(), dataset);
+            System.out.printf("데이터 요약 저장: %s (사장님 %d명, 알바생 %d명)%n",
+                    outputPath.toAbsolutePath(), dataset.owners().size(), dataset.workers().size());
+        }
+    }
+
+    static ObjectMapper createObjectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    private Dataset generate(Connection connection) throws SQLException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        long firstUserId = nextId(connection, "users");
+        long firstWorkplaceId = nextId(connection, "workplaces");
+        long firstWorkerId = nextId(connection, "workers");
+        int workplaceCount = ownerCount * workplacesPerOwner;
+        int workerCount = workplaceCount * workersPerWorkplace;
+        long firstWorkerUserId = firstUserId + ownerCount;
+
+        List<String> ownerRefreshTokens = new ArrayList<>(ownerCount);
+        List<String> workerRefreshTokens = new ArrayList<>(workerCount);
+        insertUsers(connection, runId, firstUserId, ownerRefreshTokens, workerRefreshTokens);
+        insertWorkplacesAndWorkers(connection, firstUserId, firstWorkplaceId, firstWorkerUserId, firstWorkerId);
+        List<List<EditableWork>> editableWorksByWorker = insertSalariesAndWorks(connection, firstWorkerId, workerCount);
+        insertAlarmsAndAnnouncements(connection, firstUserId, firstWorkerUserId);
+        insertWorkerMonthSummaries(connection, firstWorkerId, firstWorkerId + workerCount - 1);
+
+        List<OwnerAccount> owners = new ArrayList<>(ownerCount);
+        for (int ownerIndex = 0; ownerIndex < ownerCount; ownerIndex++) {
+            List<Long> workplaceIdList = new ArrayList<>(workplacesPerOwner);
+            for (int placeIndex = 0; placeIndex < workplacesPerOwner; placeIndex++) {
+                workplaceIdList.add(firstWorkplaceId + (long) ownerIndex * workplacesPerOwner + placeIndex);
+            }
+            owners.add(new OwnerAccount(firstUserId + ownerIndex, ownerRefreshTokens.get(ownerIndex), workplaceIdList));
+        }
+        List<WorkerAccount> workers = new ArrayList<>(workerCount);
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+            workers.add(new WorkerAccount(
+                    firstWorkerUserId + workerIndex,
+                    workerRefreshTokens.get(workerIndex),
+                    firstWorkplaceId + workerIndex / workersPerWorkplace,
+                    firstWorkerId + workerIndex,
+                    editableWorksByWorker.get(workerIndex)));
+        }
+        return new Dataset(Instant.now(), owners, workers);
+    }
+
+    /// 사용자, 리프레시 토큰, 공지 읽음 상태(워터마크)를 생성합니다.
+    private void insertUsers(Connection connection, String runId, long firstUserId,
+                             List<String> ownerRefreshTokens, List<String> workerRefreshTokens) throws SQLException {
+        long startedAt = System.nanoTime();
+        int userCount = ownerCount + ownerCount * workplacesPerOwner * workersPerWorkplace;
+        Instant issuedAt = Instant.now();
+        LocalDateTime expiryDate = LocalDateTime.ofInstant(issuedAt.plus(refreshTokenLifetime), SEOUL_ZONE_ID);
+
+        try (MultiRowInserter users = new MultiRowInserter(connection, "users",
+                List.of("id", "provider", "provider_id", "username", "nickname", "role", "profile_img"), rowsPerStatement)) {
+            for (int userIndex = 0; userIndex < userCount; userIndex++) {
+                boolean isOwner = userIndex < ownerCount;
+                String name = (isOwner ? "사장" : "알바") + userIndex;
+                users.add(firstUserId + userIndex, "LOGIN_GOOGLE", "loadtest-" + runId + "-" + userIndex, name, name,
+                        isOwner ? "ROLE_OWNER" : "ROLE_WORKER", "https://example.com/loadtest/profile" + userIndex + ".jpg");
+            }
+        }
+        try (MultiRowInserter userTokens = new MultiRowInserter(connection, "user_tokens",
+                List.of("user_id", "refresh_token", "expiry_date"), rowsPerStatement);
+             MultiRowInserter announcementStates = new MultiRowInserter(connection, "user_announcement_states",
+                     List.of("user_id", "last_read_announcement_id", "last_cleared_announcement_id"), rowsPerStatement)) {
+            for (int userIndex = 0; userIndex < userCount; userIndex++) {
+                long userId = firstUserId + userIndex;
+                String refreshToken = createRefreshToken(userId, issuedAt);
+                (userIndex < ownerCount ? ownerRefreshTokens : workerRefreshTokens).add(refreshToken);
+                userTokens.add(userId, refreshToken, expiryDate);
+                announcementStates.add(userId, 0L, 0L);
+            }
+        }
+        printProgress("users, user_tokens, user_announcement_states", userCount, startedAt);
+    }
+
+    private void insertWorkplacesAndWorkers(Connection connection, long firstOwnerUserId, long firstWorkplaceId,
+                                            long firstWorkerUserId, long firstWorkerId) throws SQLException {
+        long startedAt = System.nanoTime();
+        int workplaceCount = ownerCount * workplacesPerOwner;
+
+        try (MultiRowInserter workplaces = new MultiRowInserter(connection, "workplaces",
+                List.of("id", "owner_id", "workplace_name", "category_name", "is_shared", "address", "latitude", "longitude"),
+                rowsPerStatement)) {
+            for (int placeIndex = 0; placeIndex < workplaceCount; placeIndex++) {
+                String categoryName = CATEGORY_NAMES.get(random.nextInt(CATEGORY_NAMES.size()));
+                workplaces.add(firstWorkplaceId + placeIndex, firstOwnerUserId + placeIndex / workplacesPerOwner,
+                        "부하테스트 " + categoryName + " " + placeIndex + "호점", categoryName, 1,
+                        "서울 강남구 테스트로 " + placeIndex,
+                        37.45 + random.nextDouble() * 0.2, 126.85 + random.nextDouble() * 0.3);
+            }
+        }
+        try (MultiRowInserter workers = new MultiRowInserter(connection, "workers",
+                List.of("id", "user_id", "workplace_id", "worker_based_label_color", "owner_based_label_color",
+                        "is_accepted", "is_now_working"),
+                rowsPerStatement)) {
+            for (int workerIndex = 0; workerIndex < workplaceCount * workersPerWorkplace; workerIndex++) {
+                workers.add(firstWorkerId + workerIndex, firstWorkerUserId + workerIndex,
+                        firstWorkplaceId + workerIndex / workersPerWorkplace,
+                        LABEL_COLORS.get(random.nextInt(LABEL_COLORS.size())),
+                        LABEL_COLORS.get(random.nextInt(LABEL_COLORS.size())), 1, 0);
+            }
+        }
+        printProgress("workplaces, workers", workplaceCount * (1 + workersPerWorkplace), startedAt);
+    }
+
+    /// 알바생마다 급여 정보와 반복 근무 그룹 하나, 그 그룹의 근무를 생성합니다.
+    ///
+    /// @return 알바생별 수정 요청용 근무 (오늘 이후 근무 중 앞에서부터 `editableWorksPerWorker`개)
+    private List<List<EditableWork>> insertSalariesAndWorks(Connection connection, long firstWorkerId, int workerCount)
+            throws SQLException {
+        long startedAt = System.nanoTime();
+        LocalDate today = LocalDate.now(SEOUL_ZONE_ID);
+        LocalDate scheduleStartDate = YearMonth.from(today).minusMonths(months / 2).atDay(1);
+        LocalDate scheduleEndDate = scheduleStartDate.plusMonths(months).minusDays(1);
+        LocalDateTime now = LocalDateTime.now(SEOUL_ZONE_ID);
+        List<List<EditableWork>> editableWorksByWorker = new ArrayList<>(workerCount);
+
+        try (MultiRowInserter salaries = new MultiRowInserter(connection, "salaries",
+                List.of("worker_id", "salary_type", "salary_calculation", "hourly_rate", "salary_date",
+                        "has_national_pension", "has_health_insurance", "has_employment_insurance",
+                        "has_industrial_accident", "has_income_tax", "has_holiday_allowance", "has_night_allowance"),
+                rowsPerStatement);
+             MultiRowInserter repeatGroups = new MultiRowInserter(connection, "work_repeat_groups",
+                     List.of("id", "worker_id", "repeat_days", "start_date", "end_date", "start_time", "end_time",
+                             "rest_time_minutes", "memo"),
+                     rowsPerStatement);
+             MultiRowInserter works = new MultiRowInserter(connection, "works",
+                     List.of("id", "worker_id", "work_date", "start_time", "actual_start_time", "end_time", "actual_end_time",
+                             "rest_time_minutes", "gross_work_minutes", "net_work_minutes", "night_work_minutes", "memo",
+                             "hourly_rate", "base_pay", "night_allowance", "holiday_allowance", "gross_income",
+                             "estimated_net_income", "repeat_group_id"),
+                     rowsPerStatement)) {
+            long workId = nextId(connection, "works");
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                long workerId = firstWorkerId + workerIndex;
+                int hourlyRate = 10_030 + random.nextInt(20) * 100;
+                boolean hasNightAllowance = random.nextBoolean();
+                salaries.add(workerId, "SALARY_MONTHLY", "SALARY_CALCULATION_HOURLY", hourlyRate, 10,
+                        1, 1, 1, 1, 1, 1, hasNightAllowance ? 1 : 0);
+
+                Shift shift = SHIFTS.get(random.nextInt(SHIFTS.size()));
+                EnumSet<DayOfWeek> repeatDays = randomRepeatDays();
+                LocalTime endTime = shift.startTime().plusHours(shift.hours());
+                int restTimeMinutes = shift.hours() >= 8 ? 60 : shift.hours() >= 4 ? 30 : 0;
+                String memo = "부하테스트 근무";
+                String repeatGroupId = new UUID(random.nextLong(), random.nextLong()).toString();
+                repeatGroups.add(repeatGroupId, workerId,
+                        repeatDays.stream().map(DayOfWeek::name).collect(Collectors.joining(",")),
+                        scheduleStartDate, scheduleEndDate, shift.startTime(), endTime, restTimeMinutes, memo);
+
+                List<EditableWork> editableWorks = new ArrayList<>(editableWorksPerWorker);
+                for (LocalDate workDate = scheduleStartDate; !workDate.isAfter(scheduleEndDate); workDate = workDate.plusDays(1)) {
+                    if (!repeatDays.contains(workDate.getDayOfWeek())) { continue; }
+
+                    LocalDateTime startDateTime = workDate.atTime(shift.startTime());
+                    LocalDateTime endDateTime = startDateTime.plusHours(shift.hours());
+                    boolean isPastWork = endDateTime.isBefore(now);
+                    int grossWorkMinutes = (int) WorkTimeCalculator.calculateGrossMinutes(startDateTime, endDateTime);
+                    int netWorkMinutes = Math.max(0, grossWorkMinutes - restTimeMinutes);
+                    int nightWorkMinutes = (int) Math.min(netWorkMinutes, WorkTimeCalculator.calculateNightMinutes(startDateTime, endDateTime));
+                    int basePay = (int) ((long) netWorkMinutes * hourlyRate / 60);
+                    int nightAllowance = hasNightAllowance ? (int) ((long) nightWorkMinutes * hourlyRate / 120) : 0;
+                    int grossIncome = basePay + nightAllowance;
+
+                    works.add(workId, workerId, workDate,
+                            startDateTime, isPastWork ? startDateTime : null,
+                            endDateTime, isPastWork ? endDateTime : null,
+                            restTimeMinutes, grossWorkMinutes, netWorkMinutes, nightWorkMinutes, memo,
+                            hourlyRate, basePay, nightAllowance, 0, grossIncome,
+                            (int) Math.round(grossIncome * (1 - INCOME_TAX_RATE)), repeatGroupId);
+
+                    if (!isPastWork && startDateTime.isAfter(now) && editableWorks.size() < editableWorksPerWorker) {
+                        editableWorks.add(new EditableWork(workId,
+                                startDateTime.atZone(SEOUL_ZONE_ID).toInstant(), endDateTime.atZone(SEOUL_ZONE_ID).toInstant(),
+                                restTimeMinutes));
+                    }
+                    workId++;
+                }
+                editableWorksByWorker.add(editableWorks);
+            }
+            printProgress("salaries, work_repeat_groups, works",
+                    salaries.getInsertedCount() + repeatGroups.getInsertedCount() + works.getInsertedCount(), startedAt);
+        }
+        return editableWorksByWorker;
+    }
+
+    /// 알바생별 개인 알림(사장님 발신)과 전체 공지를 생성합니다.
+    private void insertAlarmsAndAnnouncements(Connection connection, long firstOwnerUserId, long firstWorkerUserId)
+            throws SQLException {
+        long startedAt = System.nanoTime();
+        int workerCount = ownerCount * workplacesPerOwner * workersPerWorkplace;
+        int workersPerOwner = workplacesPerOwner * workersPerWorkplace;
+        LocalDateTime now = LocalDateTime.now(SEOUL_ZONE_ID);
+
+        try (MultiRowInserter normalAlarms = new MultiRowInserter(connection, "normal_alarms",
+                List.of("sender_id", "receiver_id", "title", "content", "sent_at", "read_at"), rowsPerStatement)) {
+            for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+                for (int alarmIndex = 0; alarmIndex < alarmsPerWorker; alarmIndex++) {
+                    LocalDateTime sentAt = now.minusMinutes(random.nextInt(60 * 24 * 30));
+                    normalAlarms.add(firstOwnerUserId + workerIndex / workersPerOwner, firstWorkerUserId + workerIndex,
+                            "근무 일정 변경", "부하테스트 알림 " + alarmIndex, sentAt,
+                            random.nextBoolean() ? sentAt.plusMinutes(5) : null);
+                }
+            }
+        }
+        try (MultiRowInserter adminAlarms = new MultiRowInserter(connection, "admin_alarms",
+                List.of("title", "content", "sent_at"), rowsPerStatement)) {
+            for (int announcementIndex = 0; announcementIndex < announcementCount; announcementIndex++) {
+                adminAlarms.add("부하테스트 공지 " + announcementIndex, "공지 내용 " + announcementIndex,
+                        now.minusDays(announcementCount - announcementIndex));
+            }
+        }
+        printProgress("normal_alarms, admin_alarms", (long) workerCount * alarmsPerWorker + announcementCount, startedAt);
+    }
+
+    /// 생성한 근무로 월간 급여 요약을 한 번에 집계합니다.
+    private void insertWorkerMonthSummaries(Connection connection, long firstWorkerId, long lastWorkerId) throws SQLException {
+        long startedAt = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO worker_month_summaries (
+                                                    worker_id, work_month, work_count, net_work_minutes, night_work_minutes, rest_time_minutes,
+                                                    base_pay, night_allowance, holiday_allowance, gross_income, total_deductions
+                                                    )
+                SELECT worker_id, work_month, COUNT(*), SUM(net_work_minutes), SUM(night_work_minutes), SUM(rest_time_minutes),
+                       SUM(base_pay), SUM(night_allowance), SUM(holiday_allowance), SUM(gross_income),
+                       SUM(gross_income) - SUM(estimated_net_income)
+                FROM works
+                WHERE worker_id BETWEEN ? AND ?
+                GROUP BY worker_id, work_month
+                """)) {
+            statement.setLong(1, firstWorkerId);
+            statement.setLong(2, lastWorkerId);
+            int insertedCount = statement.executeUpdate();
+            connection.commit();
+            printProgress("worker_month_summaries", insertedCount, startedAt);
+        }
+    }
+
+    /// 3~5개의 반복 요일을 무작위로 고릅니다.
+    private EnumSet<DayOfWeek> randomRepeatDays() {
+        List<DayOfWeek> dayOfWeeks = new ArrayList<>(List.of(DayOfWeek.values()));
+        Collections.shuffle(dayOfWeeks, random);
+        return EnumSet.copyOf(dayOfWeeks.subList(0, 3 + random.nextInt(3)));
+    }
+
+    /// 서버의 `JwtUtil.createRefreshToken`과 같은 형식의 리프레시 토큰을 발급합니다.
+    private String createRefreshToken(long userId, Instant issuedAt) {
+        return Jwts.builder()
+                .subject(String.valueOf(userId))
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plus(refreshTokenLifetime)))
+                .signWith(jwtKey)
+                .compact();
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void printProgress(String tables, long rowCount, long startedAtNanos) {
+        System.out.printf("%s: %,d행 (%.1f초)%n", tables, rowCount, (System.nanoTime() - startedAtNanos) / 1e9);
+    }
+}
@@ -0,0 +1,53 @@
+package com.moup.server.loadtest;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/// 엔드포인트 하나의 응답 시간과 상태 코드 기록 (스레드마다 따로 만들고 끝나면 `merge`로 합침)
+final class LatencyRecorder {
+    private long[] latencyNanos = new long[1024];
+    private int count;
+    private int errorCount;
+    private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+
+    /// @param status HTTP 상태 코드, 연결 실패 등으로 응답이 없으면 0
+    void record(long elapsedNanos, int status, boolean isSuccess) {
+        if (count == latencyNanos.length) { latencyNanos = Arrays.copyOf(latencyNanos, count * 2); }
+        latencyNanos[count++] = elapsedNanos;
+        if (!isSuccess) { errorCount++; }
+        statusCounts.merge(status, 1, Integer::sum);
+    }
+
+    /// 엔드포인트 하나의 집계 결과 (지연 시간은 밀리초)
+    record Summary(String endpoint, int requests, int errors, double throughputPerSecond,
+                   double p50Millis, double p90Millis, double p95Millis, double p99Millis, double maxMillis,
+                   Map<Integer, Integer> statusCounts) {}
+
+    static Summary merge(String endpoint, Collection<LatencyRecorder> recorders, double durationSeconds) {
+        int totalCount = recorders.stream().mapToInt(recorder -> recorder.count).sum();
+        long[] merged = new long[totalCount];
+        int offset = 0;
+        int errors = 0;
+        Map<Integer, Integer> statusCounts = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.latencyNanos, 0, merged, offset, recorder.count);
+            offset += recorder.count;
+            errors += recorder.errorCount;
+            recorder.statusCounts.forEach((status, statusCount) -> statusCounts.merge(status, statusCount, Integer::sum));
+        }
+        Arrays.sort(merged);
+
+        return new Summary(endpoint, totalCount, errors, totalCount / durationSeconds,
+                percentileMillis(merged, 0.50), percentileMillis(merged, 0.90), percentileMillis(merged, 0.95),
+                percentileMillis(merged, 0.99), totalCount == 0 ? 0 : merged[totalCount - 1] / 1e6, statusCounts);
+    }
+
+    /// 정렬된 기록에서 nearest-rank 방식으로 백분위수를 구합니다.
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) { return 0; }
+        int rank = (int) Math.ceil(percentile * sortedNanos.length);
+        return sortedNanos[Math.max(0, rank - 1)] / 1e6;
+    }
+}
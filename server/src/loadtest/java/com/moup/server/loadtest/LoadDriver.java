@@ -0,0 +1,363 @@
+package com.moup.server.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moup.server.loadtest.Dataset.EditableWork;
+import com.moup.server.loadtest.Dataset.OwnerAccount;
+import com.moup.server.loadtest.Dataset.WorkerAccount;
+import com.moup.server.loadtest.LatencyRecorder.Summary;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.moup.server.common.TimeConstants.SEOUL_ZONE_ID;
+
+/// `DatasetGenerator`로 만든 계정으로 실제 앱 사용 패턴의 요청을 재생하는 부하 드라이버
+///
+/// 가상 사용자(스레드)마다 계정 몇 개를 맡아 번갈아 가며 `mix` 비율대로 요청을 보내고,
+/// 워밍업 이후의 요청만 엔드포인트별 처리량과 지연 시간 백분위수(p50/p90/p95/p99/max)로 집계합니다.
+///
+/// - 로그인: 소셜 로그인은 재현할 수 없으므로 토큰 재발급(`POST /auth/token/refresh`)으로 대신합니다.
+/// - 캘린더: 알바생은 내 캘린더, 사장님은 매장 캘린더를 이전 ETag와 함께 조회합니다. (304도 성공)
+/// - 출퇴근: 알바생만, 출근과 퇴근을 번갈아 요청합니다. (사장님은 캘린더 조회로 대체)
+/// - 근무 수정: 알바생만, 앞으로의 근무 하나의 메모를 바꿉니다. (사장님은 캘린더 조회로 대체)
+///
+/// 실행이 끝나면 바뀐 리프레시 토큰을 데이터 요약 파일에 다시 저장하므로 같은 데이터로 반복 실행할 수 있습니다.
+/// 오류(2xx/304가 아닌 응답, 응답 없음) 비율이 `max-error-rate`를 넘는 엔드포인트가 있으면 상태 코드별 개수를 출력하고 종료 코드 1로 끝냅니다.
+/// (잘못된 경로의 404처럼 빠르게 실패한 요청이 지연 시간 결과를 좋아 보이게 만드는 것을 방지)
+///
+/// 옵션 (`--key=value`): `base-url`, `dataset`, `users`, `duration`(초), `warmup`(초), `think-time-ms`,
+/// `mix`(예: `login=5,home=30,calendar=35,clock=15,edit=15`), `max-error-rate`(기본 0.01), `output`
+public final class LoadDriver {
+
+    private static final String DEFAULT_MIX = "login=5,home=30,calendar=35,clock=15,edit=15";
+
+    /// 요청 종류 (`mix`의 키)
+    private enum Action { LOGIN, HOME, CALENDAR, CLOCK, EDIT }
+
+    /// 로그인 상태를 유지하는 계정 하나 (한 가상 사용자만 사용)
+    private static final class Session {
+        private final OwnerAccount owner;
+        private final WorkerAccount worker;
+        private String refreshToken;
+        private String accessToken;
+        private String calendarETag;
+        private boolean isWorking;
+
+        private Session(OwnerAccount owner, WorkerAccount worker, String refreshToken) {
+            this.owner = owner;
+            this.worker = worker;
+            this.refreshToken = refreshToken;
+        }
+
+        private boolean isOwner() {
+            return owner != null;
+        }
+    }
+
+    /// 요청 결과 (응답이 없으면 status 0)
+    private record Result(int status, byte[] body, String eTag) {
+        private boolean isSuccess() {
+            return (status >= 200 && status < 300) || status == 304;
+        }
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = DatasetGenerator.createObjectMapper();
+    private final String baseUrl;
+    private final int thinkTimeMillis;
+    private final Map<Action, Integer> mix;
+    private final int totalWeight;
+
+    private volatile long measureStartNanos;
+
+    private LoadDriver(CommandLineOptions options) {
+        this.baseUrl = options.getString("base-url", "http://localhost:8080").replaceAll("/+$", "");
+        this.thinkTimeMillis = options.getInt("think-time-ms", 200);
+        this.mix = parseMix(options.getString("mix", DEFAULT_MIX));
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        Path datasetPath = Path.of(options.getString("dataset", "build/loadtest/dataset.json"));
+        Path outputPath = Path.of(options.getString("output", "build/results/loadtest/report.json"));
+        int durationSeconds = options.getInt("duration", 60);
+        int warmupSeconds = options.getInt("warmup", 10);
+        double maxErrorRate = Double.parseDouble(options.getString("max-error-rate", "0.01"));
+
+        LoadDriver driver = new LoadDriver(options);
+        Dataset dataset = driver.objectMapper.readValue(datasetPath.toFile(), Dataset.class);
+        List<Session> sessions = new ArrayList<>();
+        dataset.owners().forEach(owner -> sessions.add(new Session(owner, null, owner.refreshToken())));
+        dataset.workers().forEach(worker -> sessions.add(new Session(null, worker, worker.refreshToken())));
+        int userCount = Math.min(options.getInt("users", 50), sessions.size());
+
+        System.out.printf("가상 사용자 %d명, 계정 %d개, 워밍업 %d초 + 측정 %d초, mix=%s%n",
+                userCount, sessions.size(), warmupSeconds, durationSeconds, driver.mix);
+        List<Map<String, LatencyRecorder>> recordersByUser = driver.run(sessions, userCount, warmupSeconds, durationSeconds);
+
+        Map<String, List<LatencyRecorder>> recordersByEndpoint = new LinkedHashMap<>();
+        recordersByUser.forEach(recorders -> recorders.forEach((endpoint, recorder) ->
+                recordersByEndpoint.computeIfAbsent(endpoint, key -> new ArrayList<>()).add(recorder)));
+        List<Summary> summaries = recordersByEndpoint.entrySet().stream()
+                .map(entry -> LatencyRecorder.merge(entry.getKey(), entry.getValue(), durationSeconds))
+                .sorted((first, second) -> Integer.compare(second.requests(), first.requests()))
+                .toList();
+        printReport(summaries);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("measuredAt", Instant.now());
+        report.put("baseUrl", driver.baseUrl);
+        report.put("users", userCount);
+        report.put("durationSeconds", durationSeconds);
+        report.put("mix", driver.mix);
+        report.put("endpoints", summaries);
+        Files.createDirectories(outputPath.toAbsolutePath().getParent());
+        driver.objectMapper.writeValue(outputPath.toFile(), report);
+        System.out.println("결과 저장: " + outputPath.toAbsolutePath());
+
+        // 재발급으로 바뀐 리프레시 토큰 저장 (다음 실행에서 그대로 로그인)
+        List<OwnerAccount> owners = new ArrayList<>();
+        List<WorkerAccount> workers = new ArrayList<>();
+        for (Session session : sessions) {
+            if (session.isOwner()) {
+                owners.add(session.owner.withRefreshToken(session.refreshToken));
+            } else {
+                workers.add(session.worker.withRefreshToken(session.refreshToken));
+            }
+        }
+        driver.objectMapper.writeValue(datasetPath.toFile(), new Dataset(dataset.generatedAt(), owners, workers));
+
+        List<Summary> failedSummaries = summaries.stream()
+                .filter(summary -> summary.requests() > 0 && (double) summary.errors() / summary.requests() > maxErrorRate)
+                .toList();
+        if (!failedSummaries.isEmpty()) {
+            failedSummaries.forEach(summary -> System.err.printf("오류율 %.1f%% (허용 %.1f%%): %s %s%n",
+                    100.0 * summary.errors() / summary.requests(), 100 * maxErrorRate, summary.endpoint(), summary.statusCounts()));
+            System.exit(1);
+        }
+    }
+
+    private List<Map<String, LatencyRecorder>> run(List<Session> sessions, int userCount, int warmupSeconds, int durationSeconds)
+            throws Exception {
+        long startNanos = System.nanoTime();
+        measureStartNanos = startNanos + Duration.ofSeconds(warmupSeconds).toNanos();
+        long deadlineNanos = measureStartNanos + Duration.ofSeconds(durationSeconds).toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(userCount);
+        try {
+            List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>(userCount);
+            for (int userIndex = 0; userIndex < userCount; userIndex++) {
+                // 계정을 가상 사용자에게 나눠 줌 (한 계정은 한 가상 사용자만 사용)
+                List<Session> ownedSessions = new ArrayList<>();
+                for (int sessionIndex = userIndex; sessionIndex < sessions.size(); sessionIndex += userCount) {
+                    ownedSessions.add(sessions.get(sessionIndex));
+                }
+                futures.add(executor.submit(() -> runVirtualUser(ownedSessions, deadlineNanos)));
+            }
+
+            List<Map<String, LatencyRecorder>> recordersByUser = new ArrayList<>(userCount);
+            for (Future<Map<String, LatencyRecorder>> future : futures) {
+                recordersByUser.add(future.get());
+            }
+            return recordersByUser;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, LatencyRecorder> runVirtualUser(List<Session> sessions, long deadlineNanos) throws InterruptedException {
+        Map<String, LatencyRecorder> recorders = new HashMap<>();
+        Random random = ThreadLocalRandom.current();
+        int sessionIndex = 0;
+
+        while (System.nanoTime() < deadlineNanos) {
+            Session session = sessions.get(sessionIndex);
+            sessionIndex = (sessionIndex + 1) % sessions.size();
+
+            if (session.accessToken == null) {
+                login(session, recorders);
+            } else {
+                perform(pickAction(random), session, random, recorders);
+            }
+            if (thinkTimeMillis > 0) {
+                Thread.sleep(thinkTimeMillis / 2 + random.nextInt(thinkTimeMillis + 1));
+            }
+        }
+        return recorders;
+    }
+
+    private Action pickAction(Random random) {
+        int point = random.nextInt(totalWeight);
+        for (Map.Entry<Action, Integer> entry : mix.entrySet()) {
+            point -= entry.getValue();
+            if (point < 0) { return entry.getKey(); }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void perform(Action action, Session session, Random random, Map<String, LatencyRecorder> recorders) {
+        if (session.isOwner() && (action == Action.CLOCK || action == Action.EDIT)) { action = Action.CALENDAR; }
+        if (action == Action.EDIT && session.worker.works().isEmpty()) { action = Action.CALENDAR; }
+
+        Result result = switch (action) {
+            case LOGIN -> login(session, recorders);
+            case HOME -> send("GET /home", HttpRequest.newBuilder(uri("/home")).GET(), session, recorders);
+            case CALENDAR -> calendar(session, random, recorders);
+            case CLOCK -> clock(session, recorders);
+            case EDIT -> editWork(session, random, recorders);
+        };
+        // 액세스 토큰이 만료되었으면 다음 차례에 다시 로그인
+        if (result.status() == 401) { session.accessToken = null; }
+    }
+
+    private Result login(Session session, Map<String, LatencyRecorder> recorders) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/auth/token/refresh"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"refreshToken\":\"" + session.refreshToken + "\"}"));
+        Result result = send("POST /auth/token/refresh", request, null, recorders);
+        if (result.status() == 200) {
+            try {
+                JsonNode body = objectMapper.readTree(result.body());
+                session.accessToken = body.get("accessToken").asText();
+                session.refreshToken = body.get("refreshToken").asText();
+            } catch (IOException e) {
+                throw new IllegalStateException("토큰 재발급 응답을 읽을 수 없습니다.", e);
+            }
+        }
+        return result;
+    }
+
+    private Result calendar(Session session, Random random, Map<String, LatencyRecorder> recorders) {
+        YearMonth baseYearMonth = YearMonth.now(SEOUL_ZONE_ID);
+        HttpRequest.Builder request;
+        String endpoint;
+        if (session.isOwner()) {
+            List<Long> workplaceIdList = session.owner.workplaceIdList();
+            Long workplaceId = workplaceIdList.get(random.nextInt(workplaceIdList.size()));
+            endpoint = "GET /workplaces/{workplaceId}/works";
+            request = HttpRequest.newBuilder(uri("/workplaces/" + workplaceId + "/works?baseYearMonth=" + baseYearMonth));
+        } else {
+            endpoint = "GET /works";
+            request = HttpRequest.newBuilder(uri("/works?baseYearMonth=" + baseYearMonth));
+        }
+        if (session.calendarETag != null) { request.header("If-None-Match", session.calendarETag); }
+
+        Result result = send(endpoint, request.GET(), session, recorders);
+        // 사장님은 근무지를 번갈아 조회하므로 ETag를 재사용하지 않음
+        if (!session.isOwner() && result.eTag() != null) { session.calendarETag = result.eTag(); }
+        return result;
+    }
+
+    private Result clock(Session session, Map<String, LatencyRecorder> recorders) {
+        String path = "/workplaces/" + session.worker.workplaceId() + "/workers/me/works/";
+        Result result;
+        if (session.isWorking) {
+            result = send("PATCH /workplaces/{workplaceId}/workers/me/works/end",
+                    HttpRequest.newBuilder(uri(path + "end")).method("PATCH", HttpRequest.BodyPublishers.noBody()),
+                    session, recorders);
+            if (result.isSuccess()) { session.isWorking = false; }
+        } else {
+            result = send("POST /workplaces/{workplaceId}/workers/me/works/start",
+                    HttpRequest.newBuilder(uri(path + "start")).POST(HttpRequest.BodyPublishers.noBody()),
+                    session, recorders);
+            // 409: 이전 실행에서 퇴근하지 않은 상태
+            if (result.isSuccess() || result.status() == 409) { session.isWorking = true; }
+        }
+        return result;
+    }
+
+    private Result editWork(Session session, Random random, Map<String, LatencyRecorder> recorders) {
+        List<EditableWork> works = session.worker.works();
+        EditableWork work = works.get(random.nextInt(works.size()));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("routineIdList", List.of());
+        body.put("startTime", work.startTime());
+        body.put("endTime", work.endTime());
+        body.put("restTimeMinutes", work.restTimeMinutes());
+        body.put("memo", "부하테스트 수정 " + random.nextInt(1000));
+        body.put("repeatDays", List.of());
+
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri("/works/" + work.workId()))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            return send("PATCH /works/{workId}", request, session, recorders);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /// 요청을 보내고 워밍업 이후라면 응답 시간을 기록합니다. (`session`이 있으면 액세스 토큰 포함)
+    private Result send(String endpoint, HttpRequest.Builder request, Session session, Map<String, LatencyRecorder> recorders) {
+        request.timeout(Duration.ofSeconds(30));
+        if (session != null) { request.header("Authorization", "Bearer " + session.accessToken); }
+
+        long startedAt = System.nanoTime();
+        Result result;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            result = new Result(response.statusCode(), response.body(), response.headers().firstValue("ETag").orElse(null));
+        } catch (IOException e) {
+            result = new Result(0, new byte[0], null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = new Result(0, new byte[0], null);
+        }
+
+        if (startedAt >= measureStartNanos) {
+            recorders.computeIfAbsent(endpoint, key -> new LatencyRecorder())
+                    .record(System.nanoTime() - startedAt, result.status(), result.isSuccess());
+        }
+        return result;
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create(baseUrl + pathAndQuery);
+    }
+
+    private static Map<Action, Integer> parseMix(String mixOption) {
+        Map<Action, Integer> mix = new EnumMap<>(Action.class);
+        for (String entry : mixOption.split(",")) {
+            String[] keyAndWeight = entry.split("=");
+            int weight = Integer.parseInt(keyAndWeight[1].trim());
+            if (weight > 0) { mix.put(Action.valueOf(keyAndWeight[0].trim().toUpperCase()), weight); }
+        }
+        if (mix.isEmpty()) { throw new IllegalArgumentException("mix에 가중치가 1 이상인 요청이 없습니다: " + mixOption); }
+        return mix;
+    }
+
+    private static void printReport(List<Summary> summaries) {
+        System.out.printf("%-58s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (Summary summary : summaries) {
+            System.out.printf("%-58s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    summary.endpoint(), summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                    summary.p50Millis(), summary.p90Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis(),
+                    summary.statusCounts());
+        }
+    }
+}
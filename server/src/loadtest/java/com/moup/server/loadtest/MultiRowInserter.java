@@ -0,0 +1,94 @@
+package com.moup.server.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/// 행을 모아 `INSERT INTO ... VALUES (...), (...), ...` 한 문장으로 저장하는 도구
+///
+/// `rowsPerStatement`개가 모일 때마다 한 번 실행하고 커밋합니다. (마지막 남은 행은 `close`에서 저장)
+/// 꽉 찬 문장의 PreparedStatement는 재사용합니다.
+final class MultiRowInserter implements AutoCloseable {
+    private final Connection connection;
+    private final String insertPrefix;
+    private final String rowPlaceholder;
+    private final int columnCount;
+    private final int rowsPerStatement;
+    private final List<Object[]> pendingRows;
+
+    private PreparedStatement fullStatement;
+    private long insertedCount;
+
+    MultiRowInserter(Connection connection, String table, List<String> columns, int rowsPerStatement) {
+        this.connection = connection;
+        this.insertPrefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        this.rowPlaceholder = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        this.columnCount = columns.size();
+        // MySQL 문장당 placeholder 최대 개수(65535)를 넘지 않도록 제한
+        this.rowsPerStatement = Math.max(1, Math.min(rowsPerStatement, 65_535 / columnCount));
+        this.pendingRows = new ArrayList<>(this.rowsPerStatement);
+    }
+
+    void add(Object... values) throws SQLException {
+        if (values.length != columnCount) {
+            throw new IllegalArgumentException("컬럼 수(" + columnCount + ")와 값 수(" + values.length + ")가 다릅니다.");
+        }
+        pendingRows.add(values);
+        if (pendingRows.size() == rowsPerStatement) { flush(); }
+    }
+
+    long getInsertedCount() {
+        return insertedCount;
+    }
+
+    private void flush() throws SQLException {
+        if (pendingRows.isEmpty()) { return; }
+
+        boolean isFull = pendingRows.size() == rowsPerStatement;
+        PreparedStatement statement;
+        if (isFull) {
+            if (fullStatement == null) { fullStatement = connection.prepareStatement(buildSql(rowsPerStatement)); }
+            statement = fullStatement;
+        } else {
+            statement = connection.prepareStatement(buildSql(pendingRows.size()));
+        }
+
+        try {
+            int parameterIndex = 1;
+            for (Object[] row : pendingRows) {
+                for (Object value : row) {
+                    statement.setObject(parameterIndex++, value);
+                }
+            }
+            statement.executeUpdate();
+            connection.commit();
+        } finally {
+            if (!isFull) { statement.close(); }
+        }
+
+        insertedCount += pendingRows.size();
+        pendingRows.clear();
+    }
+
+    private String buildSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(insertPrefix.length() + rowCount * (rowPlaceholder.length() + 2));
+        sql.append(insertPrefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) { sql.append(", "); }
+            sql.append(rowPlaceholder);
+        }
+        return sql.toString();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            if (fullStatement != null) { fullStatement.close(); }
+        }
+    }
+}
@@ -1,26 +1,78 @@
 package com.moup.server.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 
+/// 비동기 실행기 설정
+///
+/// 실행기의 스레드 수, 대기열 크기(`executor.queued`) 등은 Spring Boot Actuator가 빈 이름(`name` 태그)으로 자동 기록하며,
+/// 대기열이 가득 차 거부된 작업 수는 `executor.rejected`로 기록합니다.
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(MeterRegistry meterRegistry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);
         executor.setMaxPoolSize(4);
         executor.setQueueCapacity(500);
         executor.setThreadNamePrefix("Async-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setRejectedExecutionHandler(countRejections("taskExecutor", new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry));
         executor.initialize();
         return executor;
     }
+
+    /// 공지 매핑 생성(fan-out) 전용 실행기 (대량 INSERT가 `taskExecutor`의 스레드를 점유하지 않도록 분리)
+    @Bean(name = "announcementFanoutExecutor")
+    public Executor announcementFanoutExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("Fanout-");
+        executor.setRejectedExecutionHandler(countRejections("announcementFanoutExecutor", new ThreadPoolExecutor.AbortPolicy(), meterRegistry));
+        executor.initialize();
+        return executor;
+    }
+
+    /// 조회 API의 독립 쿼리 동시 실행(`ReadFanout`) 전용 실행기
+    /// 동시 쿼리 수가 커넥션 풀을 넘지 않도록 제한하며, 대기열이 가득 차면 호출 스레드에서 실행합니다.
+    /// 실행한 쿼리는 호출한 요청의 `StatementLog`에 기록됩니다.
+    @Bean(name = "readFanoutExecutor")
+    public Executor readFanoutExecutor(@Value("${read.fanout.pool-size:8}") int poolSize,
+                                       @Value("${read.fanout.queue-capacity:200}") int queueCapacity,
+                                       MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ReadFanout-");
+        executor.setTaskDecorator(StatementLog::propagate);
+        executor.setRejectedExecutionHandler(countRejections("readFanoutExecutor", new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry));
+        executor.initialize();
+        return executor;
+    }
+
+    /// 거부된 작업 수를 기록한 뒤 기존 거부 정책을 그대로 실행하는 거부 정책을 만듭니다.
+    private static RejectedExecutionHandler countRejections(String executorName, RejectedExecutionHandler delegate,
+                                                            MeterRegistry meterRegistry) {
+        Counter rejectedCounter = Counter.builder("executor.rejected")
+                .description("Tasks rejected because the executor queue was full")
+                .tag("name", executorName)
+                .register(meterRegistry);
+        return (task, threadPoolExecutor) -> {
+            rejectedCounter.increment();
+            delegate.rejectedExecution(task, threadPoolExecutor);
+        };
+    }
 }
@@ -0,0 +1,94 @@
+package com.moup.server.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/// 모든 MyBatis 매퍼 메서드(mapped statement)의 실행 시간과 조회/변경 행 수를 기록하는 인터셉터
+///
+/// - `mybatis.statement` (Timer): `statement`(예: `WorkRepository.findAllByWorkerIdAndDateRange`), `command`(SELECT/INSERT/UPDATE/DELETE), `outcome`(success/error)
+/// - `mybatis.statement.rows` (DistributionSummary): SELECT는 조회 행 수, 그 외는 변경 행 수
+///
+/// mybatis-spring-boot-starter가 `Interceptor` 빈을 자동으로 등록합니다.
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    /// 매핑 구문 ID → 미터 (매 실행마다 태그로 미터를 다시 찾지 않도록 보관)
+    private final Map<String, StatementMeters> statementMetersMap = new ConcurrentHashMap<>();
+
+    private record StatementMeters(Timer success, Timer error, DistributionSummary rows) {}
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        StatementMeters meters = statementMetersMap.computeIfAbsent(mappedStatement.getId(), id -> createMeters(mappedStatement));
+
+        long startedAt = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            meters.success().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            meters.rows().record(countRows(result));
+            return result;
+        } catch (Throwable e) {
+            meters.error().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private StatementMeters createMeters(MappedStatement mappedStatement) {
+        String statement = shortStatementId(mappedStatement.getId());
+        String command = mappedStatement.getSqlCommandType().name();
+        return new StatementMeters(
+                timer(statement, command, "success"),
+                timer(statement, command, "error"),
+                DistributionSummary.builder("mybatis.statement.rows")
+                        .description("Rows returned (SELECT) or affected (INSERT/UPDATE/DELETE) per mapped statement")
+                        .tags("statement", statement, "command", command)
+                        .register(meterRegistry));
+    }
+
+    private Timer timer(String statement, String command, String outcome) {
+        return Timer.builder("mybatis.statement")
+                .description("MyBatis mapped statement execution time")
+                .tags("statement", statement, "command", command, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /// `com.moup.server.repository.WorkRepository.findById` → `WorkRepository.findById`
+    static String shortStatementId(String statementId) {
+        int methodSeparator = statementId.lastIndexOf('.');
+        int classSeparator = methodSeparator > 0 ? statementId.lastIndexOf('.', methodSeparator - 1) : -1;
+        return statementId.substring(classSeparator + 1);
+    }
+
+    private static long countRows(Object result) {
+        if (result instanceof Collection<?> collection) { return collection.size(); }
+        if (result instanceof Number number) { return number.longValue(); }
+        return 0;
+    }
+}
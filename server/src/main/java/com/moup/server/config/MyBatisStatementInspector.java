@@ -0,0 +1,88 @@
+package com.moup.server.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/// 매핑 구문을 요청(`StatementLog`)별로 기록하고, 지연 예산을 넘긴 구문을 로그로 남기는 인터셉터
+///
+/// 느린 구문은 바인딩 파라미터의 값 대신 형태(이름, 타입, 컬렉션 크기)만 남깁니다. (e.g. `{workerId=Long, workList=ArrayList[31]}`)
+/// 요청 안에서 같은 구문이 반복 실행되는 경우(N+1)는 요청이 끝날 때 `StatementLogFilter`가 경고합니다.
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class MyBatisStatementInspector implements Interceptor {
+
+    /// MyBatis가 이름 있는 파라미터와 함께 넣는 위치 기반 별칭 (`param1`, `param2`, ...)
+    private static final Pattern GENERATED_PARAM_NAME = Pattern.compile("param\\d+");
+
+    private final long slowStatementThresholdNanos;
+
+    public MyBatisStatementInspector(@Value("${mybatis.inspector.slow-statement-threshold:200}") long slowStatementThresholdMillis) {
+        this.slowStatementThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowStatementThresholdMillis);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        String statement = MyBatisMetricsInterceptor.shortStatementId(mappedStatement.getId());
+
+        StatementLog statementLog = StatementLog.current();
+        if (statementLog != null) {
+            statementLog.record(statement);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            if (elapsedNanos >= slowStatementThresholdNanos) {
+                log.warn("느린 쿼리: {} {}ms, 파라미터 {}", statement, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        parameterShape(invocation.getArgs()[1]));
+            }
+        }
+    }
+
+    /// 바인딩 파라미터의 형태를 값 없이 나타냅니다.
+    static String parameterShape(Object parameter) {
+        if (!(parameter instanceof Map<?, ?> parameterMap)) { return valueShape(parameter); }
+
+        boolean hasNamedParam = parameterMap.keySet().stream()
+                .anyMatch(key -> !GENERATED_PARAM_NAME.matcher(String.valueOf(key)).matches());
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        parameterMap.forEach((key, value) -> {
+            if (hasNamedParam && GENERATED_PARAM_NAME.matcher(String.valueOf(key)).matches()) { return; }
+            joiner.add(key + "=" + valueShape(value));
+        });
+        return joiner.toString();
+    }
+
+    private static String valueShape(Object value) {
+        if (value == null) { return "null"; }
+        if (value instanceof Collection<?> collection) { return value.getClass().getSimpleName() + "[" + collection.size() + "]"; }
+        if (value.getClass().isArray()) { return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]"; }
+        return value.getClass().getSimpleName();
+    }
+}
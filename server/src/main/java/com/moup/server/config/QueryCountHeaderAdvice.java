@@ -0,0 +1,36 @@
+package com.moup.server.config;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/// 응답 본문을 쓰기 직전까지 요청에서 실행된 쿼리 수를 `X-Query-Count` 헤더로 내려주는 어드바이스 (운영(`prod`) 프로필 제외)
+///
+/// 클라이언트 개발 중 화면별 쿼리 수를 바로 확인할 수 있도록 합니다. 본문이 없는 응답에는 붙지 않습니다.
+@Profile("!prod")
+@RestControllerAdvice
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StatementLog statementLog = StatementLog.current();
+        if (statementLog != null) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(statementLog.totalCount()));
+        }
+        return body;
+    }
+}
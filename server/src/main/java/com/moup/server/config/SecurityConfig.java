@@ -1,6 +1,7 @@
 package com.moup.server.config;
 
 import com.moup.server.filter.JwtFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -21,6 +22,8 @@ public class SecurityConfig {
 
   private final String[] NO_AUTH_URL = {"/auth/**"};
   private final String[] HEALTH_CHECK_URL = {"/health"};
+  // 관리 포트(management.server.port)로만 제공 (Nginx로 노출하지 않음)
+  private final String[] ACTUATOR_URL = {"/actuator/health", "/actuator/prometheus"};
   private final String[] USER_AUTH_URL = {"/users/**", "/files/**", "/workplaces/**",
       "/routines/**", "/alarms/**"};
   private final String[] ADMIN_AUTH_URL = {"/admin/**"};
@@ -42,8 +45,10 @@ public class SecurityConfig {
         })).sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
         .formLogin(AbstractHttpConfigurer::disable).authorizeHttpRequests(
-            auth -> auth.requestMatchers(NO_AUTH_URL).permitAll()
+            auth -> auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()   // SSE 응답 전송 (인증은 최초 요청에서 완료)
+                .requestMatchers(NO_AUTH_URL).permitAll()
                 .requestMatchers(HEALTH_CHECK_URL).permitAll()
+                .requestMatchers(ACTUATOR_URL).permitAll()
                 .requestMatchers(USER_AUTH_URL).hasAnyRole("WORKER", "OWNER", "ADMIN")
                 .requestMatchers(SWAGGER_URL).permitAll()    // TODO: 나중에 swagger 비활성화 하기
                 .requestMatchers(ADMIN_AUTH_URL).hasRole("ADMIN").anyRequest().authenticated())
@@ -0,0 +1,96 @@
+package com.moup.server.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// 한 범위(HTTP 요청, 테스트 메서드 등) 안에서 실행된 MyBatis 매핑 구문(mapped statement)의 횟수를 모으는 기록
+///
+/// 범위를 연 스레드에 묶이며, `MyBatisStatementInspector`가 구문을 실행할 때마다 현재 범위에 기록합니다.
+/// `ReadFanout` 작업처럼 다른 스레드에서 실행되는 조회는 `propagate`로 감싼 작업에서 같은 기록에 더해집니다.
+///
+/// ```java
+/// StatementLog statementLog = StatementLog.open();
+/// try {
+///     ...
+/// } finally {
+///     statementLog.close();
+/// }
+/// statementLog.repeatedStatements(10); // {WorkRepository.findById=31}
+/// ```
+public final class StatementLog {
+
+    private static final ThreadLocal<StatementLog> CURRENT = new ThreadLocal<>();
+
+    private final StatementLog previous;
+    private final AtomicInteger totalCount = new AtomicInteger();
+    private final Map<String, Integer> statementCountMap = new ConcurrentHashMap<>();
+
+    private StatementLog(StatementLog previous) {
+        this.previous = previous;
+    }
+
+    /// 현재 스레드에 새 기록 범위를 엽니다. (이미 열린 범위가 있으면 닫을 때 복원)
+    public static StatementLog open() {
+        StatementLog statementLog = new StatementLog(CURRENT.get());
+        CURRENT.set(statementLog);
+        return statementLog;
+    }
+
+    /// 현재 스레드에 열린 기록 범위 (없으면 null)
+    public static StatementLog current() {
+        return CURRENT.get();
+    }
+
+    /// 작업을 실행하는 동안 호출 스레드의 기록 범위를 실행 스레드에도 적용하도록 감쌉니다. (`TaskDecorator`로 사용)
+    public static Runnable propagate(Runnable task) {
+        StatementLog statementLog = CURRENT.get();
+        if (statementLog == null) { return task; }
+
+        return () -> {
+            StatementLog replaced = CURRENT.get();
+            CURRENT.set(statementLog);
+            try {
+                task.run();
+            } finally {
+                if (replaced == null) { CURRENT.remove(); } else { CURRENT.set(replaced); }
+            }
+        };
+    }
+
+    /// 기록 범위를 닫고, 바깥 범위가 있으면 다시 현재 범위로 되돌립니다.
+    public void close() {
+        if (CURRENT.get() != this) { return; }
+        if (previous == null) { CURRENT.remove(); } else { CURRENT.set(previous); }
+    }
+
+    /// 구문 실행 1회를 기록합니다.
+    ///
+    /// @param statement 구문 이름 (e.g. `WorkRepository.findById`)
+    public void record(String statement) {
+        totalCount.incrementAndGet();
+        statementCountMap.merge(statement, 1, Integer::sum);
+    }
+
+    /// 범위 안에서 실행된 전체 구문 수
+    public int totalCount() {
+        return totalCount.get();
+    }
+
+    /// 구문별 실행 횟수
+    public Map<String, Integer> statementCounts() {
+        return Collections.unmodifiableMap(statementCountMap);
+    }
+
+    /// `threshold`번 이상 반복 실행된 구문과 횟수 (많이 실행된 순)
+    public Map<String, Integer> repeatedStatements(int threshold) {
+        Map<String, Integer> repeatedStatementMap = new LinkedHashMap<>();
+        statementCountMap.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeatedStatementMap.put(entry.getKey(), entry.getValue()));
+        return repeatedStatementMap;
+    }
+}
@@ -1,6 +1,5 @@
 package com.moup.server.controller;
 
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.moup.server.model.dto.AdminAnnouncementRequest;
 import com.moup.server.model.dto.AdminNotificationRequest;
 import com.moup.server.service.AdminService;
@@ -60,8 +59,7 @@ public class AdminController {
         @ApiResponse(responseCode = "403", description = "권한 없음"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<?> announce(@RequestBody AdminAnnouncementRequest adminAnnouncementRequest)
-        throws FirebaseMessagingException {
+    public ResponseEntity<?> announce(@RequestBody AdminAnnouncementRequest adminAnnouncementRequest) {
         adminService.announce(adminAnnouncementRequest);
         return ResponseEntity.noContent().build();
     }
@@ -75,8 +73,7 @@ public class AdminController {
         @ApiResponse(responseCode = "404", description = "유저 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<?> notify(@RequestBody AdminNotificationRequest adminNotificationRequest)
-        throws FirebaseMessagingException {
+    public ResponseEntity<?> notify(@RequestBody AdminNotificationRequest adminNotificationRequest) {
         Long userId = identityService.getCurrentUserId();
 
         adminService.notify(userId, adminNotificationRequest);
@@ -8,6 +8,8 @@ import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -26,7 +28,7 @@ public class WorkController implements WorkSpecification {
     private final UserService userService;
     private final IdentityService identityService;
     private final WorkService workService;
-    private final WorkerService workerService;
+    private final CalendarVersionStore calendarVersionStore;
 
     @Override
     @PostMapping("/workplaces/{workplaceId}/workers/me/works")
@@ -71,13 +73,16 @@ public class WorkController implements WorkSpecification {
     @GetMapping("/workplaces/{workplaceId}/workers/me/works")
     public ResponseEntity<?> getAllMyWorkByWorkplace(
             @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId,
-            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth
+            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         Long userId = identityService.getCurrentUserId();
+        String eTag = calendarVersionStore.findETag(CalendarVersionStore.CalendarScope.myWorkplaceWork(workplaceId, userId), baseYearMonth);
+        if (CalendarVersionStore.isNotModified(eTag, ifNoneMatch)) { return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build(); }
         User user = userService.findUserById(userId);
 
         WorkCalendarListResponse response = workService.getAllMyWorkByWorkplace(user, workplaceId, baseYearMonth);
-        return ResponseEntity.ok().body(response);
+        return okWithETag(eTag, response);
     }
 
     @Override
@@ -102,10 +107,23 @@ public class WorkController implements WorkSpecification {
 
     @Override
     @GetMapping("/works")
-    public ResponseEntity<?> getAllMyWork(@RequestParam(name = "baseYearMonth") YearMonth baseYearMonth) {
+    public ResponseEntity<?> getAllMyWork(
+            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         Long userId = identityService.getCurrentUserId();
+        String eTag = calendarVersionStore.findETag(CalendarVersionStore.CalendarScope.myWork(userId), baseYearMonth);
+        if (CalendarVersionStore.isNotModified(eTag, ifNoneMatch)) { return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build(); }
 
         WorkCalendarListResponse response = workService.getAllMyWork(userId, baseYearMonth);
+        return okWithETag(eTag, response);
+    }
+
+    @Override
+    @GetMapping("/works/sync")
+    public ResponseEntity<?> syncMyWork(@RequestParam(name = "syncToken", required = false) String syncToken) {
+        Long userId = identityService.getCurrentUserId();
+        WorkSyncResponse response = workService.syncMyWork(userId, syncToken);
         return ResponseEntity.ok().body(response);
     }
 
@@ -113,13 +131,16 @@ public class WorkController implements WorkSpecification {
     @GetMapping("/workplaces/{workplaceId}/works")
     public ResponseEntity<?> getAllWorkByWorkplace(
             @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId,
-            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth
+            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         Long userId = identityService.getCurrentUserId();
+        String eTag = calendarVersionStore.findETag(CalendarVersionStore.CalendarScope.workplaceWork(workplaceId, userId), baseYearMonth);
+        if (CalendarVersionStore.isNotModified(eTag, ifNoneMatch)) { return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build(); }
         User user = userService.findUserById(userId);
 
         WorkCalendarListResponse response = workService.getAllWorkByWorkplace(user, workplaceId, baseYearMonth);
-        return ResponseEntity.ok().body(response);
+        return okWithETag(eTag, response);
     }
 
     @Override
@@ -232,8 +253,7 @@ public class WorkController implements WorkSpecification {
                     .repeatEndDate(null)
                     .build();
 
-            WorkCreateResponse response = workService.createMyWork(userId, workplaceId, request);
-            workerService.updateWorkerIsNowWorking(userId, workplaceId, true);
+            WorkCreateResponse response = workService.createAndStartWork(userId, workplaceId, request);
             URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
                     .path("/works/{id}")
                     .buildAndExpand(response.getWorkIdList().get(0))
@@ -253,4 +273,10 @@ public class WorkController implements WorkSpecification {
         workService.updateActualEndTime(userId, workplaceId);
         return ResponseEntity.noContent().build();
     }
+
+    /// 캘린더 조회 응답에 ETag를 포함합니다. (조회 전 ETag를 계산하지 못했다면 생략)
+    private ResponseEntity<?> okWithETag(String eTag, WorkCalendarListResponse response) {
+        if (eTag == null) { return ResponseEntity.ok().body(response); }
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -56,6 +57,7 @@ public interface WorkSpecification {
     @Operation(summary = "특정 근무지(매장)에서 사용자 근무 범위 조회", description = "근무지(매장) ID를 경로로, 연-월을 매개변수로 전달받아 해당 날짜를 중간값으로 1년간 해당 근무지(매장)에서 사용자의 근무를 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "근무 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = WorkCalendarListResponse.class))),
+            @ApiResponse(responseCode = "304", description = "이전 응답 이후 변경 없음 (`If-None-Match`가 현재 ETag와 일치)"),
             @ApiResponse(responseCode = "400", description = "유효하지 않은 경로/매개변수 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "권한이 없는 접근", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "요청한 정보를 찾을 수 없음 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -64,7 +66,9 @@ public interface WorkSpecification {
             @Parameter(name = "workplaceId", description = "조회할 근무지(매장) ID", example = "1", in = ParameterIn.PATH)
             @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId,
             @Parameter(name = "baseYearMonth", description = "조회할 연-월 (yyyy-MM)", in = ParameterIn.QUERY, required = true)
-            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth
+            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth,
+            @Parameter(name = HttpHeaders.IF_NONE_MATCH, description = "이전 응답의 ETag (변경이 없으면 304 응답)", in = ParameterIn.HEADER)
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     );
 
     @GetMapping("/works/{workId}")
@@ -157,19 +161,35 @@ public interface WorkSpecification {
     @Operation(summary = "사용자의 모든 근무 범위 조회", description = "연-월을 매개변수로 전달받아 해당 날짜를 중간값으로 1년간 사용자의 모든 근무를 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "근무 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = WorkCalendarListResponse.class))),
+            @ApiResponse(responseCode = "304", description = "이전 응답 이후 변경 없음 (`If-None-Match`가 현재 ETag와 일치)"),
             @ApiResponse(responseCode = "400", description = "유효하지 않은 경로/매개변수 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "권한이 없는 접근", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "요청한 정보를 찾을 수 없음 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),})
     ResponseEntity<?> getAllMyWork(
             @Parameter(name = "baseYearMonth", description = "조회할 연-월 (yyyy-MM)", in = ParameterIn.QUERY, required = true)
-            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth
+            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth,
+            @Parameter(name = HttpHeaders.IF_NONE_MATCH, description = "이전 응답의 ETag (변경이 없으면 304 응답)", in = ParameterIn.HEADER)
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
+
+    @GetMapping("/works/sync")
+    @Operation(summary = "사용자의 모든 근무 변경 사항 동기화", description = "이전 응답의 동기화 토큰을 매개변수로 전달받아 그 이후 생성/수정/삭제된 사용자의 근무만 조회 (토큰이 없거나 만료되었거나 변경이 너무 많으면 `resetRequired: true` 응답 - 캘린더 API로 전체 재조회 후 새 토큰 사용)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "근무 동기화 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = WorkSyncResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 동기화 토큰", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "요청한 정보를 찾을 수 없음 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),})
+    ResponseEntity<?> syncMyWork(
+            @Parameter(name = "syncToken", description = "이전 응답의 동기화 토큰 (없으면 전체 재조회 안내와 함께 새 토큰 발급)", in = ParameterIn.QUERY)
+            @RequestParam(name = "syncToken", required = false) String syncToken
     );
 
     @GetMapping("/{workplaceId}/works")
     @Operation(summary = "특정 근무지(매장)의 모든 근무 범위 조회", description = "근무지(매장) ID를 경로로, 연-월을 매개변수로 전달받아 해당 날짜를 중간값으로 1년간 해당 근무지(매장)의 모든 근무를 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "근무 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = WorkCalendarListResponse.class))),
+            @ApiResponse(responseCode = "304", description = "이전 응답 이후 변경 없음 (`If-None-Match`가 현재 ETag와 일치)"),
             @ApiResponse(responseCode = "400", description = "유효하지 않은 경로/매개변수 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "권한이 없는 접근", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "요청한 정보를 찾을 수 없음 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -178,7 +198,9 @@ public interface WorkSpecification {
             @Parameter(name = "workplaceId", description = "조회할 근무지(매장) ID", example = "1", in = ParameterIn.PATH)
             @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId,
             @Parameter(name = "baseYearMonth", description = "조회할 연-월 (yyyy-MM)", in = ParameterIn.QUERY, required = true)
-            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth
+            @RequestParam(name = "baseYearMonth") YearMonth baseYearMonth,
+            @Parameter(name = HttpHeaders.IF_NONE_MATCH, description = "이전 응답의 ETag (변경이 없으면 304 응답)", in = ParameterIn.HEADER)
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     );
 
     @PatchMapping("/works/{workId}")
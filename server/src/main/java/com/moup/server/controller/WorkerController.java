@@ -8,12 +8,19 @@ import com.moup.server.service.WorkerService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
 
 @RestController
 @Validated
@@ -42,13 +49,28 @@ public class WorkerController implements WorkerSpecification {
         return ResponseEntity.ok().body(response);
     }
 
+    @Override
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ROLE_OWNER')")
+    public SseEmitter subscribeWorkplaceEvents(@PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId) {
+        Long userId = identityService.getCurrentUserId();
+
+        return workerService.subscribeWorkplaceEvents(userId, workplaceId);
+    }
+
     @Override
     @GetMapping("/me")
     @PreAuthorize("hasRole('ROLE_WORKER')")
-    public ResponseEntity<?> getMyAttendanceInfo(@PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId) {
+    public ResponseEntity<?> getMyAttendanceInfo(
+            @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId,
+            @RequestParam(name = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(name = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "30") @Min(value = 1, message = "1 이상의 값만 입력해야 합니다.") @Max(value = 100, message = "100 이하의 값만 입력해야 합니다.") int size
+    ) {
         Long userId = identityService.getCurrentUserId();
 
-        MyAttendanceInfoResponse response = workerService.getMyAttendanceInfo(userId, workplaceId);
+        MyAttendanceInfoResponse response = workerService.getMyAttendanceInfo(userId, workplaceId, startDate, endDate, cursor, size);
         return ResponseEntity.ok().body(response);
     }
 
@@ -57,11 +79,15 @@ public class WorkerController implements WorkerSpecification {
     @PreAuthorize("hasRole('ROLE_OWNER')")
     public ResponseEntity<?> getWorkerAttendanceInfo(
             @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId,
-            @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workerId
+            @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workerId,
+            @RequestParam(name = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(name = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "30") @Min(value = 1, message = "1 이상의 값만 입력해야 합니다.") @Max(value = 100, message = "100 이하의 값만 입력해야 합니다.") int size
     ) {
         Long userId = identityService.getCurrentUserId();
 
-        WorkerAttendanceInfoResponse response = workerService.getWorkerAttendanceInfo(userId, workplaceId, workerId);
+        WorkerAttendanceInfoResponse response = workerService.getWorkerAttendanceInfo(userId, workplaceId, workerId, startDate, endDate, cursor, size);
         return ResponseEntity.ok().body(response);
     }
 
@@ -10,9 +10,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
 
 @RequestMapping("/workplaces/{workplaceId}/workers")
 public interface WorkerSpecification {
@@ -33,9 +40,27 @@ public interface WorkerSpecification {
             @RequestParam(name = "isActiveOnly", required = false, defaultValue = "false") boolean isActiveOnly
     );
 
+    @Tag(name = "Worker", description = "근무자 정보 관리 API 엔드포인트")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "매장 실시간 근무 이벤트 구독 (사장님 전용)", description = """
+            매장 ID를 경로로 전달받아 출근(`CLOCK_IN`) / 퇴근(`CLOCK_OUT`) / 근무 일정 변경(`SCHEDULE_CHANGED`) 이벤트를 SSE로 전송
+            - 연결 직후 `snapshot` 이벤트로 현재 근무 중인 근무자 목록을 전송
+            - 연결 유지를 위해 주기적으로 주석(heartbeat)을 전송하며, 연결이 만료되면 다시 연결해야 함
+            """)
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공 (이벤트 `data`)", content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = WorkplaceEventResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 경로/매개변수 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한이 없는 접근", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "요청한 정보를 찾을 수 없음 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),})
+    SseEmitter subscribeWorkplaceEvents(
+            @Parameter(name = "workplaceId", description = "구독할 매장 ID", example = "1", required = true, in = ParameterIn.PATH)
+            @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId
+    );
+
     @Tag(name = "Worker", description = "근무자 정보 관리 API 엔드포인트")
     @GetMapping("/me")
-    @Operation(summary = "근무지에서 사용자 근태 조회 (알바생 전용)", description = "근무지 ID를 경로로 전달받아 사용자의 근태 정보를 조회")
+    @Operation(summary = "근무지에서 사용자 근태 조회 (알바생 전용)", description = "근무지 ID를 경로로 전달받아 사용자의 근태 정보를 출근 시간 내림차순으로 조회 (커서 기반 페이지네이션)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "사용자 근태 정보 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MyAttendanceInfoResponse.class))),
             @ApiResponse(responseCode = "400", description = "유효하지 않은 경로/매개변수 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -44,12 +69,20 @@ public interface WorkerSpecification {
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),})
     ResponseEntity<?> getMyAttendanceInfo(
             @Parameter(name = "workplaceId", description = "조회할 근무지 ID", example = "1", required = true, in = ParameterIn.PATH)
-            @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId
+            @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId,
+            @Parameter(name = "startDate", description = "조회할 시작일 (yyyy-MM-dd, 생략하면 제한 없음)", example = "2025-11-01", in = ParameterIn.QUERY)
+            @RequestParam(name = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(name = "endDate", description = "조회할 마지막일 (yyyy-MM-dd, 생략하면 제한 없음)", example = "2025-11-30", in = ParameterIn.QUERY)
+            @RequestParam(name = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(name = "cursor", description = "이전 응답의 `nextCursor` (생략하면 첫 페이지)", in = ParameterIn.QUERY)
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(name = "size", description = "페이지 크기 (1 ~ 100)", example = "30", in = ParameterIn.QUERY)
+            @RequestParam(name = "size", required = false, defaultValue = "30") @Min(value = 1, message = "1 이상의 값만 입력해야 합니다.") @Max(value = 100, message = "100 이하의 값만 입력해야 합니다.") int size
     );
 
     @Tag(name = "Worker", description = "근무자 정보 관리 API 엔드포인트")
     @GetMapping("/{workerId}")
-    @Operation(summary = "매장의 근무자 근태 조회 (사장님 전용)", description = "매장 ID와 근무자 ID를 경로로 전달받아 해당 근무자의 근태 정보를 조회")
+    @Operation(summary = "매장의 근무자 근태 조회 (사장님 전용)", description = "매장 ID와 근무자 ID를 경로로 전달받아 해당 근무자의 근태 정보를 출근 시간 내림차순으로 조회 (커서 기반 페이지네이션)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "근무자 근태 정보 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = WorkerAttendanceInfoResponse.class))),
             @ApiResponse(responseCode = "400", description = "유효하지 않은 경로/매개변수 (상세 내용은 메세지 참고)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -60,7 +93,15 @@ public interface WorkerSpecification {
             @Parameter(name = "workplaceId", description = "조회할 매장 ID", example = "1", required = true, in = ParameterIn.PATH)
             @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workplaceId,
             @Parameter(name = "workerId", description = "조회할 근무자 ID", example = "1", required = true, in = ParameterIn.PATH)
-            @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workerId
+            @PathVariable @Positive(message = "1 이상의 값만 입력해야 합니다.") Long workerId,
+            @Parameter(name = "startDate", description = "조회할 시작일 (yyyy-MM-dd, 생략하면 제한 없음)", example = "2025-11-01", in = ParameterIn.QUERY)
+            @RequestParam(name = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(name = "endDate", description = "조회할 마지막일 (yyyy-MM-dd, 생략하면 제한 없음)", example = "2025-11-30", in = ParameterIn.QUERY)
+            @RequestParam(name = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(name = "cursor", description = "이전 응답의 `nextCursor` (생략하면 첫 페이지)", in = ParameterIn.QUERY)
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(name = "size", description = "페이지 크기 (1 ~ 100)", example = "30", in = ParameterIn.QUERY)
+            @RequestParam(name = "size", required = false, defaultValue = "30") @Min(value = 1, message = "1 이상의 값만 입력해야 합니다.") @Max(value = 100, message = "100 이하의 값만 입력해야 합니다.") int size
     );
 
     @Tag(name = "Worker", description = "근무자 정보 관리 API 엔드포인트")
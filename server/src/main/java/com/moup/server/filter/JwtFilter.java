@@ -2,6 +2,7 @@ package com.moup.server.filter;
 
 import com.moup.server.service.CustomUserDetailsService;
 import com.moup.server.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,19 +43,21 @@ public class JwtFilter extends OncePerRequestFilter {
             try {
                 String token = authHeader.substring(7);
 
-                if (jwtUtil.isValidToken(token)) {
-                    Long userId = jwtUtil.getUserId(token);
+                // 서명/만료 검증과 Claims 파싱을 한 번에 수행
+                Long userId = jwtUtil.getUserId(jwtUtil.verify(token));
 
-                    // UserDetails 생성
-                    UserDetails userDetails = customUserDetailsService.loadUserByUsername(String.valueOf(userId));
+                // UserDetails 생성
+                UserDetails userDetails = customUserDetailsService.loadUserByUsername(String.valueOf(userId));
 
-                    // 인증 객체 생성
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                // 인증 객체 생성
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    // SecurityContext에 인증 객체 등록
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+                // SecurityContext에 인증 객체 등록
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+            catch (JwtException e) {
+                logger.warn("Invalid JWT Token: {}", e.getMessage());
             }
             catch (UsernameNotFoundException e) {
                 logger.warn("유저 정보 조회 실패: {}", e.getMessage());
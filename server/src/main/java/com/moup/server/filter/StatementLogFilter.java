@@ -0,0 +1,47 @@
+package com.moup.server.filter;
+
+import com.moup.server.config.StatementLog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/// 요청마다 `StatementLog` 범위를 열고, 요청이 끝나면 같은 매핑 구문이 반복 실행된 경우(N+1 의심)를 경고하는 필터
+///
+/// 인증 필터에서 실행되는 조회까지 포함하도록 가장 바깥에서 실행됩니다.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementLogFilter extends OncePerRequestFilter {
+
+    private final int repeatedStatementThreshold;
+
+    public StatementLogFilter(@Value("${mybatis.inspector.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementLog statementLog = StatementLog.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statementLog.close();
+        }
+
+        Map<String, Integer> repeatedStatementMap = statementLog.repeatedStatements(repeatedStatementThreshold);
+        if (!repeatedStatementMap.isEmpty()) {
+            log.warn("반복 쿼리(N+1 의심): {} {} - 전체 {}개 중 {}", request.getMethod(), request.getRequestURI(),
+                    statementLog.totalCount(), repeatedStatementMap);
+        }
+    }
+}
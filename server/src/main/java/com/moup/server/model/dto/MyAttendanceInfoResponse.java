@@ -12,4 +12,8 @@ import java.util.List;
 public class MyAttendanceInfoResponse {
     @Schema(description = "사용자 출석 정보 (없으면 빈 배열)", requiredMode = Schema.RequiredMode.REQUIRED)
     private List<WorkerWorkAttendanceResponse> myWorkAttendanceInfoList;
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNS0xMS0wM1QwOTowMF8xNQ", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String nextCursor;
+    @Schema(description = "다음 페이지 존재 여부", example = "true", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Boolean hasNext;
 }
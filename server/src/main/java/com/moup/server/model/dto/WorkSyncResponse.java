@@ -0,0 +1,23 @@
+package com.moup.server.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "근무 동기화 응답 DTO")
+public class WorkSyncResponse {
+    @Schema(description = "다음 동기화 요청에 사용할 토큰", example = "MjAyNS0xMS0wM1QwOToxMjozNC41Njc4OTA", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String nextSyncToken;
+    @Schema(description = "전체 재조회 필요 여부 (true면 변경 목록 대신 캘린더 API로 전체 근무를 다시 조회)", example = "false", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Boolean resetRequired;
+    @Schema(description = "사용자의 현재 근무자 ID 배열 (목록에 없는 근무자의 근무는 클라이언트에서 삭제)", example = "[1, 2]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Long> workerIdList;
+    @Schema(description = "토큰 이후 생성 / 수정된 근무 요약 배열 (없으면 빈 배열)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<WorkSummaryResponse> upsertedWorkSummaryInfoList;
+    @Schema(description = "토큰 이후 삭제된 근무 ID 배열 (없으면 빈 배열)", example = "[10, 11]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Long> deletedWorkIdList;
+}
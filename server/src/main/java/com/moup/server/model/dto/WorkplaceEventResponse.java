@@ -0,0 +1,26 @@
+package com.moup.server.model.dto;
+
+import com.moup.server.model.enums.WorkplaceEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "매장 실시간 이벤트 DTO (SSE `data`)")
+public class WorkplaceEventResponse {
+    @Schema(description = "이벤트 종류 (출근 / 퇴근 / 근무 일정 변경)", example = "CLOCK_IN", requiredMode = Schema.RequiredMode.REQUIRED)
+    private WorkplaceEventType type;
+    @Schema(description = "매장 ID", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long workplaceId;
+    @Schema(description = "근무자 ID", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long workerId;
+    @Schema(description = "발생 시간 (ISO 8601 UTC)", example = "2025-10-11T00:00:00Z", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Instant occurredAt;
+}
@@ -0,0 +1,15 @@
+package com.moup.server.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "매장 실시간 이벤트 구독 시 처음 전송되는 현재 근무 중인 근무자 목록 DTO (SSE `snapshot` 이벤트)")
+public class WorkplaceWorkingSnapshotResponse {
+    @Schema(description = "현재 근무 중인 근무자 ID 목록", example = "[1, 2]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Long> workingWorkerIdList;
+}
@@ -0,0 +1,20 @@
+package com.moup.server.model.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@ToString
+public class AnnouncementFanout {
+    private Long alarmId;
+    private Long lastUserId;
+    private Long maxUserId;
+    private Long insertedCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
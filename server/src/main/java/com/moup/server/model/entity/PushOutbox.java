@@ -0,0 +1,28 @@
+package com.moup.server.model.entity;
+
+import com.moup.server.model.enums.PushOutboxStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@ToString
+public class PushOutbox {
+    private Long id;
+    private Long receiverId;
+    private String topic;
+    private String title;
+    private String body;
+    private String data;
+    private PushOutboxStatus status;
+    private Integer attemptCount;
+    private LocalDateTime nextAttemptAt;
+    private String claimId;
+    private String messageId;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+}
@@ -28,4 +28,10 @@ public class Work {
     private Integer grossIncome;
     private Integer estimatedNetIncome;
     private String repeatGroupId;
+    /// 근무일이 속한 주의 월요일 (DB 생성 컬럼, INSERT/UPDATE 대상 아님)
+    private LocalDate weekStart;
+    /// 근무일이 속한 월의 1일 (DB 생성 컬럼, INSERT/UPDATE 대상 아님)
+    private LocalDate workMonth;
+    /// 마지막 변경 시각 (DB에서 자동 갱신, INSERT/UPDATE 대상 아님)
+    private LocalDateTime updatedAt;
 }
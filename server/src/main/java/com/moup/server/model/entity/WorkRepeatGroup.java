@@ -0,0 +1,23 @@
+package com.moup.server.model.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Builder
+@ToString
+public class WorkRepeatGroup {
+    private String id;
+    private Long workerId;
+    private String repeatDays;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer restTimeMinutes;
+    private String memo;
+}
@@ -0,0 +1,24 @@
+package com.moup.server.model.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@ToString
+public class WorkerMonthSummary {
+    private Long workerId;
+    private LocalDate workMonth;
+    private Integer workCount;
+    private Integer netWorkMinutes;
+    private Integer nightWorkMinutes;
+    private Integer restTimeMinutes;
+    private Integer basePay;
+    private Integer nightAllowance;
+    private Integer holidayAllowance;
+    private Integer grossIncome;
+    private Integer totalDeductions;
+}
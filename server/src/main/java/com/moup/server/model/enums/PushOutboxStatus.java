@@ -0,0 +1,7 @@
+package com.moup.server.model.enums;
+
+public enum PushOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
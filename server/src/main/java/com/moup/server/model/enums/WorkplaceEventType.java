@@ -0,0 +1,7 @@
+package com.moup.server.model.enums;
+
+public enum WorkplaceEventType {
+    CLOCK_IN,
+    CLOCK_OUT,
+    SCHEDULE_CHANGED
+}
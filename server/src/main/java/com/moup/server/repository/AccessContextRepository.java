@@ -0,0 +1,96 @@
+package com.moup.server.repository;
+
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/// 권한 검증에 필요한 근무/근무자/근무지/사용자 정보를 한 번의 조인 쿼리로 조회하는 저장소 (`AccessContextResolver` 전용)
+///
+/// 결과는 컬럼 순서대로 생성자에 매핑되므로 SELECT 컬럼 순서와 record 필드 순서를 반드시 같게 유지해야 합니다.
+/// (값은 컬럼 이름으로 읽으므로 조인한 테이블의 같은 이름 컬럼은 별칭으로 구분)
+@Mapper
+public interface AccessContextRepository {
+
+    // 근무 + 근무자 + 근무지 + 근무자 사용자(요약) 조인 결과
+    record WorkAccessRow(
+            Long workId, Long workWorkerId, LocalDate workDate, LocalDateTime startTime, LocalDateTime actualStartTime,
+            LocalDateTime endTime, LocalDateTime actualEndTime, Integer restTimeMinutes, Integer grossWorkMinutes,
+            Integer netWorkMinutes, Integer nightWorkMinutes, String memo, Integer hourlyRate, Integer basePay,
+            Integer nightAllowance, Integer holidayAllowance, Integer grossIncome, Integer estimatedNetIncome,
+            String repeatGroupId, LocalDate weekStart, LocalDate workMonth, LocalDateTime updatedAt,
+            Long workerId, Long workerUserId, Long workerWorkplaceId, String workerBasedLabelColor,
+            String ownerBasedLabelColor, Boolean isAccepted, Boolean isNowWorking,
+            Long workplaceId, Long ownerId, String workplaceName, String categoryName, Boolean isShared,
+            String address, Double latitude, Double longitude,
+            Long userId, String nickname, String profileImg) {}
+
+    // 근무지 + 근무자(없으면 null) 조인 결과
+    record WorkerAccessRow(
+            Long workplaceId, Long ownerId, String workplaceName, String categoryName, Boolean isShared,
+            String address, Double latitude, Double longitude,
+            Long workerId, Long workerUserId, Long workerWorkplaceId, String workerBasedLabelColor,
+            String ownerBasedLabelColor, Boolean isAccepted, Boolean isNowWorking) {}
+
+    /// 근무 ID로 근무와 그 근무자, 근무지, 근무자의 사용자 요약 정보를 함께 조회하는 메서드
+    ///
+    /// @param workId 조회할 근무 ID
+    /// @return 조인 결과 (근무자/근무지/사용자가 없으면 해당 컬럼이 null), 근무가 없으면 Optional.empty
+    @Select("""
+            SELECT w.id, w.worker_id, w.work_date, w.start_time, w.actual_start_time,
+                w.end_time, w.actual_end_time, w.rest_time_minutes, w.gross_work_minutes,
+                w.net_work_minutes, w.night_work_minutes, w.memo, w.hourly_rate, w.base_pay,
+                w.night_allowance, w.holiday_allowance, w.gross_income, w.estimated_net_income,
+                w.repeat_group_id, w.week_start, w.work_month, w.updated_at,
+                wk.id AS wk_id, wk.user_id AS wk_user_id, wk.workplace_id AS wk_workplace_id,
+                wk.worker_based_label_color, wk.owner_based_label_color, wk.is_accepted, wk.is_now_working,
+                wp.id AS wp_id, wp.owner_id, wp.workplace_name, wp.category_name, wp.is_shared,
+                wp.address, wp.latitude, wp.longitude,
+                u.id AS u_id, u.nickname, u.profile_img
+            FROM works w
+            LEFT JOIN workers wk ON wk.id = w.worker_id
+            LEFT JOIN workplaces wp ON wp.id = wk.workplace_id
+            LEFT JOIN users u ON u.id = wk.user_id
+            WHERE w.id = #{workId}
+            """)
+    Optional<WorkAccessRow> findWorkAccessByWorkId(@Param("workId") Long workId);
+
+    /// 근무지 ID로 근무지와 그 근무지에서 특정 사용자의 근무자 정보를 함께 조회하는 메서드
+    ///
+    /// @param workplaceId 조회할 근무지 ID
+    /// @param userId 조회할 사용자 ID
+    /// @return 조인 결과 (해당 사용자가 근무자가 아니면 근무자 컬럼이 null), 근무지가 없으면 Optional.empty
+    @Select("""
+            SELECT wp.id, wp.owner_id, wp.workplace_name, wp.category_name, wp.is_shared,
+                wp.address, wp.latitude, wp.longitude,
+                wk.id AS wk_id, wk.user_id AS wk_user_id, wk.workplace_id AS wk_workplace_id,
+                wk.worker_based_label_color, wk.owner_based_label_color, wk.is_accepted, wk.is_now_working
+            FROM workplaces wp
+            LEFT JOIN workers wk ON wk.workplace_id = wp.id AND wk.user_id = #{userId}
+            WHERE wp.id = #{workplaceId}
+            """)
+    Optional<WorkerAccessRow> findWorkerAccessByWorkplaceIdAndUserId(
+            @Param("workplaceId") Long workplaceId,
+            @Param("userId") Long userId
+    );
+
+    /// 근무지 ID로 근무지와 그 근무지에 속한 특정 근무자 정보를 함께 조회하는 메서드
+    ///
+    /// @param workplaceId 조회할 근무지 ID
+    /// @param workerId 조회할 근무자 ID
+    /// @return 조인 결과 (근무자가 해당 근무지 소속이 아니면 근무자 컬럼이 null), 근무지가 없으면 Optional.empty
+    @Select("""
+            SELECT wp.id, wp.owner_id, wp.workplace_name, wp.category_name, wp.is_shared,
+                wp.address, wp.latitude, wp.longitude,
+                wk.id AS wk_id, wk.user_id AS wk_user_id, wk.workplace_id AS wk_workplace_id,
+                wk.worker_based_label_color, wk.owner_based_label_color, wk.is_accepted, wk.is_now_working
+            FROM workplaces wp
+            LEFT JOIN workers wk ON wk.workplace_id = wp.id AND wk.id = #{workerId}
+            WHERE wp.id = #{workplaceId}
+            """)
+    Optional<WorkerAccessRow> findWorkerAccessByWorkplaceIdAndWorkerId(
+            @Param("workplaceId") Long workplaceId,
+            @Param("workerId") Long workerId
+    );
+}
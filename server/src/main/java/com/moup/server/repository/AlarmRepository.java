@@ -11,7 +11,6 @@ import java.util.List;
 import java.util.Optional;
 import javax.swing.text.html.Option;
 
-import com.moup.server.model.entity.User;
 import org.apache.ibatis.annotations.*;
 
 @Mapper
@@ -46,7 +45,19 @@ public interface AlarmRepository {
     @Options(useGeneratedKeys = true, keyProperty = "id")
     void saveAnnouncement(Announcement announcement);
 
-    void saveAnnouncementMappingForAllUsers(@Param("announcementId") Long announcementId, @Param("users") List<User> users);
+    /// 사용자 ID 구간 (fromUserId, toUserId]의 모든 사용자에게 공지 매핑을 생성하는 메서드
+    ///
+    /// @param announcementId 공지 ID
+    /// @param fromUserId 구간 시작 사용자 ID (미포함)
+    /// @param toUserId 구간 끝 사용자 ID (포함)
+    /// @return 생성된 매핑 수
+    @Insert("""
+            INSERT INTO admin_alarm_user_mappings (alarm_id, user_id)
+            SELECT #{announcementId}, id
+            FROM users
+            WHERE id > #{fromUserId} AND id <= #{toUserId}
+            """)
+    int saveAnnouncementMappingsByUserIdRange(Long announcementId, Long fromUserId, Long toUserId);
 
     @Select("SELECT * FROM admin_alarms JOIN admin_alarm_user_mappings ON admin_alarms.id = admin_alarm_user_mappings.alarm_id WHERE user_id = #{userId} AND alarm_id = #{announcementId} AND deleted_at IS NULL")
     Optional<AdminAlarm> findAdminAlarmById(Long userId, Long announcementId);
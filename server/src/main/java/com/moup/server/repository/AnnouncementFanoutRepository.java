@@ -0,0 +1,52 @@
+package com.moup.server.repository;
+
+import com.moup.server.model.entity.AnnouncementFanout;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface AnnouncementFanoutRepository {
+    /// 공지 매핑 생성 작업을 등록하는 메서드
+    ///
+    /// @param alarmId 공지 ID
+    /// @param maxUserId 공지 시점의 최대 사용자 ID (이 ID까지 매핑을 생성)
+    @Insert("INSERT INTO announcement_fanouts (alarm_id, max_user_id) VALUES (#{alarmId}, #{maxUserId})")
+    void create(Long alarmId, Long maxUserId);
+
+    /// 공지 매핑 생성 작업을 잠금과 함께 조회하는 메서드
+    ///
+    /// 같은 작업을 여러 스레드가 이어서 실행해도 구간이 겹치지 않도록, 구간 처리 트랜잭션마다 행을 잠급니다.
+    ///
+    /// @param alarmId 공지 ID
+    /// @return 조회된 AnnouncementFanout 객체
+    @Select("SELECT * FROM announcement_fanouts WHERE alarm_id = #{alarmId} FOR UPDATE")
+    Optional<AnnouncementFanout> findByAlarmIdForUpdate(Long alarmId);
+
+    /// 처리한 구간까지 체크포인트를 갱신하는 메서드 (최대 사용자 ID에 도달하면 완료 처리)
+    ///
+    /// @param alarmId 공지 ID
+    /// @param lastUserId 매핑 생성이 끝난 마지막 사용자 ID
+    /// @param insertedCount 이번 구간에서 생성한 매핑 수
+    @Update("""
+            UPDATE announcement_fanouts
+            SET last_user_id = #{lastUserId},
+                inserted_count = inserted_count + #{insertedCount},
+                completed_at = IF(#{lastUserId} >= max_user_id, NOW(), NULL)
+            WHERE alarm_id = #{alarmId}
+            """)
+    void updateCheckpoint(Long alarmId, Long lastUserId, int insertedCount);
+
+    /// 완료되지 않은 채 일정 시간 이상 진행이 멈춘 작업의 공지 ID 목록을 조회하는 메서드
+    ///
+    /// @param staleSeconds 마지막 진행 후 경과 시간(초)
+    /// @return 이어서 실행해야 하는 공지 ID 리스트
+    @Select("""
+            SELECT alarm_id
+            FROM announcement_fanouts
+            WHERE completed_at IS NULL AND updated_at < DATE_SUB(NOW(), INTERVAL #{staleSeconds} SECOND)
+            ORDER BY alarm_id
+            """)
+    List<Long> findAllStaleAlarmIds(int staleSeconds);
+}
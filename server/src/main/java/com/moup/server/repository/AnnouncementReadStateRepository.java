@@ -0,0 +1,192 @@
+package com.moup.server.repository;
+
+import com.moup.server.model.entity.AdminAlarm;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+
+/// 워터마크 방식의 공지 읽음/삭제 상태 저장소
+///
+/// 사용자별 `last_read_announcement_id` / `last_cleared_announcement_id` 워터마크와,
+/// 워터마크 이후에 개별적으로 읽음/삭제한 공지만 `user_announcement_exceptions`에 저장합니다.
+@Mapper
+public interface AnnouncementReadStateRepository {
+    /// 신규 사용자의 워터마크를 현재 최신 공지 ID로 생성하는 메서드 (가입 이전 공지는 보이지 않음)
+    ///
+    /// @param userId 사용자 ID
+    @Insert("""
+            INSERT IGNORE INTO user_announcement_states (user_id, last_read_announcement_id, last_cleared_announcement_id)
+            SELECT #{userId}, COALESCE(MAX(id), 0), COALESCE(MAX(id), 0)
+            FROM admin_alarms
+            """)
+    void createForNewUser(Long userId);
+
+    /// 사용자에게 보이는 (삭제 워터마크 이후이면서 개별 삭제하지 않은) 공지 목록을 조회하는 메서드
+    ///
+    /// @param userId 사용자 ID
+    /// @return 공지 리스트 (ID 오름차순)
+    @Select("""
+            SELECT a.id, a.title, a.content, a.sent_at
+            FROM admin_alarms a
+            LEFT JOIN user_announcement_exceptions e ON e.user_id = #{userId} AND e.alarm_id = a.id
+            WHERE a.id > (SELECT COALESCE(MAX(s.last_cleared_announcement_id), 0) FROM user_announcement_states s WHERE s.user_id = #{userId})
+              AND e.deleted_at IS NULL
+            ORDER BY a.id
+            """)
+    List<AdminAlarm> findAllVisibleByUserId(Long userId);
+
+    /// 사용자에게 보이는 공지 하나를 조회하는 메서드
+    ///
+    /// @param userId 사용자 ID
+    /// @param announcementId 공지 ID
+    /// @return 조회된 공지
+    @Select("""
+            SELECT a.id, a.title, a.content, a.sent_at
+            FROM admin_alarms a
+            LEFT JOIN user_announcement_exceptions e ON e.user_id = #{userId} AND e.alarm_id = a.id
+            WHERE a.id = #{announcementId}
+              AND a.id > (SELECT COALESCE(MAX(s.last_cleared_announcement_id), 0) FROM user_announcement_states s WHERE s.user_id = #{userId})
+              AND e.deleted_at IS NULL
+            """)
+    Optional<AdminAlarm> findVisibleById(Long userId, Long announcementId);
+
+    /// 읽음 워터마크 이후의 공지 하나를 개별 읽음 처리하는 메서드 (이미 읽었거나 워터마크 이하이면 변경 없음)
+    ///
+    /// @param userId 사용자 ID
+    /// @param announcementId 공지 ID
+    @Insert("""
+            INSERT INTO user_announcement_exceptions (user_id, alarm_id, read_at)
+            SELECT #{userId}, a.id, NOW()
+            FROM admin_alarms a
+            WHERE a.id = #{announcementId}
+              AND a.id > (SELECT COALESCE(MAX(s.last_read_announcement_id), 0) FROM user_announcement_states s WHERE s.user_id = #{userId})
+            ON DUPLICATE KEY UPDATE read_at = COALESCE(user_announcement_exceptions.read_at, VALUES(read_at))
+            """)
+    void markRead(Long userId, Long announcementId);
+
+    /// 삭제 워터마크 이후의 공지 하나를 개별 삭제 처리하는 메서드
+    ///
+    /// @param userId 사용자 ID
+    /// @param announcementId 공지 ID
+    @Insert("""
+            INSERT INTO user_announcement_exceptions (user_id, alarm_id, deleted_at)
+            SELECT #{userId}, a.id, NOW()
+            FROM admin_alarms a
+            WHERE a.id = #{announcementId}
+              AND a.id > (SELECT COALESCE(MAX(s.last_cleared_announcement_id), 0) FROM user_announcement_states s WHERE s.user_id = #{userId})
+            ON DUPLICATE KEY UPDATE deleted_at = COALESCE(user_announcement_exceptions.deleted_at, VALUES(deleted_at))
+            """)
+    void markDeleted(Long userId, Long announcementId);
+
+    /// 읽음 워터마크를 현재 최신 공지 ID로 올리는 메서드 (단일 행 upsert)
+    ///
+    /// @param userId 사용자 ID
+    @Insert("""
+            INSERT INTO user_announcement_states (user_id, last_read_announcement_id)
+            SELECT #{userId}, COALESCE(MAX(id), 0)
+            FROM admin_alarms
+            ON DUPLICATE KEY UPDATE last_read_announcement_id = GREATEST(last_read_announcement_id, VALUES(last_read_announcement_id))
+            """)
+    void advanceReadWatermark(Long userId);
+
+    /// 삭제 워터마크를 현재 최신 공지 ID로 올리는 메서드 (삭제된 공지는 읽음으로도 간주)
+    ///
+    /// @param userId 사용자 ID
+    @Insert("""
+            INSERT INTO user_announcement_states (user_id, last_read_announcement_id, last_cleared_announcement_id)
+            SELECT #{userId}, COALESCE(MAX(id), 0), COALESCE(MAX(id), 0)
+            FROM admin_alarms
+            ON DUPLICATE KEY UPDATE
+                last_read_announcement_id = GREATEST(last_read_announcement_id, VALUES(last_read_announcement_id)),
+                last_cleared_announcement_id = GREATEST(last_cleared_announcement_id, VALUES(last_cleared_announcement_id))
+            """)
+    void advanceClearedWatermark(Long userId);
+
+    /// 워터마크 이하로 내려가 더 이상 필요 없는 개별 예외를 정리하는 메서드
+    ///
+    /// 읽음 워터마크 이하의 '읽음만 한' 예외와, 삭제 워터마크 이하의 모든 예외를 삭제합니다.
+    ///
+    /// @param userId 사용자 ID
+    @Delete("""
+            DELETE e
+            FROM user_announcement_exceptions e
+            JOIN user_announcement_states s ON s.user_id = e.user_id
+            WHERE e.user_id = #{userId}
+              AND (e.alarm_id <= s.last_cleared_announcement_id
+                   OR (e.alarm_id <= s.last_read_announcement_id AND e.deleted_at IS NULL))
+            """)
+    void deleteExceptionsBelowWatermarks(Long userId);
+
+    /// 워터마크 행이 없는 (워터마크 방식 도입 이전에 가입한) 사용자가 있는지 확인하는 메서드
+    ///
+    /// @return 워터마크 행이 없는 사용자가 있으면 true
+    @Select("""
+            SELECT EXISTS (
+                SELECT 1
+                FROM users u
+                LEFT JOIN user_announcement_states s ON s.user_id = u.id
+                WHERE s.user_id IS NULL
+            )
+            """)
+    boolean existsUserWithoutState();
+
+    /// 사용자 ID 구간 (fromUserId, toUserId]에서 워터마크 행이 없는 사용자의 기존 매핑 읽음/삭제 상태를 개별 예외로 옮기는 메서드
+    ///
+    /// @param fromUserId 구간 시작 사용자 ID (미포함)
+    /// @param toUserId 구간 끝 사용자 ID (포함)
+    /// @return 생성된 예외 수
+    @Insert("""
+            INSERT IGNORE INTO user_announcement_exceptions (user_id, alarm_id, read_at, deleted_at)
+            SELECT m.user_id, m.alarm_id, m.read_at, m.deleted_at
+            FROM admin_alarm_user_mappings m
+            LEFT JOIN user_announcement_states s ON s.user_id = m.user_id
+            WHERE m.user_id > #{fromUserId} AND m.user_id <= #{toUserId}
+              AND s.user_id IS NULL
+              AND (m.read_at IS NOT NULL OR m.deleted_at IS NOT NULL)
+            """)
+    int backfillExceptionsFromMappingsByUserIdRange(Long fromUserId, Long toUserId);
+
+    /// 사용자 ID 구간 (fromUserId, toUserId]에서 워터마크 행이 없는 사용자의 첫 매핑 이후 공지 중 매핑이 없는 공지를 삭제 예외로 생성하는 메서드
+    ///
+    /// 매핑 방식에서 보이지 않던 공지가 워터마크 방식에서 새로 보이지 않도록 합니다. (매핑 생성이 진행 중인 공지는 제외)
+    ///
+    /// @param fromUserId 구간 시작 사용자 ID (미포함)
+    /// @param toUserId 구간 끝 사용자 ID (포함)
+    /// @return 생성된 예외 수
+    @Insert("""
+            INSERT IGNORE INTO user_announcement_exceptions (user_id, alarm_id, deleted_at)
+            SELECT f.user_id, a.id, NOW()
+            FROM (SELECT m.user_id, MIN(m.alarm_id) AS first_alarm_id
+                  FROM admin_alarm_user_mappings m
+                  LEFT JOIN user_announcement_states s ON s.user_id = m.user_id
+                  WHERE m.user_id > #{fromUserId} AND m.user_id <= #{toUserId}
+                    AND s.user_id IS NULL
+                  GROUP BY m.user_id) f
+            JOIN admin_alarms a ON a.id > f.first_alarm_id
+            LEFT JOIN admin_alarm_user_mappings m ON m.alarm_id = a.id AND m.user_id = f.user_id
+            LEFT JOIN announcement_fanouts af ON af.alarm_id = a.id AND af.completed_at IS NULL
+            WHERE m.id IS NULL
+              AND af.alarm_id IS NULL
+            """)
+    int backfillUnmappedExceptionsByUserIdRange(Long fromUserId, Long toUserId);
+
+    /// 사용자 ID 구간 (fromUserId, toUserId]에서 워터마크 행이 없는 사용자의 워터마크를 기존 매핑 기준으로 생성하는 메서드
+    ///
+    /// 두 워터마크 모두 첫 매핑 공지 ID 직전으로, 매핑이 하나도 없으면 현재 최신 공지 ID로 시작합니다. (`createForNewUser`와 동일)
+    ///
+    /// @param fromUserId 구간 시작 사용자 ID (미포함)
+    /// @param toUserId 구간 끝 사용자 ID (포함)
+    /// @return 생성된 워터마크 수
+    @Insert("""
+            INSERT IGNORE INTO user_announcement_states (user_id, last_read_announcement_id, last_cleared_announcement_id)
+            SELECT w.user_id, w.watermark, w.watermark
+            FROM (SELECT u.id AS user_id,
+                         COALESCE(MIN(m.alarm_id) - 1, (SELECT COALESCE(MAX(a.id), 0) FROM admin_alarms a)) AS watermark
+                  FROM users u
+                  LEFT JOIN admin_alarm_user_mappings m ON m.user_id = u.id
+                  WHERE u.id > #{fromUserId} AND u.id <= #{toUserId}
+                  GROUP BY u.id) w
+            """)
+    int backfillStatesFromMappingsByUserIdRange(Long fromUserId, Long toUserId);
+}
@@ -1,5 +1,7 @@
 package com.moup.server.repository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Repository
 @RequiredArgsConstructor
@@ -19,6 +22,7 @@ public class InviteCodeRepository {
     private static final String WORKPLACE_ID_KEY_PREFIX = "workplaceId:";
 
     private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 초대 코드와 그에 해당하는 근무지 ID를 10분간 Redis에 양방향으로 저장하는 메서드
@@ -29,7 +33,7 @@ public class InviteCodeRepository {
         String inviteCodeKey = INVITE_CODE_KEY_PREFIX + inviteCode;
         String workplaceIdKey = WORKPLACE_ID_KEY_PREFIX + workplaceId;
 
-        stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+        timed("save", () -> stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
             @Override
             @SuppressWarnings({"unchecked"})  // 경고를 무시하기 위한 어노테이션
             public List<Object> execute(@NonNull RedisOperations operations) throws DataAccessException {
@@ -45,7 +49,7 @@ public class InviteCodeRepository {
                 // 3. 모든 명령어를 원자적으로 실행
                 return operations.exec();
             }
-        });
+        }));
     }
 
     /**
@@ -55,7 +59,7 @@ public class InviteCodeRepository {
      */
     public boolean existsByInviteCode(String inviteCode) {
         String key = INVITE_CODE_KEY_PREFIX + inviteCode;
-        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+        return Boolean.TRUE.equals(timed("existsByInviteCode", () -> stringRedisTemplate.hasKey(key)));
     }
 
     /**
@@ -65,7 +69,7 @@ public class InviteCodeRepository {
      */
     public boolean existsByWorkplaceId(Long workplaceId) {
         String key = WORKPLACE_ID_KEY_PREFIX + workplaceId;
-        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+        return Boolean.TRUE.equals(timed("existsByWorkplaceId", () -> stringRedisTemplate.hasKey(key)));
     }
 
     /**
@@ -75,7 +79,7 @@ public class InviteCodeRepository {
      */
     public Optional<String> findInviteCodeByWorkplaceId(Long workplaceId) {
         String key = WORKPLACE_ID_KEY_PREFIX + workplaceId;
-        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(key));
+        return Optional.ofNullable(timed("findInviteCodeByWorkplaceId", () -> stringRedisTemplate.opsForValue().get(key)));
     }
 
     /**
@@ -85,7 +89,7 @@ public class InviteCodeRepository {
      */
     public Optional<Long> findWorkplaceIdByInviteCode(String inviteCode) {
         String key = INVITE_CODE_KEY_PREFIX + inviteCode;
-        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(key)).map(Long::parseLong);
+        return Optional.ofNullable(timed("findWorkplaceIdByInviteCode", () -> stringRedisTemplate.opsForValue().get(key))).map(Long::parseLong);
     }
 
     /**
@@ -96,6 +100,19 @@ public class InviteCodeRepository {
     public void delete(String inviteCode, Long workplaceId) {
         String inviteCodeKey = INVITE_CODE_KEY_PREFIX + inviteCode;
         String workplaceIdKey = WORKPLACE_ID_KEY_PREFIX + workplaceId;
-        stringRedisTemplate.delete(List.of(inviteCodeKey, workplaceIdKey));
+        timed("delete", () -> stringRedisTemplate.delete(List.of(inviteCodeKey, workplaceIdKey)));
+    }
+
+    /**
+     * Redis 명령의 소요 시간을 `redis.commands` Timer로 기록하는 메서드
+     * @param operation 메서드 이름 (`operation` 태그)
+     * @param command 실행할 Redis 명령
+     * @return 명령의 결과
+     */
+    private <T> T timed(String operation, Supplier<T> command) {
+        return Timer.builder("redis.commands")
+                .tags("repository", "InviteCodeRepository", "operation", operation)
+                .register(meterRegistry)
+                .record(command);
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.moup.server.repository;
+
+import com.moup.server.model.entity.PushOutbox;
+import com.moup.server.model.enums.PushOutboxStatus;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+@Mapper
+public interface PushOutboxRepository {
+    /// 디스패처가 점유한 발송 대상 (개인 알림이면 수신자의 현재 FCM 토큰을 함께 조회)
+    record ClaimedPush(Long id, Long receiverId, String topic, String title, String body, String data,
+                       Integer attemptCount, String fcmToken) {}
+
+    /// 발송 결과 (PENDING이면 `retryDelaySeconds` 후 재시도)
+    record PushResult(Long id, PushOutboxStatus status, String messageId, String lastError, Integer retryDelaySeconds) {}
+
+    /// 푸시 발송 대기열에 메시지를 추가하는 메서드 (비즈니스 트랜잭션 안에서 호출)
+    ///
+    /// @param pushOutbox 추가할 PushOutbox 객체 (`receiverId` 또는 `topic` 중 하나 필수)
+    @Insert("""
+            INSERT INTO push_outbox (receiver_id, topic, title, body, data)
+            VALUES (#{receiverId}, #{topic}, #{title}, #{body}, #{data})
+            """)
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    void create(PushOutbox pushOutbox);
+
+    /// 발송 시각이 된 PENDING 메시지를 최대 `limit`개 점유하는 메서드
+    ///
+    /// 한 번의 UPDATE로 점유하므로 여러 인스턴스가 동시에 실행해도 같은 메시지를 나눠 갖지 않습니다.
+    /// 점유와 함께 `next_attempt_at`을 `leaseSeconds` 뒤로 미뤄, 디스패처가 결과를 기록하지 못하고 종료되면 이후 다시 발송됩니다.
+    ///
+    /// @param claimId 디스패처 실행 식별자
+    /// @param limit 최대 점유 개수
+    /// @param leaseSeconds 점유 유지 시간(초)
+    /// @return 점유한 메시지 수
+    @Update("""
+            UPDATE push_outbox
+            SET claim_id = #{claimId},
+                attempt_count = attempt_count + 1,
+                next_attempt_at = DATE_ADD(NOW(), INTERVAL #{leaseSeconds} SECOND)
+            WHERE status = 'PENDING' AND next_attempt_at <= NOW()
+            ORDER BY id
+            LIMIT #{limit}
+            """)
+    int claimDispatchable(String claimId, int limit, int leaseSeconds);
+
+    /// 점유한 메시지를 수신자 FCM 토큰과 함께 조회하는 메서드
+    ///
+    /// @param claimId 디스패처 실행 식별자
+    /// @return 점유한 메시지 리스트 (ID 오름차순)
+    @Select("""
+            SELECT po.id, po.receiver_id, po.topic, po.title, po.body, po.data, po.attempt_count, u.fcm_token
+            FROM push_outbox po
+            LEFT JOIN users u ON u.id = po.receiver_id
+            WHERE po.claim_id = #{claimId}
+            ORDER BY po.id
+            """)
+    List<ClaimedPush> findAllByClaimId(String claimId);
+
+    /// 메시지별 발송 결과를 한 번에 기록하는 메서드
+    ///
+    /// @param resultList 기록할 발송 결과 리스트
+    @Update("""
+            <script>
+                UPDATE push_outbox
+                SET status = CASE id
+                        <foreach item='result' collection='resultList'>
+                            WHEN #{result.id} THEN #{result.status}
+                        </foreach>
+                    END,
+                    message_id = CASE id
+                        <foreach item='result' collection='resultList'>
+                            WHEN #{result.id} THEN #{result.messageId}
+                        </foreach>
+                    END,
+                    last_error = CASE id
+                        <foreach item='result' collection='resultList'>
+                            WHEN #{result.id} THEN #{result.lastError}
+                        </foreach>
+                    END,
+                    next_attempt_at = CASE id
+                        <foreach item='result' collection='resultList'>
+                            WHEN #{result.id} THEN DATE_ADD(NOW(), INTERVAL #{result.retryDelaySeconds} SECOND)
+                        </foreach>
+                    END,
+                    sent_at = IF(status = 'SENT', NOW(), NULL),
+                    claim_id = NULL
+                WHERE id IN
+                <foreach item='result' collection='resultList' open='(' separator=',' close=')'>
+                    #{result.id}
+                </foreach>
+            </script>
+            """)
+    void updateResults(List<PushResult> resultList);
+
+    /// 발송 후 보관 기간이 지난 SENT 메시지를 최대 `limit`개 삭제하는 메서드 (FAILED 메시지는 원인 확인을 위해 유지)
+    ///
+    /// 기준 시각은 `sent_at`과 같은 DB 시각으로 계산합니다. SENT 메시지의 `next_attempt_at`은 발송 시각이므로,
+    /// `idx_push_outbox_dispatch` 순서로 오래된 메시지부터 찾아 지울 만큼만 읽습니다.
+    ///
+    /// @param retentionDays 보관 기간 (일)
+    /// @param limit 한 번에 삭제할 최대 개수
+    /// @return 삭제된 행의 수
+    @Delete("""
+            DELETE FROM push_outbox
+            WHERE status = 'SENT' AND sent_at < DATE_SUB(NOW(), INTERVAL #{retentionDays} DAY)
+            ORDER BY next_attempt_at
+            LIMIT #{limit}
+            """)
+    int deleteAllSentBefore(int retentionDays, int limit);
+}
@@ -64,6 +64,6 @@ public interface UserRepository {
     @Update("UPDATE users SET nickname = #{nickname} WHERE id = #{id}")
     void updateNicknameById(Long id, String nickname);
 
-    @Select("SELECT * FROM users ORDER BY id LIMIT #{batchSize} OFFSET #{offset}")
-    List<User> findUsersWithPaging(@Param("offset") int page, @Param("batchSize") int batchSize);
+    @Select("SELECT COALESCE(MAX(id), 0) FROM users")
+    Long findMaxId();
 }
@@ -0,0 +1,109 @@
+package com.moup.server.repository;
+
+import com.moup.server.model.entity.WorkRepeatGroup;
+import org.apache.ibatis.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface WorkRepeatGroupRepository {
+    /// 반복 근무 규칙을 생성하는 메서드
+    ///
+    /// @param workRepeatGroup 생성할 WorkRepeatGroup 객체 (ID는 works.repeat_group_id와 동일)
+    @Insert("""
+            INSERT INTO work_repeat_groups (
+                                            id, worker_id, repeat_days, start_date, end_date, start_time, end_time, rest_time_minutes, memo
+                                            )
+            VALUES (
+                    #{id}, #{workerId}, #{repeatDays}, #{startDate}, #{endDate}, #{startTime}, #{endTime}, #{restTimeMinutes}, #{memo}
+                    )
+            """)
+    void create(WorkRepeatGroup workRepeatGroup);
+
+    /// 여러 반복 근무 규칙을 한 번에 생성하는 메서드 (여러 근무자 일괄 근무 생성용)
+    ///
+    /// @param workRepeatGroupList 생성할 WorkRepeatGroup 객체 리스트
+    @Insert("""
+            <script>
+                INSERT INTO work_repeat_groups (
+                                                id, worker_id, repeat_days, start_date, end_date, start_time, end_time, rest_time_minutes, memo
+                                                )
+                VALUES
+                <foreach item='group' collection='workRepeatGroupList' separator=','>
+                    (
+                     #{group.id}, #{group.workerId}, #{group.repeatDays}, #{group.startDate}, #{group.endDate},
+                     #{group.startTime}, #{group.endTime}, #{group.restTimeMinutes}, #{group.memo}
+                    )
+                </foreach>
+            </script>
+            """)
+    void createBatch(@Param("workRepeatGroupList") List<WorkRepeatGroup> workRepeatGroupList);
+
+    /// 반복 근무 규칙을 생성하거나, 이미 있으면 덮어쓰는 메서드 (규칙 행이 없는 이전 반복 그룹 포함)
+    ///
+    /// @param workRepeatGroup 저장할 WorkRepeatGroup 객체
+    @Insert("""
+            INSERT INTO work_repeat_groups (
+                                            id, worker_id, repeat_days, start_date, end_date, start_time, end_time, rest_time_minutes, memo
+                                            )
+            VALUES (
+                    #{id}, #{workerId}, #{repeatDays}, #{startDate}, #{endDate}, #{startTime}, #{endTime}, #{restTimeMinutes}, #{memo}
+                    )
+            ON DUPLICATE KEY UPDATE
+                repeat_days = VALUES(repeat_days), start_date = VALUES(start_date), end_date = VALUES(end_date),
+                start_time = VALUES(start_time), end_time = VALUES(end_time),
+                rest_time_minutes = VALUES(rest_time_minutes), memo = VALUES(memo)
+            """)
+    void createOrUpdate(WorkRepeatGroup workRepeatGroup);
+
+    /// 반복 그룹 ID로 반복 근무 규칙을 조회하는 메서드
+    ///
+    /// @param id 조회할 반복 그룹 ID
+    /// @return 조회된 WorkRepeatGroup 객체, 없으면 Optional.empty
+    @Select("SELECT * FROM work_repeat_groups WHERE id = #{id}")
+    Optional<WorkRepeatGroup> findById(String id);
+
+    /// 여러 반복 그룹 ID에 해당하는 반복 근무 규칙을 한 번에 조회하는 메서드
+    ///
+    /// @param idList 조회할 반복 그룹 ID 리스트
+    /// @return 조회된 WorkRepeatGroup 객체 리스트, 없으면 빈 배열
+    @Select("""
+            <script>
+                SELECT * FROM work_repeat_groups
+                WHERE id IN
+                <foreach item='id' collection='idList' open='(' separator=',' close=')'>
+                    #{id}
+                </foreach>
+            </script>
+            """)
+    List<WorkRepeatGroup> findAllByIdListIn(@Param("idList") Collection<String> idList);
+
+    /// 반복 근무 규칙의 시작일/종료일을 그룹에 남은 근무의 첫/마지막 근무일로 맞추는 메서드
+    ///
+    /// 근무 일부를 삭제하거나 다른 그룹으로 옮긴 뒤 호출하며, 종료일이 실제 근무가 없는 날짜가 되지 않도록 합니다.
+    /// 남은 근무가 없으면 변경하지 않습니다. (`deleteIfNoWorks`로 삭제)
+    ///
+    /// @param id 반복 그룹 ID
+    @Update("""
+            UPDATE work_repeat_groups g
+            JOIN (SELECT MIN(work_date) AS first_date, MAX(work_date) AS last_date
+                  FROM works
+                  WHERE repeat_group_id = #{id}) w
+            SET g.start_date = w.first_date, g.end_date = w.last_date
+            WHERE g.id = #{id}
+              AND w.last_date IS NOT NULL
+            """)
+    void updateDateRangeToWorks(@Param("id") String id);
+
+    /// 그룹에 남은 근무가 없는 반복 근무 규칙을 삭제하는 메서드
+    ///
+    /// @param id 반복 그룹 ID
+    @Delete("""
+            DELETE FROM work_repeat_groups
+            WHERE id = #{id}
+              AND NOT EXISTS (SELECT 1 FROM works WHERE repeat_group_id = #{id})
+            """)
+    void deleteIfNoWorks(@Param("id") String id);
+}
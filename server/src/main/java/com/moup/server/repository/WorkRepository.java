@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +19,18 @@ public interface WorkRepository {
     record GroupIdAndDayName(String groupId, String dayName) {}
     // 쿼리 결과를 매핑할 간단한 DTO
     record WorkMonthDto(int year, int month) {}
+    // 월별 급여 합계 (급여 정보 변경 시 일괄 재계산용)
+    record WorkMonthIncomeDto(int year, int month, int workCount, int netWorkMinutes, int nightWorkMinutes, int restTimeMinutes,
+                              int basePay, int nightAllowance, int holidayAllowance, int grossIncome, long elapsedWorkMinutes) {}
+    // 월별 일일 추정 공제액
+    record MonthlyDailyDeduction(int year, int month, int dailyDeduction) {}
+    // 근무자·월별 일일 추정 공제액 (여러 근무자 일괄 재계산용, workMonth는 해당 월의 1일)
+    record WorkerMonthlyDailyDeduction(Long workerId, LocalDate workMonth, int dailyDeduction) {}
+    // 근태 기록 조회용 (출퇴근 관련 컬럼만)
+    record AttendanceRow(Long id, LocalDate workDate, LocalDateTime startTime, LocalDateTime actualStartTime,
+                         LocalDateTime endTime, LocalDateTime actualEndTime) {}
+    // 근무별 실제 출퇴근 시간 (출퇴근 write-behind 배치 반영용)
+    record ActualTimeUpdate(Long workId, LocalDateTime actualTime) {}
 
     /// 근무를 생성하는 메서드
     ///
@@ -41,10 +54,11 @@ public interface WorkRepository {
     long create(Work work);
 
     /// 반복 근무 생성 시 배치(Batch) 삽입을 위한 메서드
+    /// 삽입된 순서대로 각 `Work`의 `id`에 생성된 키가 채워집니다. (다시 조회할 필요 없음)
     @Insert("""
             <script>
                 INSERT INTO works (
-                    worker_id, work_date, start_time, end_time, rest_time_minutes,
+                    worker_id, work_date, start_time, actual_start_time, end_time, actual_end_time, rest_time_minutes,
                     gross_work_minutes, net_work_minutes, night_work_minutes,
                     memo, hourly_rate, base_pay, night_allowance, holiday_allowance,
                     gross_income, estimated_net_income, repeat_group_id
@@ -52,7 +66,7 @@ public interface WorkRepository {
                 VALUES
                 <foreach item="work" collection="works" separator=",">
                     (
-                        #{work.workerId}, #{work.workDate}, #{work.startTime}, #{work.endTime}, #{work.restTimeMinutes},
+                        #{work.workerId}, #{work.workDate}, #{work.startTime}, #{work.actualStartTime}, #{work.endTime}, #{work.actualEndTime}, #{work.restTimeMinutes},
                         #{work.grossWorkMinutes}, #{work.netWorkMinutes}, #{work.nightWorkMinutes},
                         #{work.memo}, #{work.hourlyRate}, #{work.basePay}, #{work.nightAllowance}, #{work.holidayAllowance},
                         #{work.grossIncome}, #{work.estimatedNetIncome}, #{work.repeatGroupId}
@@ -86,12 +100,75 @@ public interface WorkRepository {
     @Select("SELECT * FROM works WHERE id = #{id} AND worker_id = #{workerId}")
     Optional<Work> findByIdAndWorkerId(Long id, Long workerId);
 
-    /// 근무자 ID를 통해 해당 근무자의 모든 근무를 조회하는 메서드 (`start_time` 내림차순)
+    /// DB 서버의 현재 시각을 조회하는 메서드 (동기화 토큰은 애플리케이션 서버가 아닌 DB 시계를 기준으로 발급)
+    ///
+    /// @return DB 서버의 현재 시각 (마이크로초 단위)
+    @Select("SELECT CURRENT_TIMESTAMP(6)")
+    LocalDateTime getCurrentTimestamp();
+
+    /// 여러 근무자의 근무 중 특정 시각 이후에 생성 또는 수정된 근무를 조회하는 메서드 (동기화 API용)
+    ///
+    /// @param workerIdList 조회할 근무자 ID 리스트
+    /// @param since 기준 시각 (이 시각 이후 변경된 근무만 조회)
+    /// @param limit 조회할 최대 개수
+    /// @return 조회된 Work 객체 리스트, 없으면 빈 배열
+    @Select("""
+            <script>
+                SELECT * FROM works
+                WHERE worker_id IN
+                    <foreach item="workerId" collection="workerIdList" open="(" separator="," close=")">
+                        #{workerId}
+                    </foreach>
+                    AND updated_at &gt; #{since}
+                LIMIT #{limit}
+            </script>
+            """)
+    List<Work> findAllByWorkerIdListInAndUpdatedAtAfter(
+            @Param("workerIdList") List<Long> workerIdList,
+            @Param("since") LocalDateTime since,
+            @Param("limit") int limit
+    );
+
+    /// 근무자의 근태 기록을 커서 기반으로 한 페이지 조회하는 메서드 (`start_time`, `id` 내림차순)
+    /// `(worker_id, start_time)` 인덱스 범위 조회로, 근무 기록이 아무리 많아도 페이지 크기만큼만 읽습니다.
+    ///
+    /// @param workerId 조회할 근무자 ID
+    /// @param startDate 조회할 시작일 (null이면 제한 없음)
+    /// @param endDate 조회할 마지막일 (null이면 제한 없음)
+    /// @param cursorStartTime 이전 페이지 마지막 근무의 출근 시간 (첫 페이지는 null)
+    /// @param cursorId 이전 페이지 마지막 근무의 ID (첫 페이지는 null)
+    /// @param limit 조회할 최대 개수
+    /// @return 조회된 근태 기록 리스트, 없으면 빈 배열
+    @Select("""
+            <script>
+                SELECT id, work_date, start_time, actual_start_time, end_time, actual_end_time
+                FROM works
+                WHERE worker_id = #{workerId}
+                    <if test="startDate != null">AND work_date &gt;= #{startDate}</if>
+                    <if test="endDate != null">AND work_date &lt;= #{endDate}</if>
+                    <if test="cursorStartTime != null">
+                        AND (start_time &lt; #{cursorStartTime} OR (start_time = #{cursorStartTime} AND id &lt; #{cursorId}))
+                    </if>
+                ORDER BY start_time DESC, id DESC
+                LIMIT #{limit}
+            </script>
+            """)
+    List<AttendanceRow> findAttendancePageByWorkerId(
+            @Param("workerId") Long workerId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorStartTime") LocalDateTime cursorStartTime,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    /// 특정 근무자의 특정 날짜(fromDate) 포함 이후의 모든 근무를 조회하는 메서드
     ///
     /// @param workerId 조회할 근무자 ID
+    /// @param fromDate 조회를 시작할 날짜 (포함)
     /// @return 조회된 Work 객체 리스트, 없으면 빈 배열
-    @Select("SELECT * FROM works WHERE worker_id = #{workerId} ORDER BY start_time DESC")
-    List<Work> findAllByWorkerId(Long workerId);
+    @Select("SELECT * FROM works WHERE worker_id = #{workerId} AND work_date >= #{fromDate} ORDER BY work_date")
+    List<Work> findAllByWorkerIdFromDate(@Param("workerId") Long workerId, @Param("fromDate") LocalDate fromDate);
 
     /// 근무자 ID와 근무 날짜를 통해 해당 날짜의 모든 근무를 조회하는 메서드
     ///
@@ -137,23 +214,34 @@ public interface WorkRepository {
     /// 1. 현재 시간(`currentDateTime`) 기준으로 1시간 전 ~ 1시간 후 사이에 시작하고 (`start_time`)
     /// 2. 아직 '실제 출근'을 기록하지 않았으며 (`actual_start_time IS NULL`)
     /// 3. 아직 '실제 퇴근'도 기록되지 않은 (`actual_end_time IS NULL`)
+    /// 4. 출근했지만 아직 DB에 반영되지 않은 근무(`excludedWorkIdList`)가 아닌
     /// 가장 빠른 근무 1건을 조회하는 메서드 (`start_time` 오름차순)
     ///
     /// @param workerId 조회할 근무자 ID
     /// @param currentDateTime 기준이 되는 현재 시간
+    /// @param excludedWorkIdList 제외할 근무 ID 목록 (`AttendanceStateStore.findPendingStartedWorkIds`)
     /// @return 조회된 `Work` 객체, 없으면 `Optional.empty`
     @Select("""
-            SELECT * FROM works
-            WHERE worker_id = #{workerId}
-                AND actual_start_time IS NULL
-                AND actual_end_time IS NULL
-                AND start_time BETWEEN DATE_SUB(#{currentDateTime}, INTERVAL 1 HOUR) AND DATE_ADD(#{currentDateTime}, INTERVAL 1 HOUR)
-            ORDER BY start_time
-            LIMIT 1
+            <script>
+                SELECT * FROM works
+                WHERE worker_id = #{workerId}
+                    AND actual_start_time IS NULL
+                    AND actual_end_time IS NULL
+                    AND start_time BETWEEN DATE_SUB(#{currentDateTime}, INTERVAL 1 HOUR) AND DATE_ADD(#{currentDateTime}, INTERVAL 1 HOUR)
+                    <if test='excludedWorkIdList != null and !excludedWorkIdList.isEmpty()'>
+                        AND id NOT IN
+                        <foreach item='id' collection='excludedWorkIdList' open='(' separator=',' close=')'>
+                            #{id}
+                        </foreach>
+                    </if>
+                ORDER BY start_time
+                LIMIT 1
+            </script>
             """)
     Optional<Work> findEligibleWorkForClockIn(
             @Param("workerId") Long workerId,
-            @Param("currentDateTime") LocalDateTime currentDateTime
+            @Param("currentDateTime") LocalDateTime currentDateTime,
+            @Param("excludedWorkIdList") Collection<Long> excludedWorkIdList
     );
 
     /// 특정 근무자(`workerId`)의 근무 중,
@@ -187,6 +275,12 @@ public interface WorkRepository {
     @Select("SELECT MAX(work_date) FROM works WHERE repeat_group_id = #{repeatGroupId}")
     Optional<LocalDate> findLastWorkDateByRepeatGroupId(@Param("repeatGroupId") String repeatGroupId);
 
+    /// 특정 반복 그룹 ID에 해당하는 모든 근무를 조회합니다. (`work_date` 오름차순, 반복 수정 시 기존 일정과 비교용)
+    /// @param repeatGroupId 반복 그룹 ID
+    /// @return 조회된 Work 객체 리스트, 없으면 빈 배열
+    @Select("SELECT * FROM works WHERE repeat_group_id = #{repeatGroupId} ORDER BY work_date, start_time")
+    List<Work> findAllByRepeatGroupId(@Param("repeatGroupId") String repeatGroupId);
+
     /// 특정 반복 그룹 ID에 해당하는 근무들의 요일(DayOfWeek) 목록을 중복 없이 조회합니다.
     /// (반복 요일 확인용)
     /// @param repeatGroupId 반복 그룹 ID
@@ -261,19 +355,43 @@ public interface WorkRepository {
             """)
     void update(Work work);
 
-    /// 근무 ID에 해당하는 근무의 실제 출근 시간을 업데이트하는 메서드
+    /// 여러 근무의 실제 출근 시간을 한 번에 업데이트하는 메서드 (MyBatis <foreach>와 SQL CASE 문을 사용)
     ///
-    /// @param actualStartTime 업데이트할 실제 출근 시간
-    @Update("UPDATE works SET actual_start_time = #{actualStartTime} WHERE id = #{id}")
-    void updateActualStartTimeById(Long id, LocalDateTime actualStartTime);
+    /// @param updateList 근무 ID와 실제 출근 시간 리스트
+    @Update("""
+            <script>
+                UPDATE works
+                SET actual_start_time =
+                    <foreach item='update' collection='updateList' open='CASE id' close=' END'>
+                        WHEN #{update.workId} THEN #{update.actualTime}
+                    </foreach>
+                WHERE id IN
+                    <foreach item='update' collection='updateList' open='(' separator=',' close=')'>
+                        #{update.workId}
+                    </foreach>
+            </script>
+            """)
+    void updateActualStartTimesBatch(@Param("updateList") List<ActualTimeUpdate> updateList);
 
-    /// 근무 ID에 해당하는 근무의 실제 퇴근 시간을 업데이트하는 메서드
+    /// 여러 근무의 실제 퇴근 시간을 한 번에 업데이트하는 메서드
     /// 'end_time'(예정 퇴근 시간)이 비어있을(`NULL`) 경우, 'end_time'도 'actual_end_time'과 동일한 값으로 함께 업데이트합니다.
     ///
-    /// @param id 업데이트할 근무 ID
-    /// @param actualEndTime 업데이트할 실제 퇴근 시간 (LocalDateTime)
-    @Update("UPDATE works SET actual_end_time = #{actualEndTime}, end_time = COALESCE(end_time, #{actualEndTime}) WHERE id = #{id}")
-    void updateActualEndTimeById(@Param("id") Long id, @Param("actualEndTime") LocalDateTime actualEndTime);
+    /// @param updateList 근무 ID와 실제 퇴근 시간 리스트
+    @Update("""
+            <script>
+                UPDATE works
+                SET actual_end_time =
+                        <foreach item='update' collection='updateList' open='CASE id' close=' END'>
+                            WHEN #{update.workId} THEN #{update.actualTime}
+                        </foreach>,
+                    end_time = COALESCE(end_time, actual_end_time)
+                WHERE id IN
+                    <foreach item='update' collection='updateList' open='(' separator=',' close=')'>
+                        #{update.workId}
+                    </foreach>
+            </script>
+            """)
+    void updateActualEndTimesBatch(@Param("updateList") List<ActualTimeUpdate> updateList);
 
     /// 특정 근무자의 특정 기간 동안의 모든 근무 기록에 대해 '추정 세후 일급(estimated_net_income)'을 0으로 일괄 업데이트합니다.
     @Update("""
@@ -351,6 +469,191 @@ public interface WorkRepository {
             """)
     void updateWorkWeekDetailsBatch(@Param("worksToUpdate") List<Work> worksToUpdate);
 
+    /// 특정 근무자의 기준일 포함 이후 모든 근무에 새 시급을 적용하고, 저장된 근무 시간으로 기본급과 야간수당을 다시 계산합니다.
+    /// `SalaryCalculationService.calculateDailyIncome`과 같은 결과가 나오도록 같은 순서의 DOUBLE 연산 후 소수점 이하를 버립니다.
+    /// (종료 시간이 없는 근무는 시급만 변경, 세전 일급은 `updateHolidayAllowancesFromDate`에서 함께 갱신)
+    @Update("""
+            UPDATE works
+            SET hourly_rate = #{hourlyRate},
+                base_pay = IF(end_time IS NULL, base_pay,
+                              TRUNCATE(CAST(net_work_minutes AS DOUBLE) / 60e0 * #{hourlyRate}, 0)),
+                night_allowance = IF(end_time IS NULL, night_allowance,
+                                     IF(#{hasNightAllowance}, TRUNCATE(CAST(night_work_minutes AS DOUBLE) / 60e0 * #{hourlyRate} * 0.5e0, 0), 0))
+            WHERE worker_id = #{workerId}
+                AND work_date >= #{fromDate}
+            """)
+    void updateHourlyRateAndPayFromDate(
+            @Param("workerId") Long workerId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("hourlyRate") int hourlyRate,
+            @Param("hasNightAllowance") boolean hasNightAllowance
+    );
+
+    /// 특정 근무자의 기준일(월요일) 포함 이후 모든 주의 주휴수당을 주 단위 집계로 다시 계산하고, 세전 일급을 갱신합니다.
+    /// 주 15시간 이상 근무 시 (주 근무시간 / 근무일 수) 시간분의 시급을 근무일 수로 나누어 각 근무에 분배합니다.
+    /// 시급은 주마다 그 주 첫 근무의 저장된 시급을 사용하므로, 시급 적용일이 주 중간이면 그 주는 변경 전 시급으로 계산됩니다.
+    /// (`SalaryCalculationService.recalculateWorkWeekDetails`와 같은 결과, `week_start` 생성 컬럼 인덱스로 주 단위 범위 조회)
+    @Update("""
+            UPDATE works w
+            JOIN (
+                SELECT week_start,
+                       COUNT(*) AS work_count,
+                       SUM(IF(end_time IS NULL, 0, TIMESTAMPDIFF(MINUTE, start_time, end_time) - COALESCE(rest_time_minutes, 0))) AS weekly_work_minutes,
+                       MAX(first_hourly_rate) AS hourly_rate
+                FROM (
+                    SELECT week_start, start_time, end_time, rest_time_minutes,
+                           COALESCE(FIRST_VALUE(hourly_rate) OVER (PARTITION BY week_start ORDER BY work_date, id), 0) AS first_hourly_rate
+                    FROM works
+                    WHERE worker_id = #{workerId}
+                        AND week_start >= #{fromDate}
+                ) week_works
+                GROUP BY week_start
+            ) week_sum ON w.worker_id = #{workerId} AND w.week_start = week_sum.week_start
+            SET w.holiday_allowance = IF(#{hasHolidayAllowance} AND week_sum.weekly_work_minutes >= 900,
+                                         CAST(TRUNCATE(CAST(week_sum.weekly_work_minutes AS DOUBLE) / 60e0 / week_sum.work_count * week_sum.hourly_rate, 0) AS SIGNED) DIV week_sum.work_count,
+                                         0),
+                w.gross_income = w.base_pay + w.night_allowance
+                                 + IF(#{hasHolidayAllowance} AND week_sum.weekly_work_minutes >= 900,
+                                      CAST(TRUNCATE(CAST(week_sum.weekly_work_minutes AS DOUBLE) / 60e0 / week_sum.work_count * week_sum.hourly_rate, 0) AS SIGNED) DIV week_sum.work_count,
+                                      0)
+            WHERE w.worker_id = #{workerId}
+                AND w.week_start >= #{fromDate}
+                AND w.end_time IS NOT NULL
+            """)
+    void updateHolidayAllowancesFromDate(
+            @Param("workerId") Long workerId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("hasHolidayAllowance") boolean hasHolidayAllowance
+    );
+
+    /// 특정 근무자의 기준일(1일) 포함 이후 근무를 월별로 합산합니다. (`work_month` 생성 컬럼 인덱스 순서로 그룹핑)
+    /// `elapsedWorkMinutes`는 종료 시간이 있는 근무의 (종료 - 시작 - 휴게) 시간(분) 합계로, 추정 공제액 계산에 사용됩니다.
+    @Select("""
+            SELECT YEAR(work_month) AS year,
+                   MONTH(work_month) AS month,
+                   COUNT(*) AS work_count,
+                   CAST(COALESCE(SUM(net_work_minutes), 0) AS SIGNED) AS net_work_minutes,
+                   CAST(COALESCE(SUM(night_work_minutes), 0) AS SIGNED) AS night_work_minutes,
+                   CAST(COALESCE(SUM(rest_time_minutes), 0) AS SIGNED) AS rest_time_minutes,
+                   CAST(COALESCE(SUM(base_pay), 0) AS SIGNED) AS base_pay,
+                   CAST(COALESCE(SUM(night_allowance), 0) AS SIGNED) AS night_allowance,
+                   CAST(COALESCE(SUM(holiday_allowance), 0) AS SIGNED) AS holiday_allowance,
+                   CAST(COALESCE(SUM(gross_income), 0) AS SIGNED) AS gross_income,
+                   CAST(COALESCE(SUM(IF(end_time IS NULL, 0, TIMESTAMPDIFF(MINUTE, start_time, end_time) - COALESCE(rest_time_minutes, 0))), 0) AS SIGNED) AS elapsed_work_minutes
+            FROM works
+            WHERE worker_id = #{workerId}
+                AND work_month >= #{fromDate}
+            GROUP BY work_month
+            ORDER BY work_month
+            """)
+    List<WorkMonthIncomeDto> findMonthlyIncomeSumsFromDate(@Param("workerId") Long workerId, @Param("fromDate") LocalDate fromDate);
+
+    /// 특정 근무자의 기준일(1일) 포함 이후 모든 근무의 '추정 세후 일급'을 월별 '일일 추정 공제액'으로 한 번에 업데이트합니다.
+    /// (GREATEST 함수는 0 미만이 되는 것을 방지합니다)
+    @Update("""
+            <script>
+                UPDATE works
+                SET estimated_net_income = GREATEST(0, gross_income -
+                    <foreach item='deduction' collection='dailyDeductionList' open='CASE' close=' ELSE 0 END'>
+                        WHEN YEAR(work_date) = #{deduction.year} AND MONTH(work_date) = #{deduction.month} THEN #{deduction.dailyDeduction}
+                    </foreach>)
+                WHERE worker_id = #{workerId}
+                    AND work_month >= #{fromDate}
+            </script>
+            """)
+    void updateEstimatedNetIncomesByMonth(
+            @Param("workerId") Long workerId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("dailyDeductionList") List<MonthlyDailyDeduction> dailyDeductionList
+    );
+
+    /// 여러 근무자의 여러 월에 대해 '추정 세후 일급'을 근무자·월별 '일일 추정 공제액'으로 한 번에 업데이트합니다.
+    /// `(worker_id, work_month)` 인덱스 범위 조회로 대상 월의 근무만 갱신합니다. (GREATEST 함수는 0 미만이 되는 것을 방지합니다)
+    @Update("""
+            <script>
+                UPDATE works
+                SET estimated_net_income = GREATEST(0, gross_income -
+                    <foreach item='deduction' collection='dailyDeductionList' open='CASE' close=' END'>
+                        WHEN worker_id = #{deduction.workerId} AND work_month = #{deduction.workMonth} THEN #{deduction.dailyDeduction}
+                    </foreach>)
+                WHERE (worker_id, work_month) IN
+                    <foreach item='deduction' collection='dailyDeductionList' open='(' separator=',' close=')'>
+                        (#{deduction.workerId}, #{deduction.workMonth})
+                    </foreach>
+            </script>
+            """)
+    void updateEstimatedNetIncomesByWorkerMonth(@Param("dailyDeductionList") List<WorkerMonthlyDailyDeduction> dailyDeductionList);
+
+    /// 반복 그룹에 속한 모든 근무의 변경 시각을 갱신하는 메서드
+    /// 반복 종료일처럼 근무 행이 아닌 반복 규칙이 바뀌었을 때, 동기화 API가 같은 그룹의 근무를 다시 전달하도록 합니다.
+    ///
+    /// @param repeatGroupId 반복 그룹 ID
+    @Update("UPDATE works SET updated_at = CURRENT_TIMESTAMP(6) WHERE repeat_group_id = #{repeatGroupId}")
+    void touchAllByRepeatGroupId(@Param("repeatGroupId") String repeatGroupId);
+
+    /// 여러 반복 근무의 근무 시간을 한 번에 변경하는 메서드 (근무 날짜는 유지, 실제 출퇴근 시간은 변경하지 않음)
+    /// 출/퇴근 시각은 각 근무의 `work_date`를 기준으로 만들고, 일급 관련 값은 `work`의 값으로 덮어씁니다.
+    /// (주휴수당과 추정 세후 일급은 호출자가 주/월 재계산으로 갱신)
+    ///
+    /// @param workIdList 변경할 근무 ID 리스트
+    /// @param workerId 근무자 ID
+    /// @param startTime 새 출근 시각
+    /// @param endTime 새 퇴근 시각
+    /// @param endDayOffset 퇴근 날짜가 근무 날짜보다 며칠 뒤인지 (다음 날 퇴근이면 1)
+    /// @param work 휴게 시간, 메모, 반복 그룹 ID, 일급 정보를 담은 Work 객체
+    @Update("""
+            <script>
+                UPDATE works
+                SET
+                    start_time = TIMESTAMP(work_date, #{startTime}),
+                    end_time = TIMESTAMP(DATE_ADD(work_date, INTERVAL #{endDayOffset} DAY), #{endTime}),
+                    rest_time_minutes = #{work.restTimeMinutes},
+                    gross_work_minutes = #{work.grossWorkMinutes}, net_work_minutes = #{work.netWorkMinutes},
+                    night_work_minutes = #{work.nightWorkMinutes},
+                    memo = #{work.memo}, hourly_rate = #{work.hourlyRate}, base_pay = #{work.basePay},
+                    night_allowance = #{work.nightAllowance}, holiday_allowance = #{work.holidayAllowance},
+                    gross_income = #{work.grossIncome},
+                    repeat_group_id = #{work.repeatGroupId}
+                WHERE worker_id = #{workerId}
+                    AND id IN
+                    <foreach item="workId" collection="workIdList" open="(" separator="," close=")">
+                        #{workId}
+                    </foreach>
+            </script>
+            """)
+    int updateRecurringWorkTimesBatch(
+            @Param("workIdList") List<Long> workIdList,
+            @Param("workerId") Long workerId,
+            @Param("startTime") LocalTime startTime,
+            @Param("endTime") LocalTime endTime,
+            @Param("endDayOffset") long endDayOffset,
+            @Param("work") Work work
+    );
+
+    /// 여러 반복 근무의 메모와 반복 그룹 ID만 한 번에 변경하는 메서드 (근무 시간과 급여 정보는 유지)
+    ///
+    /// @param workIdList 변경할 근무 ID 리스트
+    /// @param workerId 근무자 ID
+    /// @param memo 새 메모
+    /// @param repeatGroupId 새 반복 그룹 ID
+    @Update("""
+            <script>
+                UPDATE works
+                SET memo = #{memo}, repeat_group_id = #{repeatGroupId}
+                WHERE worker_id = #{workerId}
+                    AND id IN
+                    <foreach item="workId" collection="workIdList" open="(" separator="," close=")">
+                        #{workId}
+                    </foreach>
+            </script>
+            """)
+    int updateMemoAndRepeatGroupIdBatch(
+            @Param("workIdList") List<Long> workIdList,
+            @Param("workerId") Long workerId,
+            @Param("memo") String memo,
+            @Param("repeatGroupId") String repeatGroupId
+    );
+
     /// 근무 ID와 근무자 ID에 해당하는 근무를 삭제하는 메서드
     ///
     /// @param id 삭제할 근무의 ID
@@ -358,6 +661,23 @@ public interface WorkRepository {
     @Delete("DELETE FROM works WHERE id = #{id} AND worker_id = #{workerId}")
     void delete(Long id, Long workerId);
 
+    /// 근무자의 여러 근무를 한 번에 삭제하는 메서드 (근무-루틴 매핑은 CASCADE로 함께 삭제)
+    ///
+    /// @param idList 삭제할 근무 ID 리스트
+    /// @param workerId 삭제할 근무의 근무자 ID
+    /// @return 삭제된 행의 수
+    @Delete("""
+            <script>
+                DELETE FROM works
+                WHERE worker_id = #{workerId}
+                    AND id IN
+                    <foreach item="id" collection="idList" open="(" separator="," close=")">
+                        #{id}
+                    </foreach>
+            </script>
+            """)
+    int deleteAllByIdListInAndWorkerId(@Param("idList") List<Long> idList, @Param("workerId") Long workerId);
+
     /// 특정 반복 그룹(`repeatGroupId`)에 속하면서 특정 날짜(`date`) **포함** 이후의 모든 근무를 삭제합니다.
     /// @param repeatGroupId 삭제할 반복 그룹 ID
     /// @param date 기준 날짜 (이 날짜 포함 미래의 근무 삭제)
@@ -54,6 +54,20 @@ public interface WorkRoutineMappingRepository {
     @Delete("DELETE FROM work_routine_mappings WHERE work_id = #{workId}")
     void deleteByWorkId(Long workId);
 
+    /// 여러 근무 ID에 해당하는 근무-루틴 매핑을 한 번에 삭제하는 메서드
+    ///
+    /// @param workIdList 삭제할 근무-루틴 매핑의 근무 ID 리스트
+    @Delete("""
+            <script>
+                DELETE FROM work_routine_mappings
+                WHERE work_id IN
+                <foreach item="workId" collection="workIdList" open="(" separator="," close=")">
+                    #{workId}
+                </foreach>
+            </script>
+            """)
+    void deleteByWorkIdListIn(@Param("workIdList") List<Long> workIdList);
+
     /// 루틴 ID에 해당하는 근무-루틴 매핑을 모두 삭제하는 메서드
     ///
     /// @param routineId 삭제할 근무-루틴 매핑의 루틴 ID
@@ -0,0 +1,95 @@
+package com.moup.server.repository;
+
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/// 삭제된 근무 기록(tombstone) 저장소 (근무 동기화 API용)
+///
+/// 근무를 삭제하기 직전에 같은 트랜잭션에서 기록하며, 근무자 삭제로 함께 삭제(CASCADE)된 근무는 기록하지 않습니다.
+/// (동기화 응답의 근무자 목록에서 빠진 근무자의 근무는 클라이언트가 모두 삭제)
+@Mapper
+public interface WorkTombstoneRepository {
+    /// 근무 하나의 삭제를 기록하는 메서드
+    ///
+    /// @param workId 삭제할 근무 ID
+    /// @param workerId 삭제할 근무의 근무자 ID
+    @Insert("""
+            INSERT INTO work_tombstones (work_id, worker_id)
+            VALUES (#{workId}, #{workerId})
+            ON DUPLICATE KEY UPDATE deleted_at = CURRENT_TIMESTAMP(6)
+            """)
+    void create(@Param("workId") Long workId, @Param("workerId") Long workerId);
+
+    /// 같은 근무자의 여러 근무 삭제를 한 번에 기록하는 메서드
+    ///
+    /// @param workIdList 삭제할 근무 ID 리스트
+    /// @param workerId 삭제할 근무들의 근무자 ID
+    @Insert("""
+            <script>
+                INSERT INTO work_tombstones (work_id, worker_id)
+                VALUES
+                <foreach item="workId" collection="workIdList" separator=",">
+                    (#{workId}, #{workerId})
+                </foreach>
+                ON DUPLICATE KEY UPDATE deleted_at = CURRENT_TIMESTAMP(6)
+            </script>
+            """)
+    void createAll(@Param("workIdList") List<Long> workIdList, @Param("workerId") Long workerId);
+
+    /// 특정 반복 그룹에서 특정 날짜 **포함** 이후 근무들의 삭제를 기록하는 메서드 (`WorkRepository.deleteRecurringWorkFromDate` 직전에 호출)
+    ///
+    /// @param repeatGroupId 반복 그룹 ID
+    /// @param date 기준 날짜
+    @Insert("""
+            INSERT INTO work_tombstones (work_id, worker_id)
+            SELECT id, worker_id FROM works
+            WHERE repeat_group_id = #{repeatGroupId}
+                AND work_date >= #{date}
+            ON DUPLICATE KEY UPDATE deleted_at = CURRENT_TIMESTAMP(6)
+            """)
+    void createAllByRepeatGroupIdFromDate(@Param("repeatGroupId") String repeatGroupId, @Param("date") LocalDate date);
+
+    /// 특정 반복 그룹에서 특정 날짜 **보다 미래** 근무들의 삭제를 기록하는 메서드 (`WorkRepository.deleteRecurringWorkAfterDate` 직전에 호출)
+    ///
+    /// @param repeatGroupId 반복 그룹 ID
+    /// @param date 기준 날짜
+    @Insert("""
+            INSERT INTO work_tombstones (work_id, worker_id)
+            SELECT id, worker_id FROM works
+            WHERE repeat_group_id = #{repeatGroupId}
+                AND work_date > #{date}
+            ON DUPLICATE KEY UPDATE deleted_at = CURRENT_TIMESTAMP(6)
+            """)
+    void createAllByRepeatGroupIdAfterDate(@Param("repeatGroupId") String repeatGroupId, @Param("date") LocalDate date);
+
+    /// 여러 근무자의 근무 중 특정 시각 이후에 삭제된 근무 ID를 조회하는 메서드
+    ///
+    /// @param workerIdList 조회할 근무자 ID 리스트
+    /// @param since 기준 시각 (이 시각 이후 삭제된 근무만 조회)
+    /// @return 삭제된 근무 ID 리스트, 없으면 빈 배열
+    @Select("""
+            <script>
+                SELECT work_id FROM work_tombstones
+                WHERE worker_id IN
+                    <foreach item="workerId" collection="workerIdList" open="(" separator="," close=")">
+                        #{workerId}
+                    </foreach>
+                    AND deleted_at &gt; #{since}
+            </script>
+            """)
+    List<Long> findAllWorkIdByWorkerIdListInAndDeletedAtAfter(
+            @Param("workerIdList") List<Long> workerIdList,
+            @Param("since") LocalDateTime since
+    );
+
+    /// 보관 기간이 지난 기록을 최대 `limit`개 삭제하는 메서드
+    ///
+    /// @param cutoff 이 시각 이전에 삭제된 근무의 기록을 정리
+    /// @param limit 한 번에 삭제할 최대 개수
+    /// @return 삭제된 행의 수
+    @Delete("DELETE FROM work_tombstones WHERE deleted_at < #{cutoff} LIMIT #{limit}")
+    int deleteAllByDeletedAtBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
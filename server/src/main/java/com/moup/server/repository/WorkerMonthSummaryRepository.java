@@ -0,0 +1,139 @@
+package com.moup.server.repository;
+
+import com.moup.server.model.entity.WorkerMonthSummary;
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface WorkerMonthSummaryRepository {
+    // 근무자·월 (workMonth는 해당 월의 1일)
+    record WorkerMonth(Long workerId, LocalDate workMonth) {}
+
+    /// 근무자의 월간 급여 요약을 생성하거나, 이미 있으면 덮어쓰는 메서드
+    ///
+    /// @param summary 저장할 WorkerMonthSummary 객체
+    @Insert("""
+            INSERT INTO worker_month_summaries (
+                                                worker_id, work_month, work_count, net_work_minutes, night_work_minutes, rest_time_minutes,
+                                                base_pay, night_allowance, holiday_allowance, gross_income, total_deductions
+                                                )
+            VALUES (
+                    #{workerId}, #{workMonth}, #{workCount}, #{netWorkMinutes}, #{nightWorkMinutes}, #{restTimeMinutes},
+                    #{basePay}, #{nightAllowance}, #{holidayAllowance}, #{grossIncome}, #{totalDeductions}
+                    )
+            ON DUPLICATE KEY UPDATE
+                work_count = VALUES(work_count),
+                net_work_minutes = VALUES(net_work_minutes),
+                night_work_minutes = VALUES(night_work_minutes),
+                rest_time_minutes = VALUES(rest_time_minutes),
+                base_pay = VALUES(base_pay),
+                night_allowance = VALUES(night_allowance),
+                holiday_allowance = VALUES(holiday_allowance),
+                gross_income = VALUES(gross_income),
+                total_deductions = VALUES(total_deductions)
+            """)
+    void upsert(WorkerMonthSummary summary);
+
+    /// 여러 월간 급여 요약을 한 번에 생성하거나 덮어쓰는 메서드
+    ///
+    /// @param summaryList 저장할 WorkerMonthSummary 객체 리스트
+    @Insert("""
+            <script>
+                INSERT INTO worker_month_summaries (
+                                                    worker_id, work_month, work_count, net_work_minutes, night_work_minutes, rest_time_minutes,
+                                                    base_pay, night_allowance, holiday_allowance, gross_income, total_deductions
+                                                    )
+                VALUES
+                <foreach item='summary' collection='summaryList' separator=','>
+                    (
+                     #{summary.workerId}, #{summary.workMonth}, #{summary.workCount}, #{summary.netWorkMinutes}, #{summary.nightWorkMinutes}, #{summary.restTimeMinutes},
+                     #{summary.basePay}, #{summary.nightAllowance}, #{summary.holidayAllowance}, #{summary.grossIncome}, #{summary.totalDeductions}
+                    )
+                </foreach>
+                ON DUPLICATE KEY UPDATE
+                    work_count = VALUES(work_count),
+                    net_work_minutes = VALUES(net_work_minutes),
+                    night_work_minutes = VALUES(night_work_minutes),
+                    rest_time_minutes = VALUES(rest_time_minutes),
+                    base_pay = VALUES(base_pay),
+                    night_allowance = VALUES(night_allowance),
+                    holiday_allowance = VALUES(holiday_allowance),
+                    gross_income = VALUES(gross_income),
+                    total_deductions = VALUES(total_deductions)
+            </script>
+            """)
+    void upsertBatch(@Param("summaryList") List<WorkerMonthSummary> summaryList);
+
+    /// 여러 근무자 ID에 해당하는 특정 월의 급여 요약을 한 번에 조회하는 메서드
+    ///
+    /// @param workerIdList 조회할 근무자 ID 배열
+    /// @param workMonth 조회할 월 (해당 월의 1일)
+    /// @return 조회된 WorkerMonthSummary 객체 배열, 없으면 빈 배열
+    @Select("""
+            <script>
+                SELECT * FROM worker_month_summaries
+                WHERE work_month = #{workMonth}
+                AND worker_id IN
+                <foreach item='id' collection='workerIdList' open='(' separator=',' close=')'>
+                    #{id}
+                </foreach>
+            </script>
+            """)
+    List<WorkerMonthSummary> findAllByWorkerIdListInAndWorkMonth(@Param("workerIdList") List<Long> workerIdList,
+                                                                 @Param("workMonth") LocalDate workMonth);
+
+    /// 근무 기록은 있지만 월간 급여 요약 행이 없는 달(요약 테이블 도입 이전 데이터)이 하나라도 있는지 확인하는 메서드
+    ///
+    /// @return 요약 행이 없는 근무 월이 있으면 true
+    @Select("""
+            SELECT EXISTS(
+                SELECT 1
+                FROM works w
+                LEFT JOIN worker_month_summaries s ON s.worker_id = w.worker_id AND s.work_month = w.work_month
+                WHERE s.worker_id IS NULL
+            )
+            """)
+    boolean existsWorkMonthWithoutSummary();
+
+    /// 근무자 ID 구간 (fromWorkerId, toWorkerId]에서 근무 기록은 있지만 월간 급여 요약 행이 없는 근무자·월을 조회하는 메서드
+    ///
+    /// @param fromWorkerId 구간 시작 근무자 ID (제외)
+    /// @param toWorkerId 구간 끝 근무자 ID (포함)
+    /// @return 요약 행이 없는 근무자·월 배열, 없으면 빈 배열
+    @Select("""
+            SELECT w.worker_id, w.work_month
+            FROM works w
+            LEFT JOIN worker_month_summaries s ON s.worker_id = w.worker_id AND s.work_month = w.work_month
+            WHERE w.worker_id > #{fromWorkerId}
+                AND w.worker_id <= #{toWorkerId}
+                AND s.worker_id IS NULL
+            GROUP BY w.worker_id, w.work_month
+            """)
+    List<WorkerMonth> findAllWorkMonthsWithoutSummaryByWorkerIdRange(@Param("fromWorkerId") long fromWorkerId,
+                                                                     @Param("toWorkerId") long toWorkerId);
+
+    /// 여러 월간 급여 요약 중 아직 없는 행만 한 번에 생성하는 메서드 (이미 있는 행은 유지)
+    ///
+    /// 요약 행이 없던 근무 월(요약 테이블 도입 이전 데이터)을 채울 때 사용하며,
+    /// 그 사이 재계산(`upsert`/`upsertBatch`)이 먼저 저장한 요약을 덮어쓰지 않습니다.
+    ///
+    /// @param summaryList 저장할 WorkerMonthSummary 객체 리스트
+    @Insert("""
+            <script>
+                INSERT IGNORE INTO worker_month_summaries (
+                                                           worker_id, work_month, work_count, net_work_minutes, night_work_minutes, rest_time_minutes,
+                                                           base_pay, night_allowance, holiday_allowance, gross_income, total_deductions
+                                                           )
+                VALUES
+                <foreach item='summary' collection='summaryList' separator=','>
+                    (
+                     #{summary.workerId}, #{summary.workMonth}, #{summary.workCount}, #{summary.netWorkMinutes}, #{summary.nightWorkMinutes}, #{summary.restTimeMinutes},
+                     #{summary.basePay}, #{summary.nightAllowance}, #{summary.holidayAllowance}, #{summary.grossIncome}, #{summary.totalDeductions}
+                    )
+                </foreach>
+            </script>
+            """)
+    void createAllIfAbsent(@Param("summaryList") List<WorkerMonthSummary> summaryList);
+}
@@ -9,6 +9,9 @@ import java.util.Optional;
 @Mapper
 public interface WorkerRepository {
 
+    // 근무자별 현재 근무 중 여부 (출퇴근 write-behind 배치 반영용)
+    record NowWorkingUpdate(Long workerId, boolean nowWorking) {}
+
     /// 근무자를 생성하는 메서드.
     ///
     /// @param worker 생성할 Worker 객체
@@ -161,14 +164,23 @@ public interface WorkerRepository {
     @Update("UPDATE workers SET is_accepted = #{isAccepted} WHERE id = #{id} AND user_id = #{userId} AND workplace_id = #{workplaceId}")
     void updateIsAccepted(Long id, Long userId, Long workplaceId, Boolean isAccepted);
 
-    /// 근무자 ID, 사용자 ID, 근무지 ID에 해당하는 근무자의 현재 근무 중 여부를 업데이트하는 메서드.
+    /// 여러 근무자의 현재 근무 중 여부를 한 번에 업데이트하는 메서드. (MyBatis <foreach>와 SQL CASE 문을 사용)
     ///
-    /// @param id 업데이트할 근무자의 ID
-    /// @param userId 업데이트할 근무자의 사용자 ID
-    /// @param workplaceId 업데이트할 근무자의 근무지 ID
-    /// @param isNowWorking 업데이트할 근무자의 현재 근무 중 여부
-    @Update("UPDATE workers SET is_now_working = #{isNowWorking} WHERE id = #{id} AND user_id = #{userId} AND workplace_id = #{workplaceId}")
-    void updateIsNowWorking(Long id, Long userId, Long workplaceId, Boolean isNowWorking);
+    /// @param updateList 근무자 ID와 현재 근무 중 여부 리스트
+    @Update("""
+            <script>
+                UPDATE workers
+                SET is_now_working =
+                    <foreach item='update' collection='updateList' open='CASE id' close=' END'>
+                        WHEN #{update.workerId} THEN #{update.nowWorking}
+                    </foreach>
+                WHERE id IN
+                    <foreach item='update' collection='updateList' open='(' separator=',' close=')'>
+                        #{update.workerId}
+                    </foreach>
+            </script>
+            """)
+    void updateIsNowWorkingBatch(@Param("updateList") List<NowWorkingUpdate> updateList);
 
     /// 근무자 ID, 사용자 ID, 근무지 ID에 해당하는 근무자를 삭제하는 메서드.
     ///
@@ -177,4 +189,7 @@ public interface WorkerRepository {
     /// @param workplaceId 삭제할 근무자의 근무지 ID
     @Delete("DELETE FROM workers WHERE id = #{id} AND user_id = #{userId} AND workplace_id = #{workplaceId}")
     void delete(Long id, Long userId, Long workplaceId);
+
+    @Select("SELECT COALESCE(MAX(id), 0) FROM workers")
+    Long findMaxId();
 }
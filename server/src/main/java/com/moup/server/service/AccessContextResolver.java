@@ -0,0 +1,176 @@
+package com.moup.server.service;
+
+import com.moup.server.exception.WorkNotFoundException;
+import com.moup.server.exception.WorkerNotFoundException;
+import com.moup.server.exception.WorkplaceNotFoundException;
+import com.moup.server.model.entity.User;
+import com.moup.server.model.entity.Work;
+import com.moup.server.model.entity.Worker;
+import com.moup.server.model.entity.Workplace;
+import com.moup.server.repository.AccessContextRepository;
+import com.moup.server.repository.AccessContextRepository.WorkAccessRow;
+import com.moup.server.repository.AccessContextRepository.WorkerAccessRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+/// 근무/근무자 API의 권한 검증에 필요한 엔티티(근무, 근무자, 근무지 사장님, 근무자 사용자)를 한 번의 조인 쿼리로 조회하는 서비스
+///
+/// 조회 결과는 HTTP 요청 단위로 기억하므로 같은 요청 안에서 여러 서비스 메서드가 같은 대상을 검증해도 DB는 한 번만 조회합니다.
+/// 요청 밖(스케줄러 등)에서는 기억하지 않습니다. 같은 요청 안에서 대상을 변경한 뒤 다시 조회하면 변경 전 값이 반환되므로 검증 용도로만 사용합니다.
+@Service
+@RequiredArgsConstructor
+public class AccessContextResolver {
+    private static final String ATTRIBUTE_PREFIX = AccessContextResolver.class.getName() + ".";
+
+    private final AccessContextRepository accessContextRepository;
+
+    /// 근무 하나의 권한 검증 정보
+    ///
+    /// @param workerUser 근무자의 사용자 요약 정보 (`id`, `nickname`, `profileImg`만 채워짐), 사용자가 없으면 null
+    public record WorkAccess(Work work, Worker worker, Workplace workplace, User workerUser) {}
+
+    /// 근무지와 그 근무지 근무자의 권한 검증 정보
+    ///
+    /// @param worker 조회한 근무자, 해당 근무지의 근무자가 아니면 null
+    public record WorkerAccess(Workplace workplace, Worker worker) {
+        /// 근무자를 반환합니다. 근무자가 없으면 `WorkerNotFoundException`을 던집니다.
+        public Worker requireWorker() {
+            if (worker == null) { throw new WorkerNotFoundException(); }
+            return worker;
+        }
+    }
+
+    /// 근무 ID로 근무, 근무자, 근무지, 근무자의 사용자 요약 정보를 조회합니다.
+    ///
+    /// @throws WorkNotFoundException 근무가 없는 경우
+    /// @throws WorkerNotFoundException 근무자가 없는 경우
+    /// @throws WorkplaceNotFoundException 근무지가 없는 경우
+    public WorkAccess resolveWork(Long workId) {
+        return memoize("work:" + workId, () -> {
+            WorkAccessRow row = accessContextRepository.findWorkAccessByWorkId(workId).orElseThrow(WorkNotFoundException::new);
+            if (row.workerId() == null) { throw new WorkerNotFoundException(); }
+            if (row.workplaceId() == null) { throw new WorkplaceNotFoundException(); }
+            return new WorkAccess(toWork(row), toWorker(row), toWorkplace(row), toWorkerUser(row));
+        });
+    }
+
+    /// 근무지와 그 근무지에서 특정 사용자의 근무자 정보를 조회합니다.
+    ///
+    /// @throws WorkplaceNotFoundException 근무지가 없는 경우
+    public WorkerAccess resolveMyWorker(Long userId, Long workplaceId) {
+        return memoize("workplace:" + workplaceId + ":user:" + userId, () -> toWorkerAccess(
+                accessContextRepository.findWorkerAccessByWorkplaceIdAndUserId(workplaceId, userId)
+                        .orElseThrow(WorkplaceNotFoundException::new)));
+    }
+
+    /// 근무지와 그 근무지에 속한 특정 근무자 정보를 조회합니다.
+    ///
+    /// @throws WorkplaceNotFoundException 근무지가 없는 경우
+    public WorkerAccess resolveWorker(Long workplaceId, Long workerId) {
+        return memoize("workplace:" + workplaceId + ":worker:" + workerId, () -> toWorkerAccess(
+                accessContextRepository.findWorkerAccessByWorkplaceIdAndWorkerId(workplaceId, workerId)
+                        .orElseThrow(WorkplaceNotFoundException::new)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T memoize(String key, Supplier<T> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) { return loader.get(); }
+
+        String attributeName = ATTRIBUTE_PREFIX + key;
+        Object cached = attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) { return (T) cached; }
+
+        T loaded = loader.get();
+        attributes.setAttribute(attributeName, loaded, RequestAttributes.SCOPE_REQUEST);
+        return loaded;
+    }
+
+    private static WorkerAccess toWorkerAccess(WorkerAccessRow row) {
+        Workplace workplace = Workplace.builder()
+                .id(row.workplaceId())
+                .ownerId(row.ownerId())
+                .workplaceName(row.workplaceName())
+                .categoryName(row.categoryName())
+                .isShared(Boolean.TRUE.equals(row.isShared()))
+                .address(row.address())
+                .latitude(row.latitude())
+                .longitude(row.longitude())
+                .build();
+        Worker worker = row.workerId() == null ? null : Worker.builder()
+                .id(row.workerId())
+                .userId(row.workerUserId())
+                .workplaceId(row.workerWorkplaceId())
+                .workerBasedLabelColor(row.workerBasedLabelColor())
+                .ownerBasedLabelColor(row.ownerBasedLabelColor())
+                .isAccepted(row.isAccepted())
+                .isNowWorking(row.isNowWorking())
+                .build();
+        return new WorkerAccess(workplace, worker);
+    }
+
+    private static Work toWork(WorkAccessRow row) {
+        return Work.builder()
+                .id(row.workId())
+                .workerId(row.workWorkerId())
+                .workDate(row.workDate())
+                .startTime(row.startTime())
+                .actualStartTime(row.actualStartTime())
+                .endTime(row.endTime())
+                .actualEndTime(row.actualEndTime())
+                .restTimeMinutes(row.restTimeMinutes())
+                .grossWorkMinutes(row.grossWorkMinutes())
+                .netWorkMinutes(row.netWorkMinutes())
+                .nightWorkMinutes(row.nightWorkMinutes())
+                .memo(row.memo())
+                .hourlyRate(row.hourlyRate())
+                .basePay(row.basePay())
+                .nightAllowance(row.nightAllowance())
+                .holidayAllowance(row.holidayAllowance())
+                .grossIncome(row.grossIncome())
+                .estimatedNetIncome(row.estimatedNetIncome())
+                .repeatGroupId(row.repeatGroupId())
+                .weekStart(row.weekStart())
+                .workMonth(row.workMonth())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
+    private static Worker toWorker(WorkAccessRow row) {
+        return Worker.builder()
+                .id(row.workerId())
+                .userId(row.workerUserId())
+                .workplaceId(row.workerWorkplaceId())
+                .workerBasedLabelColor(row.workerBasedLabelColor())
+                .ownerBasedLabelColor(row.ownerBasedLabelColor())
+                .isAccepted(row.isAccepted())
+                .isNowWorking(row.isNowWorking())
+                .build();
+    }
+
+    private static Workplace toWorkplace(WorkAccessRow row) {
+        return Workplace.builder()
+                .id(row.workplaceId())
+                .ownerId(row.ownerId())
+                .workplaceName(row.workplaceName())
+                .categoryName(row.categoryName())
+                .isShared(Boolean.TRUE.equals(row.isShared()))
+                .address(row.address())
+                .latitude(row.latitude())
+                .longitude(row.longitude())
+                .build();
+    }
+
+    private static User toWorkerUser(WorkAccessRow row) {
+        if (row.userId() == null) { return null; }
+        return User.builder()
+                .id(row.userId())
+                .nickname(row.nickname())
+                .profileImg(row.profileImg())
+                .build();
+    }
+}
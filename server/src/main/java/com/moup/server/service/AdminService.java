@@ -1,6 +1,5 @@
 package com.moup.server.service;
 
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.moup.server.common.FCMTopic;
 import com.moup.server.exception.UserNotFoundException;
 import com.moup.server.model.dto.AdminAnnouncementRequest;
@@ -46,15 +45,13 @@ public class AdminService {
     }
   }
 
-  public void announce(AdminAnnouncementRequest adminAnnouncementRequest)
-      throws FirebaseMessagingException {
+  public void announce(AdminAnnouncementRequest adminAnnouncementRequest) {
     fCMService.sendToTopic(FCMTopic.ADMIN_ALARM, adminAnnouncementRequest.getTitle(),
         adminAnnouncementRequest.getContent());
   }
 
   @Transactional
-  public void notify(Long adminId, AdminNotificationRequest adminNotificationRequest)
-      throws FirebaseMessagingException {
+  public void notify(Long adminId, AdminNotificationRequest adminNotificationRequest) {
     User receiver = userRepository.findById(adminNotificationRequest.getReceiverId()).orElseThrow(
         UserNotFoundException::new);
 
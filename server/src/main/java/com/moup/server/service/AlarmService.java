@@ -9,9 +9,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.moup.server.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,9 +19,8 @@ import static com.moup.server.common.TimeConstants.SEOUL_ZONE_ID;
 @RequiredArgsConstructor
 public class AlarmService {
 
-  private static final int BATCH_SIZE = 1000;
   private final AlarmRepository alarmRepository;
-  private final UserRepository userRepository;
+  private final AnnouncementReadStateStore announcementReadStateStore;
 
   public List<Notification> findAllNotifications(Long userId) {
     List<NormalAlarm> normalAlarms = alarmRepository.findAllNormalAlarmsByUserId(userId);
@@ -119,31 +116,28 @@ public class AlarmService {
     alarmRepository.deleteAllNormalAlarmByUserId(userId);
   }
 
-  @Async
+  /**
+   * 새 공지를 사용자들에게 노출합니다. (공지 저장과 같은 트랜잭션에서 호출)
+   *
+   * @param announcementId 공지 ID
+   */
   @Transactional
-  public void createAnnouncementMappingForAllUsers(Long announcementId) {
-    System.out.println(Thread.currentThread().getName()
-        + ": Start creating announcement statuses for announcementId: " + announcementId);
-
-    int page = 0;
-    List<User> users;
-    do {
-      int offset = page * BATCH_SIZE;
-
-      users = userRepository.findUsersWithPaging(offset, BATCH_SIZE);
-
-      if (!users.isEmpty()) {
-        alarmRepository.saveAnnouncementMappingForAllUsers(announcementId, users);
-        page++;
-      }
-    } while (!users.isEmpty());
+  public void publishAnnouncement(Long announcementId) {
+    announcementReadStateStore.publish(announcementId);
+  }
 
-    System.out.println(Thread.currentThread().getName() + ": Finished creating statuses.");
+  /**
+   * 신규 사용자의 공지 상태를 초기화합니다. (가입 이전 공지는 노출하지 않음)
+   *
+   * @param userId 사용자 ID
+   */
+  public void initializeAnnouncementState(Long userId) {
+    announcementReadStateStore.initializeUser(userId);
   }
 
   @Transactional
   public List<Announcement> findAllAnnouncements(Long userId) {
-    List<AdminAlarm> adminAlarms = alarmRepository.findAllAdminAlarmsByUserId(userId);
+    List<AdminAlarm> adminAlarms = announcementReadStateStore.findAllByUserId(userId);
 
     if (adminAlarms.isEmpty()) {
       throw new AlarmNotFoundException();
@@ -160,7 +154,7 @@ public class AlarmService {
   }
 
   public Announcement findAnnouncementById(Long userId, Long announcementId) {
-    AdminAlarm adminAlarm = alarmRepository.findAdminAlarmById(userId, announcementId)
+    AdminAlarm adminAlarm = announcementReadStateStore.findById(userId, announcementId)
         .orElseThrow(AlarmNotFoundException::new);
 
     return Announcement.builder()
@@ -172,18 +166,18 @@ public class AlarmService {
   }
 
   public void readAnnouncementById(Long userId, Long announcementId) {
-    alarmRepository.updateAnnouncementReadAtById(userId, announcementId);
+    announcementReadStateStore.read(userId, announcementId);
   }
 
   public void readAllAnnouncements(Long userId) {
-    alarmRepository.updateAllAnnouncementReadAtByUserId(userId);
+    announcementReadStateStore.readAll(userId);
   }
 
   public void deleteAnnouncementById(Long userId, Long announcementId) {
-    alarmRepository.updateAnnouncementDeletedAtById(userId, announcementId);
+    announcementReadStateStore.delete(userId, announcementId);
   }
 
   public void deleteAllAnnouncements(Long userId) {
-    alarmRepository.updateAllAnnouncementDeletedAtByUserId(userId);
+    announcementReadStateStore.deleteAll(userId);
   }
 }
@@ -0,0 +1,66 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.AnnouncementFanout;
+import com.moup.server.repository.AlarmRepository;
+import com.moup.server.repository.AnnouncementFanoutRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/// 공지를 모든 사용자에게 매핑하는 작업(fan-out)을 실행하는 서비스
+///
+/// 사용자 ID를 `chunkSize` 구간으로 나눠 구간마다 `INSERT ... SELECT` 한 번과 체크포인트 갱신을 별도 트랜잭션으로 커밋합니다.
+/// 중간에 중단되어도 체크포인트(`announcement_fanouts.last_user_id`) 다음 구간부터 이어서 실행합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnnouncementFanoutService {
+
+    private final AnnouncementFanoutRepository announcementFanoutRepository;
+    private final AlarmRepository alarmRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /// 한 트랜잭션에서 처리할 사용자 ID 구간 크기
+    @Value("${announcement.fanout.chunk-size:10000}")
+    private int chunkSize;
+
+    /// 공지 매핑 생성 작업을 전용 스레드에서 끝까지 실행합니다. (`taskExecutor`와 분리)
+    ///
+    /// @param announcementId 공지 ID
+    @Async("announcementFanoutExecutor")
+    public void fanOut(Long announcementId) {
+        long startNanos = System.nanoTime();
+        long insertedCount = 0;
+        int chunkCount = 0;
+
+        Integer chunkInsertedCount;
+        while ((chunkInsertedCount = fanOutNextChunk(announcementId)) != null) {
+            insertedCount += chunkInsertedCount;
+            chunkCount++;
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        log.info("Announcement fan-out finished (announcementId: {}): {} rows in {} chunks, {} s, {} rows/s",
+                announcementId, insertedCount, chunkCount, String.format("%.2f", elapsedSeconds),
+                elapsedSeconds > 0 ? Math.round(insertedCount / elapsedSeconds) : insertedCount);
+    }
+
+    /// 체크포인트 다음 구간의 매핑을 생성하고 체크포인트를 갱신합니다. (구간마다 별도 트랜잭션)
+    ///
+    /// @return 생성한 매핑 수, 작업이 없거나 이미 완료되었으면 null
+    Integer fanOutNextChunk(Long announcementId) {
+        return transactionTemplate.execute(status -> {
+            AnnouncementFanout fanout = announcementFanoutRepository.findByAlarmIdForUpdate(announcementId).orElse(null);
+            if (fanout == null || fanout.getCompletedAt() != null) { return null; }
+
+            long fromUserId = fanout.getLastUserId();
+            long toUserId = Math.min(fromUserId + chunkSize, fanout.getMaxUserId());
+            int chunkInsertedCount = alarmRepository.saveAnnouncementMappingsByUserIdRange(announcementId, fromUserId, toUserId);
+            announcementFanoutRepository.updateCheckpoint(announcementId, toUserId, chunkInsertedCount);
+            return chunkInsertedCount;
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.moup.server.service;
+
+import com.moup.server.repository.AnnouncementReadStateRepository;
+import com.moup.server.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/// 매핑 방식(`admin_alarm_user_mappings`)의 공지 읽음/삭제 상태를 워터마크 방식으로 옮기는 서비스
+///
+/// 워터마크 행이 없는 사용자가 남아 있으면 요청을 받기 전(빈 초기화 시점)에 사용자 ID 구간 단위로 옮깁니다.
+/// 구간마다 예외 → 워터마크 순서로 한 트랜잭션에 커밋하고, 워터마크가 이미 있는 사용자는 건너뛰므로 여러 번 실행해도 결과가 같습니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "announcement.read-state", havingValue = "watermark", matchIfMissing = true)
+public class AnnouncementReadStateBackfillService {
+
+    private final AnnouncementReadStateRepository announcementReadStateRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /// 한 트랜잭션에서 처리할 사용자 ID 구간 크기
+    @Value("${announcement.backfill.chunk-size:10000}")
+    private int chunkSize;
+
+    @PostConstruct
+    public void backfill() {
+        if (!announcementReadStateRepository.existsUserWithoutState()) { return; }
+
+        long maxUserId = userRepository.findMaxId();
+        long startNanos = System.nanoTime();
+        long stateCount = 0;
+        for (long fromUserId = 0; fromUserId < maxUserId; fromUserId += chunkSize) {
+            stateCount += backfillChunk(fromUserId, Math.min(fromUserId + chunkSize, maxUserId));
+        }
+
+        log.info("Announcement read state backfill finished: {} users in {} ms",
+                stateCount, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /// 사용자 ID 구간 (fromUserId, toUserId]의 예외와 워터마크를 생성합니다. (구간마다 별도 트랜잭션)
+    ///
+    /// @return 생성한 워터마크 수
+    int backfillChunk(long fromUserId, long toUserId) {
+        Integer stateCount = transactionTemplate.execute(status -> {
+            announcementReadStateRepository.backfillExceptionsFromMappingsByUserIdRange(fromUserId, toUserId);
+            announcementReadStateRepository.backfillUnmappedExceptionsByUserIdRange(fromUserId, toUserId);
+            return announcementReadStateRepository.backfillStatesFromMappingsByUserIdRange(fromUserId, toUserId);
+        });
+        return stateCount == null ? 0 : stateCount;
+    }
+}
@@ -0,0 +1,51 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.AdminAlarm;
+
+import java.util.List;
+import java.util.Optional;
+
+/// 공지의 사용자별 노출/읽음/삭제 상태 저장 방식
+///
+/// `announcement.read-state` 설정으로 구현을 선택합니다.
+/// - `watermark` (기본값): 사용자별 워터마크 + 개별 예외만 저장 (`WatermarkAnnouncementReadStateStore`)
+///   - 도입 이전 사용자의 매핑 상태는 시작 시 `AnnouncementReadStateBackfillService`가 옮김
+/// - `mapping`: 공지마다 모든 사용자에게 매핑 행 생성 (`MappingAnnouncementReadStateStore`)
+public interface AnnouncementReadStateStore {
+    /// 새 공지를 사용자들에게 노출합니다. (공지 저장과 같은 트랜잭션에서 호출)
+    /// @param announcementId 공지 ID
+    void publish(Long announcementId);
+
+    /// 신규 사용자의 공지 상태를 초기화합니다. (가입 이전 공지는 노출하지 않음)
+    /// @param userId 사용자 ID
+    void initializeUser(Long userId);
+
+    /// 사용자에게 노출되는 (삭제하지 않은) 공지 목록을 반환합니다.
+    /// @param userId 사용자 ID
+    /// @return 공지 리스트
+    List<AdminAlarm> findAllByUserId(Long userId);
+
+    /// 사용자에게 노출되는 공지 하나를 반환합니다.
+    /// @param userId 사용자 ID
+    /// @param announcementId 공지 ID
+    /// @return 공지, 없거나 삭제했으면 `Optional.empty()`
+    Optional<AdminAlarm> findById(Long userId, Long announcementId);
+
+    /// 공지 하나를 읽음 처리합니다.
+    /// @param userId 사용자 ID
+    /// @param announcementId 공지 ID
+    void read(Long userId, Long announcementId);
+
+    /// 모든 공지를 읽음 처리합니다.
+    /// @param userId 사용자 ID
+    void readAll(Long userId);
+
+    /// 공지 하나를 삭제 처리합니다.
+    /// @param userId 사용자 ID
+    /// @param announcementId 공지 ID
+    void delete(Long userId, Long announcementId);
+
+    /// 모든 공지를 삭제 처리합니다.
+    /// @param userId 사용자 ID
+    void deleteAll(Long userId);
+}
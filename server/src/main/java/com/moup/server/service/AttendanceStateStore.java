@@ -0,0 +1,293 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.Work;
+import com.moup.server.model.entity.Worker;
+import com.moup.server.repository.WorkRepository;
+import com.moup.server.repository.WorkerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/// 사용자별 출퇴근 상태(IDLE ↔ WORKING)를 Redis에 보관하는 상태 저장소
+///
+/// 상태 전이는 Lua 스크립트로 한 번의 왕복에 원자적으로 실행되어, 출근 버튼을 연속으로 눌러도 한 번만 성공합니다.
+/// 전이에 성공하면 같은 스크립트 안에서 쓰기 대기열(`attendance:events`)에 이벤트를 추가하고,
+/// `works`의 실제 출퇴근 시간과 `workers.is_now_working`은 `AttendanceWriteBehindFlusher`가 묶어서 반영합니다. (write-behind)
+///
+/// 출근한 근무 ID는 DB에 반영될 때까지 `attendance:started:{userId}`에 남겨, 반영 전에 다시 출근해도 같은 근무를 다시 출근 대상으로 고르지 않습니다.
+///
+/// 트랜잭션 안에서 출근하면(근무 생성과 동시에 출근) 그 트랜잭션이 롤백될 때 출근을 취소합니다.
+/// 상태 전이와 이벤트는 커밋 전에 Redis에 기록되므로, 롤백된 근무로 근무 중 상태가 남지 않도록 보상합니다.
+///
+/// 상태 키(`attendance:user:{userId}`)가 없으면 DB의 `is_now_working`과 진행 중인 근무로 한 번 채운 뒤 다시 전이합니다.
+/// WORKING 상태는 만료되지 않고, IDLE 상태는 `attendance.state.idle-ttl` 후 만료되어 다음 요청 때 다시 채워집니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceStateStore {
+
+    private static final String STATE_KEY_PREFIX = "attendance:user:";
+    private static final String STARTED_KEY_PREFIX = "attendance:started:";
+    static final String EVENT_QUEUE_KEY = "attendance:events";
+
+    private static final String STATE_WORKING = "WORKING";
+    private static final String STATE_IDLE = "IDLE";
+
+    /// 상태 키가 없으면 -1, 이미 근무 중이거나 DB 반영 전에 이미 출근한 근무이면 0, 출근 처리되면 1
+    private static final RedisScript<Long> CLOCK_IN_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HGET', KEYS[1], 'state')
+            if not state then return -1 end
+            if state == 'WORKING' then return 0 end
+            if redis.call('SISMEMBER', KEYS[3], ARGV[4]) == 1 then return 0 end
+            redis.call('SADD', KEYS[3], ARGV[4])
+            redis.call('PEXPIRE', KEYS[3], ARGV[7])
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'state', 'WORKING', 'workerId', ARGV[2], 'workplaceId', ARGV[3],
+                       'workId', ARGV[4], 'workDate', ARGV[5], 'startedAt', ARGV[6])
+            redis.call('RPUSH', KEYS[2], cjson.encode({type = 'CLOCK_IN', userId = ARGV[1], workerId = ARGV[2],
+                       workplaceId = ARGV[3], workId = ARGV[4], workDate = ARGV[5], at = ARGV[6]}))
+            return 1
+            """, Long.class);
+
+    /// 상태 키가 없으면 -1, 해당 근무자로 근무 중이 아니면 0, 퇴근 처리되면 1
+    private static final RedisScript<Long> CLOCK_OUT_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HGET', KEYS[1], 'state')
+            if not state then return -1 end
+            if state ~= 'WORKING' or redis.call('HGET', KEYS[1], 'workerId') ~= ARGV[2] then return 0 end
+            local session = redis.call('HMGET', KEYS[1], 'workplaceId', 'workId', 'workDate')
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'state', 'IDLE')
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('RPUSH', KEYS[2], cjson.encode({type = 'CLOCK_OUT', userId = ARGV[1], workerId = ARGV[2],
+                       workplaceId = session[1] or nil, workId = session[2] or nil, workDate = session[3] or nil, at = ARGV[3]}))
+            return 1
+            """, Long.class);
+
+    /// 해당 근무로 근무 중일 때만 IDLE로 되돌리고, 앞서 쌓인 출근 이벤트를 상쇄하는 퇴근 이벤트를 추가 (인자는 출근과 동일)
+    /// 그 사이 이미 퇴근했다면 반영 대기 목록에서만 제거하고 0 반환
+    private static final RedisScript<Long> CANCEL_CLOCK_IN_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SREM', KEYS[3], ARGV[4])
+            if redis.call('HGET', KEYS[1], 'state') ~= 'WORKING' or redis.call('HGET', KEYS[1], 'workId') ~= ARGV[4] then return 0 end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'state', 'IDLE')
+            redis.call('PEXPIRE', KEYS[1], ARGV[7])
+            redis.call('RPUSH', KEYS[2], cjson.encode({type = 'CLOCK_OUT', userId = ARGV[1], workerId = ARGV[2],
+                       workplaceId = ARGV[3], workId = ARGV[4], workDate = ARGV[5], at = ARGV[6]}))
+            return 1
+            """, Long.class);
+
+    /// 상태 키가 없을 때만 DB에서 읽은 상태로 채움 (ARGV[1]: TTL(ms), 0이면 만료 없음 / 이후 필드-값 쌍)
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            if ARGV[1] ~= '0' then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end
+            return 1
+            """, Long.class);
+
+    /// 특정 근무자로 근무 중인 상태만 IDLE로 되돌림 (삭제된 근무자의 상태 정리용)
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'workerId') ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'state', 'IDLE')
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WorkerRepository workerRepository;
+    private final WorkRepository workRepository;
+
+    /// IDLE 상태 보관 시간 (ms)
+    @Value("${attendance.state.idle-ttl:86400000}")
+    private long idleTtl;
+
+    /// 쓰기 대기열에 추가되는 출퇴근 이벤트
+    ///
+    /// @param workId 근무 ID (진행 중인 근무 없이 `is_now_working`만 남아 있던 경우 null)
+    public record AttendanceEvent(Type type, Long userId, Long workerId, Long workplaceId, Long workId,
+                                  LocalDate workDate, LocalDateTime at) {
+        public enum Type { CLOCK_IN, CLOCK_OUT }
+    }
+
+    /// 출근 상태로 전이합니다. 이미 다른(또는 같은) 근무지에서 근무 중이면 전이하지 않습니다.
+    /// 트랜잭션 안에서 호출되면 롤백 시 출근을 취소하도록 등록합니다.
+    ///
+    /// @param userId 사용자 ID
+    /// @param worker 출근하는 근무자
+    /// @param work 출근할 근무
+    /// @param startedAt 실제 출근 시간
+    /// @return 전이되면 true, 이미 근무 중이면 false
+    public boolean clockIn(Long userId, Worker worker, Work work, LocalDateTime startedAt) {
+        List<String> args = List.of(userId.toString(), worker.getId().toString(), worker.getWorkplaceId().toString(),
+                work.getId().toString(), work.getWorkDate().toString(), startedAt.toString(), Long.toString(idleTtl));
+
+        boolean clockedIn = executeWithSeed(CLOCK_IN_SCRIPT, userId, args) == 1;
+        if (!clockedIn) {
+            // 근무 중인 근무자가 근무지 탈퇴/삭제로 사라졌다면 상태를 정리하고 한 번 더 시도
+            String workingWorkerId = (String) stringRedisTemplate.opsForHash().get(stateKey(userId), "workerId");
+            if (workingWorkerId != null && workerRepository.findById(Long.valueOf(workingWorkerId)).isEmpty()) {
+                stringRedisTemplate.execute(RESET_SCRIPT, List.of(stateKey(userId)), workingWorkerId, Long.toString(idleTtl));
+                log.warn("Reset attendance state of deleted worker (userId: {}, workerId: {})", userId, workingWorkerId);
+                clockedIn = executeWithSeed(CLOCK_IN_SCRIPT, userId, args) == 1;
+            }
+        }
+
+        if (clockedIn && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) { cancelClockIn(userId, args); }
+                }
+            });
+        }
+        return clockedIn;
+    }
+
+    /// 롤백된 트랜잭션의 출근을 취소합니다. (실패해도 롤백 처리를 막지 않도록 기록만 남김)
+    private void cancelClockIn(Long userId, List<String> args) {
+        try {
+            Long result = stringRedisTemplate.execute(CANCEL_CLOCK_IN_SCRIPT,
+                    List.of(stateKey(userId), EVENT_QUEUE_KEY, startedKey(userId)), args.toArray());
+            log.info("Cancelled clock-in of rolled back work (userId: {}, workId: {}, reset: {})", userId, args.get(3), result);
+        } catch (Exception e) {
+            log.error("Failed to cancel clock-in of rolled back work (userId: {}, workId: {}). Error: {}", userId, args.get(3), e.getMessage());
+        }
+    }
+
+    /// 퇴근 상태로 전이합니다.
+    ///
+    /// @param userId 사용자 ID
+    /// @param workerId 퇴근하는 근무자 ID
+    /// @param endedAt 실제 퇴근 시간
+    /// @return 전이되면 true, 해당 근무자로 근무 중이 아니면 false
+    public boolean clockOut(Long userId, Long workerId, LocalDateTime endedAt) {
+        List<String> args = List.of(userId.toString(), workerId.toString(), endedAt.toString(), Long.toString(idleTtl));
+        return executeWithSeed(CLOCK_OUT_SCRIPT, userId, args) == 1;
+    }
+
+    /// 출근했지만 아직 DB(`works.actual_start_time`)에 반영되지 않은 근무 ID 목록을 반환합니다.
+    ///
+    /// @param userId 사용자 ID
+    /// @return 근무 ID 목록
+    public Set<Long> findPendingStartedWorkIds(Long userId) {
+        Set<String> workIds = stringRedisTemplate.opsForSet().members(startedKey(userId));
+        if (workIds == null) { return Set.of(); }
+        return workIds.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    /// DB에 반영된 출근 이벤트의 근무 ID를 반영 대기 목록에서 제거합니다. (`AttendanceWriteBehindFlusher`가 커밋 후 호출)
+    ///
+    /// @param eventList 반영된 이벤트 목록
+    public void clearPendingStartedWorks(List<AttendanceEvent> eventList) {
+        Map<Long, List<String>> workIdListMap = eventList.stream()
+                .filter(event -> event.type() == AttendanceEvent.Type.CLOCK_IN && event.workId() != null)
+                .collect(Collectors.groupingBy(AttendanceEvent::userId,
+                        Collectors.mapping(event -> event.workId().toString(), Collectors.toList())));
+        if (workIdListMap.isEmpty()) { return; }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            workIdListMap.forEach((userId, workIdList) -> connection.setCommands().sRem(
+                    startedKey(userId).getBytes(StandardCharsets.UTF_8),
+                    workIdList.stream().map(workId -> workId.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new)));
+            return null;
+        });
+    }
+
+    /// 사용자가 어느 근무지에서든 근무 중인지 확인합니다.
+    public boolean isWorking(Long userId) {
+        Object state = stringRedisTemplate.opsForHash().get(stateKey(userId), "state");
+        if (state == null) {
+            seed(userId);
+            state = stringRedisTemplate.opsForHash().get(stateKey(userId), "state");
+        }
+        return STATE_WORKING.equals(state);
+    }
+
+    /// 근무자 목록 중 현재 그 근무자로 근무 중인 근무자 ID 목록을 반환합니다. (매장 실시간 이벤트의 `snapshot`용)
+    ///
+    /// 출퇴근 이벤트와 같은 상태 키를 한 번의 파이프라인으로 조회하므로, DB에 반영되기 전의 출퇴근도 반영됩니다.
+    /// 상태 키가 없는 사용자는 키를 채울 때와 같은 값인 DB의 `is_now_working`을 사용합니다.
+    ///
+    /// @param workerList 근무자 목록 (`isNowWorking` 포함)
+    /// @return 근무 중인 근무자 ID 목록
+    public List<Long> findWorkingWorkerIds(List<Worker> workerList) {
+        List<Worker> targetWorkerList = workerList.stream().filter(worker -> worker.getUserId() != null).toList();
+        if (targetWorkerList.isEmpty()) { return List.of(); }
+
+        List<Object> stateList = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            targetWorkerList.forEach(worker -> connection.hashCommands().hMGet(
+                    stateKey(worker.getUserId()).getBytes(StandardCharsets.UTF_8),
+                    "state".getBytes(StandardCharsets.UTF_8), "workerId".getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        List<Long> workingWorkerIdList = new ArrayList<>();
+        for (int i = 0; i < targetWorkerList.size(); i++) {
+            Worker worker = targetWorkerList.get(i);
+            List<?> fields = (List<?>) stateList.get(i);
+            boolean working = (fields == null || fields.get(0) == null)
+                    ? Boolean.TRUE.equals(worker.getIsNowWorking())
+                    : STATE_WORKING.equals(fields.get(0)) && worker.getId().toString().equals(fields.get(1));
+            if (working) { workingWorkerIdList.add(worker.getId()); }
+        }
+        return workingWorkerIdList;
+    }
+
+    private long executeWithSeed(RedisScript<Long> script, Long userId, List<String> args) {
+        List<String> keys = List.of(stateKey(userId), EVENT_QUEUE_KEY, startedKey(userId));
+        Long result = stringRedisTemplate.execute(script, keys, args.toArray());
+        if (result != null && result == -1) {
+            seed(userId);
+            result = stringRedisTemplate.execute(script, keys, args.toArray());
+        }
+        return result == null ? 0 : result;
+    }
+
+    /// DB의 근무 상태로 상태 키를 채웁니다. (키가 이미 있으면 유지)
+    private void seed(Long userId) {
+        Optional<Worker> workingWorker = workerRepository.findAllByUserId(userId).stream()
+                .filter(worker -> Boolean.TRUE.equals(worker.getIsNowWorking()))
+                .findFirst();
+
+        List<String> args = new ArrayList<>();
+        if (workingWorker.isEmpty()) {
+            args.add(Long.toString(idleTtl));
+            args.addAll(List.of("state", STATE_IDLE));
+        } else {
+            Worker worker = workingWorker.get();
+            args.add("0");
+            args.addAll(List.of("state", STATE_WORKING, "workerId", worker.getId().toString(),
+                    "workplaceId", worker.getWorkplaceId().toString()));
+            workRepository.findMostRecentWorkInProgress(worker.getId()).ifPresent(work -> args.addAll(List.of(
+                    "workId", work.getId().toString(),
+                    "workDate", work.getWorkDate().toString(),
+                    "startedAt", work.getActualStartTime().toString())));
+        }
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(stateKey(userId)), args.toArray());
+    }
+
+    private String stateKey(Long userId) {
+        return STATE_KEY_PREFIX + userId;
+    }
+
+    private String startedKey(Long userId) {
+        return STARTED_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,188 @@
+package com.moup.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moup.server.model.entity.Salary;
+import com.moup.server.repository.SalaryRepository;
+import com.moup.server.repository.WorkRepository;
+import com.moup.server.repository.WorkRepository.ActualTimeUpdate;
+import com.moup.server.repository.WorkerRepository;
+import com.moup.server.repository.WorkerRepository.NowWorkingUpdate;
+import com.moup.server.service.AttendanceStateStore.AttendanceEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/// `AttendanceStateStore`가 쌓은 출퇴근 이벤트를 묶어서 `works` / `workers`에 반영하는 서비스 (write-behind)
+///
+/// 이벤트는 처리 중 목록(`attendance:events:processing`)으로 옮긴 뒤 한 트랜잭션으로 반영하고, 커밋 후에 삭제합니다.
+/// 반영 도중 실패하거나 인스턴스가 종료되면 다음 실행에서 처리 중 목록을 다시 반영합니다. (모든 반영은 같은 값을 덮어쓰므로 재실행해도 안전)
+/// 같은 배치가 `maxAttempts`번 넘게 실패하면 뒤의 이벤트가 막히지 않도록 실패 목록(`attendance:events:dead`)으로 옮깁니다.
+/// 여러 인스턴스 중 한 곳에서만 실행되도록 Redis 잠금을 사용합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceWriteBehindFlusher {
+
+    static final String PROCESSING_KEY = AttendanceStateStore.EVENT_QUEUE_KEY + ":processing";
+    static final String ATTEMPTS_KEY = PROCESSING_KEY + ":attempts";
+    static final String DEAD_LETTER_KEY = AttendanceStateStore.EVENT_QUEUE_KEY + ":dead";
+    private static final String LOCK_KEY = AttendanceStateStore.EVENT_QUEUE_KEY + ":lock";
+
+    /// 처리 중 목록이 남아 있으면 그대로, 없으면 대기열 앞에서 최대 ARGV[1]개를 처리 중 목록으로 옮겨 반환
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local processing = redis.call('LRANGE', KEYS[2], 0, -1)
+            if #processing > 0 then return processing end
+            local events = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #events == 0 then return events end
+            redis.call('LTRIM', KEYS[1], #events, -1)
+            redis.call('RPUSH', KEYS[2], unpack(events))
+            return events
+            """, List.class);
+
+    /// 처리 중 목록을 실패 목록 뒤에 붙이고 처리 중 목록과 시도 횟수를 삭제
+    private static final RedisScript<Long> DEAD_LETTER_SCRIPT = new DefaultRedisScript<>("""
+            local events = redis.call('LRANGE', KEYS[1], 0, -1)
+            if #events > 0 then redis.call('RPUSH', KEYS[3], unpack(events)) end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return #events
+            """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkRepository workRepository;
+    private final WorkerRepository workerRepository;
+    private final SalaryRepository salaryRepository;
+    private final SalaryRecalculationCoordinator salaryRecalculationCoordinator;
+    private final CalendarVersionStore calendarVersionStore;
+    private final AttendanceStateStore attendanceStateStore;
+
+    /// 한 트랜잭션에서 반영할 최대 이벤트 수
+    @Value("${attendance.write-behind.batch-size:500}")
+    private int batchSize;
+
+    /// 잠금 유지 시간 (ms), 반영 중 인스턴스가 종료되면 이 시간 후 다른 인스턴스가 이어서 반영
+    @Value("${attendance.write-behind.lock-lease:30000}")
+    private long lockLease;
+
+    /// 같은 배치의 최대 반영 시도 횟수, 넘으면 실패 목록으로 옮김
+    @Value("${attendance.write-behind.max-attempts:5}")
+    private int maxAttempts;
+
+    /// 쌓인 출퇴근 이벤트를 배치 단위로 모두 반영합니다.
+    @Scheduled(fixedDelayString = "${attendance.write-behind.flush-interval:1000}")
+    public void flush() {
+        String lockToken = UUID.randomUUID().toString();
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, lockLease, TimeUnit.MILLISECONDS);
+            if (!Boolean.TRUE.equals(locked)) { return; }
+
+            try {
+                // 배치가 가득 찼다면 남은 이벤트가 있으므로 바로 다음 배치를 반영
+                int flushedCount;
+                do {
+                    flushedCount = flushBatch();
+                } while (flushedCount >= batchSize);
+            } finally {
+                stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), lockToken);
+            }
+        } catch (Exception e) {
+            log.error("Attendance write-behind flush failed. Error: {}", e.getMessage());
+        }
+    }
+
+    /// 이벤트를 최대 `batchSize`개 가져와 한 트랜잭션으로 반영합니다.
+    ///
+    /// @return 가져온 이벤트 수
+    @SuppressWarnings("unchecked")
+    int flushBatch() {
+        List<String> payloadList = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                List.of(AttendanceStateStore.EVENT_QUEUE_KEY, PROCESSING_KEY), Integer.toString(batchSize));
+        if (payloadList == null || payloadList.isEmpty()) { return 0; }
+
+        // 같은 배치를 계속 실패하면 실패 목록으로 옮기고 다음 이벤트로 진행
+        Long attempt = stringRedisTemplate.opsForValue().increment(ATTEMPTS_KEY);
+        if (attempt != null && attempt > maxAttempts) {
+            stringRedisTemplate.execute(DEAD_LETTER_SCRIPT, List.of(PROCESSING_KEY, ATTEMPTS_KEY, DEAD_LETTER_KEY));
+            log.error("Moved {} attendance events to {} after {} failed attempts", payloadList.size(), DEAD_LETTER_KEY, maxAttempts);
+            return payloadList.size();
+        }
+
+        List<AttendanceEvent> eventList = new ArrayList<>(payloadList.size());
+        for (String payload : payloadList) {
+            try {
+                eventList.add(objectMapper.readValue(payload, AttendanceEvent.class));
+            } catch (JsonProcessingException e) {
+                // 재시도 때 중복으로 옮기지 않도록 첫 시도에서만 실패 목록에 추가
+                if (attempt == null || attempt == 1) {
+                    log.error("Moving invalid attendance event to {}: {}. Error: {}", DEAD_LETTER_KEY, payload, e.getMessage());
+                    stringRedisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, payload);
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> apply(eventList));
+        // 출근 시간이 DB에 반영되었으므로 이후 출근 대상 조회는 DB 기준으로 제외됨
+        attendanceStateStore.clearPendingStartedWorks(eventList);
+        stringRedisTemplate.delete(List.of(PROCESSING_KEY, ATTEMPTS_KEY));
+        return payloadList.size();
+    }
+
+    /// 이벤트 순서대로 근무별 실제 출퇴근 시간과 근무자별 최종 근무 중 여부를 모아 배치 업데이트하고,
+    /// 퇴근한 근무의 주를 재계산 대상으로 등록합니다. 출근한 근무의 월은 캘린더 버전만 갱신합니다. (재계산은 `SalaryRecalculationCoordinator`가 커밋 직전에 한 번씩 실행)
+    void apply(List<AttendanceEvent> eventList) {
+        Map<Long, ActualTimeUpdate> startMap = new LinkedHashMap<>();
+        Map<Long, ActualTimeUpdate> endMap = new LinkedHashMap<>();
+        Map<Long, NowWorkingUpdate> nowWorkingMap = new LinkedHashMap<>();
+        List<AttendanceEvent> clockOutList = new ArrayList<>();
+
+        for (AttendanceEvent event : eventList) {
+            boolean clockIn = event.type() == AttendanceEvent.Type.CLOCK_IN;
+            nowWorkingMap.put(event.workerId(), new NowWorkingUpdate(event.workerId(), clockIn));
+            if (event.workId() == null) { continue; }
+
+            if (clockIn) {
+                startMap.put(event.workId(), new ActualTimeUpdate(event.workId(), event.at()));
+                calendarVersionStore.markWorkMonthChanged(event.workerId(), YearMonth.from(event.workDate()));
+            } else {
+                endMap.put(event.workId(), new ActualTimeUpdate(event.workId(), event.at()));
+                clockOutList.add(event);
+            }
+        }
+
+        if (!startMap.isEmpty()) { workRepository.updateActualStartTimesBatch(new ArrayList<>(startMap.values())); }
+        if (!endMap.isEmpty()) { workRepository.updateActualEndTimesBatch(new ArrayList<>(endMap.values())); }
+        if (!nowWorkingMap.isEmpty()) { workerRepository.updateIsNowWorkingBatch(new ArrayList<>(nowWorkingMap.values())); }
+
+        Map<Long, Optional<Salary>> salaryMap = new HashMap<>();
+        for (AttendanceEvent event : clockOutList) {
+            Salary salary = salaryMap.computeIfAbsent(event.workerId(), salaryRepository::findByWorkerId).orElse(null);
+            salaryRecalculationCoordinator.markWorkWeekDirty(event.workerId(), event.workDate(), salary);
+        }
+
+        log.debug("Flushed attendance events: {} clock-ins, {} clock-outs, {} workers",
+                startMap.size(), endMap.size(), nowWorkingMap.size());
+    }
+}
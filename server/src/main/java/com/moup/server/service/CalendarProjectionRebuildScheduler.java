@@ -0,0 +1,30 @@
+package com.moup.server.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/// 근무가 변경된 (근무자, 월)의 캘린더 프로젝션을 주기적으로 다시 만드는 스케줄러
+///
+/// 변경이 몰려도 주기마다 한 번만 다시 만들며, 이미 현재 버전의 프로젝션이 있으면 건너뜁니다. (`WorkService.rebuildCalendarProjections`)
+@Component
+@RequiredArgsConstructor
+public class CalendarProjectionRebuildScheduler {
+
+    private final CalendarProjectionStore calendarProjectionStore;
+    private final WorkService workService;
+
+    /// 재생성 주기마다 처리할 최대 (근무자, 월) 수
+    @Value("${calendar.projection.rebuild-batch-size:200}")
+    private int rebuildBatchSize;
+
+    @Scheduled(fixedDelayString = "${calendar.projection.rebuild-interval:2000}")
+    public void rebuildDirtyCalendarProjections() {
+        List<CalendarProjectionStore.WorkerMonth> dirtyWorkerMonthList = calendarProjectionStore.popDirty(rebuildBatchSize);
+        if (dirtyWorkerMonthList.isEmpty()) { return; }
+        workService.rebuildCalendarProjections(dirtyWorkerMonthList);
+    }
+}
@@ -0,0 +1,302 @@
+package com.moup.server.service;
+
+import com.moup.server.model.dto.WorkSummaryResponse;
+import com.moup.server.model.dto.WorkerSummaryResponse;
+import com.moup.server.model.dto.WorkplaceSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/// 근무자의 월별 캘린더 근무 요약(`WorkSummaryResponse`)을 바이너리로 인코딩해 Redis에 보관하는 읽기 모델
+///
+/// 프로젝션 키에는 만들 때 읽은 캘린더 버전(`CalendarVersionStore`)이 포함됩니다.
+/// (`calendar:projection:{workerId}:{yyyy-MM}:{epoch}:{월 버전}:{근무자 버전}`)
+/// 근무 / 급여 정보가 바뀌어 버전이 증가하면 이전 프로젝션은 더 이상 조회되지 않고 TTL로 만료되므로 별도로 삭제하지 않습니다.
+/// 근무자 / 근무지 요약과 요청자별 플래그(`isMyWork`, `isEditable`)는 조회마다 달라지므로 저장하지 않고 `decode`에서 채웁니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarProjectionStore {
+
+    private static final String PROJECTION_KEY_PREFIX = "calendar:projection:";
+    /// 근무가 변경되어 다시 만들어야 하는 (근무자, 월) 집합 (`{workerId}:{yyyy-MM}`)
+    static final String DIRTY_KEY = "calendar:projection:dirty";
+
+    /// 프로젝션 보관 시간 (조회되지 않거나 버전이 바뀐 프로젝션은 만료)
+    private static final Duration PROJECTION_TTL = Duration.ofDays(14);
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int FLAG_END_TIME = 1;
+    private static final int FLAG_REST_TIME = 1 << 1;
+    private static final int FLAG_ESTIMATED_NET_INCOME = 1 << 2;
+    private static final int FLAG_REPEAT_END_DATE = 1 << 3;
+
+    /// KEYS의 프로젝션을 ARGV 순서대로 저장 (ARGV 마지막 값: TTL 초)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do redis.call('SET', KEYS[i], ARGV[i], 'EX', ARGV[#ARGV]) end
+            return #KEYS
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, byte[]> byteArrayRedisTemplate;
+
+    /// 프로젝션 단위 (근무자, 월)
+    public record WorkerMonth(Long workerId, YearMonth yearMonth) {
+        String member() {
+            return workerId + ":" + yearMonth;
+        }
+
+        static WorkerMonth fromMember(String member) {
+            int separator = member.indexOf(':');
+            return new WorkerMonth(Long.valueOf(member.substring(0, separator)), YearMonth.parse(member.substring(separator + 1)));
+        }
+    }
+
+    /// 프로젝션 조회 결과
+    ///
+    /// @param projections 조회된 프로젝션 (인코딩된 상태)
+    /// @param missing 프로젝션이 없어 DB에서 만들어야 하는 (근무자, 월)
+    /// @param projectionKeys 새로 만든 프로젝션을 저장할 키 (Redis 오류 시 비어 있으며, 이 경우 저장하지 않음)
+    public record Lookup(Map<WorkerMonth, byte[]> projections, List<WorkerMonth> missing, Map<WorkerMonth, String> projectionKeys) {}
+
+    /// 현재 버전의 프로젝션을 한 번에 조회합니다. (버전 MGET 한 번, 프로젝션 MGET 한 번)
+    ///
+    /// @param workerMonthList 조회할 (근무자, 월) 목록
+    /// @return 조회 결과, Redis 오류가 발생하면 모두 `missing`
+    public Lookup findAll(List<WorkerMonth> workerMonthList) {
+        if (workerMonthList.isEmpty()) { return new Lookup(Collections.emptyMap(), Collections.emptyList(), Collections.emptyMap()); }
+
+        Set<Long> workerIds = new LinkedHashSet<>();
+        List<String> versionKeys = new ArrayList<>();
+        versionKeys.add(CalendarVersionStore.EPOCH_KEY);
+        for (WorkerMonth workerMonth : workerMonthList) {
+            workerIds.add(workerMonth.workerId());
+            versionKeys.add(CalendarVersionStore.workMonthVersionKey(workerMonth.workerId(), workerMonth.yearMonth()));
+        }
+        List<Long> workerIdList = new ArrayList<>(workerIds);
+        workerIdList.forEach(workerId -> versionKeys.add(CalendarVersionStore.workerVersionKey(workerId)));
+
+        try {
+            List<String> versions = stringRedisTemplate.opsForValue().multiGet(versionKeys);
+            if (versions == null || versions.get(0) == null) {
+                // epoch가 없으면(Redis 초기화) 이번 조회에서는 저장하지 않고 다음 조회부터 사용
+                stringRedisTemplate.opsForValue().setIfAbsent(CalendarVersionStore.EPOCH_KEY, UUID.randomUUID().toString());
+                return allMissing(workerMonthList);
+            }
+
+            String epoch = versions.get(0);
+            Map<Long, String> workerVersionMap = new HashMap<>();
+            int workerVersionOffset = 1 + workerMonthList.size();
+            for (int i = 0; i < workerIdList.size(); i++) {
+                workerVersionMap.put(workerIdList.get(i), versionOrZero(versions.get(workerVersionOffset + i)));
+            }
+
+            Map<WorkerMonth, String> projectionKeys = new LinkedHashMap<>();
+            for (int i = 0; i < workerMonthList.size(); i++) {
+                WorkerMonth workerMonth = workerMonthList.get(i);
+                projectionKeys.put(workerMonth, PROJECTION_KEY_PREFIX + workerMonth.member() + ":" + epoch + ":"
+                        + versionOrZero(versions.get(1 + i)) + ":" + workerVersionMap.get(workerMonth.workerId()));
+            }
+
+            List<byte[]> values = byteArrayRedisTemplate.opsForValue().multiGet(new ArrayList<>(projectionKeys.values()));
+            Map<WorkerMonth, byte[]> projections = new HashMap<>();
+            List<WorkerMonth> missing = new ArrayList<>();
+            for (int i = 0; i < workerMonthList.size(); i++) {
+                byte[] value = (values != null) ? values.get(i) : null;
+                if (value != null && value.length > 0 && value[0] == FORMAT_VERSION) {
+                    projections.put(workerMonthList.get(i), value);
+                } else {
+                    missing.add(workerMonthList.get(i));
+                }
+            }
+            return new Lookup(projections, missing, projectionKeys);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read calendar projections ({} worker-months). Error: {}", workerMonthList.size(), e.getMessage());
+            return allMissing(workerMonthList);
+        }
+    }
+
+    /// 새로 만든 프로젝션을 조회 시 받은 키로 저장합니다.
+    ///
+    /// @param lookup 프로젝션 조회 결과
+    /// @param builtProjections 새로 만든 프로젝션 (인코딩된 상태)
+    public void saveAll(Lookup lookup, Map<WorkerMonth, byte[]> builtProjections) {
+        List<String> keys = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        builtProjections.forEach((workerMonth, projection) -> {
+            String key = lookup.projectionKeys().get(workerMonth);
+            if (key == null) { return; }
+            keys.add(key);
+            args.add(projection);
+        });
+        if (keys.isEmpty()) { return; }
+        args.add(String.valueOf(PROJECTION_TTL.toSeconds()).getBytes(StandardCharsets.UTF_8));
+
+        try {
+            byteArrayRedisTemplate.execute(SAVE_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Failed to save calendar projections ({} worker-months). Error: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    /// 근무가 변경되어 다시 만들어야 하는 (근무자, 월)을 최대 `count`개 꺼냅니다.
+    public List<WorkerMonth> popDirty(int count) {
+        try {
+            List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, count);
+            if (members == null) { return Collections.emptyList(); }
+            return members.stream().map(WorkerMonth::fromMember).toList();
+        } catch (DataAccessException e) {
+            log.warn("Failed to pop dirty calendar projections. Error: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /// 한 달의 근무 요약 목록을 바이너리로 인코딩합니다. (근무자 / 근무지 요약과 요청자별 플래그는 제외)
+    ///
+    /// 형식: `[형식 버전][근무 수]` 다음 근무마다 `[flags][workId][workDate][startTime 초][startTime 나노초][workMinutes][repeatDays 비트마스크]`
+    /// 와 flags에 따라 선택적으로 `[endTime - startTime 초][endTime 나노초][restTimeMinutes][estimatedNetIncome][repeatEndDate]` (정수는 모두 가변 길이)
+    public static byte[] encode(List<WorkSummaryResponse> workSummaryList) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + workSummaryList.size() * 24);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeVarLong(out, workSummaryList.size());
+            for (WorkSummaryResponse work : workSummaryList) {
+                int flags = (work.getEndTime() != null ? FLAG_END_TIME : 0)
+                        | (work.getRestTimeMinutes() != null ? FLAG_REST_TIME : 0)
+                        | (work.getEstimatedNetIncome() != null ? FLAG_ESTIMATED_NET_INCOME : 0)
+                        | (work.getRepeatEndDate() != null ? FLAG_REPEAT_END_DATE : 0);
+                out.writeByte(flags);
+                writeVarLong(out, work.getWorkId());
+                writeVarLong(out, work.getWorkDate().toEpochDay());
+                writeVarLong(out, work.getStartTime().getEpochSecond());
+                writeVarLong(out, work.getStartTime().getNano());
+                writeVarLong(out, work.getWorkMinutes());
+                int repeatDayMask = 0;
+                for (DayOfWeek day : work.getRepeatDays()) { repeatDayMask |= 1 << (day.getValue() - 1); }
+                out.writeByte(repeatDayMask);
+                if (work.getEndTime() != null) {
+                    writeVarLong(out, work.getEndTime().getEpochSecond() - work.getStartTime().getEpochSecond());
+                    writeVarLong(out, work.getEndTime().getNano());
+                }
+                if (work.getRestTimeMinutes() != null) { writeVarLong(out, work.getRestTimeMinutes()); }
+                if (work.getEstimatedNetIncome() != null) { writeVarLong(out, work.getEstimatedNetIncome()); }
+                if (work.getRepeatEndDate() != null) { writeVarLong(out, work.getRepeatEndDate().toEpochDay()); }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /// 인코딩된 한 달의 근무 요약 목록을 조회 요청에 맞게 복원합니다.
+    ///
+    /// @param projection 인코딩된 근무 요약 목록
+    /// @param workerSummaryInfo 근무자 요약 정보
+    /// @param workplaceSummaryInfo 근무지 요약 정보
+    /// @param isMyWork 사용자의 근무 여부
+    /// @param isEditable 사용자의 수정 가능 여부
+    /// @return 근무 요약 목록
+    public static List<WorkSummaryResponse> decode(byte[] projection, WorkerSummaryResponse workerSummaryInfo,
+                                                   WorkplaceSummaryResponse workplaceSummaryInfo, boolean isMyWork, boolean isEditable) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(projection))) {
+            in.readByte(); // 형식 버전 (조회 시 확인)
+            int count = (int) readVarLong(in);
+            List<WorkSummaryResponse> workSummaryList = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int flags = in.readUnsignedByte();
+                long workId = readVarLong(in);
+                LocalDate workDate = LocalDate.ofEpochDay(readVarLong(in));
+                long startSecond = readVarLong(in);
+                Instant startTime = Instant.ofEpochSecond(startSecond, readVarLong(in));
+                long workMinutes = readVarLong(in);
+                int repeatDayMask = in.readUnsignedByte();
+                List<DayOfWeek> repeatDays = new ArrayList<>();
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    if ((repeatDayMask & (1 << (day.getValue() - 1))) != 0) { repeatDays.add(day); }
+                }
+                Instant endTime = null;
+                if ((flags & FLAG_END_TIME) != 0) {
+                    long endSecond = startSecond + readVarLong(in);
+                    endTime = Instant.ofEpochSecond(endSecond, readVarLong(in));
+                }
+                Integer restTimeMinutes = (flags & FLAG_REST_TIME) != 0 ? (int) readVarLong(in) : null;
+                Integer estimatedNetIncome = (flags & FLAG_ESTIMATED_NET_INCOME) != 0 ? (int) readVarLong(in) : null;
+                LocalDate repeatEndDate = (flags & FLAG_REPEAT_END_DATE) != 0 ? LocalDate.ofEpochDay(readVarLong(in)) : null;
+
+                workSummaryList.add(WorkSummaryResponse.builder()
+                        .workId(workId)
+                        .workerSummaryInfo(workerSummaryInfo)
+                        .workplaceSummaryInfo(workplaceSummaryInfo)
+                        .workDate(workDate)
+                        .startTime(startTime)
+                        .endTime(endTime)
+                        .workMinutes(workMinutes)
+                        .restTimeMinutes(restTimeMinutes)
+                        .estimatedNetIncome(estimatedNetIncome)
+                        .repeatDays(repeatDays)
+                        .repeatEndDate(repeatEndDate)
+                        .isMyWork(isMyWork)
+                        .isEditable(isEditable)
+                        .build());
+            }
+            return workSummaryList;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Lookup allMissing(List<WorkerMonth> workerMonthList) {
+        return new Lookup(Collections.emptyMap(), workerMonthList, Collections.emptyMap());
+    }
+
+    private static String versionOrZero(String version) {
+        return version != null ? version : "0";
+    }
+
+    /// ZigZag 가변 길이 정수 (작은 절댓값일수록 적은 바이트 사용)
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int) zigZag);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long zigZag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) { return (zigZag >>> 1) ^ -(zigZag & 1); }
+        }
+        throw new IOException("Malformed calendar projection");
+    }
+}
@@ -0,0 +1,267 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.Worker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/// 캘린더 조회 응답의 ETag를 계산하기 위한 버전 카운터를 Redis에 보관하는 저장소
+///
+/// 버전 키는 다음과 같으며, 관련 데이터가 변경된 트랜잭션이 커밋된 후 1씩 증가합니다.
+/// - `calendar:version:worker:{workerId}:{yyyy-MM}`: 해당 월의 근무 (`works`)
+/// - `calendar:version:worker:{workerId}`: 근무자의 급여 정보 (`salaries`) 및 라벨 색상
+/// - `calendar:version:user:{userId}`: 사용자의 닉네임 / 프로필 이미지 및 사용자의 근무자 목록
+/// - `calendar:version:workplace:{workplaceId}`: 근무지 정보 및 근무지의 근무자 목록
+///
+/// 조회 범위(캘린더 API와 요청자)별로 응답에 포함된 근무자 목록을 기억해 두고, 다음 요청에서는 MySQL 없이
+/// Redis 왕복 한 번으로 근무자들의 버전을 모아 ETag를 계산합니다. 근무자 목록을 모르거나 조회 범위의 버전이
+/// 바뀌었다면 ETag를 계산하지 않습니다. (다음 조회에서 다시 기억)
+///
+/// 같은 버전으로 캘린더 프로젝션(`CalendarProjectionStore`)의 유효성도 판단하며, 월 단위로 근무가 바뀌면
+/// 해당 (근무자, 월)을 프로젝션 재생성 대상으로 함께 등록합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarVersionStore {
+
+    private static final String VERSION_KEY_PREFIX = "calendar:version:";
+    private static final String MEMBERS_KEY_PREFIX = "calendar:members:";
+    static final String EPOCH_KEY = "calendar:epoch";
+
+    /// 근무자 목록 보관 시간 (만료되면 다음 조회에서 다시 기억)
+    private static final Duration MEMBERS_TTL = Duration.ofDays(7);
+
+    /// 캘린더는 기준 월의 앞뒤 6개월을 함께 조회
+    private static final int CALENDAR_MONTH_RANGE = 6;
+
+    /// 기억해 둔 근무자 목록이 조회 범위의 현재 버전과 같을 때만 버전 문자열을 반환 (아니면 nil)
+    /// KEYS[1]: 근무자 목록 키, KEYS[2]: 조회 범위 버전 키, KEYS[3]: epoch 키, ARGV: 조회할 월 (yyyy-MM)
+    /// 근무자 목록 형식: `{조회 범위 버전}|{workerId}:{userId}:{workplaceId},...`
+    private static final RedisScript<String> VERSION_SCRIPT = new DefaultRedisScript<>("""
+            local members = redis.call('GET', KEYS[1])
+            if not members then return false end
+            local scopeVersion = redis.call('GET', KEYS[2]) or '0'
+            local separator = string.find(members, '|', 1, true)
+            if string.sub(members, 1, separator - 1) ~= scopeVersion then return false end
+            local keys = {}
+            for workerId, userId, workplaceId in string.gmatch(string.sub(members, separator + 1), '(%d+):(%d+):(%d+)') do
+                local workerKey = 'calendar:version:worker:' .. workerId
+                table.insert(keys, workerKey)
+                table.insert(keys, 'calendar:version:user:' .. userId)
+                table.insert(keys, 'calendar:version:workplace:' .. workplaceId)
+                for i = 1, #ARGV do table.insert(keys, workerKey .. ':' .. ARGV[i]) end
+            end
+            local parts = {redis.call('GET', KEYS[3]) or '', members}
+            for i = 1, #keys, 1000 do
+                local values = redis.call('MGET', unpack(keys, i, math.min(i + 999, #keys)))
+                for j = 1, #values do table.insert(parts, values[j] or '0') end
+            end
+            return table.concat(parts, ',')
+            """, String.class);
+
+    /// KEYS[2..]의 버전을 1씩 증가시키고, ARGV의 (근무자, 월)을 프로젝션 재생성 대상 집합(KEYS[1])에 등록
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #KEYS do redis.call('INCR', KEYS[i]) end
+            if #ARGV > 0 then redis.call('SADD', KEYS[1], unpack(ARGV)) end
+            return #KEYS - 1
+            """, Long.class);
+
+    /// 트랜잭션 안에서 모아 둔 변경 (커밋 후 한 번에 반영)
+    private record PendingChanges(Set<String> versionKeys, Set<String> dirtyProjections) {}
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /// 캘린더 조회 범위 (캘린더 API와 요청자)
+    ///
+    /// @param key 근무자 목록 키에 사용할 조회 범위 식별자
+    /// @param versionKey 조회 범위의 근무자 목록이 바뀌면 증가하는 버전 키
+    public record CalendarScope(String key, String versionKey) {
+        /// 사용자의 모든 근무 캘린더
+        public static CalendarScope myWork(Long userId) {
+            return new CalendarScope("user:" + userId, userVersionKey(userId));
+        }
+
+        /// 근무지의 모든 근무자 캘린더 (요청자에 따라 수정 가능 여부가 다름)
+        public static CalendarScope workplaceWork(Long workplaceId, Long userId) {
+            return new CalendarScope("workplace:" + workplaceId + ":" + userId, workplaceVersionKey(workplaceId));
+        }
+
+        /// 근무지에서 사용자의 근무 캘린더
+        public static CalendarScope myWorkplaceWork(Long workplaceId, Long userId) {
+            return new CalendarScope("workplace:" + workplaceId + ":me:" + userId, workplaceVersionKey(workplaceId));
+        }
+    }
+
+    /// 기억해 둔 근무자 목록으로 현재 ETag를 계산합니다.
+    ///
+    /// @param scope 조회 범위
+    /// @param baseYearMonth 조회 기준 월
+    /// @return 강한 ETag (따옴표 포함), 근무자 목록을 모르거나 Redis 오류가 발생하면 null
+    public String findETag(CalendarScope scope, YearMonth baseYearMonth) {
+        List<String> keys = List.of(MEMBERS_KEY_PREFIX + scope.key(), scope.versionKey(), EPOCH_KEY);
+        List<String> months = new ArrayList<>();
+        for (int offset = -CALENDAR_MONTH_RANGE; offset <= CALENDAR_MONTH_RANGE; offset++) {
+            months.add(baseYearMonth.plusMonths(offset).toString());
+        }
+
+        try {
+            String versions = stringRedisTemplate.execute(VERSION_SCRIPT, keys, months.toArray());
+            if (versions == null) { return null; }
+            return "\"" + sha256(scope.key() + "@" + baseYearMonth + "#" + versions) + "\"";
+        } catch (DataAccessException e) {
+            log.warn("Failed to read calendar versions (scope: {}). Error: {}", scope.key(), e.getMessage());
+            return null;
+        }
+    }
+
+    /// 조회 범위의 현재 버전을 반환합니다. 응답을 만들기 전에 읽어 `rememberWorkers`에 전달합니다.
+    public String getScopeVersion(CalendarScope scope) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(scope.versionKey());
+            return version != null ? version : "0";
+        } catch (DataAccessException e) {
+            log.warn("Failed to read calendar scope version (scope: {}). Error: {}", scope.key(), e.getMessage());
+            return null;
+        }
+    }
+
+    /// 응답에 포함된 근무자 목록을 기억합니다. 응답을 만드는 동안 조회 범위의 버전이 바뀌었다면 다음 조회에서 다시 기억합니다.
+    ///
+    /// @param scope 조회 범위
+    /// @param scopeVersion 응답을 만들기 전에 읽은 조회 범위 버전 (null이면 기억하지 않음)
+    /// @param workerList 응답에 포함된 근무자 목록 (근무가 없는 근무자 포함)
+    public void rememberWorkers(CalendarScope scope, String scopeVersion, List<Worker> workerList) {
+        if (scopeVersion == null) { return; }
+
+        String members = workerList.stream()
+                .map(worker -> worker.getId() + ":" + Objects.requireNonNullElse(worker.getUserId(), 0L) + ":" + worker.getWorkplaceId())
+                .collect(Collectors.joining(","));
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, UUID.randomUUID().toString());
+            stringRedisTemplate.opsForValue().set(MEMBERS_KEY_PREFIX + scope.key(), scopeVersion + "|" + members, MEMBERS_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Failed to remember calendar workers (scope: {}). Error: {}", scope.key(), e.getMessage());
+        }
+    }
+
+    /// 근무자의 특정 월 근무가 변경되었음을 기록합니다.
+    public void markWorkMonthChanged(Long workerId, YearMonth yearMonth) {
+        markChanged(workMonthVersionKey(workerId, yearMonth), new CalendarProjectionStore.WorkerMonth(workerId, yearMonth).member());
+    }
+
+    /// 근무자의 급여 정보 또는 라벨 색상이 변경되었음을 기록합니다. (프로젝션은 다음 조회에서 다시 생성)
+    public void markWorkerChanged(Long workerId) {
+        markChanged(workerVersionKey(workerId), null);
+    }
+
+    /// 사용자 정보 또는 사용자의 근무자 목록이 변경되었음을 기록합니다.
+    public void markUserChanged(Long userId) {
+        if (userId == null) { return; }
+        markChanged(userVersionKey(userId), null);
+    }
+
+    /// 근무지 정보 또는 근무지의 근무자 목록이 변경되었음을 기록합니다.
+    public void markWorkplaceChanged(Long workplaceId) {
+        markChanged(workplaceVersionKey(workplaceId), null);
+    }
+
+    /// ETag가 `If-None-Match` 헤더 값 중 하나와 일치하는지 확인합니다.
+    public static boolean isNotModified(String eTag, String ifNoneMatch) {
+        if (eTag == null || ifNoneMatch == null) { return false; }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) { tag = tag.substring(2); }
+            if (tag.equals(eTag) || tag.equals("*")) { return true; }
+        }
+        return false;
+    }
+
+    /// 버전 키를 증가 대상으로 등록합니다. 트랜잭션 안에서는 모아 두었다가 커밋 후 한 번에 증가시킵니다.
+    ///
+    /// @param versionKey 증가시킬 버전 키
+    /// @param dirtyProjection 다시 만들 프로젝션 (`{workerId}:{yyyy-MM}`, 없으면 null)
+    private void markChanged(String versionKey, String dirtyProjection) {
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        PendingChanges changes = inTransaction ? getPendingChanges() : new PendingChanges(new LinkedHashSet<>(), new LinkedHashSet<>());
+        changes.versionKeys().add(versionKey);
+        if (dirtyProjection != null) { changes.dirtyProjections().add(dirtyProjection); }
+        if (!inTransaction) { increment(changes); }
+    }
+
+    /// 현재 트랜잭션에 모아 둔 변경을 반환합니다. (처음이면 커밋 후 반영하도록 등록)
+    private PendingChanges getPendingChanges() {
+        PendingChanges pendingChanges = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pendingChanges != null) { return pendingChanges; }
+
+        PendingChanges newPendingChanges = new PendingChanges(new LinkedHashSet<>(), new LinkedHashSet<>());
+        TransactionSynchronizationManager.bindResource(this, newPendingChanges);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(newPendingChanges);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CalendarVersionStore.this);
+            }
+        });
+        return newPendingChanges;
+    }
+
+    private void increment(PendingChanges changes) {
+        List<String> keys = new ArrayList<>();
+        keys.add(CalendarProjectionStore.DIRTY_KEY);
+        keys.addAll(changes.versionKeys());
+        try {
+            stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, changes.dirtyProjections().toArray());
+        } catch (DataAccessException e) {
+            log.error("Failed to increment calendar versions: {}. Error: {}", changes.versionKeys(), e.getMessage());
+        }
+    }
+
+    static String workMonthVersionKey(Long workerId, YearMonth yearMonth) {
+        return workerVersionKey(workerId) + ":" + yearMonth;
+    }
+
+    static String workerVersionKey(Long workerId) {
+        return VERSION_KEY_PREFIX + "worker:" + workerId;
+    }
+
+    private static String userVersionKey(Long userId) {
+        return VERSION_KEY_PREFIX + "user:" + userId;
+    }
+
+    private static String workplaceVersionKey(Long workplaceId) {
+        return VERSION_KEY_PREFIX + "workplace:" + workplaceId;
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -26,9 +27,12 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("Invalid user identifier (not a Long): " + username);
         }
 
-        // 2. findByUsername 대신 findById로 유저를 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(UserNotFoundException::new);
+        // 2. 캐시(로컬 → Redis)에 없을 때만 findById로 유저를 조회한 뒤 캐시에 저장
+        User user = userPrincipalCache.get(userId).orElseGet(() -> {
+            User foundUser = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+            userPrincipalCache.put(foundUser);
+            return foundUser;
+        });
 
         return new CustomUserDetails(user);
     }
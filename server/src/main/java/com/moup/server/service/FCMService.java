@@ -1,16 +1,15 @@
 package com.moup.server.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
 import com.moup.server.common.FCMTopic;
 import com.moup.server.model.dto.NormalAlarmRequest;
 import com.moup.server.model.entity.Announcement;
+import com.moup.server.model.entity.PushOutbox;
 import com.moup.server.model.entity.User;
 import com.moup.server.repository.AlarmRepository;
+import com.moup.server.repository.PushOutboxRepository;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +25,7 @@ public class FCMService {
   private final AlarmRepository alarmRepository;
   private final AlarmService alarmService;
   private final ObjectMapper objectMapper;
+  private final PushOutboxRepository pushOutboxRepository;
 
   /**
    * 특정 사용자 한 명에게 알림을 보냅니다. (1대1)
@@ -34,12 +34,10 @@ public class FCMService {
    * @param receiverId 수신자 ID
    * @param title      알림 제목
    * @param body       알림 내용
-   * @throws FirebaseMessagingException FCM 전송 실패 시
    */
   @Transactional
   public void sendToSingleUser(Long senderId, Long receiverId, String title, String body,
-                               Object dataPayload)
-          throws FirebaseMessagingException {
+                               Object dataPayload) {
 
       User sender = userService.findUserById(senderId);
       User receiver = userService.findUserById(receiverId);
@@ -59,28 +57,13 @@ public class FCMService {
           return;
       }
 
-      // 3. [FCM 전송] 토큰이 있을 때만 실행
-      Notification notification = Notification.builder()
-              .setTitle(title)
-              .setBody(body)
-              .build();
-
-      Message.Builder messageBuilder = Message.builder()
-              .setToken(fcmToken)
-              .setNotification(notification);
-
-      if (dataPayload != null) {
-          try {
-              Map<String, String> dataMap = objectMapper.convertValue(dataPayload,
-                      new TypeReference<Map<String, String>>() {});
-              messageBuilder.putAllData(dataMap);
-          } catch (IllegalArgumentException e) {
-              log.error(e.getMessage());
-          }
-      }
-
-      String response = FirebaseMessaging.getInstance().send(messageBuilder.build());
-      System.out.println("Successfully sent message: " + response);
+      // 3. [발송 대기열 저장] 실제 FCM 전송은 커밋 후 PushOutboxDispatcher가 수행
+      pushOutboxRepository.create(PushOutbox.builder()
+              .receiverId(receiverId)
+              .title(title)
+              .body(body)
+              .data(toDataJson(dataPayload))
+              .build());
   }
 
   /**
@@ -89,24 +72,9 @@ public class FCMService {
    * @param topic 구독할 토픽 이름 (예: "ADMIN_ALARM")
    * @param title 알림 제목
    * @param body  알림 내용
-   * @throws FirebaseMessagingException FCM 전송 실패 시
    */
   @Transactional
-  public void sendToTopic(FCMTopic topic, String title, String body)
-      throws FirebaseMessagingException {
-    // [1] 알림 메시지 본문 구성
-    Notification notification = Notification.builder()
-        .setTitle(title)
-        .setBody(body)
-        .build();
-
-    // [2] 특정 토픽(topic)을 대상으로 메시지 생성
-    Message message = Message.builder()
-        .setTopic(topic.toString())
-        .setNotification(notification)
-        // .putData("key", "value") // 데이터 페이로드 추가 가능
-        .build();
-
+  public void sendToTopic(FCMTopic topic, String title, String body) {
     Announcement announcement = Announcement.builder()
         .title(title)
         .content(body)
@@ -115,10 +83,29 @@ public class FCMService {
     alarmRepository.saveAdminAlarm(announcement);
     Long announcementId = announcement.getId();
 
-    // [3] FCM 서버에 메시지 전송 요청
-    String response = FirebaseMessaging.getInstance().send(message);
-    System.out.println("Successfully sent topic message: " + response);
+    // 발송 대기열 저장 (실제 FCM 전송은 커밋 후 PushOutboxDispatcher가 수행)
+    pushOutboxRepository.create(PushOutbox.builder()
+        .topic(topic.toString())
+        .title(title)
+        .body(body)
+        .build());
+
+    alarmService.publishAnnouncement(announcementId);
+  }
 
-    alarmService.createAnnouncementMappingForAllUsers(announcementId);
+  /// 데이터 페이로드를 FCM data 필드용 JSON 문자열 맵으로 변환합니다. (변환 실패 시 데이터 없이 발송)
+  private String toDataJson(Object dataPayload) {
+    if (dataPayload == null) {
+      return null;
+    }
+
+    try {
+      Map<String, String> dataMap = objectMapper.convertValue(dataPayload,
+          new TypeReference<Map<String, String>>() {});
+      return objectMapper.writeValueAsString(dataMap);
+    } catch (IllegalArgumentException | JsonProcessingException e) {
+      log.error(e.getMessage());
+      return null;
+    }
   }
 }
@@ -5,7 +5,6 @@ import com.moup.server.model.dto.*;
 import com.moup.server.model.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -17,7 +16,12 @@ public class HomeService {
     private final SalaryCalculationService salaryCalculationService;
     private final RoutineService routineService;
 
-    @Transactional(readOnly = true)
+    /// 홈 화면 정보(오늘의 루틴 수, 이번 달/지난달 급여 요약)를 조회합니다.
+    ///
+    /// 의도적으로 트랜잭션을 열지 않습니다. 트랜잭션 안에서는 `ReadFanout`이 순서대로 실행되므로,
+    /// 사장님 급여 요약의 동시 조회가 홈 화면에서도 동작하도록 각 조회가 자신의 (읽기 전용) 트랜잭션이나 자동 커밋으로 실행됩니다.
+    /// 따라서 루틴 수와 두 달의 급여 요약은 서로 다른 시점의 커밋을 반영할 수 있습니다. (e.g. 조회 도중 커밋된 퇴근이 이번 달 요약에만 반영)
+    /// 홈 화면은 다음 조회에서 바로 맞춰지는 요약 정보이므로 일관된 스냅샷보다 지연 시간을 우선합니다.
     public BaseHomeResponse getHomeInfo(User user, LocalDate date) {
         // --- 현재 달 정보 ---
         YearMonth currentYearMonth = YearMonth.from(date);
@@ -0,0 +1,99 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.AdminAlarm;
+import com.moup.server.repository.AlarmRepository;
+import com.moup.server.repository.AnnouncementFanoutRepository;
+import com.moup.server.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+/// 공지마다 모든 사용자에게 `admin_alarm_user_mappings` 행을 생성하는 공지 상태 저장 방식
+///
+/// 매핑 생성은 공지가 커밋된 뒤 `AnnouncementFanoutService`가 사용자 ID 구간 단위로 실행합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "announcement.read-state", havingValue = "mapping")
+public class MappingAnnouncementReadStateStore implements AnnouncementReadStateStore {
+
+    private final AlarmRepository alarmRepository;
+    private final UserRepository userRepository;
+    private final AnnouncementFanoutRepository announcementFanoutRepository;
+    private final AnnouncementFanoutService announcementFanoutService;
+
+    /// 이 시간(초) 이상 진행이 없는 미완료 공지 매핑 작업을 중단된 것으로 보고 이어서 실행
+    @Value("${announcement.fanout.stale-seconds:300}")
+    private int fanoutStaleSeconds;
+
+    /// 공지 매핑 생성 작업을 등록하고, 공지가 커밋된 뒤 백그라운드에서 실행합니다.
+    @Override
+    public void publish(Long announcementId) {
+        announcementFanoutRepository.create(announcementId, userRepository.findMaxId());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            announcementFanoutService.fanOut(announcementId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                announcementFanoutService.fanOut(announcementId);
+            }
+        });
+    }
+
+    /// 서버 재시작 등으로 중단된 공지 매핑 생성 작업을 체크포인트부터 이어서 실행합니다.
+    @Scheduled(initialDelayString = "${announcement.fanout.resume-initial-delay:30000}",
+            fixedDelayString = "${announcement.fanout.resume-interval:60000}")
+    public void resumeStaleAnnouncementFanouts() {
+        for (Long announcementId : announcementFanoutRepository.findAllStaleAlarmIds(fanoutStaleSeconds)) {
+            log.info("Resuming announcement fan-out (announcementId: {})", announcementId);
+            announcementFanoutService.fanOut(announcementId);
+        }
+    }
+
+    @Override
+    public void initializeUser(Long userId) {
+        // 매핑은 공지 발행 시점의 사용자에게만 생성되므로 추가 작업 없음
+    }
+
+    @Override
+    public List<AdminAlarm> findAllByUserId(Long userId) {
+        return alarmRepository.findAllAdminAlarmsByUserId(userId);
+    }
+
+    @Override
+    public Optional<AdminAlarm> findById(Long userId, Long announcementId) {
+        return alarmRepository.findAdminAlarmById(userId, announcementId);
+    }
+
+    @Override
+    public void read(Long userId, Long announcementId) {
+        alarmRepository.updateAnnouncementReadAtById(userId, announcementId);
+    }
+
+    @Override
+    public void readAll(Long userId) {
+        alarmRepository.updateAllAnnouncementReadAtByUserId(userId);
+    }
+
+    @Override
+    public void delete(Long userId, Long announcementId) {
+        alarmRepository.updateAnnouncementDeletedAtById(userId, announcementId);
+    }
+
+    @Override
+    public void deleteAll(Long userId) {
+        alarmRepository.updateAllAnnouncementDeletedAtByUserId(userId);
+    }
+}
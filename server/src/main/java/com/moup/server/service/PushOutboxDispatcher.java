@@ -0,0 +1,220 @@
+package com.moup.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.moup.server.model.enums.PushOutboxStatus;
+import com.moup.server.repository.PushOutboxRepository;
+import com.moup.server.repository.PushOutboxRepository.ClaimedPush;
+import com.moup.server.repository.PushOutboxRepository.PushResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/// `push_outbox`에 쌓인 푸시 메시지를 백그라운드에서 FCM으로 발송하는 서비스
+///
+/// 비즈니스 트랜잭션은 대기열에 기록만 하고, 이 디스패처가 최대 500개씩 묶어 `sendEach`로 발송합니다.
+/// (FCM 배치 엔드포인트(`sendAll`)는 종료되었으므로, SDK가 메시지별 HTTP v1 요청을 동시에 보내고 결과를 모아 줌)
+/// 메시지별 결과(FCM 메시지 ID / 오류)를 기록하고, 일시적인 오류는 지수 백오프로 재시도합니다.
+/// 발송된(SENT) 메시지는 `push.outbox.sent-retention-days` 동안 보관한 뒤 주기적으로 삭제합니다.
+///
+/// - `fcm.send` (Timer): 배치 하나를 발송하는 데 걸린 시간 (`outcome`: success / error)
+/// - `fcm.messages` (Counter): 메시지별 결과 (`result`: sent / retry / failed)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PushOutboxDispatcher {
+
+    /// `sendEach` 한 번에 담을 수 있는 최대 메시지 수
+    static final int BATCH_SIZE = 500;
+
+    /// 재시도할 FCM 오류 코드 (그 외 토큰 만료/잘못된 요청 등은 즉시 실패 처리)
+    private static final Set<MessagingErrorCode> RETRYABLE_ERROR_CODES = Set.of(
+            MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL, MessagingErrorCode.QUOTA_EXCEEDED);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final int PURGE_CHUNK_SIZE = 1000; // 한 번에 삭제할 최대 개수
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${push.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    /// 첫 재시도 대기 시간(초), 이후 두 배씩 증가
+    @Value("${push.outbox.retry-base-delay:30}")
+    private int retryBaseDelaySeconds;
+
+    @Value("${push.outbox.retry-max-delay:3600}")
+    private int retryMaxDelaySeconds;
+
+    /// 점유 후 결과를 기록하지 못했을 때 다시 발송 대상이 되기까지의 시간(초)
+    @Value("${push.outbox.lease:300}")
+    private int leaseSeconds;
+
+    /// 발송된 메시지 보관 기간 (일)
+    @Value("${push.outbox.sent-retention-days:7}")
+    private int sentRetentionDays;
+
+    /// 발송 시각이 된 메시지를 배치 단위로 모두 발송합니다.
+    @Scheduled(fixedDelayString = "${push.outbox.dispatch-interval:1000}")
+    public void dispatch() {
+        try {
+            // 배치가 가득 찼다면 남은 메시지가 있으므로 바로 다음 배치를 발송
+            int claimedCount;
+            do {
+                claimedCount = dispatchBatch();
+            } while (claimedCount == BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Push outbox dispatch failed. Error: {}", e.getMessage());
+        }
+    }
+
+    /// 보관 기간이 지난 SENT 메시지를 `PURGE_CHUNK_SIZE`개씩 모두 삭제합니다. (행 잠금을 짧게 유지)
+    @Scheduled(fixedDelayString = "${push.outbox.purge-interval:3600000}")
+    public void purgeSent() {
+        try {
+            int purgedCount = 0;
+            int deletedCount;
+            do {
+                deletedCount = pushOutboxRepository.deleteAllSentBefore(sentRetentionDays, PURGE_CHUNK_SIZE);
+                purgedCount += deletedCount;
+            } while (deletedCount == PURGE_CHUNK_SIZE);
+            if (purgedCount > 0) { log.info("Purged {} sent push outbox messages older than {} days", purgedCount, sentRetentionDays); }
+        } catch (Exception e) {
+            log.error("Push outbox purge failed. Error: {}", e.getMessage());
+        }
+    }
+
+    /// 메시지를 최대 `BATCH_SIZE`개 점유해 발송하고 결과를 기록합니다.
+    ///
+    /// @return 점유한 메시지 수
+    int dispatchBatch() {
+        String claimId = UUID.randomUUID().toString();
+        int claimedCount = pushOutboxRepository.claimDispatchable(claimId, BATCH_SIZE, leaseSeconds);
+        if (claimedCount == 0) { return 0; }
+
+        List<ClaimedPush> claimedPushList = pushOutboxRepository.findAllByClaimId(claimId);
+        List<PushResult> resultList = new ArrayList<>(claimedPushList.size());
+        List<ClaimedPush> sendingPushList = new ArrayList<>(claimedPushList.size());
+        List<Message> messageList = new ArrayList<>(claimedPushList.size());
+
+        for (ClaimedPush push : claimedPushList) {
+            if (push.topic() == null && (push.fcmToken() == null || push.fcmToken().isBlank())) {
+                resultList.add(failed(push, "수신자의 FCM 토큰이 없습니다."));
+                continue;
+            }
+            sendingPushList.add(push);
+            messageList.add(toMessage(push));
+        }
+
+        if (!messageList.isEmpty()) {
+            Timer.Sample sendSample = Timer.start(meterRegistry);
+            try {
+                List<SendResponse> responseList = FirebaseMessaging.getInstance().sendEach(messageList).getResponses();
+                sendSample.stop(meterRegistry.timer("fcm.send", "outcome", "success"));
+                for (int i = 0; i < sendingPushList.size(); i++) {
+                    resultList.add(toResult(sendingPushList.get(i), responseList.get(i)));
+                }
+            } catch (FirebaseMessagingException e) {
+                sendSample.stop(meterRegistry.timer("fcm.send", "outcome", "error"));
+                // 배치 발송 자체가 실패하면 모든 메시지를 재시도 대상으로 처리
+                log.warn("FCM batch send failed ({} messages). Error: {}", messageList.size(), e.getMessage());
+                for (ClaimedPush push : sendingPushList) {
+                    resultList.add(retryOrFail(push, e.getMessage()));
+                }
+            }
+        }
+
+        pushOutboxRepository.updateResults(resultList);
+        countResults(resultList);
+        log.debug("Dispatched push outbox batch: {} claimed, {} sent", claimedCount,
+                resultList.stream().filter(result -> result.status() == PushOutboxStatus.SENT).count());
+        return claimedCount;
+    }
+
+    private void countResults(List<PushResult> resultList) {
+        for (PushResult result : resultList) {
+            String resultTag = switch (result.status()) {
+                case SENT -> "sent";
+                case PENDING -> "retry";
+                case FAILED -> "failed";
+            };
+            meterRegistry.counter("fcm.messages", "result", resultTag).increment();
+        }
+    }
+
+    private Message toMessage(ClaimedPush push) {
+        Message.Builder messageBuilder = Message.builder()
+                .setNotification(Notification.builder()
+                        .setTitle(push.title())
+                        .setBody(push.body())
+                        .build());
+
+        if (push.topic() != null) {
+            messageBuilder.setTopic(push.topic());
+        } else {
+            messageBuilder.setToken(push.fcmToken());
+        }
+
+        if (push.data() != null) {
+            try {
+                messageBuilder.putAllData(objectMapper.readValue(push.data(), new TypeReference<Map<String, String>>() {}));
+            } catch (JsonProcessingException e) {
+                log.error("Invalid push data payload (outbox ID: {}). Error: {}", push.id(), e.getMessage());
+            }
+        }
+        return messageBuilder.build();
+    }
+
+    private PushResult toResult(ClaimedPush push, SendResponse response) {
+        if (response.isSuccessful()) {
+            return new PushResult(push.id(), PushOutboxStatus.SENT, response.getMessageId(), null, 0);
+        }
+
+        FirebaseMessagingException exception = response.getException();
+        MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+        if (errorCode == null || RETRYABLE_ERROR_CODES.contains(errorCode)) {
+            return retryOrFail(push, exception.getMessage());
+        }
+        return failed(push, errorCode + ": " + exception.getMessage());
+    }
+
+    /// 최대 시도 횟수 전이면 지수 백오프 후 재시도, 아니면 실패 처리합니다. (`attemptCount`는 점유 시 이미 1 증가)
+    private PushResult retryOrFail(ClaimedPush push, String error) {
+        if (push.attemptCount() >= maxAttempts) {
+            return failed(push, error);
+        }
+
+        long delaySeconds = (long) retryBaseDelaySeconds << Math.min(push.attemptCount() - 1, 20);
+        int retryDelaySeconds = (int) Math.min(delaySeconds, retryMaxDelaySeconds);
+        return new PushResult(push.id(), PushOutboxStatus.PENDING, null, truncate(error), retryDelaySeconds);
+    }
+
+    private PushResult failed(ClaimedPush push, String error) {
+        return new PushResult(push.id(), PushOutboxStatus.FAILED, null, truncate(error), 0);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) { return error; }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
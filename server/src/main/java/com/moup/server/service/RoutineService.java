@@ -4,6 +4,7 @@ import com.moup.server.exception.*;
 import com.moup.server.model.dto.*;
 import com.moup.server.model.entity.*;
 import com.moup.server.repository.*;
+import com.moup.server.util.ReadFanout;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +15,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.moup.server.common.TimeConstants.SEOUL_ZONE_ID;
@@ -27,6 +29,8 @@ public class RoutineService {
     private final WorkRepository workRepository;
     private final WorkerRepository workerRepository;
     private final WorkplaceRepository workplaceRepository;
+    private final ReadFanout readFanout;
+    private final AccessContextResolver accessContextResolver;
 
     private static final int MAX_ROUTINE_COUNT_PER_USER = 20; // 사용자당 루틴 연결 최대 개수
     private static final int MAX_TASK_COUNT_PER_ROUTINE = 50; // 루틴당 할 일 연결 최대 개수
@@ -85,7 +89,7 @@ public class RoutineService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
+    /// 서로 독립적인 조회를 동시에 실행(`ReadFanout`)하므로 트랜잭션(스냅샷)을 사용하지 않습니다.
     public TodayRoutineResponse getAllTodayWorkplaceRoutineCount(Long userId) {
         // 1. (쿼리 1) 사용자의 모든 Worker 정보 조회
         List<Worker> userWorkerList = workerRepository.findAllByUserId(userId);
@@ -103,8 +107,23 @@ public class RoutineService {
         Map<Long, Long> workerIdToWorkplaceIdMap = userWorkerList.stream()
                 .collect(Collectors.toMap(Worker::getId, Worker::getWorkplaceId));
 
-        // 3. (쿼리 2) 오늘의 모든 Work 조회
-        List<Work> todayWorkList = workRepository.findAllByWorkerIdListInAndDateRange(userWorkerIdList, LocalDate.now(SEOUL_ZONE_ID), LocalDate.now(SEOUL_ZONE_ID));
+        // 3. (쿼리 2, 3 동시 실행) 오늘의 모든 Work 및 Workplace 정보 Map 조회
+        // Worker Map에서 Workplace ID 리스트 추출
+        List<Long> workplaceIdList = workerIdToWorkplaceIdMap.values().stream()
+                .distinct()
+                .toList();
+        LocalDate today = LocalDate.now(SEOUL_ZONE_ID);
+
+        List<Work> todayWorkList;
+        Map<Long, Workplace> workplaceMap;
+        try (ReadFanout.Scope scope = readFanout.open()) {
+            Supplier<List<Work>> todayWorkListResult = scope.fork(() -> workRepository.findAllByWorkerIdListInAndDateRange(userWorkerIdList, today, today));
+            Supplier<List<Workplace>> workplaceListResult = scope.fork(() -> workplaceRepository.findAllByIdListIn(workplaceIdList));
+            scope.join();
+            todayWorkList = todayWorkListResult.get();
+            workplaceMap = workplaceListResult.get().stream()
+                    .collect(Collectors.toMap(Workplace::getId, workplace -> workplace));
+        }
         if (todayWorkList.isEmpty()) {
             return TodayRoutineResponse.builder()
                     .todayWorkRoutineCountList(Collections.emptyList())
@@ -115,21 +134,12 @@ public class RoutineService {
                 .map(Work::getId)
                 .toList();
 
-        // 4. (쿼리 3) Work ID별 루틴 카운트 Map 조회
+        // 4. (쿼리 4) Work ID별 루틴 카운트 Map 조회
         Map<Long, Long> routineCountMap = workRoutineMappingRepository.findCountsByWorkIdListIn(todayWorkIdList).stream()
                 .collect(Collectors.toMap(WorkRoutineMappingRepository.WorkRoutineCount::workId,
                         WorkRoutineMappingRepository.WorkRoutineCount::count));
 
-        // 5. (쿼리 4) Workplace 정보 Map 조회
-        // 5-1. Worker Map에서 Workplace ID 리스트 추출
-        List<Long> workplaceIdList = workerIdToWorkplaceIdMap.values().stream()
-                .distinct()
-                .toList();
-
-        Map<Long, Workplace> workplaceMap = workplaceRepository.findAllByIdListIn(workplaceIdList).stream()
-                .collect(Collectors.toMap(Workplace::getId, workplace -> workplace));
-
-        // 6. (In-Memory) DTO 조립
+        // 5. (In-Memory) DTO 조립
         List<TodayWorkRoutineCountResponse> todayWorkRoutineCountList = todayWorkList.stream()
                 .map(work -> {
                     // work -> workerId -> workplaceId -> workplace 순서로 조회
@@ -271,17 +281,44 @@ public class RoutineService {
         workRoutineMappingRepository.createBatch(mappingsToCreate);
     }
 
+    /// 여러 근무(반복 근무)의 루틴 매핑을 같은 루틴 목록으로 한 번에 교체합니다.
+    /// 근무 수와 관계없이 기존 매핑 삭제, 루틴 검증, 배치 삽입을 각각 한 번씩만 실행합니다.
+    @Transactional
+    public void saveWorkRoutineMappingBatch(Long userId, List<Long> routineIdList, List<Long> workIdList) {
+        if (workIdList.isEmpty()) { return; }
+        if (routineIdList.size() >= MAX_ROUTINE_COUNT_PER_WORK) {
+            throw new DataLimitExceedException("루틴은 한 근무당 최대 " + MAX_ROUTINE_COUNT_PER_WORK + "개까지 연결할 수 있습니다.");
+        }
+
+        // 1. 기존 매핑 모두 삭제
+        workRoutineMappingRepository.deleteByWorkIdListIn(workIdList);
+        if (routineIdList.isEmpty()) { return; }
+
+        // 2. 루틴 유효성 검증 (모든 근무에 같은 루틴을 연결하므로 한 번만)
+        List<Routine> validRoutines = routineRepository.findAllByIdListInAndUserId(routineIdList, userId);
+        if (validRoutines.size() != routineIdList.size()) {
+            throw new RoutineNotFoundException("유효하지 않거나 권한이 없는 루틴 ID가 포함되어 있습니다.");
+        }
+
+        // 3. 근무 x 루틴 매핑 배치 삽입
+        List<WorkRoutineMapping> mappingsToCreate = workIdList.stream()
+                .flatMap(workId -> routineIdList.stream()
+                        .map(routineId -> WorkRoutineMapping.builder()
+                                .workId(workId)
+                                .routineId(routineId)
+                                .build()))
+                .toList();
+        workRoutineMappingRepository.createBatch(mappingsToCreate);
+    }
+
     @Transactional(readOnly = true)
     public List<RoutineSummaryResponse> getAllRoutineByWorkRoutineMapping(Long userId, Long workId) {
         // --- START: 권한 확인 ---
-        Work work = workRepository.findById(workId)
-                .orElseThrow(WorkNotFoundException::new);
-
-        Worker worker = workerRepository.findByIdAndUserId(work.getWorkerId(), userId)
-                .orElseThrow(WorkerNotFoundException::new);
+        AccessContextResolver.WorkAccess access = accessContextResolver.resolveWork(workId);
+        Worker worker = access.worker();
+        if (!userId.equals(worker.getUserId())) { throw new WorkerNotFoundException(); }
 
-        Workplace workplace = workplaceRepository.findById(worker.getWorkplaceId())
-                .orElseThrow(WorkplaceNotFoundException::new);
+        Workplace workplace = access.workplace();
 
         if (!userId.equals(worker.getUserId()) && !userId.equals(workplace.getOwnerId())) {
             throw new InvalidPermissionAccessException();
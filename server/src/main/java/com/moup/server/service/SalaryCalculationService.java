@@ -5,6 +5,9 @@ import com.moup.server.model.entity.*;
 import com.moup.server.model.enums.SalaryCalculation;
 import com.moup.server.model.enums.SalaryType;
 import com.moup.server.repository.*;
+import com.moup.server.service.SalaryRecalculationMetrics.Operation;
+import com.moup.server.util.ReadFanout;
+import com.moup.server.util.WorkTimeCalculator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -14,9 +17,13 @@ import java.time.*;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.moup.server.common.TimeConstants.SEOUL_ZONE_ID;
@@ -40,6 +47,12 @@ public class SalaryCalculationService {
     private final WorkRepository workRepository;
     private final SalaryRepository salaryRepository;
     private final UserRepository userRepository;
+    private final WorkerMonthSummaryRepository workerMonthSummaryRepository;
+    private final ReadFanout readFanout;
+    private final SalaryRecalculationMetrics salaryRecalculationMetrics;
+
+    /// 여러 근무자 일괄 재계산에서 UPDATE/UPSERT 한 번에 담는 최대 행 수 (CASE 식과 패킷 크기를 제한)
+    private static final int BATCH_CHUNK_SIZE = 500;
 
     @Value("${salary.rates.national-pension}")
     private double nationalPensionRate;
@@ -59,28 +72,92 @@ public class SalaryCalculationService {
     @Value("${salary.thresholds.insurance-min-hours}")
     private int insuranceMinHours;
 
-    private static final LocalTime NIGHT_START_TIME = LocalTime.of(22, 0);
-    private static final LocalTime NIGHT_END_TIME = LocalTime.of(6, 0);
-
     /// 특정 날짜가 포함된 '주' 단위로 급여(주휴수당 등)를 재계산합니다.
     @Transactional
     public void recalculateWorkWeek(Long workerId, LocalDate date, Salary salary) {
         if (salary != null && salary.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED) {
+            // 고정급은 일급을 재계산하지 않지만, 월간 요약(근무일 수, 시간 합계)은 갱신합니다.
+            refreshWorkerMonthSummary(workerId, date.getYear(), date.getMonthValue(), salary);
             return;
         }
 
-        boolean hasHolidayAllowance = (salary != null) && salary.getHasHolidayAllowance();
-        boolean hasNightAllowance = (salary != null) && salary.getHasNightAllowance();
+        recalculateWorkWeekDetails(workerId, date, salary);
+
+        // 마지막으로, 월 전체의 '추정 세후 일급'을 다시 계산하여 캘린더 표시용 데이터를 업데이트합니다.
+        recalculateEstimatedNetIncomeForMonth(workerId, date.getYear(), date.getMonthValue(), salary);
+    }
+
+    /// 특정 날짜가 포함된 '주'의 일급(주휴수당 포함)만 재계산합니다.
+    /// 월 단위 '추정 세후 일급' 재계산은 호출자가 담당합니다. (`SalaryRecalculationCoordinator` 참고)
+    @Transactional
+    public void recalculateWorkWeekDetails(Long workerId, LocalDate date, Salary salary) {
+        if (salary != null && salary.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED) {
+            return;
+        }
 
+        long startedAt = System.nanoTime();
         LocalDate startOfWeek = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
         LocalDate endOfWeek = date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
 
         List<Work> weekWorks = workRepository.findAllByWorkerIdAndDateRange(workerId, startOfWeek, endOfWeek);
+        List<Work> updatedWorks = calculateWeekDetails(weekWorks, salary);
+
+        // 해당 주의 모든 근무일에 대해 일급을 재계산합니다.
+        if (!updatedWorks.isEmpty()) {
+            workRepository.updateWorkWeekDetailsBatch(updatedWorks);
+        }
+        salaryRecalculationMetrics.record(Operation.WEEK, startedAt, updatedWorks.size());
+    }
+
+    /// 여러 근무자의 여러 주를 한 번의 조회로 묶어 주 단위 일급(주휴수당 포함)을 재계산합니다.
+    /// 결과는 주마다 `recalculateWorkWeekDetails`를 호출한 것과 같으며, 변경된 근무는 `BATCH_CHUNK_SIZE`건씩 일괄 갱신합니다.
+    /// 조회 범위는 가장 이른 주부터 가장 늦은 주까지이므로, 같은 기간의 주를 함께 재계산할 때 효과적입니다. (e.g. 여러 근무자 일괄 근무 생성)
+    ///
+    /// @param weekStartDateMap 근무자 ID → 재계산할 주의 시작일(월요일) 목록
+    /// @param salaryMap 근무자 ID → 급여 정보 (없으면 null, 고정급 근무자는 건너뜀)
+    @Transactional
+    public void recalculateWorkWeekDetailsForWorkers(Map<Long, ? extends Collection<LocalDate>> weekStartDateMap, Map<Long, Salary> salaryMap) {
+        Map<Long, Collection<LocalDate>> targetWeekMap = new HashMap<>();
+        weekStartDateMap.forEach((workerId, weekStartDates) -> {
+            Salary salary = salaryMap.get(workerId);
+            if (salary != null && salary.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED) { return; }
+            if (!weekStartDates.isEmpty()) { targetWeekMap.put(workerId, weekStartDates); }
+        });
+        if (targetWeekMap.isEmpty()) { return; }
+
+        long startedAt = System.nanoTime();
+        LocalDate fromDate = targetWeekMap.values().stream().flatMap(Collection::stream).min(LocalDate::compareTo).orElseThrow();
+        LocalDate toDate = targetWeekMap.values().stream().flatMap(Collection::stream).max(LocalDate::compareTo).orElseThrow().plusDays(6);
+
+        // 근무자 → 주 시작일 → 그 주의 근무 (날짜 오름차순 유지)
+        Map<Long, Map<LocalDate, List<Work>>> weekWorksMap = workRepository
+                .findAllByWorkerIdListInAndDateRange(new ArrayList<>(targetWeekMap.keySet()), fromDate, toDate).stream()
+                .collect(Collectors.groupingBy(Work::getWorkerId,
+                        Collectors.groupingBy(work -> work.getWorkDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)))));
+
+        List<Work> updatedWorks = new ArrayList<>();
+        for (Map.Entry<Long, Collection<LocalDate>> entry : targetWeekMap.entrySet()) {
+            Map<LocalDate, List<Work>> workerWeekWorksMap = weekWorksMap.getOrDefault(entry.getKey(), Map.of());
+            for (LocalDate weekStartDate : entry.getValue()) {
+                updatedWorks.addAll(calculateWeekDetails(workerWeekWorksMap.getOrDefault(weekStartDate, List.of()), salaryMap.get(entry.getKey())));
+            }
+        }
+
+        for (int from = 0; from < updatedWorks.size(); from += BATCH_CHUNK_SIZE) {
+            workRepository.updateWorkWeekDetailsBatch(updatedWorks.subList(from, Math.min(from + BATCH_CHUNK_SIZE, updatedWorks.size())));
+        }
+        salaryRecalculationMetrics.record(Operation.WEEK, startedAt, updatedWorks.size());
+    }
+
+    /// 한 주의 근무(날짜 오름차순)에 주휴수당을 분배하여 일급을 다시 계산합니다. (종료 시간이 없는 근무는 제외)
+    private List<Work> calculateWeekDetails(List<Work> weekWorks, Salary salary) {
+        boolean hasHolidayAllowance = (salary != null) && salary.getHasHolidayAllowance();
+        boolean hasNightAllowance = (salary != null) && salary.getHasNightAllowance();
 
         // 주 총 근무시간을 계산하여 주휴수당 발생 조건(15시간 이상)을 확인합니다.
         long weeklyWorkMinutes = weekWorks.stream()
                 .filter(work -> work.getEndTime() != null)
-                .mapToLong(work -> Duration.between(work.getStartTime(), work.getEndTime()).toMinutes() - (work.getRestTimeMinutes() != null ? work.getRestTimeMinutes() : 0))
+                .mapToLong(work -> WorkTimeCalculator.calculateElapsedMinutes(work.getStartTime(), work.getEndTime()) - (work.getRestTimeMinutes() != null ? work.getRestTimeMinutes() : 0))
                 .sum();
 
         int weeklyHolidayAllowance = 0;
@@ -95,18 +172,10 @@ public class SalaryCalculationService {
         // 계산된 주휴수당을 근무일 수로 나누어 일급에 분배합니다.
         int dailyHolidayAllowance = weekWorks.isEmpty() ? 0 : weeklyHolidayAllowance / weekWorks.size();
 
-        List<Work> updatedWorks = weekWorks.stream()
+        return weekWorks.stream()
                 .filter(work -> work.getEndTime() != null)
                 .map(work -> calculateDailyIncome(work, dailyHolidayAllowance, hasNightAllowance))
                 .toList();
-
-        // 해당 주의 모든 근무일에 대해 일급을 재계산합니다.
-        if (!updatedWorks.isEmpty()) {
-            workRepository.updateWorkWeekDetailsBatch(updatedWorks);
-        }
-
-        // 마지막으로, 월 전체의 '추정 세후 일급'을 다시 계산하여 캘린더 표시용 데이터를 업데이트합니다.
-        recalculateEstimatedNetIncomeForMonth(workerId, date.getYear(), date.getMonthValue(), salary);
     }
 
     /// 하루 근무에 대한 세전 일급(각종 수당 포함)을 상세하게 계산합니다.
@@ -129,25 +198,9 @@ public class SalaryCalculationService {
         int restMinutes = work.getRestTimeMinutes() != null ? work.getRestTimeMinutes() : 0;
 
         // --- 야간 및 연장 근무 시간 계산 ---
-        long grossWorkMinutes = 0;
-        long nightWorkMinutes = 0;
-
-        // 근무 시간을 1분 단위로 순회하며 야간/연장 시간을 카운트합니다.
-        LocalDateTime cursor = start;
-
-        while (cursor.isBefore(end)) {
-            // 1. 총 근무시간(Gross) 1분 추가
-            grossWorkMinutes++;
-            if (hasNightAllowance) {
-                LocalTime cursorTime = cursor.toLocalTime();
-                // 2. 22:00 이후 이거나, 06:00 이전일 때
-                if (cursorTime.isAfter(NIGHT_START_TIME) || cursorTime.equals(NIGHT_START_TIME) || cursorTime.isBefore(NIGHT_END_TIME)) {
-                    // 야간 근무시간 1분 추가
-                    nightWorkMinutes++;
-                }
-            }
-            cursor = cursor.plusMinutes(1);
-        }
+        // 근무 구간과 야간 구간(22:00 ~ 06:00)의 교집합으로 계산합니다. (근무가 걸친 날짜 수만큼만 연산)
+        long grossWorkMinutes = WorkTimeCalculator.calculateGrossMinutes(start, end);
+        long nightWorkMinutes = hasNightAllowance ? WorkTimeCalculator.calculateNightMinutes(start, end) : 0;
 
         long netWorkMinutes = grossWorkMinutes - restMinutes;
         if (netWorkMinutes < 0) netWorkMinutes = 0;
@@ -177,6 +230,7 @@ public class SalaryCalculationService {
     /// 캘린더에 표시될 '추정 세후 일급'을 월 단위로 재계산합니다.
     @Transactional
     public void recalculateEstimatedNetIncomeForMonth(Long workerId, int year, int month, Salary salaryInfo) {
+        long startedAt = System.nanoTime();
         // 1. 서울 기준의 '시작일'과 '종료일'의 범위(ZonedDateTime)를 정확히 계산
         LocalDate rawStartDate = LocalDate.of(year, month, 1);
 
@@ -203,57 +257,8 @@ public class SalaryCalculationService {
         );
         // ---------------------------------------------------------
 
-        // 현재까지의 근무 기록을 바탕으로 예상 월급을 추정합니다.
-        int currentGrossSum = monthWorks.stream()
-                .mapToInt(work -> work.getGrossIncome() != null ? work.getGrossIncome() : 0)
-                .sum();
         long daysWorked = monthWorks.size();
 
-        int estimatedMonthlyIncome = 0;
-
-        if (salaryInfo != null && salaryInfo.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED) {
-            // --- 고정급제 ---
-            if (daysWorked != 0) {
-                int fixedRate = (salaryInfo.getFixedRate() != null) ? salaryInfo.getFixedRate() : 0;
-                switch (salaryInfo.getSalaryType()) {
-                    case SALARY_MONTHLY:
-                        estimatedMonthlyIncome = fixedRate;
-                        break;
-                    case SALARY_WEEKLY:
-                        DayOfWeek payDayOfWeek = salaryInfo.getSalaryDay();
-                        int payDayCount = 0;
-                        if (payDayOfWeek != null) {
-                            // 주급 계산 로직 (서울 기준 날짜로 반복)
-                            LocalDate dateIterator = startDate;
-                            while (!dateIterator.isAfter(endDate)) {
-                                if (dateIterator.getDayOfWeek() == payDayOfWeek) {
-                                    payDayCount++;
-                                }
-                                dateIterator = dateIterator.plusDays(1);
-                            }
-                        }
-                        estimatedMonthlyIncome = fixedRate * payDayCount;
-                        break;
-                    case SALARY_DAILY:
-                        estimatedMonthlyIncome = fixedRate * (int) daysWorked;
-                        break;
-                }
-            }
-        } else {
-            // --- 시급제 ---
-            estimatedMonthlyIncome = currentGrossSum;
-        }
-
-        long totalMinutesWorked = monthWorks.stream()
-                .filter(work -> work.getEndTime() != null)
-                .mapToLong(work -> Duration.between(work.getStartTime(), work.getEndTime()).toMinutes() - (work.getRestTimeMinutes() != null ? work.getRestTimeMinutes() : 0))
-                .sum();
-
-        long estimatedTotalHours = 0;
-        if (daysWorked > 0) {
-            estimatedTotalHours = totalMinutesWorked / 60;
-        }
-
         // 근무일 0일 처리
         if (daysWorked == 0) {
             // 업데이트 쿼리에도 정확한 Instant 범위 전달
@@ -262,15 +267,12 @@ public class SalaryCalculationService {
                     startZoned.toLocalDate(),
                     endZoned.toLocalDate()
             );
+            saveWorkerMonthSummary(workerId, startDate, monthWorks, 0);
+            salaryRecalculationMetrics.record(Operation.MONTH, startedAt, 0);
             return;
         }
 
-        int estimatedMonthlyDeduction = 0;
-        if (salaryInfo != null) {
-            DeductionDetails deductions = calculateDeductions(estimatedMonthlyIncome, estimatedTotalHours, salaryInfo);
-            estimatedMonthlyDeduction = deductions.totalDeductions();
-        }
-
+        int estimatedMonthlyDeduction = estimateMonthlyDeduction(monthWorks, salaryInfo, startDate, endDate);
         int estimatedDailyDeduction = (int) (estimatedMonthlyDeduction / (double) daysWorked);
 
         // 최종 업데이트: 여기도 정확한 Instant 범위 사용
@@ -280,6 +282,296 @@ public class SalaryCalculationService {
                 endZoned.toLocalDate(),
                 estimatedDailyDeduction
         );
+
+        // 같은 트랜잭션에서 홈 화면용 월간 급여 요약도 갱신합니다.
+        saveWorkerMonthSummary(workerId, startDate, monthWorks, estimatedMonthlyDeduction);
+        salaryRecalculationMetrics.record(Operation.MONTH, startedAt, monthWorks.size());
+    }
+
+    /// 특정 월의 근무 기록만 다시 집계하여 월간 급여 요약을 갱신합니다.
+    /// 일급을 재계산하지 않는 고정급 근무자의 근무가 변경되었을 때 사용합니다.
+    @Transactional
+    public void refreshWorkerMonthSummary(Long workerId, int year, int month, Salary salaryInfo) {
+        YearMonth targetMonth = YearMonth.of(year, month);
+        LocalDate startDate = targetMonth.atDay(1);
+        LocalDate endDate = targetMonth.atEndOfMonth();
+
+        List<Work> monthWorks = workRepository.findAllByWorkerIdAndDateRange(workerId, startDate, endDate);
+        int estimatedMonthlyDeduction = monthWorks.isEmpty() ? 0 : estimateMonthlyDeduction(monthWorks, salaryInfo, startDate, endDate);
+        saveWorkerMonthSummary(workerId, startDate, monthWorks, estimatedMonthlyDeduction);
+    }
+
+    /// 여러 근무자의 여러 월을 한 번의 조회로 묶어 '추정 세후 일급'과 월간 급여 요약을 재계산합니다.
+    /// 결과는 월마다 `recalculateEstimatedNetIncomeForMonth`(고정급 근무자는 `refreshWorkerMonthSummary`)를 호출한 것과 같으며,
+    /// 갱신은 근무자·월별 공제액 UPDATE와 월간 요약 UPSERT를 `BATCH_CHUNK_SIZE`건씩 묶어 실행합니다.
+    ///
+    /// @param yearMonthMap 근무자 ID → 재계산할 월 목록
+    /// @param salaryMap 근무자 ID → 급여 정보 (없으면 null)
+    @Transactional
+    public void recalculateMonthsForWorkers(Map<Long, ? extends Collection<YearMonth>> yearMonthMap, Map<Long, Salary> salaryMap) {
+        if (yearMonthMap.values().stream().allMatch(Collection::isEmpty)) { return; }
+
+        long startedAt = System.nanoTime();
+        YearMonth fromMonth = yearMonthMap.values().stream().flatMap(Collection::stream).min(YearMonth::compareTo).orElseThrow();
+        YearMonth toMonth = yearMonthMap.values().stream().flatMap(Collection::stream).max(YearMonth::compareTo).orElseThrow();
+
+        // 근무자 → 월 → 그 달의 근무
+        Map<Long, Map<YearMonth, List<Work>>> monthWorksMap = workRepository
+                .findAllByWorkerIdListInAndDateRange(new ArrayList<>(yearMonthMap.keySet()), fromMonth.atDay(1), toMonth.atEndOfMonth()).stream()
+                .collect(Collectors.groupingBy(Work::getWorkerId, Collectors.groupingBy(work -> YearMonth.from(work.getWorkDate()))));
+
+        List<WorkRepository.WorkerMonthlyDailyDeduction> dailyDeductionList = new ArrayList<>();
+        List<WorkerMonthSummary> monthSummaryList = new ArrayList<>();
+        int rowCount = 0;
+        for (Map.Entry<Long, ? extends Collection<YearMonth>> entry : yearMonthMap.entrySet()) {
+            Long workerId = entry.getKey();
+            Salary salary = salaryMap.get(workerId);
+            boolean isFixedSalary = salary != null && salary.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED;
+            Map<YearMonth, List<Work>> workerMonthWorksMap = monthWorksMap.getOrDefault(workerId, Map.of());
+
+            for (YearMonth yearMonth : entry.getValue()) {
+                List<Work> monthWorks = workerMonthWorksMap.getOrDefault(yearMonth, List.of());
+                int estimatedMonthlyDeduction = monthWorks.isEmpty() ? 0
+                        : estimateMonthlyDeduction(monthWorks, salary, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+                monthSummaryList.add(toWorkerMonthSummary(workerId, yearMonth.atDay(1), monthWorks, estimatedMonthlyDeduction));
+
+                // 근무가 없는 달은 갱신할 근무 행이 없음
+                if (!isFixedSalary && !monthWorks.isEmpty()) {
+                    int estimatedDailyDeduction = (int) (estimatedMonthlyDeduction / (double) monthWorks.size());
+                    dailyDeductionList.add(new WorkRepository.WorkerMonthlyDailyDeduction(workerId, yearMonth.atDay(1), estimatedDailyDeduction));
+                    rowCount += monthWorks.size();
+                }
+            }
+        }
+
+        for (int from = 0; from < dailyDeductionList.size(); from += BATCH_CHUNK_SIZE) {
+            workRepository.updateEstimatedNetIncomesByWorkerMonth(dailyDeductionList.subList(from, Math.min(from + BATCH_CHUNK_SIZE, dailyDeductionList.size())));
+        }
+        for (int from = 0; from < monthSummaryList.size(); from += BATCH_CHUNK_SIZE) {
+            workerMonthSummaryRepository.upsertBatch(monthSummaryList.subList(from, Math.min(from + BATCH_CHUNK_SIZE, monthSummaryList.size())));
+        }
+        salaryRecalculationMetrics.record(Operation.MONTH, startedAt, rowCount);
+    }
+
+    /// 근무자 ID 구간 (fromWorkerId, toWorkerId]에서 근무 기록은 있지만 월간 급여 요약 행이 없는 달(요약 테이블 도입 이전 데이터)의 요약을 생성합니다.
+    /// 공제액은 요약 갱신(`recalculateMonthsForWorkers`)과 같은 방식으로 추정하되 근무 행(추정 세후 일급)은 바꾸지 않으며,
+    /// 그 사이 재계산이 먼저 저장한 요약은 덮어쓰지 않습니다.
+    ///
+    /// @param fromWorkerId 구간 시작 근무자 ID (제외)
+    /// @param toWorkerId 구간 끝 근무자 ID (포함)
+    /// @return 생성한 요약 수
+    @Transactional
+    public int backfillWorkerMonthSummaries(long fromWorkerId, long toWorkerId) {
+        List<WorkerMonthSummaryRepository.WorkerMonth> missingWorkMonthList =
+                workerMonthSummaryRepository.findAllWorkMonthsWithoutSummaryByWorkerIdRange(fromWorkerId, toWorkerId);
+        if (missingWorkMonthList.isEmpty()) { return 0; }
+
+        List<Long> workerIdList = missingWorkMonthList.stream().map(WorkerMonthSummaryRepository.WorkerMonth::workerId).distinct().toList();
+        LocalDate fromMonth = missingWorkMonthList.stream().map(WorkerMonthSummaryRepository.WorkerMonth::workMonth).min(LocalDate::compareTo).orElseThrow();
+        LocalDate toMonth = missingWorkMonthList.stream().map(WorkerMonthSummaryRepository.WorkerMonth::workMonth).max(LocalDate::compareTo).orElseThrow();
+
+        Map<Long, Salary> salaryMap = salaryRepository.findAllByWorkerIdListIn(workerIdList).stream()
+                .collect(Collectors.toMap(Salary::getWorkerId, salary -> salary));
+        // 근무자 → 월 → 그 달의 근무
+        Map<Long, Map<LocalDate, List<Work>>> monthWorksMap = workRepository
+                .findAllByWorkerIdListInAndDateRange(workerIdList, fromMonth, YearMonth.from(toMonth).atEndOfMonth()).stream()
+                .collect(Collectors.groupingBy(Work::getWorkerId, Collectors.groupingBy(work -> work.getWorkDate().withDayOfMonth(1))));
+
+        List<WorkerMonthSummary> monthSummaryList = new ArrayList<>();
+        for (WorkerMonthSummaryRepository.WorkerMonth workerMonth : missingWorkMonthList) {
+            LocalDate workMonth = workerMonth.workMonth();
+            List<Work> monthWorks = monthWorksMap.getOrDefault(workerMonth.workerId(), Map.of()).getOrDefault(workMonth, List.of());
+            int estimatedMonthlyDeduction = monthWorks.isEmpty() ? 0
+                    : estimateMonthlyDeduction(monthWorks, salaryMap.get(workerMonth.workerId()), workMonth, YearMonth.from(workMonth).atEndOfMonth());
+            monthSummaryList.add(toWorkerMonthSummary(workerMonth.workerId(), workMonth, monthWorks, estimatedMonthlyDeduction));
+        }
+
+        for (int from = 0; from < monthSummaryList.size(); from += BATCH_CHUNK_SIZE) {
+            workerMonthSummaryRepository.createAllIfAbsent(monthSummaryList.subList(from, Math.min(from + BATCH_CHUNK_SIZE, monthSummaryList.size())));
+        }
+        return monthSummaryList.size();
+    }
+
+    /// 근무자의 급여 정보가 변경되었을 때, 기준일 이후의 모든 근무 급여를 집합 단위 SQL로 일괄 재계산합니다.
+    /// 시급, 기본급, 야간수당, 주휴수당, 세전 일급, 추정 세후 일급과 월간 급여 요약을 월 수와 관계없이 몇 개의 쿼리로 갱신하며,
+    /// 결과는 주/월 단위 재계산(`recalculateWorkWeek`)과 같습니다.
+    /// 새 시급은 기준일 이후 근무에만 적용하고, 기준일 이전 근무는 같은 주의 주휴수당만 다시 분배합니다.
+    ///
+    /// @param workerId 근무자 ID
+    /// @param fromDate 변경된 급여 정보의 적용일 (주휴수당과 월간 요약은 이 날짜가 포함된 주의 월요일부터 재계산)
+    /// @param oldSalary 변경 전 급여 정보 (없으면 null)
+    /// @param newSalary 변경 후 급여 정보
+    @Transactional
+    public void recalculateWorksForSalaryChange(Long workerId, LocalDate fromDate, Salary oldSalary, Salary newSalary) {
+        // 주휴수당은 주 단위로 계산되므로, 기준일이 포함된 주 전체부터 재계산합니다.
+        LocalDate fromWeekStartDate = fromDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate fromMonthStartDate = fromDate.withDayOfMonth(1);
+
+        // 1. 근무별 급여 (고정급은 일급을 재계산하지 않음)
+        if (newSalary.getSalaryCalculation() != SalaryCalculation.SALARY_CALCULATION_FIXED) {
+            int hourlyRate = (newSalary.getHourlyRate() != null) ? newSalary.getHourlyRate() : 0;
+            boolean hasNightAllowance = Boolean.TRUE.equals(newSalary.getHasNightAllowance());
+            boolean hasHolidayAllowance = Boolean.TRUE.equals(newSalary.getHasHolidayAllowance());
+
+            workRepository.updateHourlyRateAndPayFromDate(workerId, fromDate, hourlyRate, hasNightAllowance);
+
+            // 야간 근무시간(분)은 야간수당 적용 여부에 따라 달라지므로, 적용 여부가 바뀌면 근무 시간부터 다시 계산합니다.
+            // (고정급에서 시급제로 바뀐 경우도 저장된 근무 시간을 신뢰할 수 없으므로 동일하게 처리)
+            if (requiresWorkMinutesRecalculation(oldSalary, newSalary)) {
+                List<Work> updatedWorks = workRepository.findAllByWorkerIdFromDate(workerId, fromDate).stream()
+                        .filter(work -> work.getEndTime() != null)
+                        .map(work -> calculateDailyIncome(work, 0, hasNightAllowance))
+                        .toList();
+                if (!updatedWorks.isEmpty()) {
+                    workRepository.updateWorkWeekDetailsBatch(updatedWorks);
+                }
+            }
+
+            // 주휴수당은 주마다 첫 근무의 시급으로 계산 (기준일이 주 중간이면 그 주는 변경 전 시급, `calculateWeekDetails`와 동일)
+            workRepository.updateHolidayAllowancesFromDate(workerId, fromWeekStartDate, hasHolidayAllowance);
+
+            // 기준일이 포함된 주가 지난달에 걸치면 지난달 근무의 주휴수당도 바뀌므로 그 달의 합계부터 갱신합니다.
+            fromMonthStartDate = fromWeekStartDate.withDayOfMonth(1);
+        }
+
+        // 2. 월별 합계로 추정 공제액을 계산하여 '추정 세후 일급'과 월간 급여 요약을 갱신
+        // (기준일이 속한 달 이전의 공제액은 변경 전 급여 정보로 추정)
+        YearMonth effectiveMonth = YearMonth.from(fromDate);
+        List<WorkRepository.WorkMonthIncomeDto> monthIncomeList = workRepository.findMonthlyIncomeSumsFromDate(workerId, fromMonthStartDate);
+        if (monthIncomeList.isEmpty()) { return; }
+
+        List<WorkRepository.MonthlyDailyDeduction> dailyDeductionList = new ArrayList<>();
+        List<WorkerMonthSummary> monthSummaryList = new ArrayList<>();
+        for (WorkRepository.WorkMonthIncomeDto monthIncome : monthIncomeList) {
+            YearMonth targetMonth = YearMonth.of(monthIncome.year(), monthIncome.month());
+            Salary monthSalary = targetMonth.isBefore(effectiveMonth) ? oldSalary : newSalary;
+            int estimatedMonthlyDeduction = estimateMonthlyDeduction(monthIncome.grossIncome(), monthIncome.workCount(),
+                    monthIncome.elapsedWorkMinutes(), monthSalary, targetMonth.atDay(1), targetMonth.atEndOfMonth());
+            int estimatedDailyDeduction = (int) (estimatedMonthlyDeduction / (double) monthIncome.workCount());
+
+            dailyDeductionList.add(new WorkRepository.MonthlyDailyDeduction(monthIncome.year(), monthIncome.month(), estimatedDailyDeduction));
+            monthSummaryList.add(WorkerMonthSummary.builder()
+                    .workerId(workerId)
+                    .workMonth(targetMonth.atDay(1))
+                    .workCount(monthIncome.workCount())
+                    .netWorkMinutes(monthIncome.netWorkMinutes())
+                    .nightWorkMinutes(monthIncome.nightWorkMinutes())
+                    .restTimeMinutes(monthIncome.restTimeMinutes())
+                    .basePay(monthIncome.basePay())
+                    .nightAllowance(monthIncome.nightAllowance())
+                    .holidayAllowance(monthIncome.holidayAllowance())
+                    .grossIncome(monthIncome.grossIncome())
+                    .totalDeductions(estimatedMonthlyDeduction)
+                    .build());
+        }
+
+        workRepository.updateEstimatedNetIncomesByMonth(workerId, fromMonthStartDate, dailyDeductionList);
+        workerMonthSummaryRepository.upsertBatch(monthSummaryList);
+    }
+
+    /// 저장된 근무 시간(특히 야간 근무시간)을 급여 정보 변경 후에도 그대로 쓸 수 없는지 판단합니다.
+    private boolean requiresWorkMinutesRecalculation(Salary oldSalary, Salary newSalary) {
+        if (oldSalary == null || oldSalary.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED) { return true; }
+        return !Objects.equals(oldSalary.getHasNightAllowance(), newSalary.getHasNightAllowance());
+    }
+
+    /// 현재까지의 근무 기록을 바탕으로 해당 월의 예상 공제액을 추정합니다.
+    private int estimateMonthlyDeduction(List<Work> monthWorks, Salary salaryInfo, LocalDate startDate, LocalDate endDate) {
+        int currentGrossSum = monthWorks.stream()
+                .mapToInt(work -> work.getGrossIncome() != null ? work.getGrossIncome() : 0)
+                .sum();
+
+        long totalMinutesWorked = monthWorks.stream()
+                .filter(work -> work.getEndTime() != null)
+                .mapToLong(work -> WorkTimeCalculator.calculateElapsedMinutes(work.getStartTime(), work.getEndTime()) - (work.getRestTimeMinutes() != null ? work.getRestTimeMinutes() : 0))
+                .sum();
+
+        return estimateMonthlyDeduction(currentGrossSum, monthWorks.size(), totalMinutesWorked, salaryInfo, startDate, endDate);
+    }
+
+    /// 월간 합계(세전 일급 합계, 근무일 수, 휴게시간 제외 근무시간)를 바탕으로 해당 월의 예상 공제액을 추정합니다.
+    private int estimateMonthlyDeduction(int currentGrossSum, int daysWorked, long totalMinutesWorked,
+                                         Salary salaryInfo, LocalDate startDate, LocalDate endDate) {
+        if (salaryInfo == null) { return 0; }
+
+        // 현재까지의 근무 기록을 바탕으로 예상 월급을 추정합니다.
+        int estimatedMonthlyIncome = 0;
+
+        if (salaryInfo.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED) {
+            // --- 고정급제 ---
+            int fixedRate = (salaryInfo.getFixedRate() != null) ? salaryInfo.getFixedRate() : 0;
+            switch (salaryInfo.getSalaryType()) {
+                case SALARY_MONTHLY:
+                    estimatedMonthlyIncome = fixedRate;
+                    break;
+                case SALARY_WEEKLY:
+                    DayOfWeek payDayOfWeek = salaryInfo.getSalaryDay();
+                    int payDayCount = 0;
+                    if (payDayOfWeek != null) {
+                        // 주급 계산 로직 (서울 기준 날짜로 반복)
+                        LocalDate dateIterator = startDate;
+                        while (!dateIterator.isAfter(endDate)) {
+                            if (dateIterator.getDayOfWeek() == payDayOfWeek) {
+                                payDayCount++;
+                            }
+                            dateIterator = dateIterator.plusDays(1);
+                        }
+                    }
+                    estimatedMonthlyIncome = fixedRate * payDayCount;
+                    break;
+                case SALARY_DAILY:
+                    estimatedMonthlyIncome = fixedRate * daysWorked;
+                    break;
+            }
+        } else {
+            // --- 시급제 ---
+            estimatedMonthlyIncome = currentGrossSum;
+        }
+
+        long estimatedTotalHours = totalMinutesWorked / 60;
+
+        return calculateDeductions(estimatedMonthlyIncome, estimatedTotalHours, salaryInfo).totalDeductions();
+    }
+
+    /// 이미 로드된 월간 근무 기록을 합산하여 근무자의 월간 급여 요약을 저장합니다.
+    private void saveWorkerMonthSummary(Long workerId, LocalDate workMonth, List<Work> monthWorks, int totalDeductions) {
+        workerMonthSummaryRepository.upsert(toWorkerMonthSummary(workerId, workMonth, monthWorks, totalDeductions));
+    }
+
+    /// 이미 로드된 월간 근무 기록을 합산하여 근무자의 월간 급여 요약을 만듭니다.
+    private WorkerMonthSummary toWorkerMonthSummary(Long workerId, LocalDate workMonth, List<Work> monthWorks, int totalDeductions) {
+        int netWorkMinutes = 0;
+        int nightWorkMinutes = 0;
+        int restTimeMinutes = 0;
+        int basePay = 0;
+        int nightAllowance = 0;
+        int holidayAllowance = 0;
+        int grossIncome = 0;
+
+        // 7개 항목을 한 번의 순회로 합산합니다.
+        for (Work work : monthWorks) {
+            netWorkMinutes += work.getNetWorkMinutes() != null ? work.getNetWorkMinutes() : 0;
+            nightWorkMinutes += work.getNightWorkMinutes() != null ? work.getNightWorkMinutes() : 0;
+            restTimeMinutes += work.getRestTimeMinutes() != null ? work.getRestTimeMinutes() : 0;
+            basePay += work.getBasePay() != null ? work.getBasePay() : 0;
+            nightAllowance += work.getNightAllowance() != null ? work.getNightAllowance() : 0;
+            holidayAllowance += work.getHolidayAllowance() != null ? work.getHolidayAllowance() : 0;
+            grossIncome += work.getGrossIncome() != null ? work.getGrossIncome() : 0;
+        }
+
+        return WorkerMonthSummary.builder()
+                .workerId(workerId)
+                .workMonth(workMonth)
+                .workCount(monthWorks.size())
+                .netWorkMinutes(netWorkMinutes)
+                .nightWorkMinutes(nightWorkMinutes)
+                .restTimeMinutes(restTimeMinutes)
+                .basePay(basePay)
+                .nightAllowance(nightAllowance)
+                .holidayAllowance(holidayAllowance)
+                .grossIncome(grossIncome)
+                .totalDeductions(totalDeductions)
+                .build();
     }
 
     /// 보험 적용 대상인지 판단하는 헬퍼 메서드
@@ -310,10 +602,9 @@ public class SalaryCalculationService {
                 .stream()
                 .collect(Collectors.toMap(Salary::getWorkerId, s -> s));
 
-        // [쿼리 2] 모든 Work 정보
-        Map<Long, List<Work>> workMap = workRepository.findAllByWorkerIdListInAndDateRange(workerIdList, startDate, endDate)
-                .stream()
-                .collect(Collectors.groupingBy(Work::getWorkerId));
+        // [쿼리 2] 모든 월간 급여 요약 정보 (근무 기록 대신 근무자당 1행, 요약 행이 없으면 만들어 저장)
+        Map<Long, WorkerMonthSummary> monthSummaryMap = findWorkerMonthSummaryMap(workerIdList, startDate);
+        computeMissingWorkerMonthSummaries(monthSummaryMap, salaryMap, targetMonth);
 
         // [쿼리 3] 모든 Workplace 정보
         List<Long> workplaceIdList = userWorkerList.stream().map(Worker::getWorkplaceId).distinct().toList();
@@ -330,8 +621,8 @@ public class SalaryCalculationService {
             Salary salaryInfo = salaryMap.get(workerId);
             if (salaryInfo == null) { continue; }
 
-            // [필터 2] 해당 월에 근무 기록
-            List<Work> workList = workMap.getOrDefault(workerId, Collections.emptyList());
+            // [필터 2] 해당 월의 급여 요약
+            WorkerMonthSummary monthSummary = monthSummaryMap.getOrDefault(workerId, emptyWorkerMonthSummary(workerId, startDate));
 
             // [필터 3] 근무지 정보 조회
             Workplace workplace = workplaceMap.get(worker.getWorkplaceId());
@@ -346,31 +637,14 @@ public class SalaryCalculationService {
                     .isNowWorking(worker.getIsNowWorking())
                     .build();
 
-            // 4. 시간 및 수당 계산 (DB에 저장된 값을 합산)
-            // 이 값들은 DTO 표시용으로 '고정급' 여부와 관계없이 항상 계산합니다.
-            long totalWorkMinutes = workList.stream() // 순 근무시간 합계
-                    .mapToLong(work -> work.getNetWorkMinutes() != null ? work.getNetWorkMinutes() : 0)
-                    .sum();
-
-            long totalNightMinutes = workList.stream() // 야간 근무 시간(분) 합계
-                    .mapToLong(work -> work.getNightWorkMinutes() != null ? work.getNightWorkMinutes() : 0)
-                    .sum();
-
-            long totalRestTimeMinutes = workList.stream() // 휴게 시간(분) 합계
-                    .mapToLong(work -> work.getRestTimeMinutes() != null ? work.getRestTimeMinutes() : 0)
-                    .sum();
-
-            int totalHolidayAllowance = workList.stream() // 주휴수당(원) 합계
-                    .mapToInt(work -> work.getHolidayAllowance() != null ? work.getHolidayAllowance() : 0)
-                    .sum();
-
-            int dayTimeIncome = workList.stream() // --- 총 주간 근무 급여 (기본급) 합계 ---
-                    .mapToInt(work -> work.getBasePay() != null ? work.getBasePay() : 0)
-                    .sum();
-
-            int totalNightAllowance = workList.stream() // --- 야간수당(원) 합계 계산 ---
-                    .mapToInt(work -> work.getNightAllowance() != null ? work.getNightAllowance() : 0)
-                    .sum();
+            // 4. 시간 및 수당 (월간 급여 요약에 저장된 합계)
+            // 이 값들은 DTO 표시용으로 '고정급' 여부와 관계없이 항상 사용합니다.
+            long totalWorkMinutes = monthSummary.getNetWorkMinutes(); // 순 근무시간 합계
+            long totalNightMinutes = monthSummary.getNightWorkMinutes(); // 야간 근무 시간(분) 합계
+            long totalRestTimeMinutes = monthSummary.getRestTimeMinutes(); // 휴게 시간(분) 합계
+            int totalHolidayAllowance = monthSummary.getHolidayAllowance(); // 주휴수당(원) 합계
+            int dayTimeIncome = monthSummary.getBasePay(); // --- 총 주간 근무 급여 (기본급) 합계 ---
+            int totalNightAllowance = monthSummary.getNightAllowance(); // --- 야간수당(원) 합계 ---
 
 
             // 4-1. 급여 계산 방식(SalaryCalculation)에 따른 세전 총 소득(grossIncome) 계산
@@ -379,8 +653,8 @@ public class SalaryCalculationService {
 
             if (salaryInfo.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED) {
                 // --- 고정급제 ---
-                // 고정급이라도 근무 기록(workList)이 없으면 0원
-                if (workList.isEmpty()) {
+                // 고정급이라도 근무 기록이 없으면 0원
+                if (monthSummary.getWorkCount() == 0) {
                     grossIncome = 0;
                 } else {
                     switch (salaryInfo.getSalaryType()) {
@@ -404,17 +678,15 @@ public class SalaryCalculationService {
                             grossIncome = fixedRate * payDayCount;
                             break;
                         case SALARY_DAILY:
-                            // 일급: 고정급(fixedRate) * 해당 월의 근무일 수 (이미 workList.size() 기반)
-                            grossIncome = fixedRate * workList.size();
+                            // 일급: 고정급(fixedRate) * 해당 월의 근무일 수
+                            grossIncome = fixedRate * monthSummary.getWorkCount();
                             break;
                     }
                 }
             } else {
                 // --- 시급제 (SALARY_CALCULATION_HOURLY) ---
-                // Work 레코드에 기록된 모든 세전 일급(grossIncome)을 합산
-                grossIncome = workList.stream()
-                        .mapToInt(work -> work.getGrossIncome() != null ? work.getGrossIncome() : 0)
-                        .sum();
+                // Work 레코드에 기록된 모든 세전 일급(grossIncome)의 합계
+                grossIncome = monthSummary.getGrossIncome();
             }
 
             long totalWorkHours = totalWorkMinutes / 60;
@@ -501,7 +773,8 @@ public class SalaryCalculationService {
     }
 
     /// 사장님이 소유한 모든 사업장의 근무자 급여를 계산하고 저장합니다. (사장님 전용)
-    @Transactional(readOnly = true)
+    /// 서로 독립적인 조회를 동시에 실행(`ReadFanout`)하므로 트랜잭션(스냅샷)을 사용하지 않습니다.
+    /// 조회 사이에 근무자가 바뀌어 급여 정보나 요약이 없으면 그 근무자는 제외하고, 사용자가 없으면 '탈퇴한 근무자'로 표시합니다.
     public List<OwnerMonthlyWorkplaceSummaryResponse> getOwnerMonthlyWorkplaceSummaryList(Long userId, int year, int month) {
 
         // 1. [쿼리 1] 해당 사용자가 소유한 모든 근무지를 조회합니다. (WorkplaceRepository 사용)
@@ -518,24 +791,29 @@ public class SalaryCalculationService {
         List<Long> allWorkerIdList = allWorkerListInWorkplaces.stream().map(Worker::getId).toList();
         List<Long> allUserIdList = allWorkerListInWorkplaces.stream().map(Worker::getUserId).distinct().toList();
 
-        // 3. [쿼리 3] DTO에 필요한 nickname을 위해 User를 조회합니다. (UserRepository 사용)
-        Map<Long, User> userMap = userRepository.findAllByIdListIn(allUserIdList)
-                .stream()
-                .collect(Collectors.toMap(User::getId, user -> user));
-
-        // 4. [쿼리 4] 모든 근무자의 급여 정보를 한 번에 조회 (SalaryRepository 사용)
-        Map<Long, Salary> salaryMap = salaryRepository.findAllByWorkerIdListIn(allWorkerIdList)
-                .stream()
-                .collect(Collectors.toMap(Salary::getWorkerId, salary -> salary));
-
-        // 5. [쿼리 5] 해당 월의 모든 근무 기록을 한 번에 조회 (WorkRepository 사용)
         YearMonth targetMonth = YearMonth.of(year, month);
         LocalDate startDate = targetMonth.atDay(1);
         LocalDate endDate = targetMonth.atEndOfMonth();
 
-        Map<Long, List<Work>> workListByWorkerId = workRepository.findAllByWorkerIdListInAndDateRange(allWorkerIdList, startDate, endDate)
-                .stream()
-                .collect(Collectors.groupingBy(Work::getWorkerId));
+        // 3 ~ 5. [쿼리 3 ~ 5] 서로 독립적인 조회를 동시에 실행
+        Map<Long, User> userMap;
+        Map<Long, Salary> salaryMap;
+        Map<Long, WorkerMonthSummary> monthSummaryMap;
+        try (ReadFanout.Scope scope = readFanout.open()) {
+            // [쿼리 3] DTO에 필요한 nickname을 위해 User를 조회합니다. (UserRepository 사용)
+            Supplier<List<User>> userListResult = scope.fork(() -> userRepository.findAllByIdListIn(allUserIdList));
+            // [쿼리 4] 모든 근무자의 급여 정보를 한 번에 조회 (SalaryRepository 사용)
+            Supplier<List<Salary>> salaryListResult = scope.fork(() -> salaryRepository.findAllByWorkerIdListIn(allWorkerIdList));
+            // [쿼리 5] 해당 월의 모든 월간 급여 요약을 한 번에 조회 (근무 기록 대신 근무자당 1행)
+            Supplier<Map<Long, WorkerMonthSummary>> monthSummaryResult = scope.fork(() -> findWorkerMonthSummaryMap(allWorkerIdList, startDate));
+            scope.join();
+
+            userMap = userListResult.get().stream().collect(Collectors.toMap(User::getId, user -> user));
+            salaryMap = salaryListResult.get().stream().collect(Collectors.toMap(Salary::getWorkerId, salary -> salary));
+            monthSummaryMap = monthSummaryResult.get();
+        }
+        // 요약 행이 없는 근무자는 근무 기록으로 요약을 계산 (급여 정보가 필요하므로 동시 조회 이후 실행)
+        computeMissingWorkerMonthSummaries(monthSummaryMap, salaryMap, targetMonth);
 
         // 6. [In-Memory] 메모리에 로드된 데이터로 DTO 조립
         List<OwnerMonthlyWorkplaceSummaryResponse> summaryResponseList = new ArrayList<>();
@@ -558,7 +836,7 @@ public class SalaryCalculationService {
             for (Worker worker : workersInThisWorkplace) {
                 Long workerId = worker.getId();
 
-                List<Work> workerWorkList = workListByWorkerId.getOrDefault(workerId, Collections.emptyList());
+                WorkerMonthSummary monthSummary = monthSummaryMap.get(workerId);
 
                 Salary salaryInfo = salaryMap.get(workerId);
                 // Rule 3: 사장님처럼 급여 정보가 없는 근무자는 제외
@@ -567,17 +845,15 @@ public class SalaryCalculationService {
                 }
 
                 // Rule 2: 근무 기록이 있는 모든 근무자에 대한 정보를 보여줘야 함
-                // 따라서 근무 기록(workerWorkList)이 0건이면 제외
-                if (workerWorkList.isEmpty()) {
+                // 따라서 근무 기록이 0건이면 제외
+                if (monthSummary == null || monthSummary.getWorkCount() == 0) {
                     continue;
                 }
 
                 // --- 급여 계산 ---
 
-                // 1. 근무 시간/분 합산 (표시용)
-                long totalNetWorkMinutes = workerWorkList.stream()
-                        .mapToLong(work -> work.getNetWorkMinutes() != null ? work.getNetWorkMinutes() : 0)
-                        .sum();
+                // 1. 근무 시간/분 합계 (표시용)
+                long totalNetWorkMinutes = monthSummary.getNetWorkMinutes();
 
                 long totalWorkHours = totalNetWorkMinutes / 60;
 
@@ -587,7 +863,7 @@ public class SalaryCalculationService {
 
                 if (salaryInfo.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED) {
                     // --- 고정급제 ---
-                    // workerWorkList.isEmpty() 확인은 이미 위에서(continue) 처리되었으므로
+                    // 근무 기록 0건 확인은 이미 위에서(continue) 처리되었으므로
                     // 불필요한 if-else 문을 제거하고 switch문만 남깁니다.
                     switch (salaryInfo.getSalaryType()) {
                         case SALARY_MONTHLY:
@@ -611,15 +887,13 @@ public class SalaryCalculationService {
                             break;
                         case SALARY_DAILY:
                             // 일급: 고정급(fixedRate) * 해당 월의 근무일 수
-                            grossMonthlyIncome = fixedRate * workerWorkList.size();
+                            grossMonthlyIncome = fixedRate * monthSummary.getWorkCount();
                             break;
                     }
                 } else {
                     // --- 시급제 (SALARY_CALCULATION_HOURLY) ---
-                    // Work 레코드에 기록된 모든 세전 일급(grossIncome)을 합산
-                    grossMonthlyIncome = workerWorkList.stream()
-                            .mapToInt(work -> work.getGrossIncome() != null ? work.getGrossIncome() : 0)
-                            .sum();
+                    // Work 레코드에 기록된 모든 세전 일급(grossIncome)의 합계
+                    grossMonthlyIncome = monthSummary.getGrossIncome();
                 }
 
                 DeductionDetails deductions = calculateDeductions(grossMonthlyIncome, totalWorkHours, salaryInfo);
@@ -650,6 +924,53 @@ public class SalaryCalculationService {
         return summaryResponseList;
     }
 
+    /// 여러 근무자의 특정 월 급여 요약을 근무자 ID별로 조회합니다. (요약 행이 없는 근무자는 제외)
+    private Map<Long, WorkerMonthSummary> findWorkerMonthSummaryMap(List<Long> workerIdList, LocalDate workMonth) {
+        return workerMonthSummaryRepository.findAllByWorkerIdListInAndWorkMonth(workerIdList, workMonth)
+                .stream()
+                .collect(Collectors.toMap(WorkerMonthSummary::getWorkerId, summary -> summary, (first, second) -> first, HashMap::new));
+    }
+
+    /// 요약 행이 아직 없는 근무자(백필 전 데이터)의 월간 급여 요약을 근무 기록으로 계산해 `monthSummaryMap`에 채웁니다.
+    /// 공제액은 요약 갱신(`recalculateMonthsForWorkers`)과 같은 방식으로 추정하며, 조회 요청이므로 계산한 요약은 저장하지 않습니다.
+    /// (요약 행은 `WorkerMonthSummaryBackfillService`가 시작 시점에 채움)
+    /// 급여 정보가 없는 근무자(사장님)는 급여 조회 결과에서 제외되므로 만들지 않습니다.
+    private void computeMissingWorkerMonthSummaries(Map<Long, WorkerMonthSummary> monthSummaryMap, Map<Long, Salary> salaryMap, YearMonth targetMonth) {
+        List<Long> missingWorkerIdList = salaryMap.keySet().stream()
+                .filter(workerId -> !monthSummaryMap.containsKey(workerId))
+                .toList();
+        if (missingWorkerIdList.isEmpty()) { return; }
+
+        LocalDate startDate = targetMonth.atDay(1);
+        LocalDate endDate = targetMonth.atEndOfMonth();
+        Map<Long, List<Work>> monthWorksMap = workRepository.findAllByWorkerIdListInAndDateRange(missingWorkerIdList, startDate, endDate).stream()
+                .collect(Collectors.groupingBy(Work::getWorkerId));
+
+        for (Long workerId : missingWorkerIdList) {
+            List<Work> monthWorks = monthWorksMap.getOrDefault(workerId, List.of());
+            int estimatedMonthlyDeduction = monthWorks.isEmpty() ? 0
+                    : estimateMonthlyDeduction(monthWorks, salaryMap.get(workerId), startDate, endDate);
+            monthSummaryMap.put(workerId, toWorkerMonthSummary(workerId, startDate, monthWorks, estimatedMonthlyDeduction));
+        }
+    }
+
+    /// 근무 기록이 없는 달의 빈 급여 요약을 생성합니다.
+    private WorkerMonthSummary emptyWorkerMonthSummary(Long workerId, LocalDate workMonth) {
+        return WorkerMonthSummary.builder()
+                .workerId(workerId)
+                .workMonth(workMonth)
+                .workCount(0)
+                .netWorkMinutes(0)
+                .nightWorkMinutes(0)
+                .restTimeMinutes(0)
+                .basePay(0)
+                .nightAllowance(0)
+                .holidayAllowance(0)
+                .grossIncome(0)
+                .totalDeductions(0)
+                .build();
+    }
+
     /// 세전소득, 근무시간, 급여정보를 바탕으로 모든 공제액과 세후소득을 계산합니다.
     private DeductionDetails calculateDeductions(int grossIncome, long totalWorkHours, Salary salaryInfo) {
         int nationalPension = 0;
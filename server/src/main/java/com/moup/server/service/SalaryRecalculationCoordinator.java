@@ -0,0 +1,153 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.Salary;
+import com.moup.server.model.enums.SalaryCalculation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// 한 트랜잭션 안에서 변경된 근무의 (근무자, 주) / (근무자, 월) 키를 모아 중복을 제거하고,
+/// 커밋 직전에 주 단위 일급 재계산과 월 단위 '추정 세후 일급' 재계산을 키마다 정확히 한 번씩 실행하는 서비스
+///
+/// 반복 근무 생성처럼 같은 주/월이 여러 번 변경되는 요청에서, 매번 재계산하지 않고 마지막에 한 번만 재계산합니다.
+/// 모인 키는 근무자와 관계없이 주 단위 조회 한 번, 월 단위 조회 한 번으로 묶어 재계산합니다. (여러 근무자 일괄 근무 생성 등)
+/// 활성 트랜잭션이 없으면 즉시 재계산합니다.
+/// 재계산으로 근무가 바뀌는 월은 `CalendarVersionStore`에 변경으로 기록합니다. (캘린더 조회 ETag 갱신)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalaryRecalculationCoordinator {
+
+    private final SalaryCalculationService salaryCalculationService;
+    private final CalendarVersionStore calendarVersionStore;
+
+    /// 재계산 대상 주 키 (주의 시작일은 항상 월요일)
+    private record WeekKey(Long workerId, LocalDate weekStartDate) {}
+
+    /// 재계산 대상 월 키
+    private record MonthKey(Long workerId, YearMonth yearMonth) {}
+
+    /// 트랜잭션에 바인딩되는 재계산 대기열
+    private static final class PendingRecalculation {
+        private final Set<WeekKey> weeks = new LinkedHashSet<>();
+        private final Set<MonthKey> months = new LinkedHashSet<>();
+        private final Map<Long, Salary> salaryMap = new HashMap<>();
+    }
+
+    /// 특정 날짜가 포함된 주(및 해당 날짜의 월)를 재계산 대상으로 등록합니다.
+    /// `SalaryCalculationService.recalculateWorkWeek`와 같은 결과를 커밋 직전에 한 번만 반영합니다.
+    ///
+    /// @param workerId 근무자 ID
+    /// @param date 변경된 근무 날짜
+    /// @param salary 근무자의 급여 정보 (없으면 null)
+    public void markWorkWeekDirty(Long workerId, LocalDate date, Salary salary) {
+        // 주가 두 달에 걸쳐 있으면 주 단위 재계산으로 두 달의 근무가 모두 바뀔 수 있음
+        LocalDate weekStartDate = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        calendarVersionStore.markWorkMonthChanged(workerId, YearMonth.from(weekStartDate));
+        calendarVersionStore.markWorkMonthChanged(workerId, YearMonth.from(weekStartDate.plusDays(6)));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            salaryCalculationService.recalculateWorkWeek(workerId, date, salary);
+            return;
+        }
+
+        PendingRecalculation pending = getOrBindPendingRecalculation();
+        pending.salaryMap.put(workerId, salary);
+        pending.weeks.add(new WeekKey(workerId, weekStartDate));
+        pending.months.add(new MonthKey(workerId, YearMonth.from(date)));
+    }
+
+    /// 특정 월만 재계산 대상으로 등록합니다. (주 단위 일급 재계산 없이 월 단위 '추정 세후 일급'과 월간 급여 요약만 갱신)
+    ///
+    /// @param workerId 근무자 ID
+    /// @param yearMonth 근무가 변경된 월
+    /// @param salary 근무자의 급여 정보 (없으면 null)
+    public void markWorkMonthDirty(Long workerId, YearMonth yearMonth, Salary salary) {
+        calendarVersionStore.markWorkMonthChanged(workerId, yearMonth);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recalculateMonth(new MonthKey(workerId, yearMonth), salary);
+            return;
+        }
+
+        PendingRecalculation pending = getOrBindPendingRecalculation();
+        pending.salaryMap.put(workerId, salary);
+        pending.months.add(new MonthKey(workerId, yearMonth));
+    }
+
+    /// 현재 트랜잭션에 바인딩된 재계산 대기열을 반환하고, 없으면 새로 만들어 커밋 직전 실행을 예약합니다.
+    private PendingRecalculation getOrBindPendingRecalculation() {
+        PendingRecalculation pending = (PendingRecalculation) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) { return pending; }
+
+        PendingRecalculation newPending = new PendingRecalculation();
+        TransactionSynchronizationManager.bindResource(this, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                // MyBatis SqlSession 동기화(커넥션 정리)보다 먼저 실행되어야 합니다.
+                return DataSourceUtils.CONNECTION_SYNCHRONIZATION_ORDER - 100;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                recalculatePending(newPending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SalaryRecalculationCoordinator.this);
+            }
+        });
+        return newPending;
+    }
+
+    /// 모아 둔 주/월 키를 한 번씩 재계산합니다. (주 단위 일급 → 월 단위 추정 세후 일급 및 월간 급여 요약 순서)
+    /// 고정급 근무자는 `SalaryCalculationService`가 일급 재계산을 건너뛰고 월간 요약만 갱신합니다.
+    private void recalculatePending(PendingRecalculation pending) {
+        Map<Long, List<LocalDate>> weekStartDateMap = new LinkedHashMap<>();
+        for (WeekKey week : pending.weeks) {
+            weekStartDateMap.computeIfAbsent(week.workerId(), workerId -> new ArrayList<>()).add(week.weekStartDate());
+        }
+        Map<Long, List<YearMonth>> yearMonthMap = new LinkedHashMap<>();
+        for (MonthKey month : pending.months) {
+            yearMonthMap.computeIfAbsent(month.workerId(), workerId -> new ArrayList<>()).add(month.yearMonth());
+        }
+
+        salaryCalculationService.recalculateWorkWeekDetailsForWorkers(weekStartDateMap, pending.salaryMap);
+        salaryCalculationService.recalculateMonthsForWorkers(yearMonthMap, pending.salaryMap);
+
+        log.debug("Coalesced salary recalculation: {} weeks, {} months", pending.weeks.size(), pending.months.size());
+    }
+
+    /// 월 단위 재계산을 실행합니다. 고정급 근무자는 추정 세후 일급 대신 월간 급여 요약만 갱신합니다.
+    private void recalculateMonth(MonthKey month, Salary salary) {
+        int year = month.yearMonth().getYear();
+        int monthValue = month.yearMonth().getMonthValue();
+        if (isFixedSalary(salary)) {
+            salaryCalculationService.refreshWorkerMonthSummary(month.workerId(), year, monthValue, salary);
+        } else {
+            salaryCalculationService.recalculateEstimatedNetIncomeForMonth(month.workerId(), year, monthValue, salary);
+        }
+    }
+
+    /// 고정급 근무자는 일급/추정 세후 일급을 재계산하지 않습니다.
+    private boolean isFixedSalary(Salary salary) {
+        return salary != null && salary.getSalaryCalculation() == SalaryCalculation.SALARY_CALCULATION_FIXED;
+    }
+}
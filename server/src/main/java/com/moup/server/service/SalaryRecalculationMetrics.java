@@ -0,0 +1,82 @@
+package com.moup.server.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// 급여 재계산의 소요 시간, 변경한 근무 행 수, HTTP 요청당 호출 횟수를 기록하는 컴포넌트
+///
+/// - `salary.recalculation` (Timer), `salary.recalculation.rows` (DistributionSummary)
+/// - `salary.recalculation.calls.per.request` (DistributionSummary): 요청이 끝날 때 그 요청에서 실행된 횟수를 한 번 기록 (재계산이 없던 요청은 기록하지 않음)
+///
+/// `operation` 태그: `week`(주 단위 일급 재계산), `month`(월 단위 추정 세후 일급 재계산)
+/// `SalaryCalculationService.recalculateWorkWeek`는 `week`와 `month`를 한 번씩 기록합니다.
+@Component
+public class SalaryRecalculationMetrics {
+    private static final String ATTRIBUTE_PREFIX = SalaryRecalculationMetrics.class.getName() + ".";
+
+    public enum Operation {
+        WEEK, MONTH;
+
+        private String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+    private final Map<Operation, DistributionSummary> rows = new EnumMap<>(Operation.class);
+    private final Map<Operation, DistributionSummary> callsPerRequest = new EnumMap<>(Operation.class);
+
+    public SalaryRecalculationMetrics(MeterRegistry meterRegistry) {
+        for (Operation operation : Operation.values()) {
+            timers.put(operation, Timer.builder("salary.recalculation")
+                    .description("Salary recalculation time")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry));
+            rows.put(operation, DistributionSummary.builder("salary.recalculation.rows")
+                    .description("Works read and rewritten per salary recalculation")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry));
+            callsPerRequest.put(operation, DistributionSummary.builder("salary.recalculation.calls.per.request")
+                    .description("Salary recalculations executed in one HTTP request")
+                    .tag("operation", operation.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    /// 재계산 한 번을 기록합니다.
+    ///
+    /// @param operation 재계산 종류
+    /// @param startedAtNanos 재계산 시작 시각 (`System.nanoTime()`)
+    /// @param rowCount 재계산한 근무 행 수
+    public void record(Operation operation, long startedAtNanos, int rowCount) {
+        timers.get(operation).record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+        rows.get(operation).record(rowCount);
+        countInRequest(operation);
+    }
+
+    /// 요청 범위 카운터를 1 증가시키고, 요청의 첫 호출이면 요청 종료 시 횟수를 기록하도록 예약합니다. (요청 밖에서는 무시)
+    private void countInRequest(Operation operation) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) { return; }
+
+        String attributeName = ATTRIBUTE_PREFIX + operation.name();
+        AtomicInteger count = (AtomicInteger) attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (count == null) {
+            AtomicInteger newCount = new AtomicInteger();
+            attributes.setAttribute(attributeName, newCount, RequestAttributes.SCOPE_REQUEST);
+            attributes.registerDestructionCallback(attributeName,
+                    () -> callsPerRequest.get(operation).record(newCount.get()), RequestAttributes.SCOPE_REQUEST);
+            count = newCount;
+        }
+        count.incrementAndGet();
+    }
+}
@@ -0,0 +1,148 @@
+package com.moup.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moup.server.common.Login;
+import com.moup.server.common.Role;
+import com.moup.server.model.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import com.moup.server.util.BoundedExpiringCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/// 인증 필터에서 사용하는 사용자 정보(Principal) 캐시
+///
+/// 1차 캐시는 인스턴스 내부의 `BoundedExpiringCache`(최대 개수 + TTL), 2차 캐시는 Redis(`user:principal:{userId}`)입니다.
+/// 두 캐시 모두 없을 때만 호출자가 DB를 조회하고 `put`으로 채웁니다.
+/// 사용자 정보가 변경되면 `evict`를 호출해야 하며, 트랜잭션 안에서는 커밋 후에 한 번 더 삭제합니다.
+/// Redis 장애 시에는 경고만 남기고 DB 조회로 넘어갑니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserPrincipalCache {
+
+    private static final String PRINCIPAL_KEY_PREFIX = "user:principal:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${principal.cache.local.max-size:10000}")
+    private int localMaxSize;
+
+    /// 1차 캐시 TTL (ms). 다른 인스턴스에서 발생한 변경은 최대 이 시간만큼 늦게 반영됩니다.
+    @Value("${principal.cache.local.ttl:30000}")
+    private long localTtl;
+
+    /// 2차 캐시(Redis) TTL (ms)
+    @Value("${principal.cache.redis.ttl:600000}")
+    private long redisTtl;
+
+    /// Redis와 1차 캐시에 저장되는 사용자 정보 (`CustomUserDetails`와 컨트롤러에서 사용하는 필드만 보관, FCM 토큰 제외)
+    record CachedPrincipal(Long id, Login provider, String providerId, String username, String nickname, Role role,
+                           String profileImg, String createdAt, String deletedAt, boolean deleted) {
+
+        static CachedPrincipal from(User user) {
+            return new CachedPrincipal(user.getId(), user.getProvider(), user.getProviderId(), user.getUsername(),
+                    user.getNickname(), user.getRole(), user.getProfileImg(), user.getCreatedAt(), user.getDeletedAt(),
+                    user.isDeleted());
+        }
+
+        User toUser() {
+            return User.builder()
+                    .id(id)
+                    .provider(provider)
+                    .providerId(providerId)
+                    .username(username)
+                    .nickname(nickname)
+                    .role(role)
+                    .profileImg(profileImg)
+                    .createdAt(createdAt)
+                    .deletedAt(deletedAt)
+                    .isDeleted(deleted)
+                    .build();
+        }
+    }
+
+    /// 사용자 ID → 사용자 정보 (인증 필터가 모든 요청에서 조회하므로 전역 잠금 없는 캐시 사용)
+    private final BoundedExpiringCache<Long, CachedPrincipal> localCache = new BoundedExpiringCache<>(() -> localMaxSize);
+
+    /// 캐시된 사용자 정보를 조회합니다. (1차 캐시 → Redis 순서, Redis 적중 시 1차 캐시를 채움)
+    ///
+    /// @param userId 사용자 ID
+    /// @return 캐시된 사용자, 없으면 `Optional.empty()`
+    public Optional<User> get(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal localPrincipal = localCache.get(userId, now);
+        if (localPrincipal != null) { return Optional.of(localPrincipal.toUser()); }
+
+        CachedPrincipal principal = getFromRedis(userId);
+        if (principal == null) { return Optional.empty(); }
+
+        putLocal(principal, now);
+        return Optional.of(principal.toUser());
+    }
+
+    /// DB에서 조회한 사용자 정보를 두 캐시에 저장합니다.
+    ///
+    /// @param user DB에서 조회한 사용자
+    public void put(User user) {
+        CachedPrincipal principal = CachedPrincipal.from(user);
+        putLocal(principal, System.currentTimeMillis());
+
+        try {
+            String value = objectMapper.writeValueAsString(principal);
+            stringRedisTemplate.opsForValue().set(PRINCIPAL_KEY_PREFIX + user.getId(), value, redisTtl, TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to cache principal for user: {}. Error: {}", user.getId(), e.getMessage());
+        }
+    }
+
+    /// 사용자 정보가 변경되었을 때 두 캐시에서 삭제합니다.
+    /// 트랜잭션 안에서 호출되면, 커밋 전 다른 요청이 이전 값을 다시 캐시하는 경우에 대비해 커밋 후에도 한 번 더 삭제합니다.
+    ///
+    /// @param userId 사용자 ID
+    public void evict(Long userId) {
+        evictNow(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId) {
+        localCache.remove(userId);
+
+        try {
+            stringRedisTemplate.delete(PRINCIPAL_KEY_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict cached principal for user: {}. Error: {}", userId, e.getMessage());
+        }
+    }
+
+    private void putLocal(CachedPrincipal principal, long now) {
+        localCache.put(principal.id(), principal, now + localTtl);
+    }
+
+    private CachedPrincipal getFromRedis(Long userId) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(PRINCIPAL_KEY_PREFIX + userId);
+            return value == null ? null : objectMapper.readValue(value, CachedPrincipal.class);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to read cached principal for user: {}. Error: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -41,16 +41,20 @@ public class UserService {
   private final UserTokenService userTokenService;
 
   private final UserRepository userRepository;
+  private final UserPrincipalCache userPrincipalCache;
+  private final CalendarVersionStore calendarVersionStore;
 
   private final NameVerifyUtil nameVerifyUtil;
   private final JwtUtil jwtUtil;
   private final FCMTokenService fcmTokenService;
+  private final AlarmService alarmService;
 
   @Transactional
   public LoginResponse startCreateUser(UserCreateRequest userCreateRequest) {
     try {
       userRepository.create(userCreateRequest);
       Long userId = userCreateRequest.getUserId();
+      alarmService.initializeAnnouncementState(userId);
 
       // 1. 토큰 관리
       // 1-1. 소셜 토큰 관리
@@ -97,6 +101,7 @@ public class UserService {
 
     userRepository.updateById(userId, userRegisterRequest.getNickname(),
         userRegisterRequest.getRole());
+    userPrincipalCache.evict(userId);
     return RegisterResponse.builder()
         .role(userRegisterRequest.getRole())
         .build();
@@ -134,6 +139,8 @@ public class UserService {
     try {
       String imageUrl = s3Service.saveFile(profileImage);
       userRepository.updateProfileImg(userId, imageUrl);
+      userPrincipalCache.evict(userId);
+      calendarVersionStore.markUserChanged(userId);
 
       return UserProfileImageResponse.builder().userId(userId).imageUrl(imageUrl).build();
     } catch (IOException | NoSuchAlgorithmException e) {
@@ -150,6 +157,8 @@ public class UserService {
     }
 
     userRepository.softDeleteUserById(userId);
+    userPrincipalCache.evict(userId);
+    calendarVersionStore.markUserChanged(userId);
 
     return UserDeleteResponse.builder()
         .userId(user.getId())
@@ -161,6 +170,8 @@ public class UserService {
   @Transactional
   public void deleteUserHardlyByUserId(Long userId) {
     userRepository.hardDeleteUserById(userId);
+    userPrincipalCache.evict(userId);
+    calendarVersionStore.markUserChanged(userId);
   }
 
   @Transactional
@@ -171,6 +182,8 @@ public class UserService {
     }
 
     userRepository.undeleteUserById(userId);
+    userPrincipalCache.evict(userId);
+    calendarVersionStore.markUserChanged(userId);
   }
 
   @Transactional
@@ -182,6 +195,8 @@ public class UserService {
 
         nameVerifyUtil.verifyNickname(nickname);
         userRepository.updateNicknameById(userId, nickname);
+        userPrincipalCache.evict(userId);
+        calendarVersionStore.markUserChanged(userId);
 
     return UserUpdateNicknameResponse.builder()
         .userId(userId)
@@ -0,0 +1,67 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.AdminAlarm;
+import com.moup.server.repository.AnnouncementReadStateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/// 사용자별 읽음/삭제 워터마크와 개별 예외만 저장하는 공지 상태 저장 방식
+///
+/// 공지 발행은 `admin_alarms` INSERT 한 번으로 끝나고, 사용자 수와 무관하게 추가 쓰기가 없습니다.
+/// 조회는 삭제 워터마크 이후의 `admin_alarms` PK 범위 스캔, 전체 읽음/삭제는 워터마크 한 행 갱신입니다.
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "announcement.read-state", havingValue = "watermark", matchIfMissing = true)
+public class WatermarkAnnouncementReadStateStore implements AnnouncementReadStateStore {
+
+    private final AnnouncementReadStateRepository announcementReadStateRepository;
+
+    @Override
+    public void publish(Long announcementId) {
+        // 공지 행 자체가 모든 사용자에게 노출되므로 추가 작업 없음
+    }
+
+    @Override
+    public void initializeUser(Long userId) {
+        announcementReadStateRepository.createForNewUser(userId);
+    }
+
+    @Override
+    public List<AdminAlarm> findAllByUserId(Long userId) {
+        return announcementReadStateRepository.findAllVisibleByUserId(userId);
+    }
+
+    @Override
+    public Optional<AdminAlarm> findById(Long userId, Long announcementId) {
+        return announcementReadStateRepository.findVisibleById(userId, announcementId);
+    }
+
+    @Override
+    public void read(Long userId, Long announcementId) {
+        announcementReadStateRepository.markRead(userId, announcementId);
+    }
+
+    @Override
+    @Transactional
+    public void readAll(Long userId) {
+        announcementReadStateRepository.advanceReadWatermark(userId);
+        announcementReadStateRepository.deleteExceptionsBelowWatermarks(userId);
+    }
+
+    @Override
+    public void delete(Long userId, Long announcementId) {
+        announcementReadStateRepository.markDeleted(userId, announcementId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(Long userId) {
+        announcementReadStateRepository.advanceClearedWatermark(userId);
+        announcementReadStateRepository.deleteExceptionsBelowWatermarks(userId);
+    }
+}
@@ -5,16 +5,22 @@ import com.moup.server.model.dto.*;
 import com.moup.server.model.entity.*;
 import com.moup.server.model.entity.Salary;
 import com.moup.server.model.enums.SalaryCalculation;
+import com.moup.server.model.enums.WorkplaceEventType;
 import com.moup.server.repository.*;
 import com.moup.server.util.PermissionVerifyUtil;
+import com.moup.server.util.ReadFanout;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.*;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.moup.server.common.TimeConstants.SEOUL_ZONE_ID;
@@ -27,17 +33,45 @@ public class WorkService {
 
     // --- 의존성 주입 ---
     private final WorkRepository workRepository;
+    private final WorkRepeatGroupRepository workRepeatGroupRepository;
     private final SalaryRepository salaryRepository;
     private final WorkerRepository workerRepository;
     private final WorkplaceRepository workplaceRepository;
     private final UserRepository userRepository;
     private final RoutineService routineService;
     private final SalaryCalculationService salaryCalculationService;
+    private final SalaryRecalculationCoordinator salaryRecalculationCoordinator;
+    private final AttendanceStateStore attendanceStateStore;
+    private final WorkplaceEventHub workplaceEventHub;
+    private final CalendarVersionStore calendarVersionStore;
+    private final CalendarProjectionStore calendarProjectionStore;
+    private final WorkTombstoneRepository workTombstoneRepository;
     private final PermissionVerifyUtil permissionVerifyUtil;
+    private final ReadFanout readFanout;
+    private final AccessContextResolver accessContextResolver;
 
     // --- 상수 ---
     private static final long MAX_REPEAT_DAYS_LIMIT = 365L; // 반복 생성 최대 기간
 
+    // --- 근무 동기화 설정 ---
+    /// 다음 동기화 토큰을 DB 현재 시각보다 이 시간(초)만큼 이전으로 발급 (늦게 커밋된 변경 누락 방지)
+    @Value("${work.sync.safety-window-seconds:120}")
+    private long syncSafetyWindowSeconds;
+
+    /// 삭제 기록 보관 기간 (일), 이보다 오래된 토큰은 전체 재조회
+    @Value("${work.sync.retention-days:30}")
+    private long syncRetentionDays;
+
+    /// 한 번에 전달할 최대 변경 근무 수, 초과하면 전체 재조회
+    @Value("${work.sync.max-changes:1000}")
+    private int syncMaxChanges;
+
+    // --- 일괄 근무 생성 설정 ---
+    /// 여러 근무자 일괄 생성 시 INSERT 한 번에 담는 최대 근무 수
+    /// 근무 한 행은 SQL로 약 400바이트이므로, 기본값(1000행, 약 400KB)은 MySQL `max_allowed_packet` 기본값(64MB)보다 충분히 작습니다.
+    @Value("${work.bulk.insert-chunk-size:1000}")
+    private int bulkInsertChunkSize;
+
     // --- 내부 레코드 (데이터 전달용) ---
     /// 근무 조회 시 권한 검증 후 필요한 데이터를 담는 레코드
     private record VerifiedWorkContextForRead(
@@ -51,13 +85,6 @@ public class WorkService {
     /// 반복 정보 캐싱용 레코드
     private record RepeatInfo(List<DayOfWeek> days, LocalDate endDate) {}
 
-    /// 캘린더 조회 시 미리 로드된 근무 데이터 및 반복 정보 캐시를 담는 레코드
-    private record CalendarWorkData(
-            List<Work> allWorks, // 반복 정보 캐싱에 사용될 전체 근무 목록
-            Map<Long, List<Work>> workMapByWorker, // Worker ID별로 그룹화된 근무 목록
-            Map<String, RepeatInfo> repeatInfoCache // 미리 생성된 반복 정보 캐시
-    ) {}
-
     /// 근무 업데이트 결과용 레코드
     public record UpdateWorkResult(boolean recurringCreatedOrReplaced, List<Long> resultingWorkIds) {}
 
@@ -70,12 +97,12 @@ public class WorkService {
     @Transactional
     public WorkCreateResponse createMyWork(Long userId, Long workplaceId, MyWorkCreateRequest request) {
         // 근무자 정보 및 권한 확인
-        Worker userWorker = workerRepository.findByUserIdAndWorkplaceId(userId, workplaceId)
-                .orElseThrow(WorkerNotFoundException::new);
-        Long workplaceOwnerId = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new).getOwnerId();
-        permissionVerifyUtil.verifyWorkerPermission(userId, userWorker.getUserId(), workplaceOwnerId);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(userId, workplaceId);
+        Worker userWorker = access.requireWorker();
+        permissionVerifyUtil.verifyWorkerPermission(userId, userWorker.getUserId(), access.workplace().getOwnerId());
 
         List<Work> createdWorks = createMyWorkHelper(userWorker, request);
+        publishScheduleChanged(userWorker);
 
         // 생성된 모든 근무 ID 추출
         List<Long> createdWorkIds = createdWorks.stream()
@@ -90,6 +117,8 @@ public class WorkService {
     }
 
     /// 사장님이 '여러 근무자'에게 근무를 '일괄 생성'합니다 (단일 또는 반복).
+    /// 근무자 수와 관계없이 급여 정보는 한 번에 조회하고, 모든 근무를 메모리에서 만든 뒤 `bulkInsertChunkSize`건씩 INSERT합니다.
+    /// 주/월 재계산은 커밋 직전에 근무자 전체를 묶어 실행하며, 생성된 ID는 INSERT 결과를 그대로 반환합니다. (다시 조회하지 않음)
     @Transactional
     public WorkersWorkCreateResponse createWorkForWorkerIdList(Long requesterUserId, Long workplaceId, WorkersWorkCreateRequest request) {
 
@@ -134,37 +163,36 @@ public class WorkService {
             }
         }
 
-        List<Work> allCreatedWorks = new ArrayList<>();
+        List<Worker> targetWorkers = new ArrayList<>();
         List<FailedWorkerInfo> failedWorkers = new ArrayList<>();
 
-        // 3. DTO의 workerIdList를 순회하며 각 근무자별로 근무 생성
+        // 3. DTO의 workerIdList를 순회하며 근무를 생성할 근무자 검증
         for (Long workerId : requestedWorkerIds) {
-            String nickname = nicknameMap.getOrDefault(workerId, "탈퇴한 근무자");
-
-            try {
-                Worker worker = validWorkerMap.get(workerId);
+            Worker worker = validWorkerMap.get(workerId);
 
-                // 3-1. 검증: 맵에 없으면 -> 소속이 아니거나 존재하지 않는 근무자
-                if (worker == null) {
-                    throw new WorkerNotFoundException("요청한 근무자(ID: " + workerId + ")가 해당 근무지(ID: " + workplaceId + ") 소속이 아닙니다.");
-                }
-                // 3-2. 검증: 탈퇴한 근무자
-                if (worker.getUserId() == null) {
-                    throw new WorkerNotFoundException("요청한 근무자(ID: " + workerId + ")는 탈퇴했거나 존재하지 않는 근무자입니다.");
-                }
+            // 3-1. 검증: 맵에 없으면 -> 소속이 아니거나 존재하지 않는 근무자
+            if (worker == null) {
+                failedWorkers.add(toFailedWorkerInfo(workerId, nicknameMap,
+                        "요청한 근무자(ID: " + workerId + ")가 해당 근무지(ID: " + workplaceId + ") 소속이 아닙니다."));
+                continue;
+            }
+            // 3-2. 검증: 탈퇴한 근무자
+            if (worker.getUserId() == null) {
+                failedWorkers.add(toFailedWorkerInfo(workerId, nicknameMap,
+                        "요청한 근무자(ID: " + workerId + ")는 탈퇴했거나 존재하지 않는 근무자입니다."));
+                continue;
+            }
+            targetWorkers.add(worker);
+        }
 
-                // 4. 기존 헬퍼 메서드를 호출하여 '이 근무자'의 근무 생성 (단일 또는 반복)
-                List<Work> createdWorksForThisWorker = createWorkForWorkerHelper(worker, request);
-
-                // 5. 최종 결과 리스트에 추가
-                allCreatedWorks.addAll(createdWorksForThisWorker);
-            } catch (Exception e) {
-                failedWorkers.add(FailedWorkerInfo.builder()
-                        .workerId(workerId)
-                        .nickname(nickname)
-                        .reason(e.getMessage())
-                        .build()
-                );
+        // 4. 모든 근무자의 근무를 한 번에 생성 (시간/반복 규칙 오류는 모든 근무자에게 같으므로 전원 실패로 응답)
+        List<Work> allCreatedWorks = Collections.emptyList();
+        if (!targetWorkers.isEmpty()) {
+            try {
+                allCreatedWorks = createWorksForWorkers(targetWorkers, request);
+                targetWorkers.forEach(this::publishScheduleChanged);
+            } catch (InvalidFieldFormatException | BadRequestException | DataLimitExceedException e) {
+                targetWorkers.forEach(worker -> failedWorkers.add(toFailedWorkerInfo(worker.getId(), nicknameMap, e.getMessage())));
             }
         }
 
@@ -265,136 +293,221 @@ public class WorkService {
     }
 
     /// 사용자의 모든 근무 기록을 특정 기간 기준으로 조회합니다 (캘린더용).
-    @Transactional(readOnly = true)
+    /// 프로젝션이 없는 월은 버전을 읽은 뒤 DB에서 만들어야 하므로 트랜잭션(스냅샷)을 사용하지 않습니다.
     public WorkCalendarListResponse getAllMyWork(Long userId, YearMonth baseYearMonth) {
-        LocalDate startDate = baseYearMonth.minusMonths(6).atDay(1);
-        LocalDate endDate = baseYearMonth.plusMonths(6).atEndOfMonth();
+        CalendarVersionStore.CalendarScope calendarScope = CalendarVersionStore.CalendarScope.myWork(userId);
+        String scopeVersion = calendarVersionStore.getScopeVersion(calendarScope);
 
         // --- 사용자 및 근무지 관련 정보 로드 ---
         List<Worker> userWorkerList = workerRepository.findAllByUserId(userId);
+        calendarVersionStore.rememberWorkers(calendarScope, scopeVersion, userWorkerList);
         if (userWorkerList.isEmpty()) { return WorkCalendarListResponse.builder().workSummaryInfoList(Collections.emptyList()).build(); }
-        User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
         List<Long> workplaceIdList = userWorkerList.stream().map(Worker::getWorkplaceId).distinct().toList();
         List<Long> workerIdList = userWorkerList.stream().map(Worker::getId).toList();
-        Map<Long, Workplace> workplaceMap = workplaceRepository.findAllByIdListIn(workplaceIdList).stream().collect(Collectors.toMap(Workplace::getId, w -> w));
-
-        // Salary 정보 미리 로드 (N+1 방지)
-        Map<Long, Salary> salaryMap = salaryRepository.findAllByWorkerIdListIn(workerIdList)
-                .stream()
-                .collect(Collectors.toMap(Salary::getWorkerId, s -> s));
-
-        // --- 근무 데이터 및 캐시 로드 ---
-        CalendarWorkData calendarData = preloadCalendarWorkData(workerIdList, startDate, endDate);
-        Map<Long, List<Work>> workMapByWorker = calendarData.workMapByWorker();
-        Map<String, RepeatInfo> repeatInfoCache = calendarData.repeatInfoCache();
+        List<YearMonth> calendarMonths = getCalendarMonths(baseYearMonth);
+
+        // --- 사용자 / 근무지 / 근무자별 월 프로젝션 동시 로드 (없는 월만 DB에서 생성) ---
+        User user;
+        Map<Long, Workplace> workplaceMap;
+        Map<CalendarProjectionStore.WorkerMonth, byte[]> projectionMap;
+        try (ReadFanout.Scope scope = readFanout.open()) {
+            Supplier<User> userResult = scope.fork(() -> userRepository.findById(userId).orElseThrow(UserNotFoundException::new));
+            Supplier<List<Workplace>> workplaceListResult = scope.fork(() -> workplaceRepository.findAllByIdListIn(workplaceIdList));
+            Supplier<Map<CalendarProjectionStore.WorkerMonth, byte[]>> projectionResult =
+                    scope.fork(() -> loadCalendarProjections(toWorkerMonthList(workerIdList, calendarMonths)));
+            scope.join();
+            user = userResult.get();
+            workplaceMap = workplaceListResult.get().stream().collect(Collectors.toMap(Workplace::getId, w -> w));
+            projectionMap = projectionResult.get();
+        }
         // --------------------------------------------------------
 
-        // DTO 조립 (반복 정보 캐시 사용)
+        // DTO 조립 (프로젝션 복원)
         List<WorkSummaryResponse> userWorkSummaryList = new ArrayList<>();
         for (Worker userWorker : userWorkerList) {
             Workplace workplace = workplaceMap.get(userWorker.getWorkplaceId());
             if (workplace == null) continue;
 
-            // 현재 근무자의 Salary 정보
-            Salary salary = salaryMap.get(userWorker.getId());
-
             WorkerSummaryResponse workerSummaryInfo = createWorkerSummary(userWorker, user);
             WorkplaceSummaryResponse workplaceSummaryInfo = WorkplaceSummaryResponse.builder()
                     .workplaceId(workplace.getId()).workplaceName(workplace.getWorkplaceName()).isShared(workplace.isShared()).build();
-            List<Work> workerWorkList = workMapByWorker.getOrDefault(userWorker.getId(), Collections.emptyList());
-
-            List<WorkSummaryResponse> workSummaryList = workerWorkList.stream().map(work -> {
-                long workMinutes = work.getNetWorkMinutes() != null ? work.getNetWorkMinutes() : 0;
-                // 헬퍼 메서드에 salary 전달
-                return convertWorkToSummaryResponse(work, workerSummaryInfo, workplaceSummaryInfo, workMinutes, true, true, repeatInfoCache, salary);
-            }).toList();
-            userWorkSummaryList.addAll(workSummaryList);
+            userWorkSummaryList.addAll(decodeCalendarProjections(projectionMap, userWorker.getId(), calendarMonths,
+                    workerSummaryInfo, workplaceSummaryInfo, true, true));
         }
         return WorkCalendarListResponse.builder().workSummaryInfoList(userWorkSummaryList).build();
     }
 
-    /// 특정 근무지의 모든 근무 기록을 특정 기간 기준으로 조회합니다 (캘린더용).
-    @Transactional(readOnly = true)
+    /// 특정 근무지의 모든 근무 기록을 특정 기간 기준으로 조회합니다 (캘린더용, 트랜잭션 미사용 이유는 `getAllMyWork` 참고).
     public WorkCalendarListResponse getAllWorkByWorkplace(User user, Long workplaceId, YearMonth baseYearMonth) {
-        LocalDate startDate = baseYearMonth.minusMonths(6).atDay(1);
-        LocalDate endDate = baseYearMonth.plusMonths(6).atEndOfMonth();
+        CalendarVersionStore.CalendarScope calendarScope = CalendarVersionStore.CalendarScope.workplaceWork(workplaceId, user.getId());
+        String scopeVersion = calendarVersionStore.getScopeVersion(calendarScope);
 
         // --- 근무지 및 근무자 관련 정보 로드 ---
-        Workplace workplace = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new);
-        Optional<Worker> requesterWorkerOpt = workerRepository.findByUserIdAndWorkplaceId(user.getId(), workplaceId);
-        if (requesterWorkerOpt.isEmpty() && !workplace.getOwnerId().equals(user.getId())) { throw new InvalidPermissionAccessException(); }
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(user.getId(), workplaceId);
+        Workplace workplace = access.workplace();
+        if (access.worker() == null && !workplace.getOwnerId().equals(user.getId())) { throw new InvalidPermissionAccessException(); }
         WorkplaceSummaryResponse workplaceSummaryInfo = WorkplaceSummaryResponse.builder()
                 .workplaceId(workplace.getId()).workplaceName(workplace.getWorkplaceName()).isShared(workplace.isShared()).build();
         List<Worker> workplaceWorkerList = workerRepository.findAllByWorkplaceId(workplaceId);
+        calendarVersionStore.rememberWorkers(calendarScope, scopeVersion, workplaceWorkerList);
         if (workplaceWorkerList.isEmpty()) { return WorkCalendarListResponse.builder().workSummaryInfoList(Collections.emptyList()).build(); }
         List<Long> workerIdList = workplaceWorkerList.stream().map(Worker::getId).toList(); // 헬퍼 메서드 호출에 필요
         List<Long> userIdList = workplaceWorkerList.stream().map(Worker::getUserId).filter(Objects::nonNull).distinct().toList();
-        Map<Long, User> userMap = userRepository.findAllByIdListIn(userIdList).stream().collect(Collectors.toMap(User::getId, u -> u));
-
-        // Salary 정보 미리 로드 (N+1 방지)
-        Map<Long, Salary> salaryMap = salaryRepository.findAllByWorkerIdListIn(workerIdList)
-                .stream()
-                .collect(Collectors.toMap(Salary::getWorkerId, s -> s));
-
-        // --- 근무 데이터 및 캐시 로드 ---
-        CalendarWorkData calendarData = preloadCalendarWorkData(workerIdList, startDate, endDate);
-        Map<Long, List<Work>> workMapByWorker = calendarData.workMapByWorker();
-        Map<String, RepeatInfo> repeatInfoCache = calendarData.repeatInfoCache();
+        List<YearMonth> calendarMonths = getCalendarMonths(baseYearMonth);
+
+        // --- 근무자 사용자 정보 / 근무자별 월 프로젝션 동시 로드 (없는 월만 DB에서 생성) ---
+        Map<Long, User> userMap;
+        Map<CalendarProjectionStore.WorkerMonth, byte[]> projectionMap;
+        try (ReadFanout.Scope scope = readFanout.open()) {
+            Supplier<List<User>> userListResult = scope.fork(() -> userRepository.findAllByIdListIn(userIdList));
+            Supplier<Map<CalendarProjectionStore.WorkerMonth, byte[]>> projectionResult =
+                    scope.fork(() -> loadCalendarProjections(toWorkerMonthList(workerIdList, calendarMonths)));
+            scope.join();
+            userMap = userListResult.get().stream().collect(Collectors.toMap(User::getId, u -> u));
+            projectionMap = projectionResult.get();
+        }
         // --------------------------------------------------------
 
-        // DTO 조립 (반복 정보 캐시 사용)
+        // DTO 조립 (프로젝션 복원)
         List<WorkSummaryResponse> workSummaryInfoList = new ArrayList<>();
         for (Worker workplaceWorker : workplaceWorkerList) {
             User workerUser = null;
             if (workplaceWorker.getUserId() != null) { workerUser = userMap.get(workplaceWorker.getUserId()); }
 
-            // 현재 근무자의 Salary 정보
-            Salary salary = salaryMap.get(workplaceWorker.getId());
-
             WorkerSummaryResponse workerSummaryInfo = createWorkerSummary(workplaceWorker, workerUser); // User 객체 전달
-            List<Work> workerWorkList = workMapByWorker.getOrDefault(workplaceWorker.getId(), Collections.emptyList());
-
-            List<WorkSummaryResponse> workerWorkSummaryList = workerWorkList.stream().map(work -> {
-                long workMinutes = work.getNetWorkMinutes() != null ? work.getNetWorkMinutes() : 0;
-                boolean isMyWork = checkIsMyWork(user.getId(), workplaceWorker.getUserId());
-                boolean isEditable = checkEditable(user.getId(), workplaceWorker.getUserId(), workplace.getOwnerId());
-                // 헬퍼 메서드에 salary 전달
-                return convertWorkToSummaryResponse(work, workerSummaryInfo, workplaceSummaryInfo, workMinutes, isMyWork, isEditable, repeatInfoCache, salary);
-            }).toList();
-            workSummaryInfoList.addAll(workerWorkSummaryList);
+            boolean isMyWork = checkIsMyWork(user.getId(), workplaceWorker.getUserId());
+            boolean isEditable = checkEditable(user.getId(), workplaceWorker.getUserId(), workplace.getOwnerId());
+            workSummaryInfoList.addAll(decodeCalendarProjections(projectionMap, workplaceWorker.getId(), calendarMonths,
+                    workerSummaryInfo, workplaceSummaryInfo, isMyWork, isEditable));
         }
         return WorkCalendarListResponse.builder().workSummaryInfoList(workSummaryInfoList).build();
     }
 
     /// 특정 근무지에서 사용자의 근무 기록만 특정 기간 기준으로 조회합니다 (캘린더용).
     public WorkCalendarListResponse getAllMyWorkByWorkplace(User user, Long workplaceId, YearMonth baseYearMonth) {
-        LocalDate startDate = baseYearMonth.minusMonths(6).atDay(1);
-        LocalDate endDate = baseYearMonth.plusMonths(6).atEndOfMonth();
+        CalendarVersionStore.CalendarScope calendarScope = CalendarVersionStore.CalendarScope.myWorkplaceWork(workplaceId, user.getId());
+        String scopeVersion = calendarVersionStore.getScopeVersion(calendarScope);
 
         // 관련 정보 로드
-        Worker userWorker = workerRepository.findByUserIdAndWorkplaceId(user.getId(), workplaceId).orElseThrow(WorkerNotFoundException::new);
-        Workplace workplace = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new);
-
-        // Salary 정보 로드
-        Salary salary = salaryRepository.findByWorkerId(userWorker.getId()).orElse(null);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(user.getId(), workplaceId);
+        Worker userWorker = access.requireWorker();
+        Workplace workplace = access.workplace();
+        calendarVersionStore.rememberWorkers(calendarScope, scopeVersion, List.of(userWorker));
 
         WorkplaceSummaryResponse workplaceSummary = WorkplaceSummaryResponse.builder()
                 .workplaceId(workplace.getId()).workplaceName(workplace.getWorkplaceName()).isShared(workplace.isShared()).build();
         WorkerSummaryResponse userWorkerSummaryInfo = createWorkerSummary(userWorker, user);
-        List<Work> userWorkList = workRepository.findAllByWorkerIdAndDateRange(userWorker.getId(), startDate, endDate);
-
-        // 반복 정보 캐시 생성
-        Map<String, RepeatInfo> repeatInfoCache = prefetchRepeatInfo(userWorkList);
 
-        // DTO 변환
-        List<WorkSummaryResponse> workSummaryInfoList = userWorkList.stream().map(userWork -> {
-            long workMinutes = userWork.getNetWorkMinutes() != null ? userWork.getNetWorkMinutes() : 0;
-            // 헬퍼 메서드에 salary 전달
-            return convertWorkToSummaryResponse(userWork, userWorkerSummaryInfo, workplaceSummary, workMinutes, true, true, repeatInfoCache, salary);
-        }).toList();
+        // 월 프로젝션 로드 (없는 월만 DB에서 생성) 후 DTO 복원
+        List<YearMonth> calendarMonths = getCalendarMonths(baseYearMonth);
+        Map<CalendarProjectionStore.WorkerMonth, byte[]> projectionMap = loadCalendarProjections(toWorkerMonthList(List.of(userWorker.getId()), calendarMonths));
+        List<WorkSummaryResponse> workSummaryInfoList = decodeCalendarProjections(projectionMap, userWorker.getId(), calendarMonths,
+                userWorkerSummaryInfo, workplaceSummary, true, true);
         return WorkCalendarListResponse.builder().workSummaryInfoList(workSummaryInfoList).build();
     }
 
+    /// 근무가 변경된 (근무자, 월)의 캘린더 프로젝션을 다시 만듭니다. (`CalendarProjectionRebuildScheduler`가 주기적으로 호출)
+    /// 이미 현재 버전의 프로젝션이 있으면 건너뜁니다.
+    public void rebuildCalendarProjections(List<CalendarProjectionStore.WorkerMonth> workerMonthList) {
+        loadCalendarProjections(workerMonthList);
+    }
+
+
+    // =================================================================
+    // 근무 동기화 (Sync)
+    // =================================================================
+
+    /// 사용자의 모든 근무 중 동기화 토큰 이후에 생성 / 수정 / 삭제된 근무만 조회합니다 (모바일 캘린더 증분 동기화용).
+    /// 토큰이 없거나 보관 기간보다 오래되었거나 변경된 근무가 너무 많으면 `resetRequired`로 전체 캘린더를 다시 조회하도록 안내합니다.
+    @Transactional(readOnly = true)
+    public WorkSyncResponse syncMyWork(Long userId, String syncToken) {
+        LocalDateTime since = decodeSyncToken(syncToken);
+        LocalDateTime now = workRepository.getCurrentTimestamp();
+        // 늦게 커밋된 트랜잭션의 변경을 놓치지 않도록 안전 구간만큼 이전 시각을 다음 토큰으로 발급 (중복 전달된 근무는 클라이언트가 덮어씀)
+        String nextSyncToken = encodeSyncToken(now.minusSeconds(syncSafetyWindowSeconds));
+
+        List<Worker> userWorkerList = workerRepository.findAllByUserId(userId);
+        List<Long> workerIdList = userWorkerList.stream().map(Worker::getId).toList();
+        WorkSyncResponse.WorkSyncResponseBuilder responseBuilder = WorkSyncResponse.builder()
+                .nextSyncToken(nextSyncToken)
+                .workerIdList(workerIdList)
+                .upsertedWorkSummaryInfoList(Collections.emptyList())
+                .deletedWorkIdList(Collections.emptyList());
+
+        if (since == null || since.isBefore(now.minusDays(syncRetentionDays))) { return responseBuilder.resetRequired(true).build(); }
+        if (userWorkerList.isEmpty()) { return responseBuilder.resetRequired(false).build(); }
+
+        List<Work> changedWorkList = workRepository.findAllByWorkerIdListInAndUpdatedAtAfter(workerIdList, since, syncMaxChanges + 1);
+        if (changedWorkList.size() > syncMaxChanges) { return responseBuilder.resetRequired(true).build(); }
+        List<Long> deletedWorkIdList = workTombstoneRepository.findAllWorkIdByWorkerIdListInAndDeletedAtAfter(workerIdList, since);
+
+        List<WorkSummaryResponse> upsertedWorkSummaryList = Collections.emptyList();
+        if (!changedWorkList.isEmpty()) {
+            User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+            Map<Long, List<Work>> workMapByWorker = changedWorkList.stream().collect(Collectors.groupingBy(Work::getWorkerId));
+            upsertedWorkSummaryList = assembleMyWorkSummaryList(user, userWorkerList, workMapByWorker, prefetchRepeatInfo(changedWorkList));
+        }
+
+        return responseBuilder
+                .resetRequired(false)
+                .upsertedWorkSummaryInfoList(upsertedWorkSummaryList)
+                .deletedWorkIdList(deletedWorkIdList)
+                .build();
+    }
+
+    /// 사용자의 근무자별 근무 목록을 캘린더용 DTO로 조립합니다 (근무지 및 급여 정보 일괄 로드, 반복 정보 캐시 사용).
+    private List<WorkSummaryResponse> assembleMyWorkSummaryList(User user, List<Worker> userWorkerList,
+                                                                Map<Long, List<Work>> workMapByWorker,
+                                                                Map<String, RepeatInfo> repeatInfoCache) {
+        List<Long> workplaceIdList = userWorkerList.stream().map(Worker::getWorkplaceId).distinct().toList();
+        List<Long> workerIdList = userWorkerList.stream().map(Worker::getId).toList();
+        Map<Long, Workplace> workplaceMap = workplaceRepository.findAllByIdListIn(workplaceIdList).stream().collect(Collectors.toMap(Workplace::getId, w -> w));
+
+        // Salary 정보 미리 로드 (N+1 방지)
+        Map<Long, Salary> salaryMap = salaryRepository.findAllByWorkerIdListIn(workerIdList)
+                .stream()
+                .collect(Collectors.toMap(Salary::getWorkerId, s -> s));
+
+        // DTO 조립 (반복 정보 캐시 사용)
+        List<WorkSummaryResponse> userWorkSummaryList = new ArrayList<>();
+        for (Worker userWorker : userWorkerList) {
+            Workplace workplace = workplaceMap.get(userWorker.getWorkplaceId());
+            if (workplace == null) continue;
+
+            // 현재 근무자의 Salary 정보
+            Salary salary = salaryMap.get(userWorker.getId());
+
+            WorkerSummaryResponse workerSummaryInfo = createWorkerSummary(userWorker, user);
+            WorkplaceSummaryResponse workplaceSummaryInfo = WorkplaceSummaryResponse.builder()
+                    .workplaceId(workplace.getId()).workplaceName(workplace.getWorkplaceName()).isShared(workplace.isShared()).build();
+            List<Work> workerWorkList = workMapByWorker.getOrDefault(userWorker.getId(), Collections.emptyList());
+
+            List<WorkSummaryResponse> workSummaryList = workerWorkList.stream().map(work -> {
+                long workMinutes = work.getNetWorkMinutes() != null ? work.getNetWorkMinutes() : 0;
+                // 헬퍼 메서드에 salary 전달
+                return convertWorkToSummaryResponse(work, workerSummaryInfo, workplaceSummaryInfo, workMinutes, true, true, repeatInfoCache, salary);
+            }).toList();
+            userWorkSummaryList.addAll(workSummaryList);
+        }
+        return userWorkSummaryList;
+    }
+
+    /// 동기화 토큰을 기준 시각으로 변환합니다. (토큰이 없으면 null)
+    private LocalDateTime decodeSyncToken(String syncToken) {
+        if (syncToken == null || syncToken.isBlank()) { return null; }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(syncToken), StandardCharsets.UTF_8);
+            return LocalDateTime.parse(decoded);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("유효하지 않은 동기화 토큰입니다.");
+        }
+    }
+
+    /// 기준 시각(DB 시계)을 동기화 토큰으로 변환합니다.
+    private String encodeSyncToken(LocalDateTime since) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(since.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
 
     // =================================================================
     // 근무 수정 (Update)
@@ -429,6 +542,7 @@ public class WorkService {
 
         // 루틴 연결 (단일 근무에)
         routineService.saveWorkRoutineMapping(context.worker().getUserId(), request.getRoutineIdList(), workId);
+        publishScheduleChanged(context.worker());
     }
 
     /// 사용자가 자신의 '반복' 근무 기록을 수정(교체)합니다.
@@ -461,6 +575,7 @@ public class WorkService {
                 context.worker().getUserId(),
                 request.getRoutineIdList()
         );
+        publishScheduleChanged(context.worker());
         boolean recurringReplaced = true;
 
         List<Long> resultingWorkIds = resultingWorks.stream()
@@ -475,9 +590,9 @@ public class WorkService {
     /// DTO의 repeatDays 필드는 무시됩니다.
     @Transactional
     public void updateSingleWorkForWorker(Long requesterUserId, Long workplaceId, Long workerId, Long workId, WorkerWorkUpdateRequest request) {
-        Workplace workplace = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new);
-        permissionVerifyUtil.verifyOwnerPermission(requesterUserId, workplace.getOwnerId());
-        Worker worker = workerRepository.findByIdAndWorkplaceId(workerId, workplaceId).orElseThrow(WorkerNotFoundException::new);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveWorker(workplaceId, workerId);
+        permissionVerifyUtil.verifyOwnerPermission(requesterUserId, access.workplace().getOwnerId());
+        Worker worker = access.requireWorker();
         Work work = workRepository.findById(workId).orElseThrow(WorkNotFoundException::new);
         if (!work.getWorkerId().equals(worker.getId())) {
             throw new BadRequestException("해당 근무 기록은 지정된 근무자의 것이 아닙니다.");
@@ -500,15 +615,16 @@ public class WorkService {
                 request.getMemo(),
                 work.getRepeatGroupId()
         );
+        publishScheduleChanged(worker);
     }
 
     /// 사장님이 근무자의 '반복' 근무 기록을 수정(교체)합니다.
     /// DTO의 repeatDays 필드를 사용하여 새 반복 일정을 생성합니다.
     @Transactional
     public UpdateWorkResult updateRecurringWorkForWorker(Long requesterUserId, Long workplaceId, Long workerId, Long workId, WorkerWorkUpdateRequest request) {
-        Workplace workplace = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new);
-        permissionVerifyUtil.verifyOwnerPermission(requesterUserId, workplace.getOwnerId());
-        Worker worker = workerRepository.findByIdAndWorkplaceId(workerId, workplaceId).orElseThrow(WorkerNotFoundException::new);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveWorker(workplaceId, workerId);
+        permissionVerifyUtil.verifyOwnerPermission(requesterUserId, access.workplace().getOwnerId());
+        Worker worker = access.requireWorker();
         Work work = workRepository.findById(workId).orElseThrow(WorkNotFoundException::new);
         if (!work.getWorkerId().equals(worker.getId())) {
             throw new BadRequestException("해당 근무 기록은 지정된 근무자의 것이 아닙니다.");
@@ -535,6 +651,7 @@ public class WorkService {
                 null,
                 null
         );
+        publishScheduleChanged(worker);
         boolean recurringReplaced = true;
 
         List<Long> resultingWorkIds = resultingWorks.stream()
@@ -546,67 +663,67 @@ public class WorkService {
     }
 
     /// 사용자의 실제 출근 시간을 기록합니다.
-    @Transactional
+    /// 근무 중 상태 전이는 `AttendanceStateStore`에서 원자적으로 처리되고, DB에는 write-behind로 반영됩니다.
     public boolean updateActualStartTime(Long userId, Long workplaceId) {
-        // 권한 및 근무 중복 확인
-        Worker userWorker = workerRepository.findByUserIdAndWorkplaceId(userId, workplaceId).orElseThrow(WorkerNotFoundException::new);
-        Long workplaceOwnerId = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new).getOwnerId();
-        permissionVerifyUtil.verifyWorkerPermission(userId, userWorker.getUserId(), workplaceOwnerId);
-        if (workerRepository.existsByUserIdAndIsNowWorking(userId, true)) { throw new WorkerAlreadyWorkingException(); }
+        // 권한 확인
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(userId, workplaceId);
+        Worker userWorker = access.requireWorker();
+        permissionVerifyUtil.verifyWorkerPermission(userId, userWorker.getUserId(), access.workplace().getOwnerId());
 
-        // 현재 시간 기준으로 출근 가능한 근무 조회
+        // 현재 시간 기준으로 출근 가능한 근무 조회 (출근했지만 아직 DB에 반영되지 않은 근무는 Redis 상태 기준으로 제외)
         LocalDateTime currentDateTime = LocalDateTime.now(SEOUL_ZONE_ID);
-        Optional<Work> optWorkToStart = workRepository.findEligibleWorkForClockIn(userWorker.getId(), currentDateTime);
-
-        // 출근 기록 업데이트 및 상태 변경
-        if (optWorkToStart.isPresent()) {
-            Work workToStart = optWorkToStart.get();
-            workRepository.updateActualStartTimeById(workToStart.getId(), currentDateTime);
-            workerRepository.updateIsNowWorking(userWorker.getId(), userId, workplaceId, true); // 근무 중 상태로 변경
-            return true;
-        } else {
+        Optional<Work> optWorkToStart = workRepository.findEligibleWorkForClockIn(userWorker.getId(), currentDateTime,
+                attendanceStateStore.findPendingStartedWorkIds(userId));
+
+        if (optWorkToStart.isEmpty()) {
+            if (attendanceStateStore.isWorking(userId)) { throw new WorkerAlreadyWorkingException(); }
             return false; // 출근 가능한 근무 없음
         }
+
+        // 근무 중 상태로 전이 (이미 근무 중이면 거절)
+        if (!attendanceStateStore.clockIn(userId, userWorker, optWorkToStart.get(), currentDateTime)) {
+            throw new WorkerAlreadyWorkingException();
+        }
+        workplaceEventHub.publish(WorkplaceEventType.CLOCK_IN, workplaceId, userWorker.getId());
+        return true;
     }
 
-    /// 사용자의 실제 퇴근 시간을 기록합니다.
+    /// 출근 가능한 근무가 없을 때 근무(실제 출근 시간 포함)를 새로 생성하고 근무 중 상태로 전환합니다.
+    /// 근무 생성과 상태 전이를 한 트랜잭션으로 묶어, 그 사이 다른 요청으로 이미 근무 중이 되었다면 생성한 근무도 롤백됩니다.
+    /// 상태 전이 후 커밋이 실패해 롤백되면 `AttendanceStateStore`가 출근을 취소하므로 근무 중 상태가 남지 않습니다.
     @Transactional
-    public void updateActualEndTime(Long userId, Long workplaceId) {
-        // 권한 및 현재 근무 상태 확인
-        Worker userWorker = workerRepository.findByUserIdAndWorkplaceId(userId, workplaceId).orElseThrow(WorkerNotFoundException::new);
-        Long workplaceOwnerId = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new).getOwnerId();
-        permissionVerifyUtil.verifyWorkerPermission(userId, userWorker.getUserId(), workplaceOwnerId);
-        if (!Boolean.TRUE.equals(userWorker.getIsNowWorking())) { throw new WorkNotFoundException("현재 진행 중인 근무가 없습니다."); }
-
-        // 가장 최근의 진행 중인 근무 조회
-        Optional<Work> optWorkToEnd = workRepository.findMostRecentWorkInProgress(userWorker.getId());
-
-        // 퇴근 기록 업데이트 및 상태 변경
-        if (optWorkToEnd.isPresent()) {
-            Work workToEnd = optWorkToEnd.get();
-            LocalDateTime currentDateTime = LocalDateTime.now(SEOUL_ZONE_ID);
-
-            // 예정된 종료 시간(null 포함)과 실제 종료 시간이 다르면 재계산
-            boolean needsRecalculation = !Objects.equals(workToEnd.getEndTime(), currentDateTime);
-
-            // 실제 퇴근 시간 업데이트 (예정 퇴근 시간이 없었다면 같이 업데이트)
-            workRepository.updateActualEndTimeById(workToEnd.getId(), currentDateTime);
+    public WorkCreateResponse createAndStartWork(Long userId, Long workplaceId, MyWorkCreateRequest request) {
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(userId, workplaceId);
+        Worker userWorker = access.requireWorker();
+        permissionVerifyUtil.verifyWorkerPermission(userId, userWorker.getUserId(), access.workplace().getOwnerId());
+
+        Work createdWork = createMyWorkHelper(userWorker, request).get(0);
+        // 상태 전이는 트랜잭션의 마지막 단계로 실행 (이미 근무 중이면 예외로 근무 생성까지 롤백)
+        if (!attendanceStateStore.clockIn(userId, userWorker, createdWork, createdWork.getActualStartTime())) {
+            throw new WorkerAlreadyWorkingException();
+        }
+        publishScheduleChanged(userWorker);
+        workplaceEventHub.publish(WorkplaceEventType.CLOCK_IN, workplaceId, userWorker.getId());
 
-            // 급여 재계산 필요 여부 확인 및 실행
-            if (needsRecalculation) {
-                Salary salary = salaryRepository.findByWorkerId(userWorker.getId()).orElse(null);
-                Work updatedWork = workRepository.findById(workToEnd.getId()).orElse(workToEnd);
+        return WorkCreateResponse.builder()
+                .workIdList(List.of(createdWork.getId()))
+                .build();
+    }
 
-                salaryCalculationService.recalculateWorkWeek(userWorker.getId(), updatedWork.getWorkDate(), salary);
-            }
+    /// 사용자의 실제 퇴근 시간을 기록합니다.
+    /// 실제 퇴근 시간과 근무 중 상태 해제, 해당 주의 급여 재계산은 `AttendanceWriteBehindFlusher`가 반영합니다.
+    public void updateActualEndTime(Long userId, Long workplaceId) {
+        // 권한 확인
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(userId, workplaceId);
+        Worker userWorker = access.requireWorker();
+        permissionVerifyUtil.verifyWorkerPermission(userId, userWorker.getUserId(), access.workplace().getOwnerId());
 
-            // 근무 중 상태 해제
-            workerRepository.updateIsNowWorking(userWorker.getId(), userId, workplaceId, false);
-        } else {
-            // 비정상 상태 복구: 진행 중 근무가 없는데 isNowWorking=true인 경우
-            workerRepository.updateIsNowWorking(userWorker.getId(), userId, workplaceId, false);
-            log.warn("No work in progress found for workerId={}, but isNowWorking was true. Resetting isNowWorking.", userWorker.getId());
+        // 근무 중 상태 해제 (해당 근무지에서 근무 중이 아니면 거절)
+        LocalDateTime currentDateTime = LocalDateTime.now(SEOUL_ZONE_ID);
+        if (!attendanceStateStore.clockOut(userId, userWorker.getId(), currentDateTime)) {
+            throw new WorkNotFoundException("현재 진행 중인 근무가 없습니다.");
         }
+        workplaceEventHub.publish(WorkplaceEventType.CLOCK_OUT, workplaceId, userWorker.getId());
     }
 
     // =================================================================
@@ -620,6 +737,7 @@ public class WorkService {
         VerifiedWorkContextForUD context = getVerifiedWorkContextForUD(requesterUserId, workId);
         // 삭제 헬퍼 호출
         deleteWorkHelper(context.worker(), context.work());
+        publishScheduleChanged(context.worker());
     }
 
     /// 기준이 되는 반복 근무와 '반복' 근무 그룹의 '미래' 일정을 삭제합니다.
@@ -631,12 +749,18 @@ public class WorkService {
         // 반복 근무인지 확인
         if (work.getRepeatGroupId() == null) { throw new BadRequestException("반복 근무가 아닌 단일 근무입니다."); }
 
+        List<WorkRepository.WorkMonthDto> affectedMonths = workRepository.findDistinctWorkMonthsAfter(context.worker().getId(), work.getWorkDate());
+        workTombstoneRepository.createAllByRepeatGroupIdFromDate(work.getRepeatGroupId(), work.getWorkDate());
         long deletedCount = workRepository.deleteRecurringWorkFromDate(work.getRepeatGroupId(), work.getWorkDate());
+        // 남은 근무들의 반복 종료일 표시가 바뀌므로 반복 규칙을 남은 근무에 맞추고 동기화 대상으로 갱신
+        syncRepeatGroupWithWorks(context.worker().getId(), work.getRepeatGroupId());
         log.info("Deleted {} future recurring works for group {}", deletedCount, work.getRepeatGroupId());
 
         Salary salary = salaryRepository.findByWorkerId(context.worker().getId()).orElse(null);
 
-        salaryCalculationService.recalculateWorkWeek(context.worker().getId(), work.getWorkDate(), salary);
+        salaryRecalculationCoordinator.markWorkWeekDirty(context.worker().getId(), work.getWorkDate(), salary);
+        markWorkMonthsDirty(context.worker().getId(), affectedMonths, salary);
+        publishScheduleChanged(context.worker());
     }
 
 
@@ -683,38 +807,78 @@ public class WorkService {
         }
     }
 
-    /// 사장님의 알바생 근무 생성 헬퍼 (WorkersWorkCreateRequest 용)
-    private List<Work> createWorkForWorkerHelper(Worker worker, WorkersWorkCreateRequest request) {
+    /// 사장님의 여러 알바생 근무 일괄 생성 헬퍼 (WorkersWorkCreateRequest 용, 사장님은 루틴을 연결하지 않음)
+    ///
+    /// 1. 모든 근무자의 급여 정보를 한 번에 조회
+    /// 2. 근무자별 일급을 계산하여 모든 근무(단일 또는 반복)를 메모리에서 생성
+    /// 3. 근무는 `bulkInsertChunkSize`건씩, 반복 규칙은 한 번에 INSERT (생성된 키가 각 `Work`의 ID로 채워짐)
+    /// 4. 영향받은 (근무자, 주)를 재계산 대상으로 등록 (커밋 직전에 근무자 전체를 묶어 한 번에 재계산)
+    private List<Work> createWorksForWorkers(List<Worker> workers, WorkersWorkCreateRequest request) {
         LocalDateTime startTime = request.getStartTime().atZone(SEOUL_ZONE_ID).toLocalDateTime();
         LocalDateTime endTime = (request.getEndTime() != null) ? request.getEndTime().atZone(SEOUL_ZONE_ID).toLocalDateTime() : null;
         LocalDateTime actualStartTime = (request.getActualStartTime() != null) ? request.getActualStartTime().atZone(SEOUL_ZONE_ID).toLocalDateTime() : null;
         LocalDateTime actualEndTime = (request.getActualEndTime() != null) ? request.getActualEndTime().atZone(SEOUL_ZONE_ID).toLocalDateTime() : null;
 
-        if (request.getRepeatDays() == null || request.getRepeatDays().isEmpty()) {
-            Work singleWork = createSingleWork(
-                    worker,
-                    startTime,
-                    endTime,
-                    actualStartTime,
-                    actualEndTime,
-                    request.getRestTimeMinutes(),
-                    request.getMemo()
-            );
-            // (사장님은 루틴을 연결하지 않음)
-            return Collections.singletonList(singleWork); // 단일 근무도 리스트로 반환
+        boolean isRecurring = request.getRepeatDays() != null && !request.getRepeatDays().isEmpty();
+        List<LocalDate> workDates;
+        if (isRecurring) {
+            workDates = computeRecurringWorkDates(startTime, endTime, request.getRepeatDays(), request.getRepeatEndDate());
         } else {
-            return createRecurringWorks(
-                    worker,
-                    startTime,
-                    endTime,
-                    request.getRestTimeMinutes(),
-                    request.getMemo(),
-                    request.getRepeatDays(),
-                    request.getRepeatEndDate(),
-                    null,
-                    null
-            );
+            verifyStartEndTime(startTime, endTime);
+            workDates = List.of(startTime.toLocalDate());
+        }
+
+        Map<Long, Salary> salaryMap = salaryRepository.findAllByWorkerIdListIn(workers.stream().map(Worker::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Salary::getWorkerId, salary -> salary, (first, second) -> first));
+
+        List<Work> worksToCreate = new ArrayList<>(workers.size() * workDates.size());
+        List<WorkRepeatGroup> workRepeatGroupsToCreate = new ArrayList<>();
+        for (Worker worker : workers) {
+            Work workWithDailyIncome = calculateRecurringDailyIncome(startTime, endTime, request.getRestTimeMinutes(), salaryMap.get(worker.getId()));
+            if (isRecurring) {
+                String repeatGroupId = UUID.randomUUID().toString();
+                for (LocalDate workDate : workDates) {
+                    worksToCreate.add(toRecurringWork(workWithDailyIncome, worker, workDate, startTime, endTime, request.getMemo(), repeatGroupId));
+                }
+                workRepeatGroupsToCreate.add(toWorkRepeatGroup(repeatGroupId, worker, startTime, endTime, request.getRestTimeMinutes(), request.getMemo(), workDates));
+            } else {
+                worksToCreate.add(workWithDailyIncome.toBuilder()
+                        .workerId(worker.getId()).workDate(startTime.toLocalDate())
+                        .startTime(startTime).endTime(endTime)
+                        .actualStartTime(actualStartTime).actualEndTime(actualEndTime)
+                        .memo(request.getMemo())
+                        .repeatGroupId(null)
+                        .build());
+            }
+        }
+
+        for (int from = 0; from < worksToCreate.size(); from += bulkInsertChunkSize) {
+            workRepository.createBatch(worksToCreate.subList(from, Math.min(from + bulkInsertChunkSize, worksToCreate.size())));
+        }
+        if (!workRepeatGroupsToCreate.isEmpty()) {
+            workRepeatGroupRepository.createBatch(workRepeatGroupsToCreate);
         }
+
+        // 주급 재계산 대상 주 등록 (모든 근무자가 같은 근무일을 가지므로 주 목록도 같음)
+        Set<LocalDate> weeksToRecalculate = workDates.stream()
+                .map(workDate -> workDate.with(DayOfWeek.MONDAY))
+                .collect(Collectors.toCollection(TreeSet::new));
+        for (Worker worker : workers) {
+            for (LocalDate weekStartDate : weeksToRecalculate) {
+                salaryRecalculationCoordinator.markWorkWeekDirty(worker.getId(), weekStartDate, salaryMap.get(worker.getId()));
+            }
+        }
+
+        return worksToCreate;
+    }
+
+    private FailedWorkerInfo toFailedWorkerInfo(Long workerId, Map<Long, String> nicknameMap, String reason) {
+        return FailedWorkerInfo.builder()
+                .workerId(workerId)
+                .nickname(nicknameMap.getOrDefault(workerId, "탈퇴한 근무자"))
+                .reason(reason)
+                .build();
     }
 
     /// 단일 근무 생성 상세 로직
@@ -744,82 +908,114 @@ public class WorkService {
 
         workRepository.create(workToCreate);
 
-        salaryCalculationService.recalculateWorkWeek(worker.getId(), workToCreate.getWorkDate(), salary);
+        // 주급 재계산은 커밋 직전에 한 번만 실행됩니다.
+        salaryRecalculationCoordinator.markWorkWeekDirty(worker.getId(), workToCreate.getWorkDate(), salary);
 
-        return workRepository.findById(workToCreate.getId()).orElse(workToCreate);
+        return workToCreate;
     }
 
     /// 반복 근무 생성 상세 로직
+    ///
+    /// 반복 규칙(`work_repeat_groups`)은 반복 정보 조회에만 쓰이고, 근무일마다 `works` 행을 미리 만듭니다. (지연 전개 없음)
+    /// 주휴수당·월간 급여 요약·급여 변경 재계산(집합 단위 SQL)과 출퇴근, 루틴 연결이 모두 실제 근무 행을 기준으로 하므로,
+    /// 예정 근무를 규칙에서 전개하려면 이 계산들을 함께 바꿔야 합니다. 생성 비용은 `MAX_REPEAT_DAYS_LIMIT`로 제한합니다.
     private List<Work> createRecurringWorks(Worker worker, LocalDateTime startTime, LocalDateTime endTime,
                                             Integer restTimeMinutes, String memo,
                                             List<DayOfWeek> repeatDays, LocalDate repeatEndDate,
                                             Long userIdForRoutine, List<Long> routineIdList) {
         // 1. 여기서 Salary 미리 조회
         Salary salary = salaryRepository.findByWorkerId(worker.getId()).orElse(null);
-
-        int hourlyRate = (salary != null && salary.getHourlyRate() != null) ? salary.getHourlyRate() : 0;
-        boolean hasNightAllowance = (salary != null) && salary.getHasNightAllowance();
-
-        verifyStartEndTime(startTime, endTime);
-        LocalDate startDate = startTime.toLocalDate();
-        if (repeatEndDate == null || repeatEndDate.isBefore(startDate)) { throw new InvalidFieldFormatException("반복 종료 날짜는 시작 날짜 이후여야 합니다."); }
-        if (ChronoUnit.DAYS.between(startDate, repeatEndDate) > MAX_REPEAT_DAYS_LIMIT) { throw new DataLimitExceedException("반복 기간은 최대 " + MAX_REPEAT_DAYS_LIMIT + "일까지 설정할 수 있습니다."); }
+        List<LocalDate> workDates = computeRecurringWorkDates(startTime, endTime, repeatDays, repeatEndDate);
 
         // 반복 그룹 ID 생성 및 기본 일급 계산
         String repeatGroupId = UUID.randomUUID().toString();
-        Work tempWork = Work.builder().startTime(startTime).endTime(endTime).restTimeMinutes(restTimeMinutes).hourlyRate(hourlyRate).build();
-        Work workWithDailyIncome = salaryCalculationService.calculateDailyIncome(tempWork, 0, hasNightAllowance); // 주휴수당 0으로 일급 계산
+        Work workWithDailyIncome = calculateRecurringDailyIncome(startTime, endTime, restTimeMinutes, salary);
 
-        List<Work> worksToCreate = new ArrayList<>();
-        Set<LocalDate> weeksToRecalculate = new HashSet<>(); // 주급 재계산 대상 주(월요일)
-        LocalDate currentDate = startDate;
-        long dayOffset = ChronoUnit.DAYS.between(startTime.toLocalDate(), endTime.toLocalDate()); // 종료일이 다음날인지 확인
-
-        // 반복 종료일까지 루프
-        while (!currentDate.isAfter(repeatEndDate)) {
-            // 해당 요일이 반복 요일에 포함되는 경우
-            if (repeatDays.contains(currentDate.getDayOfWeek())) {
-                LocalDateTime newStartTime = startTime.with(currentDate); // 날짜만 변경
-                LocalDateTime newEndTime = endTime.with(currentDate.plusDays(dayOffset)); // 날짜 변경 (+ 다음날 여부)
-
-                // Work 엔티티 생성 (일급 정보 재사용, 실제 시간은 null)
-                Work recurringWork = workWithDailyIncome.toBuilder()
-                        .id(null).workerId(worker.getId()).workDate(currentDate)
-                        .startTime(newStartTime).endTime(newEndTime)
-                        .actualStartTime(null) // 반복 생성 시 실제 시간 null
-                        .actualEndTime(null)   // 반복 생성 시 실제 시간 null
-                        .memo(memo)
-                        .repeatGroupId(repeatGroupId) // 동일한 그룹 ID
-                        .build();
-                worksToCreate.add(recurringWork);
-                weeksToRecalculate.add(currentDate.with(DayOfWeek.MONDAY)); // 해당 주의 월요일 추가
-            }
-            currentDate = currentDate.plusDays(1); // 다음 날짜로 이동
-        }
-
-        if (worksToCreate.isEmpty()) { throw new BadRequestException("반복 규칙에 해당하는 근무일이 없습니다."); }
+        List<Work> worksToCreate = workDates.stream()
+                .map(workDate -> toRecurringWork(workWithDailyIncome, worker, workDate, startTime, endTime, memo, repeatGroupId))
+                .toList();
 
         // DB에 배치 삽입
         workRepository.createBatch(worksToCreate);
 
+        // 반복 규칙 저장
+        workRepeatGroupRepository.create(toWorkRepeatGroup(repeatGroupId, worker, startTime, endTime, restTimeMinutes, memo, workDates));
+
+        // 주급 재계산 대상 주 등록 (같은 트랜잭션의 다른 변경과 합쳐져 커밋 직전에 주/월당 한 번만 실행)
+        Set<LocalDate> weeksToRecalculate = workDates.stream()
+                .map(workDate -> workDate.with(DayOfWeek.MONDAY)) // 해당 주의 월요일
+                .collect(Collectors.toSet());
         for (LocalDate weekStartDate : weeksToRecalculate) {
-            salaryCalculationService.recalculateWorkWeek(worker.getId(), weekStartDate, salary);
+            salaryRecalculationCoordinator.markWorkWeekDirty(worker.getId(), weekStartDate, salary);
         }
 
-        // 주급 재계산 후의 '최신' 상태를 반영하기 위해 다시 로드
-        List<Work> createdWorks = workRepository.findAllByWorkerIdAndDateRange(
-                        worker.getId(), startDate, repeatEndDate).stream()
-                .filter(w -> Objects.equals(repeatGroupId, w.getRepeatGroupId()))
-                .collect(Collectors.toList());
-
-        // 생성된 모든 반복 근무에 루틴 연결
+        // 생성된 모든 반복 근무에 루틴 연결 (ID는 배치 삽입 시 채워지므로 다시 조회하지 않음)
         if (userIdForRoutine != null && routineIdList != null && !routineIdList.isEmpty()) {
-            for (Work work : createdWorks) {
-                routineService.saveWorkRoutineMapping(userIdForRoutine, routineIdList, work.getId());
-            }
+            routineService.saveWorkRoutineMappingBatch(userIdForRoutine, routineIdList, worksToCreate.stream().map(Work::getId).toList());
         }
 
-        return createdWorks;
+        return worksToCreate;
+    }
+
+    /// 반복 규칙의 유효성을 검증하고, 규칙에 해당하는 근무일 목록을 반환합니다. (날짜 오름차순)
+    private List<LocalDate> computeRecurringWorkDates(LocalDateTime startTime, LocalDateTime endTime,
+                                                      List<DayOfWeek> repeatDays, LocalDate repeatEndDate) {
+        verifyStartEndTime(startTime, endTime);
+        LocalDate startDate = startTime.toLocalDate();
+        if (repeatEndDate == null || repeatEndDate.isBefore(startDate)) { throw new InvalidFieldFormatException("반복 종료 날짜는 시작 날짜 이후여야 합니다."); }
+        if (ChronoUnit.DAYS.between(startDate, repeatEndDate) > MAX_REPEAT_DAYS_LIMIT) { throw new DataLimitExceedException("반복 기간은 최대 " + MAX_REPEAT_DAYS_LIMIT + "일까지 설정할 수 있습니다."); }
+
+        // 반복 종료일까지 해당 요일이 반복 요일에 포함되는 날짜만 수집
+        List<LocalDate> workDates = new ArrayList<>();
+        for (LocalDate currentDate = startDate; !currentDate.isAfter(repeatEndDate); currentDate = currentDate.plusDays(1)) {
+            if (repeatDays.contains(currentDate.getDayOfWeek())) { workDates.add(currentDate); }
+        }
+        if (workDates.isEmpty()) { throw new BadRequestException("반복 규칙에 해당하는 근무일이 없습니다."); }
+        return workDates;
+    }
+
+    /// 반복 근무들이 공통으로 사용하는 일급 정보를 계산합니다. (주휴수당 0으로 계산)
+    private Work calculateRecurringDailyIncome(LocalDateTime startTime, LocalDateTime endTime, Integer restTimeMinutes, Salary salary) {
+        int hourlyRate = (salary != null && salary.getHourlyRate() != null) ? salary.getHourlyRate() : 0;
+        boolean hasNightAllowance = (salary != null) && salary.getHasNightAllowance();
+
+        Work tempWork = Work.builder().startTime(startTime).endTime(endTime).restTimeMinutes(restTimeMinutes).hourlyRate(hourlyRate).build();
+        return salaryCalculationService.calculateDailyIncome(tempWork, 0, hasNightAllowance);
+    }
+
+    /// 특정 날짜의 반복 근무 엔티티를 만듭니다. (일급 정보 재사용, 실제 시간은 null)
+    private Work toRecurringWork(Work workWithDailyIncome, Worker worker, LocalDate workDate,
+                                 LocalDateTime startTime, LocalDateTime endTime, String memo, String repeatGroupId) {
+        long dayOffset = ChronoUnit.DAYS.between(startTime.toLocalDate(), endTime.toLocalDate()); // 종료일이 다음날인지 확인
+        return workWithDailyIncome.toBuilder()
+                .id(null).workerId(worker.getId()).workDate(workDate)
+                .startTime(startTime.with(workDate)) // 날짜만 변경
+                .endTime(endTime.with(workDate.plusDays(dayOffset))) // 날짜 변경 (+ 다음날 여부)
+                .actualStartTime(null) // 반복 생성 시 실제 시간 null
+                .actualEndTime(null)   // 반복 생성 시 실제 시간 null
+                .memo(memo)
+                .repeatGroupId(repeatGroupId) // 동일한 그룹 ID
+                .build();
+    }
+
+    /// 반복 규칙 엔티티를 만듭니다. (반복 요일/종료일 조회 시 근무 목록을 역산하지 않도록 실제 근무일 기준으로 저장)
+    private WorkRepeatGroup toWorkRepeatGroup(String repeatGroupId, Worker worker, LocalDateTime startTime, LocalDateTime endTime,
+                                              Integer restTimeMinutes, String memo, List<LocalDate> workDates) {
+        return WorkRepeatGroup.builder()
+                .id(repeatGroupId)
+                .workerId(worker.getId())
+                .repeatDays(workDates.stream()
+                        .map(LocalDate::getDayOfWeek)
+                        .distinct().sorted()
+                        .map(DayOfWeek::name)
+                        .collect(Collectors.joining(",")))
+                .startDate(startTime.toLocalDate())
+                .endDate(workDates.get(workDates.size() - 1))
+                .startTime(startTime.toLocalTime())
+                .endTime(endTime.toLocalTime())
+                .restTimeMinutes(restTimeMinutes)
+                .memo(memo)
+                .build();
     }
 
     /// 반복 중단: 미래 반복 삭제 후 현재 근무는 단일로 업데이트
@@ -829,36 +1025,147 @@ public class WorkService {
         // 1. 기존에 반복 그룹이 있었는지 확인
         if (currentWork.getRepeatGroupId() != null) {
             // 2. 현재 근무의 '다음 날'부터 미래 반복 삭제
+            List<WorkRepository.WorkMonthDto> affectedMonths = workRepository.findDistinctWorkMonthsAfter(worker.getId(), currentWork.getWorkDate());
+            workTombstoneRepository.createAllByRepeatGroupIdAfterDate(currentWork.getRepeatGroupId(), currentWork.getWorkDate());
             long deletedCount = workRepository.deleteRecurringWorkAfterDate(currentWork.getRepeatGroupId(), currentWork.getWorkDate());
             log.info("Stopped recurrence: Deleted {} future works after {} for group {}", deletedCount, currentWork.getWorkDate(), currentWork.getRepeatGroupId());
+            markWorkMonthsDirty(worker.getId(), affectedMonths, salaryRepository.findByWorkerId(worker.getId()).orElse(null));
         }
 
         // 3. 현재 근무는 '단일' 근무로 업데이트 (repeatGroupId = null)
         updateSingleWorkInternal(worker, currentWork.getId(), newStartTime, newEndTime,
                 newActualStartTime, newActualEndTime, newRestTimeMinutes, newMemo,
                 null); // repeatGroupId를 null로 설정하여 반복 중단
+
+        // 4. 현재 근무도 그룹에서 빠졌으므로 반복 규칙은 이전의 마지막 근무에서 종료
+        if (currentWork.getRepeatGroupId() != null) {
+            syncRepeatGroupWithWorks(worker.getId(), currentWork.getRepeatGroupId());
+        }
     }
 
-    /// 새로운 반복 시작/변경: 기존 반복 삭제 후 새로운 반복 생성
+    /// 새로운 반복 시작/변경: 기존 일정(현재 근무 포함 이후)과 새 반복 규칙을 비교해 바뀐 근무만 반영
+    ///
+    /// - 새 규칙에도 있는 날짜의 근무는 그대로 두고(ID, 실제 출퇴근 시간, 루틴 유지), 값이 다른 근무만 집합 단위 UPDATE로 수정합니다.
+    /// - 요일/종료일 변경으로 사라진 날짜의 근무만 삭제하고, 새로 생긴 날짜의 근무만 삽입합니다.
+    /// - 주급 재계산은 근무 시간이 바뀌었거나 추가/삭제된 근무의 주만 등록합니다. (메모만 바뀌면 재계산 없음)
+    /// - 현재 근무 이전의 근무가 남아 있으면 반복 그룹을 나누고(새 그룹 ID), 없으면 기존 그룹 ID를 그대로 사용합니다.
     private List<Work> replaceWithNewRecurringWorks(Worker worker, Work currentWork, LocalDateTime newStartTime, LocalDateTime newEndTime,
                                                     Integer newRestTimeMinutes, String newMemo,
                                                     List<DayOfWeek> newRepeatDays, LocalDate newRepeatEndDate,
                                                     Long userIdForRoutine, List<Long> routineIdList) {
-        // 1. 기존에 반복 그룹이 있었는지 확인
-        if (currentWork.getRepeatGroupId() != null) {
-            // 2. 현재 근무 '포함'하여 미래 반복 삭제
-            long deletedCount = workRepository.deleteRecurringWorkFromDate(currentWork.getRepeatGroupId(), currentWork.getWorkDate());
-            log.info("Replacing recurrence: Deleted {} works from {} for group {}", deletedCount, currentWork.getWorkDate(), currentWork.getRepeatGroupId());
+        Salary salary = salaryRepository.findByWorkerId(worker.getId()).orElse(null);
+        List<LocalDate> newWorkDates = computeRecurringWorkDates(newStartTime, newEndTime, newRepeatDays, newRepeatEndDate);
+
+        // 1. 비교할 기존 일정 로드 (반복 근무면 같은 그룹의 현재 근무 포함 이후, 단일 근무면 현재 근무만)
+        String oldRepeatGroupId = currentWork.getRepeatGroupId();
+        List<Work> existingWorks = List.of(currentWork);
+        boolean hasEarlierWorks = false;
+        if (oldRepeatGroupId != null) {
+            List<Work> groupWorks = workRepository.findAllByRepeatGroupId(oldRepeatGroupId);
+            existingWorks = groupWorks.stream().filter(w -> !w.getWorkDate().isBefore(currentWork.getWorkDate())).toList();
+            hasEarlierWorks = existingWorks.size() < groupWorks.size();
+        }
+        String repeatGroupId = (oldRepeatGroupId != null && !hasEarlierWorks) ? oldRepeatGroupId : UUID.randomUUID().toString();
+        RepeatInfo oldRepeatInfo = repeatGroupId.equals(oldRepeatGroupId) ? getRepeatInfo(oldRepeatGroupId) : null; // 변경 전 규칙 (그룹 유지 시)
+
+        // 2. 날짜 기준으로 유지할 근무와 삭제할 근무 분류 (같은 날짜에 여러 근무가 있으면 하나만 유지)
+        Set<LocalDate> newWorkDateSet = new HashSet<>(newWorkDates);
+        Map<LocalDate, Work> keptWorkMap = new HashMap<>();
+        List<Work> worksToDelete = new ArrayList<>();
+        for (Work existingWork : existingWorks) {
+            if (newWorkDateSet.contains(existingWork.getWorkDate()) && !keptWorkMap.containsKey(existingWork.getWorkDate())) {
+                keptWorkMap.put(existingWork.getWorkDate(), existingWork);
+            } else {
+                worksToDelete.add(existingWork);
+            }
+        }
+
+        // 3. 유지할 근무 중 실제로 바뀌는 근무만 분류 (근무 시간/휴게/시급 변경 vs 메모/반복 그룹만 변경)
+        Work workWithDailyIncome = calculateRecurringDailyIncome(newStartTime, newEndTime, newRestTimeMinutes, salary);
+        Set<LocalDate> datesToRecalculate = new TreeSet<>();
+        List<Long> rescheduledWorkIdList = new ArrayList<>();
+        List<Long> relabeledWorkIdList = new ArrayList<>();
+        Set<YearMonth> relabeledMonths = new HashSet<>();
+        for (Work keptWork : keptWorkMap.values()) {
+            Work desiredWork = toRecurringWork(workWithDailyIncome, worker, keptWork.getWorkDate(), newStartTime, newEndTime, newMemo, repeatGroupId);
+            if (!Objects.equals(desiredWork.getStartTime(), keptWork.getStartTime())
+                    || !Objects.equals(desiredWork.getEndTime(), keptWork.getEndTime())
+                    || !Objects.equals(desiredWork.getRestTimeMinutes(), keptWork.getRestTimeMinutes())
+                    || !Objects.equals(desiredWork.getHourlyRate(), keptWork.getHourlyRate())) {
+                rescheduledWorkIdList.add(keptWork.getId());
+                datesToRecalculate.add(keptWork.getWorkDate());
+            } else if (!Objects.equals(newMemo, keptWork.getMemo()) || !repeatGroupId.equals(keptWork.getRepeatGroupId())) {
+                relabeledWorkIdList.add(keptWork.getId());
+                relabeledMonths.add(YearMonth.from(keptWork.getWorkDate()));
+            }
+        }
+        if (!rescheduledWorkIdList.isEmpty()) {
+            workRepository.updateRecurringWorkTimesBatch(rescheduledWorkIdList, worker.getId(),
+                    newStartTime.toLocalTime(), newEndTime.toLocalTime(),
+                    ChronoUnit.DAYS.between(newStartTime.toLocalDate(), newEndTime.toLocalDate()),
+                    workWithDailyIncome.toBuilder().memo(newMemo).repeatGroupId(repeatGroupId).build());
+        }
+        if (!relabeledWorkIdList.isEmpty()) {
+            workRepository.updateMemoAndRepeatGroupIdBatch(relabeledWorkIdList, worker.getId(), newMemo, repeatGroupId);
+            // 급여 재계산 없이 캘린더만 갱신
+            relabeledMonths.forEach(yearMonth -> calendarVersionStore.markWorkMonthChanged(worker.getId(), yearMonth));
+        }
+
+        // 4. 사라진 날짜의 근무 삭제 (루틴 매핑은 CASCADE)
+        if (!worksToDelete.isEmpty()) {
+            List<Long> workIdListToDelete = worksToDelete.stream().map(Work::getId).toList();
+            workTombstoneRepository.createAll(workIdListToDelete, worker.getId());
+            workRepository.deleteAllByIdListInAndWorkerId(workIdListToDelete, worker.getId());
+            worksToDelete.forEach(work -> datesToRecalculate.add(work.getWorkDate()));
+        }
+
+        // 5. 새로 생긴 날짜의 근무만 삽입
+        List<Work> worksToCreate = newWorkDates.stream()
+                .filter(workDate -> !keptWorkMap.containsKey(workDate))
+                .map(workDate -> toRecurringWork(workWithDailyIncome, worker, workDate, newStartTime, newEndTime, newMemo, repeatGroupId))
+                .toList();
+        if (!worksToCreate.isEmpty()) {
+            workRepository.createBatch(worksToCreate);
+            worksToCreate.forEach(work -> datesToRecalculate.add(work.getWorkDate()));
+        }
+        log.info("Updated recurrence {}: kept {} (rescheduled {}, relabeled {}), deleted {}, created {}",
+                repeatGroupId, keptWorkMap.size(), rescheduledWorkIdList.size(), relabeledWorkIdList.size(),
+                worksToDelete.size(), worksToCreate.size());
+
+        // 6. 반복 규칙 저장
+        WorkRepeatGroup newRepeatGroup = toWorkRepeatGroup(repeatGroupId, worker, newStartTime, newEndTime, newRestTimeMinutes, newMemo, newWorkDates);
+        if (oldRepeatInfo != null) {
+            workRepeatGroupRepository.createOrUpdate(newRepeatGroup);
+            // 반복 요일/종료일은 그룹의 모든 근무에 표시되므로, 바뀌었으면 그대로 둔 근무도 동기화 대상으로 갱신
+            if (!toRepeatInfo(newRepeatGroup).equals(oldRepeatInfo)) {
+                workRepository.touchAllByRepeatGroupId(repeatGroupId);
+                calendarVersionStore.markWorkerChanged(worker.getId());
+            }
         } else {
-            // 기존이 단일 근무였다면 해당 근무만 삭제
-            deleteWorkHelper(worker, currentWork);
-            log.info("Replacing single work with recurrence: Deleted work id {}", currentWork.getId());
+            workRepeatGroupRepository.create(newRepeatGroup);
+            if (oldRepeatGroupId != null) {
+                // 현재 근무 이전의 근무만 기존 그룹에 남으므로 기존 반복 규칙은 그 마지막 근무에서 종료
+                syncRepeatGroupWithWorks(worker.getId(), oldRepeatGroupId);
+            }
+        }
+
+        // 7. 근무 시간이 바뀌었거나 추가/삭제된 근무의 주만 재계산 대상으로 등록 (주/월 중복은 커밋 직전에 합쳐짐)
+        for (LocalDate workDate : datesToRecalculate) {
+            salaryRecalculationCoordinator.markWorkWeekDirty(worker.getId(), workDate, salary);
         }
 
-        // 3. 새로운 반복 근무 생성 및 반환 (createRecurringWorks 헬퍼 재사용)
-        return createRecurringWorks(worker, newStartTime, newEndTime,
-                newRestTimeMinutes, newMemo, newRepeatDays, newRepeatEndDate,
-                userIdForRoutine, routineIdList);
+        // 8. 결과 근무 로드 (새로 삽입된 근무의 ID 포함)
+        List<Work> resultingWorks = workRepository.findAllByWorkerIdAndDateRange(
+                        worker.getId(), newStartTime.toLocalDate(), newRepeatEndDate).stream()
+                .filter(w -> Objects.equals(repeatGroupId, w.getRepeatGroupId()))
+                .collect(Collectors.toList());
+
+        // 루틴 목록이 주어지면 모든 결과 근무의 루틴 매핑을 교체 (주어지지 않으면 유지된 근무의 기존 루틴 유지)
+        if (userIdForRoutine != null && routineIdList != null) {
+            routineService.saveWorkRoutineMappingBatch(userIdForRoutine, routineIdList, resultingWorks.stream().map(Work::getId).toList());
+        }
+
+        return resultingWorks;
     }
 
     /// '단일' 근무 업데이트 공통 로직
@@ -889,35 +1196,59 @@ public class WorkService {
 
         workRepository.update(workToUpdate);
 
-        salaryCalculationService.recalculateWorkWeek(worker.getId(), workToUpdate.getWorkDate(), salary);
+        salaryRecalculationCoordinator.markWorkWeekDirty(worker.getId(), workToUpdate.getWorkDate(), salary);
     }
 
     /// '단일' 근무 삭제 헬퍼 (루틴 매핑 포함)
     private void deleteWorkHelper(Worker worker, Work work) {
         routineService.deleteWorkRoutineMappingByWorkId(work.getId());
+        workTombstoneRepository.create(work.getId(), worker.getId());
         workRepository.delete(work.getId(), worker.getId());
 
+        // 반복 근무의 첫/마지막 근무를 삭제하면 반복 규칙의 시작일/종료일을 남은 근무에 맞춤 (중간 근무는 규칙 변경 없음)
+        if (work.getRepeatGroupId() != null) {
+            workRepeatGroupRepository.findById(work.getRepeatGroupId())
+                    .filter(workRepeatGroup -> work.getWorkDate().equals(workRepeatGroup.getStartDate())
+                            || work.getWorkDate().equals(workRepeatGroup.getEndDate()))
+                    .ifPresent(workRepeatGroup -> syncRepeatGroupWithWorks(worker.getId(), workRepeatGroup.getId()));
+        }
+
         Salary salary = salaryRepository.findByWorkerId(worker.getId()).orElse(null);
 
-        salaryCalculationService.recalculateWorkWeek(worker.getId(), work.getWorkDate(), salary);
+        salaryRecalculationCoordinator.markWorkWeekDirty(worker.getId(), work.getWorkDate(), salary);
+    }
+
+    /// 반복 근무 일부가 삭제되거나 다른 그룹으로 옮겨진 뒤, 반복 규칙을 남은 근무에 맞추는 헬퍼
+    ///
+    /// 반복 종료일이 실제 근무가 없는 날짜가 되지 않도록 남은 마지막 근무일로 맞추고, 남은 근무가 없으면 규칙을 삭제합니다.
+    /// 반복 종료일은 그룹의 모든 근무(이전 달 포함)에 표시되므로 남은 근무를 동기화 대상으로 갱신하고 근무자 전체 캘린더 버전을 갱신합니다.
+    private void syncRepeatGroupWithWorks(Long workerId, String repeatGroupId) {
+        workRepeatGroupRepository.updateDateRangeToWorks(repeatGroupId);
+        workRepeatGroupRepository.deleteIfNoWorks(repeatGroupId);
+        workRepository.touchAllByRepeatGroupId(repeatGroupId);
+        calendarVersionStore.markWorkerChanged(workerId);
+    }
+
+    /// 반복 근무 일괄 삭제로 근무가 사라진 월들을 재계산 대상으로 등록합니다.
+    /// 삭제된 근무가 여러 달에 걸쳐 있어도 월간 급여 요약과 추정 세후 일급이 어긋나지 않도록, 삭제 전에 조회한 월 목록을 받습니다.
+    private void markWorkMonthsDirty(Long workerId, List<WorkRepository.WorkMonthDto> workMonths, Salary salary) {
+        for (WorkRepository.WorkMonthDto workMonth : workMonths) {
+            salaryRecalculationCoordinator.markWorkMonthDirty(workerId, YearMonth.of(workMonth.year(), workMonth.month()), salary);
+        }
     }
 
     /// (이하 나머지 헬퍼 메서드 ... 생략) ...
     /// 근무 조회 시 권한 검증 및 기본 정보 로드 헬퍼
     private VerifiedWorkContextForRead getVerifiedWorkContextForRead(Long requesterUserId, Long workId) {
-        // 관련 엔티티 로드
-        Work work = workRepository.findById(workId).orElseThrow(WorkNotFoundException::new);
-        Worker requestedWorker = workerRepository.findById(work.getWorkerId()).orElseThrow(WorkerNotFoundException::new);
-        Workplace workplace = workplaceRepository.findById(requestedWorker.getWorkplaceId()).orElseThrow(WorkplaceNotFoundException::new);
+        // 관련 엔티티 로드 (근무자의 User 정보 포함, 조회 실패 시 null)
+        AccessContextResolver.WorkAccess access = accessContextResolver.resolveWork(workId);
+        Work work = access.work();
+        Worker requestedWorker = access.worker();
+        Workplace workplace = access.workplace();
+        User workerUser = access.workerUser();
         // 권한 검증
         permissionVerifyUtil.verifyWorkerPermission(requesterUserId, requestedWorker.getUserId(), workplace.getOwnerId());
 
-        // 근무자의 User 정보 조회
-        User workerUser = null;
-        if (requestedWorker.getUserId() != null) {
-            workerUser = userRepository.findById(requestedWorker.getUserId()).orElse(null); // 조회 실패 시 null
-        }
-
         // 필요한 값 계산 및 DTO 생성
         long workMinutes = work.getNetWorkMinutes() != null ? work.getNetWorkMinutes() : 0; // 순수 근무 시간
         WorkerSummaryResponse workerSummaryInfo = createWorkerSummary(requestedWorker, workerUser);
@@ -928,14 +1259,19 @@ public class WorkService {
         return new VerifiedWorkContextForRead(work, workMinutes, requestedWorker, workerSummaryInfo, workplaceSummary, isEditable);
     }
 
+    /// 근무 일정 변경을 매장 실시간 이벤트로 발행합니다. (커밋 후 발행)
+    private void publishScheduleChanged(Worker worker) {
+        workplaceEventHub.publish(WorkplaceEventType.SCHEDULE_CHANGED, worker.getWorkplaceId(), worker.getId());
+    }
+
     /// 근무 수정/삭제 시 권한 검증 및 기본 정보 로드 헬퍼
     private VerifiedWorkContextForUD getVerifiedWorkContextForUD(Long requesterUserId, Long workId) {
         // 관련 엔티티 로드
-        Work work = workRepository.findById(workId).orElseThrow(WorkNotFoundException::new);
-        Worker worker = workerRepository.findById(work.getWorkerId()).orElseThrow(WorkerNotFoundException::new);
-        Workplace workplace = workplaceRepository.findById(worker.getWorkplaceId()).orElseThrow(WorkplaceNotFoundException::new);
+        AccessContextResolver.WorkAccess access = accessContextResolver.resolveWork(workId);
+        Work work = access.work();
+        Worker worker = access.worker();
         // 권한 검증
-        permissionVerifyUtil.verifyWorkerPermission(requesterUserId, worker.getUserId(), workplace.getOwnerId());
+        permissionVerifyUtil.verifyWorkerPermission(requesterUserId, worker.getUserId(), access.workplace().getOwnerId());
         // 결과 반환
         return new VerifiedWorkContextForUD(work, worker);
     }
@@ -1004,6 +1340,13 @@ public class WorkService {
 
     /// 반복 그룹 ID로 반복 요일과 종료일을 조회하는 헬퍼
     private RepeatInfo getRepeatInfo(String repeatGroupId) {
+        return workRepeatGroupRepository.findById(repeatGroupId)
+                .map(this::toRepeatInfo)
+                .orElseGet(() -> getLegacyRepeatInfo(repeatGroupId));
+    }
+
+    /// 반복 규칙이 저장되기 이전에 생성된 반복 근무의 요일과 종료일을 근무 목록에서 역산하는 헬퍼
+    private RepeatInfo getLegacyRepeatInfo(String repeatGroupId) {
         // 1. 반복 종료일 조회
         LocalDate endDate = workRepository.findLastWorkDateByRepeatGroupId(repeatGroupId)
                 .orElse(null); // 종료일이 없는 경우는 없어야 하지만 방어 코드
@@ -1019,6 +1362,17 @@ public class WorkService {
         return new RepeatInfo(daysOfWeek, endDate);
     }
 
+    /// 저장된 반복 규칙을 반복 정보로 변환하는 헬퍼 (repeat_days: "MONDAY,WEDNESDAY" 형식의 SET 값)
+    private RepeatInfo toRepeatInfo(WorkRepeatGroup workRepeatGroup) {
+        List<DayOfWeek> daysOfWeek = Arrays.stream(workRepeatGroup.getRepeatDays().split(","))
+                .map(this::dayNameToDayOfWeek)
+                .filter(Objects::nonNull)
+                .sorted()
+                .collect(Collectors.toList());
+
+        return new RepeatInfo(daysOfWeek, workRepeatGroup.getEndDate());
+    }
+
     /// DB에서 반환된 요일 이름 문자열을 DayOfWeek Enum으로 변환하는 헬퍼
     private DayOfWeek dayNameToDayOfWeek(String dayName) {
         if (dayName == null) return null;
@@ -1030,23 +1384,81 @@ public class WorkService {
         }
     }
 
-    /// 특정 기간 동안 주어진 근무자 ID 목록에 대한 근무 기록과 반복 정보를 미리 로드합니다.
-    private CalendarWorkData preloadCalendarWorkData(List<Long> workerIdList, LocalDate startDate, LocalDate endDate) {
-        // 1. Work 정보 한 번에 조회
-        List<Work> allWorks = workRepository.findAllByWorkerIdListInAndDateRange(workerIdList, startDate, endDate);
+    /// 캘린더 조회 기간(기준 월의 앞뒤 6개월)의 월 목록을 반환합니다.
+    private List<YearMonth> getCalendarMonths(YearMonth baseYearMonth) {
+        List<YearMonth> calendarMonths = new ArrayList<>();
+        for (YearMonth yearMonth = baseYearMonth.minusMonths(6); !yearMonth.isAfter(baseYearMonth.plusMonths(6)); yearMonth = yearMonth.plusMonths(1)) {
+            calendarMonths.add(yearMonth);
+        }
+        return calendarMonths;
+    }
+
+    private List<CalendarProjectionStore.WorkerMonth> toWorkerMonthList(List<Long> workerIdList, List<YearMonth> months) {
+        List<CalendarProjectionStore.WorkerMonth> workerMonthList = new ArrayList<>(workerIdList.size() * months.size());
+        for (Long workerId : workerIdList) {
+            months.forEach(yearMonth -> workerMonthList.add(new CalendarProjectionStore.WorkerMonth(workerId, yearMonth)));
+        }
+        return workerMonthList;
+    }
 
-        // 2. Work 정보 Map으로 변환 (workerId를 key로 그룹화)
-        Map<Long, List<Work>> workMapByWorker = allWorks.stream()
-                .collect(Collectors.groupingBy(Work::getWorkerId));
+    /// 근무자별 월 캘린더 프로젝션을 조회하고, 없는 (근무자, 월)만 DB에서 만들어 저장합니다.
+    private Map<CalendarProjectionStore.WorkerMonth, byte[]> loadCalendarProjections(List<CalendarProjectionStore.WorkerMonth> workerMonthList) {
+        CalendarProjectionStore.Lookup lookup = calendarProjectionStore.findAll(workerMonthList);
+        if (lookup.missing().isEmpty()) { return lookup.projections(); }
 
-        // 3. 반복 정보 캐시 생성
-        Map<String, RepeatInfo> repeatInfoCache = prefetchRepeatInfo(allWorks);
+        Map<CalendarProjectionStore.WorkerMonth, byte[]> builtProjections = buildCalendarProjections(lookup.missing());
+        calendarProjectionStore.saveAll(lookup, builtProjections);
 
-        // 4. 결과 반환
-        return new CalendarWorkData(allWorks, workMapByWorker, repeatInfoCache);
+        Map<CalendarProjectionStore.WorkerMonth, byte[]> projectionMap = new HashMap<>(lookup.projections());
+        projectionMap.putAll(builtProjections);
+        return projectionMap;
     }
 
-    /// 근무 목록에서 반복 그룹 ID를 추출하고, 최적화된 쿼리로 반복 정보를 미리 조회하여 캐시를 생성합니다.
+    /// (근무자, 월) 목록의 근무와 급여 / 반복 정보를 한 번에 조회해 월 프로젝션을 만듭니다. (근무가 없는 월은 빈 프로젝션)
+    private Map<CalendarProjectionStore.WorkerMonth, byte[]> buildCalendarProjections(List<CalendarProjectionStore.WorkerMonth> workerMonthList) {
+        List<Long> workerIdList = workerMonthList.stream().map(CalendarProjectionStore.WorkerMonth::workerId).distinct().toList();
+        YearMonth fromYearMonth = workerMonthList.stream().map(CalendarProjectionStore.WorkerMonth::yearMonth).min(Comparator.naturalOrder()).orElseThrow();
+        YearMonth toYearMonth = workerMonthList.stream().map(CalendarProjectionStore.WorkerMonth::yearMonth).max(Comparator.naturalOrder()).orElseThrow();
+
+        // Work / Salary / 반복 정보 한 번에 조회 (N+1 방지)
+        List<Work> works = workRepository.findAllByWorkerIdListInAndDateRange(workerIdList, fromYearMonth.atDay(1), toYearMonth.atEndOfMonth());
+        Map<Long, Salary> salaryMap = salaryRepository.findAllByWorkerIdListIn(workerIdList)
+                .stream()
+                .collect(Collectors.toMap(Salary::getWorkerId, s -> s));
+        Map<String, RepeatInfo> repeatInfoCache = prefetchRepeatInfo(works);
+
+        // 근무자 / 근무지 요약과 요청자별 플래그는 프로젝션에 저장하지 않음
+        Set<CalendarProjectionStore.WorkerMonth> targets = new HashSet<>(workerMonthList);
+        Map<CalendarProjectionStore.WorkerMonth, List<WorkSummaryResponse>> workSummaryMap = new HashMap<>();
+        for (Work work : works) {
+            CalendarProjectionStore.WorkerMonth workerMonth = new CalendarProjectionStore.WorkerMonth(work.getWorkerId(), YearMonth.from(work.getWorkDate()));
+            if (!targets.contains(workerMonth)) continue;
+            long workMinutes = work.getNetWorkMinutes() != null ? work.getNetWorkMinutes() : 0;
+            workSummaryMap.computeIfAbsent(workerMonth, key -> new ArrayList<>())
+                    .add(convertWorkToSummaryResponse(work, null, null, workMinutes, true, true, repeatInfoCache, salaryMap.get(work.getWorkerId())));
+        }
+
+        Map<CalendarProjectionStore.WorkerMonth, byte[]> builtProjections = new HashMap<>();
+        for (CalendarProjectionStore.WorkerMonth workerMonth : workerMonthList) {
+            builtProjections.put(workerMonth, CalendarProjectionStore.encode(workSummaryMap.getOrDefault(workerMonth, Collections.emptyList())));
+        }
+        return builtProjections;
+    }
+
+    /// 근무자의 월 프로젝션들을 월 순서대로 복원합니다.
+    private List<WorkSummaryResponse> decodeCalendarProjections(Map<CalendarProjectionStore.WorkerMonth, byte[]> projectionMap, Long workerId,
+                                                                List<YearMonth> months, WorkerSummaryResponse workerSummaryInfo,
+                                                                WorkplaceSummaryResponse workplaceSummaryInfo, boolean isMyWork, boolean isEditable) {
+        List<WorkSummaryResponse> workSummaryList = new ArrayList<>();
+        for (YearMonth yearMonth : months) {
+            byte[] projection = projectionMap.get(new CalendarProjectionStore.WorkerMonth(workerId, yearMonth));
+            if (projection == null) continue;
+            workSummaryList.addAll(CalendarProjectionStore.decode(projection, workerSummaryInfo, workplaceSummaryInfo, isMyWork, isEditable));
+        }
+        return workSummaryList;
+    }
+
+    /// 근무 목록에서 반복 그룹 ID를 추출하고, 저장된 반복 규칙을 한 번에 조회하여 캐시를 생성합니다.
     private Map<String, RepeatInfo> prefetchRepeatInfo(List<Work> works) {
         // 1. 목록에서 고유한 repeatGroupId 추출
         Set<String> repeatGroupIds = works.stream()
@@ -1058,16 +1470,35 @@ public class WorkService {
             return Collections.emptyMap(); // 반복 근무가 없으면 빈 맵 반환
         }
 
-        // 2. [쿼리 1] 모든 그룹의 마지막 날짜(endDate)를 한 번에 조회
+        // 2. [쿼리 1] 모든 그룹의 반복 규칙을 한 번에 조회
+        Map<String, RepeatInfo> cache = new HashMap<>();
+        for (WorkRepeatGroup workRepeatGroup : workRepeatGroupRepository.findAllByIdListIn(repeatGroupIds)) {
+            cache.put(workRepeatGroup.getId(), toRepeatInfo(workRepeatGroup));
+        }
+
+        // 3. 반복 규칙이 없는 그룹(규칙 저장 이전 데이터)만 근무 목록에서 역산
+        Set<String> legacyGroupIds = repeatGroupIds.stream()
+                .filter(groupId -> !cache.containsKey(groupId))
+                .collect(Collectors.toSet());
+        if (!legacyGroupIds.isEmpty()) {
+            cache.putAll(prefetchLegacyRepeatInfo(legacyGroupIds));
+        }
+
+        return cache;
+    }
+
+    /// 반복 규칙이 저장되기 이전에 생성된 반복 그룹들의 요일과 종료일을 근무 목록에서 역산하여 캐시를 생성합니다.
+    private Map<String, RepeatInfo> prefetchLegacyRepeatInfo(Set<String> repeatGroupIds) {
+        // 1. [쿼리 1] 모든 그룹의 마지막 날짜(endDate)를 한 번에 조회
         Map<String, LocalDate> endDateMap = workRepository.findLastWorkDatesByGroupIdList(repeatGroupIds)
                 .stream()
                 .collect(Collectors.toMap(WorkRepository.GroupIdAndDate::groupId,
                         WorkRepository.GroupIdAndDate::lastDate));
 
-        // 3. [쿼리 2] 모든 그룹의 (그룹 ID, 요일 이름) 쌍을 한 번에 조회
+        // 2. [쿼리 2] 모든 그룹의 (그룹 ID, 요일 이름) 쌍을 한 번에 조회
         List<WorkRepository.GroupIdAndDayName> dayNamePairs = workRepository.findDistinctDayNamesByGroupIdList(repeatGroupIds);
 
-        // 4. (그룹 ID, 요일 이름) 쌍 리스트를 -> Map<그룹 ID, List<DayOfWeek>> 로 변환
+        // 3. (그룹 ID, 요일 이름) 쌍 리스트를 -> Map<그룹 ID, List<DayOfWeek>> 로 변환
         Map<String, List<DayOfWeek>> daysMap = new HashMap<>();
         for (WorkRepository.GroupIdAndDayName pair : dayNamePairs) {
             DayOfWeek dayOfWeek = dayNameToDayOfWeek(pair.dayName());
@@ -1079,7 +1510,7 @@ public class WorkService {
         // 각 그룹의 요일 리스트 정렬
         daysMap.values().forEach(Collections::sort);
 
-        // 5. 최종 캐시 Map 생성 (endDateMap과 daysMap 조합)
+        // 4. 최종 캐시 Map 생성 (endDateMap과 daysMap 조합)
         Map<String, RepeatInfo> cache = new HashMap<>();
         for (String groupId : repeatGroupIds) {
             LocalDate endDate = endDateMap.get(groupId); // null일 수 없음 (이론상)
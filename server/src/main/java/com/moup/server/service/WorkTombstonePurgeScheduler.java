@@ -0,0 +1,41 @@
+package com.moup.server.service;
+
+import com.moup.server.repository.WorkRepository;
+import com.moup.server.repository.WorkTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/// 보관 기간이 지난 근무 삭제 기록(tombstone)을 주기적으로 정리하는 스케줄러 (보관 기간보다 오래된 동기화 토큰은 전체 재조회로 처리)
+///
+/// `deleted_at`은 DB 시각으로 기록되므로 기준 시각도 DB 현재 시각에서 계산합니다. (서버와 DB의 시간대/시계 차이 방지)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkTombstonePurgeScheduler {
+
+    private static final int PURGE_CHUNK_SIZE = 1000; // 한 번에 삭제할 최대 개수
+
+    private final WorkRepository workRepository;
+    private final WorkTombstoneRepository workTombstoneRepository;
+
+    /// 삭제 기록 보관 기간 (일)
+    @Value("${work.sync.retention-days:30}")
+    private long retentionDays;
+
+    @Scheduled(fixedDelayString = "${work.sync.tombstone-purge-interval:3600000}")
+    public void purgeExpiredWorkTombstones() {
+        LocalDateTime cutoff = workRepository.getCurrentTimestamp().minusDays(retentionDays);
+        int purgedCount = 0;
+        int deletedCount;
+        do {
+            deletedCount = workTombstoneRepository.deleteAllByDeletedAtBefore(cutoff, PURGE_CHUNK_SIZE);
+            purgedCount += deletedCount;
+        } while (deletedCount == PURGE_CHUNK_SIZE);
+        if (purgedCount > 0) { log.info("Purged {} expired work tombstones before {}", purgedCount, cutoff); }
+    }
+}
@@ -0,0 +1,54 @@
+package com.moup.server.service;
+
+import com.moup.server.repository.WorkerMonthSummaryRepository;
+import com.moup.server.repository.WorkerRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/// 월간 급여 요약 테이블(`worker_month_summaries`) 도입 이전 근무 기록의 요약 행을 채우는 서비스
+///
+/// 요약 행이 없는 근무 월이 남아 있으면 요청을 받기 전(빈 초기화 시점)에 근무자 ID 구간 단위로 생성합니다.
+/// 조회 API는 요약 행이 없을 때 근무 기록으로 계산만 하고 저장하지 않으므로(읽기 전용 트랜잭션), 요약 행은 이 서비스와 재계산만 씁니다.
+/// 이미 있는 요약은 건너뛰므로 여러 번 실행해도 결과가 같습니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkerMonthSummaryBackfillService {
+
+    private final WorkerMonthSummaryRepository workerMonthSummaryRepository;
+    private final WorkerRepository workerRepository;
+    private final SalaryCalculationService salaryCalculationService;
+    private final TransactionTemplate transactionTemplate;
+
+    /// 한 트랜잭션에서 처리할 근무자 ID 구간 크기
+    @Value("${salary.summary-backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    @PostConstruct
+    public void backfill() {
+        if (!workerMonthSummaryRepository.existsWorkMonthWithoutSummary()) { return; }
+
+        long maxWorkerId = workerRepository.findMaxId();
+        long startNanos = System.nanoTime();
+        long summaryCount = 0;
+        for (long fromWorkerId = 0; fromWorkerId < maxWorkerId; fromWorkerId += chunkSize) {
+            summaryCount += backfillChunk(fromWorkerId, Math.min(fromWorkerId + chunkSize, maxWorkerId));
+        }
+
+        log.info("Worker month summary backfill finished: {} summaries in {} ms",
+                summaryCount, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /// 근무자 ID 구간 (fromWorkerId, toWorkerId]의 빠진 월간 급여 요약을 생성합니다. (구간마다 별도 트랜잭션)
+    ///
+    /// @return 생성한 요약 수
+    int backfillChunk(long fromWorkerId, long toWorkerId) {
+        Integer summaryCount = transactionTemplate.execute(status ->
+                salaryCalculationService.backfillWorkerMonthSummaries(fromWorkerId, toWorkerId));
+        return summaryCount == null ? 0 : summaryCount;
+    }
+}
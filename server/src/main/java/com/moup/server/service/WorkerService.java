@@ -1,6 +1,5 @@
 package com.moup.server.service;
 
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.moup.server.common.AlarmContent;
 import com.moup.server.common.AlarmTitle;
 import com.moup.server.exception.*;
@@ -14,8 +13,13 @@ import com.moup.server.util.PermissionVerifyUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +40,10 @@ public class WorkerService {
     private final WorkRepository workRepository;
     private final SalaryCalculationService salaryCalculationService;
     private final FCMService fCMService;
+    private final WorkplaceEventHub workplaceEventHub;
+    private final CalendarVersionStore calendarVersionStore;
+    private final AccessContextResolver accessContextResolver;
+    private final AttendanceStateStore attendanceStateStore;
 
     public WorkerSummaryListResponse getWorkerList(Long userId, Long workplaceId) {
         Workplace userWorkplace = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new);
@@ -126,168 +134,195 @@ public class WorkerService {
                 .build();
     }
 
-    public MyAttendanceInfoResponse getMyAttendanceInfo(Long userId, Long workplaceId) {
-        if (!workplaceRepository.existsById(workplaceId)) { throw new WorkplaceNotFoundException(); }
-        Worker userWorker = workerRepository.findByUserIdAndWorkplaceId(userId, workplaceId).orElseThrow(WorkerNotFoundException::new);
-
-        List<WorkerWorkAttendanceResponse> workerWorkAttendanceInfoList = workRepository.findAllByWorkerId(userWorker.getId()).stream()
-                .map(work -> WorkerWorkAttendanceResponse.builder()
-                        .workId(work.getId())
-                        .workDate(work.getWorkDate())
-                        .startTime(work.getStartTime().atZone(SEOUL_ZONE_ID).toInstant())
-                        .actualStartTime(work.getActualStartTime() != null ? work.getActualStartTime().atZone(SEOUL_ZONE_ID).toInstant() : null)
-                        .endTime(work.getEndTime() != null ? work.getEndTime().atZone(SEOUL_ZONE_ID).toInstant() : null)
-                        .actualEndTime(work.getActualEndTime() != null ? work.getActualEndTime().atZone(SEOUL_ZONE_ID).toInstant() : null)
-                        .build())
-                .toList();
+    public MyAttendanceInfoResponse getMyAttendanceInfo(Long userId, Long workplaceId, LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        Worker userWorker = accessContextResolver.resolveMyWorker(userId, workplaceId).requireWorker();
+
+        AttendancePage attendancePage = findAttendancePage(userWorker.getId(), startDate, endDate, cursor, size);
 
         return MyAttendanceInfoResponse.builder()
-                .myWorkAttendanceInfoList(workerWorkAttendanceInfoList)
+                .myWorkAttendanceInfoList(attendancePage.workAttendanceInfoList())
+                .nextCursor(attendancePage.nextCursor())
+                .hasNext(attendancePage.nextCursor() != null)
                 .build();
     }
 
-    public WorkerAttendanceInfoResponse getWorkerAttendanceInfo(Long userId, Long workplaceId, Long workerId) {
-        Workplace userWorkplace = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new);
-        if (!workerRepository.existsByIdAndWorkplaceId(workerId, workplaceId)) { throw new WorkerNotFoundException(); }
-        permissionVerifyUtil.verifyOwnerPermission(userId, userWorkplace.getOwnerId());
+    public WorkerAttendanceInfoResponse getWorkerAttendanceInfo(Long userId, Long workplaceId, Long workerId,
+                                                                LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveWorker(workplaceId, workerId);
+        access.requireWorker();
+        permissionVerifyUtil.verifyOwnerPermission(userId, access.workplace().getOwnerId());
 
-        List<WorkerWorkAttendanceResponse> workerWorkAttendanceInfoList = workRepository.findAllByWorkerId(workerId).stream()
-                .map(work -> WorkerWorkAttendanceResponse.builder()
-                        .workId(work.getId())
-                        .workDate(work.getWorkDate())
-                        .startTime(work.getStartTime().atZone(SEOUL_ZONE_ID).toInstant())
-                        .actualStartTime(work.getActualStartTime() != null ? work.getActualStartTime().atZone(SEOUL_ZONE_ID).toInstant() : null)
-                        .endTime(work.getEndTime() != null ? work.getEndTime().atZone(SEOUL_ZONE_ID).toInstant() : null)
-                        .actualEndTime(work.getActualEndTime() != null ? work.getActualEndTime().atZone(SEOUL_ZONE_ID).toInstant() : null)
-                        .build())
-                .toList();
+        AttendancePage attendancePage = findAttendancePage(workerId, startDate, endDate, cursor, size);
 
         return WorkerAttendanceInfoResponse.builder()
                 .workplaceId(workplaceId)
                 .workerId(workerId)
-                .workerWorkAttendanceInfoList(workerWorkAttendanceInfoList)
+                .workerWorkAttendanceInfoList(attendancePage.workAttendanceInfoList())
+                .nextCursor(attendancePage.nextCursor())
+                .hasNext(attendancePage.nextCursor() != null)
                 .build();
     }
 
+    /// 근태 기록 한 페이지와 다음 페이지 커서 (마지막 페이지면 null)
+    record AttendancePage(List<WorkerWorkAttendanceResponse> workAttendanceInfoList, String nextCursor) {}
+
+    /// 근태 기록 커서 (이전 페이지 마지막 근무의 출근 시간과 ID)
+    ///
+    /// 클라이언트에는 `{startTime}_{workId}`를 URL-safe Base64로 인코딩한 불투명한 문자열로 전달합니다.
+    record AttendanceCursor(LocalDateTime startTime, Long workId) {
+        String encode() {
+            String raw = startTime + "_" + workId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static AttendanceCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) { return null; }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separatorIndex = raw.lastIndexOf('_');
+                return new AttendanceCursor(LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                        Long.valueOf(raw.substring(separatorIndex + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BadRequestException("유효하지 않은 커서입니다.");
+            }
+        }
+    }
+
+    /// 근태 기록을 커서 기반으로 한 페이지 조회합니다.
+    /// 다음 페이지 존재 여부를 알기 위해 페이지 크기보다 1개 더 조회합니다.
+    AttendancePage findAttendancePage(Long workerId, LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException("조회 시작일은 마지막일보다 늦을 수 없습니다.");
+        }
+
+        AttendanceCursor attendanceCursor = AttendanceCursor.decode(cursor);
+        List<WorkRepository.AttendanceRow> rowList = workRepository.findAttendancePageByWorkerId(
+                workerId,
+                startDate,
+                endDate,
+                attendanceCursor != null ? attendanceCursor.startTime() : null,
+                attendanceCursor != null ? attendanceCursor.workId() : null,
+                size + 1
+        );
+
+        boolean hasNext = rowList.size() > size;
+        List<WorkRepository.AttendanceRow> pageRowList = hasNext ? rowList.subList(0, size) : rowList;
+
+        List<WorkerWorkAttendanceResponse> workAttendanceInfoList = pageRowList.stream()
+                .map(row -> WorkerWorkAttendanceResponse.builder()
+                        .workId(row.id())
+                        .workDate(row.workDate())
+                        .startTime(row.startTime().atZone(SEOUL_ZONE_ID).toInstant())
+                        .actualStartTime(row.actualStartTime() != null ? row.actualStartTime().atZone(SEOUL_ZONE_ID).toInstant() : null)
+                        .endTime(row.endTime() != null ? row.endTime().atZone(SEOUL_ZONE_ID).toInstant() : null)
+                        .actualEndTime(row.actualEndTime() != null ? row.actualEndTime().atZone(SEOUL_ZONE_ID).toInstant() : null)
+                        .build())
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            WorkRepository.AttendanceRow lastRow = pageRowList.get(pageRowList.size() - 1);
+            nextCursor = new AttendanceCursor(lastRow.startTime(), lastRow.id()).encode();
+        }
+        return new AttendancePage(workAttendanceInfoList, nextCursor);
+    }
+
+    @Transactional
     public void updateMyWorker(User user, Long workplaceId, WorkerWorkerUpdateRequest request) {
-        Worker userWorker = workerRepository.findByUserIdAndWorkplaceId(user.getId(), workplaceId).orElseThrow(WorkerNotFoundException::new);
-        Long workplaceOwnerId = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new).getOwnerId();
-        permissionVerifyUtil.verifyWorkerPermission(user.getId(), userWorker.getUserId(), workplaceOwnerId);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(user.getId(), workplaceId);
+        Worker userWorker = access.requireWorker();
+        permissionVerifyUtil.verifyWorkerPermission(user.getId(), userWorker.getUserId(), access.workplace().getOwnerId());
         workerRepository.updateWorkerBasedLabelColor(userWorker.getId(), user.getId(), workplaceId, request.getWorkerBasedLabelColor());
 
-        Long salaryId = salaryRepository.findByWorkerId(userWorker.getId()).orElseThrow(SalaryWorkerNotFoundException::new).getId();
-        Salary newSalary = request.getSalaryUpdateRequest().toEntity(salaryId, userWorker.getId());
+        Salary oldSalary = salaryRepository.findByWorkerId(userWorker.getId()).orElseThrow(SalaryWorkerNotFoundException::new);
+        Salary newSalary = request.getSalaryUpdateRequest().toEntity(oldSalary.getId(), userWorker.getId());
 
         salaryRepository.update(newSalary);
 
-        // '현재' 및 '미래'의 모든 근무 월을 재계산합니다.
-
-        // 재계산 기준일 (이번 달 1일)
-        LocalDate today = LocalDate.now(SEOUL_ZONE_ID);
-        LocalDate startDate = today.withDayOfMonth(1); // 예: 2025-11-01
-
-        // DB에서 'yyyy-MM-01' 이후로 근무가 잡힌 '모든 고유한 년/월' 목록 조회 (예: [2025-11], [2025-12])
-        List<WorkRepository.WorkMonthDto> monthsToRecalculate =
-                workRepository.findDistinctWorkMonthsAfter(userWorker.getId(), startDate);
-
-        // 각 '연/월'별로 재계산을 실행합니다.
-        for (WorkRepository.WorkMonthDto monthInfo : monthsToRecalculate) {
-            // ⭐️ [수정 포인트] 4번째 인자로 'newSalary'를 전달합니다.
-            salaryCalculationService.recalculateEstimatedNetIncomeForMonth(
-                    userWorker.getId(),
-                    monthInfo.year(),
-                    monthInfo.month(),
-                    newSalary
-            );
-        }
+        // '현재' 및 '미래'의 모든 근무를 일괄 재계산합니다. (재계산 기준일: 이번 달 1일)
+        LocalDate startDate = LocalDate.now(SEOUL_ZONE_ID).withDayOfMonth(1); // 예: 2025-11-01
+        salaryCalculationService.recalculateWorksForSalaryChange(userWorker.getId(), startDate, oldSalary, newSalary);
+        calendarVersionStore.markWorkerChanged(userWorker.getId());
     }
 
+    @Transactional
     public void updateWorkerForOwner(User user, Long workplaceId, Long workerId, OwnerWorkerUpdateRequest request) {
         Long workplaceOwnerId = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new).getOwnerId();
         permissionVerifyUtil.verifyOwnerPermission(user.getId(), workplaceOwnerId);
         workerRepository.updateOwnerBasedLabelColor(workerId, user.getId(), workplaceId, request.getOwnerBasedLabelColor());
 
-        Long salaryId = salaryRepository.findByWorkerId(workerId).orElseThrow(SalaryWorkerNotFoundException::new).getId();
-        Salary newSalary = request.getSalaryUpdateRequest().toEntity(salaryId, workerId);
+        Salary oldSalary = salaryRepository.findByWorkerId(workerId).orElseThrow(SalaryWorkerNotFoundException::new);
+        Salary newSalary = request.getSalaryUpdateRequest().toEntity(oldSalary.getId(), workerId);
 
         salaryRepository.update(newSalary);
 
-        // '현재' 및 '미래'의 모든 근무 월을 재계산합니다.
-
-        // 재계산 기준일 (이번 달 1일)
-        LocalDate today = LocalDate.now(SEOUL_ZONE_ID);
-        LocalDate startDate = today.withDayOfMonth(1);
-
-        // DB에서 '이번 달 1일' 이후의 모든 근무 연/월 조회
-        List<WorkRepository.WorkMonthDto> monthsToRecalculate =
-                workRepository.findDistinctWorkMonthsAfter(workerId, startDate);
-
-        // 각 '연/월'별로 재계산을 실행합니다.
-        for (WorkRepository.WorkMonthDto monthInfo : monthsToRecalculate) {
-            salaryCalculationService.recalculateEstimatedNetIncomeForMonth(
-                    workerId,
-                    monthInfo.year(),
-                    monthInfo.month(),
-                    newSalary
-            );
-        }
+        // '현재' 및 '미래'의 모든 근무를 일괄 재계산합니다. (재계산 기준일: 이번 달 1일)
+        LocalDate startDate = LocalDate.now(SEOUL_ZONE_ID).withDayOfMonth(1);
+        salaryCalculationService.recalculateWorksForSalaryChange(workerId, startDate, oldSalary, newSalary);
+        calendarVersionStore.markWorkerChanged(workerId);
     }
 
-    public void updateWorkerIsNowWorking(Long userId, Long workplaceId, Boolean isNowWorking) {
-        Worker userWorker = workerRepository.findByUserIdAndWorkplaceId(userId, workplaceId).orElseThrow(WorkerNotFoundException::new);
+    /// 매장의 출근 / 퇴근 / 근무 일정 변경 이벤트를 구독합니다. (사장님 전용)
+    /// 연결 직후 현재 근무 중인 근무자 목록을 `snapshot` 이벤트로 전송하고, 이후에는 변경 이벤트만 전송합니다.
+    /// 근무 중 여부는 출퇴근 이벤트와 같은 기준(`AttendanceStateStore`)으로 판단합니다. (DB 반영 전의 출퇴근 포함)
+    public SseEmitter subscribeWorkplaceEvents(Long userId, Long workplaceId) {
+        Workplace userWorkplace = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new);
+        permissionVerifyUtil.verifyOwnerPermission(userId, userWorkplace.getOwnerId());
 
-        workerRepository.updateIsNowWorking(userWorker.getId(), userId, workplaceId, isNowWorking);
+        List<Long> workingWorkerIdList = attendanceStateStore.findWorkingWorkerIds(workerRepository.findAllByWorkplaceId(workplaceId));
+
+        return workplaceEventHub.subscribe(workplaceId, WorkplaceWorkingSnapshotResponse.builder()
+                .workingWorkerIdList(workingWorkerIdList)
+                .build());
     }
 
     public void deleteMyWorker(Long userId, Long workplaceId) {
-        Long workplaceOwnerId = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new).getOwnerId();
-        Worker worker = workerRepository.findByUserIdAndWorkplaceId(userId, workplaceId).orElseThrow(WorkerNotFoundException::new);
-        permissionVerifyUtil.verifyWorkerPermission(userId, worker.getUserId(), workplaceOwnerId);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(userId, workplaceId);
+        Worker worker = access.requireWorker();
+        permissionVerifyUtil.verifyWorkerPermission(userId, worker.getUserId(), access.workplace().getOwnerId());
 
         workerRepository.delete(worker.getId(), worker.getUserId(), workplaceId);
+        calendarVersionStore.markWorkplaceChanged(workplaceId);
+        calendarVersionStore.markUserChanged(worker.getUserId());
     }
 
     public void deleteWorkerForOwner(Long userId, Long workplaceId, Long workerId) {
-        Long workplaceOwnerId = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new).getOwnerId();
-        permissionVerifyUtil.verifyOwnerPermission(userId, workplaceOwnerId);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveWorker(workplaceId, workerId);
+        permissionVerifyUtil.verifyOwnerPermission(userId, access.workplace().getOwnerId());
 
-        Long workerUserId = workerRepository.findByIdAndWorkplaceId(workerId, workplaceId).orElseThrow(WorkerNotFoundException::new).getUserId();
+        Long workerUserId = access.requireWorker().getUserId();
         if (workerUserId.equals(userId)) {
             throw new CannotDeleteDataException();
         }
 
         workerRepository.delete(workerId, workerUserId, workplaceId);
+        calendarVersionStore.markWorkplaceChanged(workplaceId);
+        calendarVersionStore.markUserChanged(workerUserId);
     }
 
     @Transactional
     public void acceptWorker(Long ownerUserId, Long workplaceId, Long workerId) {
-        Workplace workplace = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new);
-        Long workplaceOwnerId = workplace.getOwnerId();
-        permissionVerifyUtil.verifyOwnerPermission(ownerUserId, workplaceOwnerId);
-        Long workerUserId = workerRepository.findByIdAndWorkplaceId(workerId, workplaceId).orElseThrow(WorkerNotFoundException::new).getUserId();
-
-        // 푸시 알림 송신
-        try {
-            fCMService.sendToSingleUser(ownerUserId, workerUserId, AlarmTitle.ALARM_TITLE_WORKPLACE_JOIN_ACCEPTED.toString(), AlarmContent.ALARM_CONTENT_WORKPLACE_JOIN_ACCEPTED.getContent(workplace.getWorkplaceName()), null);
-        } catch (FirebaseMessagingException e) {
-            throw new CustomFirebaseMessagingException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
-        }
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveWorker(workplaceId, workerId);
+        Workplace workplace = access.workplace();
+        permissionVerifyUtil.verifyOwnerPermission(ownerUserId, workplace.getOwnerId());
+        Long workerUserId = access.requireWorker().getUserId();
+
+        // 푸시 알림 송신 (발송 대기열에 저장, 실제 전송은 커밋 후)
+        fCMService.sendToSingleUser(ownerUserId, workerUserId, AlarmTitle.ALARM_TITLE_WORKPLACE_JOIN_ACCEPTED.toString(), AlarmContent.ALARM_CONTENT_WORKPLACE_JOIN_ACCEPTED.getContent(workplace.getWorkplaceName()), null);
 
         workerRepository.updateIsAccepted(workerId, workerUserId, workplaceId, true);
     }
 
     @Transactional
     public void rejectWorker(Long ownerUserId, Long workplaceId, Long workerId) {
-        Long workerUserId = workerRepository.findByIdAndWorkplaceId(workerId, workplaceId).orElseThrow(WorkerNotFoundException::new).getUserId();
-        Workplace workplace = workplaceRepository.findById(workplaceId).orElseThrow(WorkplaceNotFoundException::new);
+        // deleteWorkerForOwner의 권한 검증과 같은 요청 안에서 조회 결과를 공유
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveWorker(workplaceId, workerId);
+        Long workerUserId = access.requireWorker().getUserId();
+        Workplace workplace = access.workplace();
 
         deleteWorkerForOwner(ownerUserId, workplaceId, workerId);
 
-        // 푸시 알림 송신
-        try {
-            fCMService.sendToSingleUser(ownerUserId, workerUserId, AlarmTitle.ALARM_TITLE_WORKPLACE_JOIN_REJECTED.toString(), AlarmContent.ALARM_CONTENT_WORKPLACE_JOIN_REJECTED.getContent(workplace.getWorkplaceName()), null);
-        } catch (FirebaseMessagingException e) {
-            throw new CustomFirebaseMessagingException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
-        }
+        // 푸시 알림 송신 (발송 대기열에 저장, 실제 전송은 커밋 후)
+        fCMService.sendToSingleUser(ownerUserId, workerUserId, AlarmTitle.ALARM_TITLE_WORKPLACE_JOIN_REJECTED.toString(), AlarmContent.ALARM_CONTENT_WORKPLACE_JOIN_REJECTED.getContent(workplace.getWorkplaceName()), null);
     }
 }
@@ -0,0 +1,151 @@
+package com.moup.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moup.server.model.dto.WorkplaceEventResponse;
+import com.moup.server.model.enums.WorkplaceEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/// 매장별 실시간 이벤트(출근 / 퇴근 / 근무 일정 변경)를 SSE 구독자에게 전달하는 허브
+///
+/// 이벤트는 Redis 채널(`workplace:events:{workplaceId}`)로 발행되고, 모든 인스턴스가 패턴 구독으로 받아
+/// 자신에게 연결된 구독자에게만 전달합니다. 따라서 어느 인스턴스에 연결해도 모든 이벤트를 받을 수 있습니다.
+/// 트랜잭션 안에서 발행하면 커밋 후에 발행합니다. (롤백된 변경은 전달하지 않음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkplaceEventHub implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "workplace:events:";
+    public static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "*";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /// SSE 연결 유지 시간 (ms), 만료되면 클라이언트가 다시 연결
+    @Value("${workplace.events.emitter-timeout:1800000}")
+    private long emitterTimeout;
+
+    /// 이 인스턴스에 연결된 매장별 구독자
+    private final Map<Long, Set<SseEmitter>> emitterMap = new ConcurrentHashMap<>();
+
+    /// 매장 이벤트를 구독합니다. 연결 직후 `snapshot` 이벤트로 현재 상태를 전송합니다.
+    ///
+    /// @param workplaceId 매장 ID
+    /// @param snapshot 연결 직후 전송할 현재 상태
+    /// @return SSE 연결
+    public SseEmitter subscribe(Long workplaceId, Object snapshot) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        emitterMap.compute(workplaceId, (id, emitters) -> {
+            Set<SseEmitter> workplaceEmitters = (emitters != null) ? emitters : new CopyOnWriteArraySet<>();
+            workplaceEmitters.add(emitter);
+            return workplaceEmitters;
+        });
+
+        emitter.onCompletion(() -> removeEmitter(workplaceId, emitter));
+        emitter.onTimeout(() -> removeEmitter(workplaceId, emitter));
+        emitter.onError(e -> removeEmitter(workplaceId, emitter));
+
+        send(workplaceId, emitter, SseEmitter.event().name("snapshot").data(snapshot));
+        return emitter;
+    }
+
+    /// 매장 이벤트를 발행합니다. (트랜잭션 안에서는 커밋 후 발행)
+    ///
+    /// @param type 이벤트 종류
+    /// @param workplaceId 매장 ID
+    /// @param workerId 근무자 ID
+    public void publish(WorkplaceEventType type, Long workplaceId, Long workerId) {
+        WorkplaceEventResponse event = WorkplaceEventResponse.builder()
+                .type(type)
+                .workplaceId(workplaceId)
+                .workerId(workerId)
+                .occurredAt(Instant.now())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(event);
+                }
+            });
+        } else {
+            publishNow(event);
+        }
+    }
+
+    /// Redis 채널로 받은 이벤트를 이 인스턴스의 구독자에게 전달합니다.
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            deliver(objectMapper.readValue(message.getBody(), WorkplaceEventResponse.class));
+        } catch (IOException e) {
+            log.error("Invalid workplace event payload. Error: {}", e.getMessage());
+        }
+    }
+
+    /// 프록시/로드밸런서의 유휴 연결 종료를 막고 끊어진 연결을 정리하기 위해 주기적으로 주석(heartbeat)을 전송합니다.
+    @Scheduled(fixedDelayString = "${workplace.events.heartbeat-interval:25000}")
+    public void heartbeat() {
+        emitterMap.forEach((workplaceId, emitters) ->
+                emitters.forEach(emitter -> send(workplaceId, emitter, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    void deliver(WorkplaceEventResponse event) {
+        Set<SseEmitter> emitters = emitterMap.get(event.getWorkplaceId());
+        if (emitters == null) { return; }
+
+        for (SseEmitter emitter : emitters) {
+            send(event.getWorkplaceId(), emitter, SseEmitter.event().name(event.getType().name()).data(event));
+        }
+    }
+
+    int getSubscriberCount(Long workplaceId) {
+        Set<SseEmitter> emitters = emitterMap.get(workplaceId);
+        return emitters == null ? 0 : emitters.size();
+    }
+
+    private void publishNow(WorkplaceEventResponse event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + event.getWorkplaceId(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to publish workplace event (workplaceId: {}, type: {}). Error: {}",
+                    event.getWorkplaceId(), event.getType(), e.getMessage());
+        }
+    }
+
+    private void send(Long workplaceId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우
+            removeEmitter(workplaceId, emitter);
+        }
+    }
+
+    private void removeEmitter(Long workplaceId, SseEmitter emitter) {
+        emitterMap.computeIfPresent(workplaceId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -1,6 +1,5 @@
 package com.moup.server.service;
 
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.moup.server.common.AlarmContent;
 import com.moup.server.common.AlarmTitle;
 import com.moup.server.exception.*;
@@ -10,7 +9,6 @@ import com.moup.server.model.entity.User;
 import com.moup.server.model.entity.Worker;
 import com.moup.server.model.entity.Workplace;
 import com.moup.server.repository.SalaryRepository;
-import com.moup.server.repository.WorkRepository;
 import com.moup.server.repository.WorkerRepository;
 import com.moup.server.repository.WorkplaceRepository;
 import com.moup.server.util.PermissionVerifyUtil;
@@ -33,12 +31,13 @@ public class WorkplaceService {
     private final WorkplaceRepository workplaceRepository;
     private final WorkerRepository workerRepository;
     private final SalaryRepository salaryRepository;
-    private final WorkRepository workRepository;
 
     private final InviteCodeService inviteCodeService;
     private final SalaryCalculationService salaryCalculationService;
     private final PermissionVerifyUtil permissionVerifyUtil;
     private final FCMService fcmService;
+    private final CalendarVersionStore calendarVersionStore;
+    private final AccessContextResolver accessContextResolver;
     @Value("${workplace.creation.limit}")
     private int workplaceCreationLimit;
 
@@ -78,10 +77,9 @@ public class WorkplaceService {
 
     @Transactional(readOnly = true)
     public BaseWorkplaceDetailResponse getWorkplaceDetail(User user, Long workplaceId) {
-        Workplace workplace = workplaceRepository.findById(workplaceId)
-                .orElseThrow(WorkplaceNotFoundException::new);
-        Worker worker = workerRepository.findByUserIdAndWorkplaceId(user.getId(), workplaceId)
-                .orElseThrow(WorkerNotFoundException::new);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(user.getId(), workplaceId);
+        Workplace workplace = access.workplace();
+        Worker worker = access.requireWorker();
 
         return switch (user.getRole()) {
             case ROLE_WORKER -> {
@@ -180,6 +178,7 @@ public class WorkplaceService {
                 Long workerId = updateWorkplaceAndWorkerHelper(user.getId(), workplaceId, ownerRequest);
                 workerRepository.updateOwnerBasedLabelColor(workerId, user.getId(), workplaceId,
                         ownerRequest.getOwnerBasedLabelColor());
+                calendarVersionStore.markWorkerChanged(workerId);
             }
             case ROLE_WORKER -> {
                 if (!(request instanceof WorkerWorkplaceUpdateRequest workerRequest)) {
@@ -189,31 +188,15 @@ public class WorkplaceService {
                 workerRepository.updateWorkerBasedLabelColor(workerId, user.getId(), workplaceId,
                         workerRequest.getWorkerBasedLabelColor());
 
-                Long salaryId = salaryRepository.findByWorkerId(workerId)
-                        .orElseThrow(SalaryWorkerNotFoundException::new).getId();
-                Salary newSalary = workerRequest.getSalaryUpdateRequest().toEntity(salaryId, workerId);
+                Salary oldSalary = salaryRepository.findByWorkerId(workerId)
+                        .orElseThrow(SalaryWorkerNotFoundException::new);
+                Salary newSalary = workerRequest.getSalaryUpdateRequest().toEntity(oldSalary.getId(), workerId);
                 salaryRepository.update(newSalary);
 
-                // '현재' 및 '미래'의 모든 근무 월을 재계산합니다.
-
-                // 재계산 기준일 (이번 달 1일) - ⭐️ SEOUL_ZONE_ID 적용
-                LocalDate today = LocalDate.now(SEOUL_ZONE_ID);
-                LocalDate startDate = today.withDayOfMonth(1);
-
-                // DB에서 'yyyy-MM-01' 이후로 근무가 잡힌 '모든 고유한 년/월' 목록 조회 (예: [2025-11], [2025-12])
-                List<WorkRepository.WorkMonthDto> monthsToRecalculate = workRepository.findDistinctWorkMonthsAfter(
-                        workerId, startDate);
-
-                // 각 '연/월'별로 재계산을 실행합니다.
-                for (WorkRepository.WorkMonthDto monthInfo : monthsToRecalculate) {
-                    // ⭐️ [수정 포인트] 4번째 인자로 'newSalary' 전달
-                    salaryCalculationService.recalculateEstimatedNetIncomeForMonth(
-                            workerId,
-                            monthInfo.year(),
-                            monthInfo.month(),
-                            newSalary
-                    );
-                }
+                // '현재' 및 '미래'의 모든 근무를 일괄 재계산합니다. (재계산 기준일: 이번 달 1일, SEOUL_ZONE_ID 기준)
+                LocalDate startDate = LocalDate.now(SEOUL_ZONE_ID).withDayOfMonth(1);
+                salaryCalculationService.recalculateWorksForSalaryChange(workerId, startDate, oldSalary, newSalary);
+                calendarVersionStore.markWorkerChanged(workerId);
             }
             case ROLE_ADMIN -> throw new InvalidPermissionAccessException();
         }
@@ -221,17 +204,18 @@ public class WorkplaceService {
 
     @Transactional
     public void deleteWorkplace(Long userId, Long workplaceId) {
-        Workplace workplace = workplaceRepository.findById(workplaceId)
-                .orElseThrow(WorkplaceNotFoundException::new);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(userId, workplaceId);
+        Workplace workplace = access.workplace();
         if (workplace.getOwnerId().equals(userId)) {
             // 근무지(매장)을 만든 사용자가 삭제하는 경우
             workplaceRepository.delete(workplaceId, userId);
         } else {
             // 근무자가 근무지에서 탈퇴하는 경우
-            Long workerId = workerRepository.findByUserIdAndWorkplaceId(userId, workplaceId)
-                    .orElseThrow(WorkerNotFoundException::new).getId();
+            Long workerId = access.requireWorker().getId();
             workerRepository.delete(workerId, userId, workplaceId);
+            calendarVersionStore.markUserChanged(userId);
         }
+        calendarVersionStore.markWorkplaceChanged(workplaceId);
     }
 
     private Worker createWorkplaceAndWorkerHelper(Long userId, BaseWorkplaceCreateRequest request) {
@@ -248,13 +232,15 @@ public class WorkplaceService {
 
         Worker workerToCreate = request.toWorkerEntity(userId, workplaceToCreate.getId());
         workerRepository.create(workerToCreate);
+        calendarVersionStore.markUserChanged(userId);
 
         return workerToCreate;
     }
 
     private Long updateWorkplaceAndWorkerHelper(Long userId, Long workplaceId, BaseWorkplaceUpdateRequest request) {
-        Workplace oldWorkplace = workplaceRepository.findById(workplaceId)
-                .orElseThrow(WorkplaceNotFoundException::new);
+        AccessContextResolver.WorkerAccess access = accessContextResolver.resolveMyWorker(userId, workplaceId);
+        Workplace oldWorkplace = access.workplace();
+        Long workerId = access.requireWorker().getId();
         if (!oldWorkplace.getWorkplaceName().equals(request.getWorkplaceName())
                 && workplaceRepository.existsByOwnerIdAndWorkplaceName(userId,
                 request.getWorkplaceName())) {
@@ -263,9 +249,9 @@ public class WorkplaceService {
 
         Workplace newWorkplace = request.toWorkplaceEntity(workplaceId, userId);
         workplaceRepository.update(newWorkplace);
+        calendarVersionStore.markWorkplaceChanged(workplaceId);
 
-        return workerRepository.findByUserIdAndWorkplaceId(userId, workplaceId)
-                .orElseThrow(WorkerNotFoundException::new).getId();
+        return workerId;
     }
 
     // ========== 초대 코드 메서드 ==========
@@ -315,37 +301,35 @@ public class WorkplaceService {
 
         Long ownerId = workplaceRepository.findOwnerId(workplaceId);
 
-        try {
-            // 근무자 정보 생성
-            Worker worker = request.toWorkerEntity(user.getId(), workplaceId);
-            workerRepository.create(worker);
+        // 근무자 정보 생성
+        Worker worker = request.toWorkerEntity(user.getId(), workplaceId);
+        workerRepository.create(worker);
+        calendarVersionStore.markWorkplaceChanged(workplaceId);
+        calendarVersionStore.markUserChanged(user.getId());
 
-            // 급여 정보 생성
-            Salary salary = request.toSalaryEntity(worker.getId());
-            salaryRepository.create(salary);
+        // 급여 정보 생성
+        Salary salary = request.toSalaryEntity(worker.getId());
+        salaryRepository.create(salary);
 
-            String notificationContent = AlarmContent.ALARM_CONTENT_WORKPLACE_JOIN_REQUEST.getContent(user.getUsername());
-            String notificationTitle = AlarmTitle.ALARM_TITLE_WORKPLACE_JOIN_REQUEST.getTitle();
+        String notificationContent = AlarmContent.ALARM_CONTENT_WORKPLACE_JOIN_REQUEST.getContent(user.getUsername());
+        String notificationTitle = AlarmTitle.ALARM_TITLE_WORKPLACE_JOIN_REQUEST.getTitle();
 
 
-            // 푸시 알림 전달
+        // 푸시 알림 전달
 
-            // 제목: "근무지 참가 요청"
-            // 본문: "{유저 이름}님이 근무지 참가 요청을 보냈습니다."
-            // data:
-            WorkplaceJoinPayload dataPayload = WorkplaceJoinPayload.builder()
-                    .content(notificationContent)
-                    .workplaceId(workplaceId)
-                    .workerId(worker.getId()).build();
+        // 제목: "근무지 참가 요청"
+        // 본문: "{유저 이름}님이 근무지 참가 요청을 보냈습니다."
+        // data:
+        WorkplaceJoinPayload dataPayload = WorkplaceJoinPayload.builder()
+                .content(notificationContent)
+                .workplaceId(workplaceId)
+                .workerId(worker.getId()).build();
 
-            fcmService.sendToSingleUser(user.getId(), ownerId, notificationTitle, notificationContent, dataPayload);
+        fcmService.sendToSingleUser(user.getId(), ownerId, notificationTitle, notificationContent, dataPayload);
 
-            return WorkplaceJoinResponse.builder()
-                    .workplaceId(workplaceId)
-                    .workerId(worker.getId())
-                    .build();
-        } catch (FirebaseMessagingException e) {
-            throw new CustomFirebaseMessagingException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
-        }
+        return WorkplaceJoinResponse.builder()
+                .workplaceId(workplaceId)
+                .workerId(worker.getId())
+                .build();
     }
 }
@@ -0,0 +1,83 @@
+package com.moup.server.util;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+/// 최대 개수와 항목별 만료 시각을 가진 인스턴스 내부 캐시 (여러 스레드에서 동시에 사용)
+///
+/// 조회와 저장은 `ConcurrentHashMap`으로 전역 잠금 없이 실행됩니다.
+/// 저장 후 최대 개수를 넘으면 한 스레드만 정리를 맡아 만료된 항목을 지우고, 그래도 많으면 만료가 가까운 항목부터
+/// 최대 개수의 90%까지 지웁니다. (정리 중에도 다른 스레드의 조회/저장은 기다리지 않음)
+/// 접근 순서 기반 LRU가 아니며, 정리가 끝나기 전까지 잠시 최대 개수를 넘을 수 있습니다.
+///
+/// @param <K> 키 타입
+/// @param <V> 값 타입
+public class BoundedExpiringCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {}
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /// 최대 개수 (`@Value` 필드처럼 생성 후 주입되는 값도 읽을 수 있도록 Supplier로 받음)
+    private final IntSupplier maxSize;
+
+    public BoundedExpiringCache(IntSupplier maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /// 만료되지 않은 값을 반환합니다. (만료된 항목은 삭제)
+    ///
+    /// @param key 키
+    /// @param now 현재 시각 (ms)
+    /// @return 값, 없거나 만료되었으면 null
+    public V get(K key, long now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) { return null; }
+        if (entry.expiresAt() <= now) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /// 값을 저장합니다. 최대 개수를 넘으면 정리합니다.
+    ///
+    /// @param key 키
+    /// @param value 값
+    /// @param expiresAt 만료 시각 (ms)
+    public void put(K key, V value, long expiresAt) {
+        entries.put(key, new Entry<>(value, expiresAt));
+        if (entries.size() > maxSize.getAsInt()) { evict(); }
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) { return; }
+        try {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+            int excess = entries.size() - (int) (maxSize.getAsInt() * 0.9);
+            if (excess <= 0) { return; }
+            List<Map.Entry<K, Entry<V>>> victims = entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(mapEntry -> mapEntry.getValue().expiresAt()))
+                    .limit(excess)
+                    .toList();
+            victims.forEach(victim -> entries.remove(victim.getKey(), victim.getValue()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
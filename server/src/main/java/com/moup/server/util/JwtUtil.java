@@ -2,6 +2,9 @@ package com.moup.server.util;
 
 import com.moup.server.model.dto.TokenCreateRequest;
 import com.moup.server.model.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +14,9 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 @Slf4j
@@ -23,11 +29,24 @@ public class JwtUtil {
     @Value("${jwt.refresh.token.expiration}")
     private long refreshTokenExpiration;
 
+    /// 검증된 토큰 캐시의 최대 개수
+    @Value("${jwt.verified-token.cache.max-size:10000}")
+    private int verifiedTokenCacheMaxSize;
+
     private final Key key;
 
+    /// 서명 검증 파서 (스레드 안전하므로 한 번만 생성해 재사용)
+    private final JwtParser jwtParser;
+
+    /// 토큰 SHA-256 다이제스트 → 검증된 Claims (토큰 만료 시각까지 보관)
+    /// 같은 액세스 토큰이 만료 전까지 반복해서 들어오면 HMAC 검증과 JSON 파싱을 생략합니다.
+    /// 모든 요청이 거치므로 전역 잠금 없는 캐시를 사용합니다.
+    private final BoundedExpiringCache<String, Claims> verifiedTokenCache = new BoundedExpiringCache<>(() -> verifiedTokenCacheMaxSize);
+
     public JwtUtil(@Value("${jwt.secret.key}") String secretKey) {
         log.debug(secretKey);
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith((SecretKey) key).build();
     }
 
     public String createAccessToken(TokenCreateRequest tokenCreateRequest) {
@@ -63,31 +82,38 @@ public class JwtUtil {
                 .compact();
     }
 
+    /// 토큰의 서명과 만료를 한 번만 검증하고 Claims를 반환합니다.
+    /// 이미 검증된 토큰이 만료 전에 다시 들어오면 캐시된 Claims를 그대로 반환합니다.
+    ///
+    /// @param token JWT 문자열
+    /// @return 검증된 Claims
+    /// @throws JwtException 서명이 올바르지 않거나 만료된 토큰인 경우
+    public Claims verify(String token) {
+        String digest = digest(token);
+        Claims cachedClaims = verifiedTokenCache.get(digest, System.currentTimeMillis());
+        if (cachedClaims != null) { return cachedClaims; }
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(digest, claims, claims.getExpiration().getTime());
+        }
+        return claims;
+    }
+
     public Long getUserId(String token) {
-        return Long.parseLong(Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject());
+        return getUserId(verify(token));
+    }
+
+    public Long getUserId(Claims claims) {
+        return Long.parseLong(claims.getSubject());
     }
 
     public String getUsername(String token) {
-        return (String) Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("username");
+        return (String) verify(token).get("username");
     }
 
     public String getUserRole(String token) {
-        return (String) Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role");
+        return (String) verify(token).get("role");
     }
 
     public Long getRefreshTokenExpiration() {
@@ -96,11 +122,20 @@ public class JwtUtil {
 
     public boolean isValidToken(String token) {
         try {
-            Jwts.parser().verifyWith((SecretKey) key).build().parseSignedClaims(token);
+            verify(token);
             return true;
         } catch (Exception e) {
             log.warn("Invalid JWT Token: {}", e.getMessage());
             return false;
         }
     }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
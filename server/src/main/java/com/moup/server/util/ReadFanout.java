@@ -0,0 +1,113 @@
+package com.moup.server.util;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/// 서로 의존하지 않는 조회(Repository 호출)를 동시에 실행하는 유틸
+///
+/// 조회 API의 지연 시간이 쿼리 왕복 시간의 합이 아니라 가장 느린 쿼리 하나에 가깝도록, 범위(`Scope`) 안에서
+/// 작업을 나눠 실행하고 모두 끝날 때까지 기다립니다. 하나라도 실패하면 나머지를 취소하고 그 예외를 그대로 던집니다.
+///
+/// 각 작업은 `readFanoutExecutor` 스레드에서 자신의 커넥션(자동 커밋)으로 실행되므로 작업 사이에 일관된 스냅샷이 없습니다.
+/// 작업마다 서로 다른 시점의 커밋을 볼 수 있으므로(e.g. 근무자 목록 조회 후 추가된 근무자의 급여 정보), 결과를 조합할 때
+/// 한쪽에만 있는 데이터를 허용해야 하며, 일관된 스냅샷이 필요한 조회에는 사용하지 않습니다.
+///
+/// 호출자가 트랜잭션 안에 있으면 동시에 실행하지 않고 순서대로 실행합니다. 다른 스레드의 작업은 호출자 트랜잭션의
+/// 변경을 볼 수 없고, 커넥션을 쥔 채 다른 커넥션을 기다리면 풀이 고갈될 수 있기 때문입니다.
+/// 따라서 동시 실행이 필요한 조회 API는 바깥에 트랜잭션을 두지 않습니다. (e.g. `HomeService.getHomeInfo`)
+/// 작업 안에서 다시 연 범위도 실행기 스레드 고갈을 막기 위해 순서대로 실행합니다.
+///
+/// ```java
+/// try (ReadFanout.Scope scope = readFanout.open()) {
+///     Supplier<User> user = scope.fork(() -> userRepository.findById(userId).orElseThrow(UserNotFoundException::new));
+///     Supplier<List<Workplace>> workplaceList = scope.fork(() -> workplaceRepository.findAllByIdListIn(workplaceIdList));
+///     scope.join();
+///     ...
+/// }
+/// ```
+@Component
+public class ReadFanout {
+
+    /// 현재 스레드가 동시 조회 작업을 실행 중인지 여부
+    private static final ThreadLocal<Boolean> IN_FORKED_TASK = ThreadLocal.withInitial(() -> false);
+
+    private final Executor executor;
+
+    public ReadFanout(@Qualifier("readFanoutExecutor") Executor executor) {
+        this.executor = executor;
+    }
+
+    /// 동시 조회 범위를 엽니다. (`try-with-resources`로 사용)
+    public Scope open() {
+        boolean sequential = TransactionSynchronizationManager.isActualTransactionActive() || IN_FORKED_TASK.get();
+        return new Scope(sequential ? Runnable::run : executor);
+    }
+
+    /// 동시 조회 범위, 닫으면 끝나지 않은 작업을 취소
+    public static class Scope implements AutoCloseable {
+        private final Executor executor;
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+        private boolean joined;
+
+        private Scope(Executor executor) {
+            this.executor = executor;
+        }
+
+        /// 작업을 시작합니다.
+        ///
+        /// @param task 실행할 조회 작업
+        /// @return `join` 이후에 결과를 반환하는 Supplier
+        public <T> Supplier<T> fork(Supplier<T> task) {
+            if (joined) { throw new IllegalStateException("Scope already joined"); }
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+                boolean nested = IN_FORKED_TASK.get();
+                IN_FORKED_TASK.set(true);
+                try {
+                    return task.get();
+                } finally {
+                    IN_FORKED_TASK.set(nested);
+                }
+            }, executor);
+            futures.add(future);
+            return () -> {
+                if (!joined) { throw new IllegalStateException("Scope not joined yet"); }
+                return future.join();
+            };
+        }
+
+        /// 모든 작업이 끝날 때까지 기다립니다. 실패한 작업이 있으면 나머지를 취소하고 그 예외를 던집니다.
+        public void join() {
+            joined = true;
+            CompletableFuture<?>[] forked = futures.toArray(CompletableFuture<?>[]::new);
+            CompletableFuture<Object> firstFailure = new CompletableFuture<>();
+            for (CompletableFuture<?> future : forked) {
+                future.whenComplete((result, e) -> { if (e != null) { firstFailure.completeExceptionally(e); } });
+            }
+            try {
+                CompletableFuture.anyOf(CompletableFuture.allOf(forked), firstFailure).join();
+            } catch (CompletionException e) {
+                cancelAll();
+                if (e.getCause() instanceof RuntimeException cause) { throw cause; }
+                if (e.getCause() instanceof Error cause) { throw cause; }
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.moup.server.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/// 근무 구간의 총 근무시간(분)과 야간 근무시간(분)을 구간 연산으로 계산하는 유틸리티 클래스
+///
+/// 근무 시작 시각부터 1분 간격으로 찍히는 시점(`start + k분`, `start + k분 < end`)을 '근무 1분'으로 간주합니다.
+/// 야간 근무는 그 시점의 시각이 22:00 이상이거나 06:00 미만인 경우입니다.
+/// 1분 단위 순회와 결과가 완전히 같지만, 근무가 걸친 날짜 수만큼만 연산하며 객체를 생성하지 않습니다.
+public final class WorkTimeCalculator {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60L * NANOS_PER_SECOND;
+    private static final long SECONDS_PER_DAY = 24L * 60 * 60;
+
+    /// 야간 근무 구간 시작 (해당 날짜 22:00, 자정 기준 초)
+    private static final long NIGHT_START_SECOND_OF_DAY = 22L * 60 * 60;
+    /// 야간 근무 구간 길이 (22:00 ~ 다음 날 06:00, 8시간)
+    private static final long NIGHT_LENGTH_SECONDS = 8L * 60 * 60;
+
+    /// 이 클래스는 인스턴스화할 수 없습니다.
+    private WorkTimeCalculator() {}
+
+    /// 근무 구간의 총 근무시간(분)을 계산합니다.
+    ///
+    /// @param start 근무 시작 시간
+    /// @param end 근무 종료 시간
+    /// @return 총 근무시간(분), 종료가 시작보다 빠르거나 같으면 0
+    public static long calculateGrossMinutes(LocalDateTime start, LocalDateTime end) {
+        long totalNanos = nanosBetween(start, end);
+        return totalNanos <= 0 ? 0 : ceilDiv(totalNanos, NANOS_PER_MINUTE);
+    }
+
+    /// 두 시각 사이의 경과 시간(분)을 계산합니다. (`Duration.between(start, end).toMinutes()`와 동일, 객체 생성 없음)
+    ///
+    /// @param start 시작 시간
+    /// @param end 종료 시간
+    /// @return 경과 시간(분), 1분 미만은 버림
+    public static long calculateElapsedMinutes(LocalDateTime start, LocalDateTime end) {
+        return Math.floorDiv(nanosBetween(start, end), NANOS_PER_SECOND) / 60;
+    }
+
+    /// 근무 구간과 매일 22:00 ~ 다음 날 06:00 구간의 교집합으로 야간 근무시간(분)을 계산합니다.
+    /// 자정을 넘기거나 여러 날에 걸친 근무도 처리합니다.
+    ///
+    /// @param start 근무 시작 시간
+    /// @param end 근무 종료 시간
+    /// @return 야간 근무시간(분), 종료가 시작보다 빠르거나 같으면 0
+    public static long calculateNightMinutes(LocalDateTime start, LocalDateTime end) {
+        long totalNanos = nanosBetween(start, end);
+        if (totalNanos <= 0) { return 0; }
+
+        long grossMinutes = ceilDiv(totalNanos, NANOS_PER_MINUTE);
+        long startEpochSecond = start.toEpochSecond(ZoneOffset.UTC);
+        long startNano = start.getNano();
+
+        // 시작일 '전날' 22:00부터 시작되는 야간 구간이 시작일 새벽(00:00 ~ 06:00)을 덮습니다.
+        long day = Math.floorDiv(startEpochSecond, SECONDS_PER_DAY) - 1;
+        long nightMinutes = 0;
+
+        while (true) {
+            long windowStartSecond = day * SECONDS_PER_DAY + NIGHT_START_SECOND_OF_DAY;
+            long windowStartOffset = (windowStartSecond - startEpochSecond) * NANOS_PER_SECOND - startNano;
+            // 근무 종료 이후에 시작되는 야간 구간부터는 겹치는 시점이 없습니다.
+            if (windowStartOffset >= totalNanos) { break; }
+
+            long windowEndOffset = windowStartOffset + NIGHT_LENGTH_SECONDS * NANOS_PER_SECOND;
+
+            // [windowStart, windowEnd) 구간에 포함되는 1분 시점(k)의 범위
+            long fromMinute = Math.max(0, ceilDiv(windowStartOffset, NANOS_PER_MINUTE));
+            long toMinute = Math.min(grossMinutes, ceilDiv(windowEndOffset, NANOS_PER_MINUTE));
+            if (toMinute > fromMinute) { nightMinutes += toMinute - fromMinute; }
+
+            day++;
+        }
+
+        return nightMinutes;
+    }
+
+    /// 두 시각 사이의 나노초 차이를 계산합니다. (객체 생성 없음)
+    private static long nanosBetween(LocalDateTime start, LocalDateTime end) {
+        long seconds = end.toEpochSecond(ZoneOffset.UTC) - start.toEpochSecond(ZoneOffset.UTC);
+        return seconds * NANOS_PER_SECOND + (end.getNano() - start.getNano());
+    }
+
+    /// 올림 나눗셈 (음수 포함)
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+}
@@ -0,0 +1,166 @@
+package com.moup.server.repository;
+
+import com.moup.server.model.entity.AdminAlarm;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/// 매핑 방식 → 워터마크 방식 이전(`backfill*ByUserIdRange`) 후 기존 사용자의 공지 노출/읽음 상태가 같은지 비교하는 테스트
+///
+/// `db/moup.sql`로 별도 스키마(`moup_announcement_backfill`)를 만들어 실행하며, MySQL 호환 DB가 필요하므로 `QUERY_PLAN_DB_URL`이 없으면 건너뜁니다.
+/// (e.g. `QUERY_PLAN_DB_URL=jdbc:mysql://localhost:3306 QUERY_PLAN_DB_USERNAME=root gradle test --tests '*BackfillQueryTest'`)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnnouncementReadStateBackfillQueryTest {
+
+  private static final String SCHEMA = "moup_announcement_backfill";
+
+  /// 공지 1 이후 가입, 공지 2 읽음, 공지 3 삭제, 공지 4 매핑 없음, 공지 5 안 읽음
+  private static final long EXISTING_USER_ID = 1L;
+  /// 모든 공지 이후 가입 (매핑 없음)
+  private static final long LATE_USER_ID = 2L;
+
+  private Connection connection;
+  private SqlSession sqlSession;
+
+  @BeforeAll
+  void setUp() throws Exception {
+    String url = System.getenv("QUERY_PLAN_DB_URL");
+    assumeTrue(url != null && !url.isBlank(), "QUERY_PLAN_DB_URL이 없어 공지 상태 이전 테스트를 건너뜁니다.");
+
+    connection = DriverManager.getConnection(url,
+        System.getenv().getOrDefault("QUERY_PLAN_DB_USERNAME", "root"),
+        System.getenv().getOrDefault("QUERY_PLAN_DB_PASSWORD", ""));
+    createSchema();
+    insertMappings();
+
+    Configuration configuration = new Configuration(new Environment(SCHEMA, new JdbcTransactionFactory(), new UnpooledDataSource()));
+    configuration.setMapUnderscoreToCamelCase(true);
+    configuration.addMapper(AlarmRepository.class);
+    configuration.addMapper(AnnouncementReadStateRepository.class);
+    SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    sqlSession = sqlSessionFactory.openSession(connection);
+  }
+
+  @AfterAll
+  void tearDown() throws Exception {
+    if (connection == null) { return; }
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA);
+    }
+    connection.close();
+  }
+
+  @Test
+  @DisplayName("기존 사용자의 공지 노출/읽음 상태가 매핑 방식과 워터마크 방식에서 같음")
+  void watermarkMatchesMappingForExistingUsers() throws Exception {
+    AlarmRepository alarmRepository = sqlSession.getMapper(AlarmRepository.class);
+    AnnouncementReadStateRepository announcementReadStateRepository = sqlSession.getMapper(AnnouncementReadStateRepository.class);
+
+    // given (매핑 방식)
+    Set<Long> mappingVisibleIds = ids(alarmRepository.findAllAdminAlarmsByUserId(EXISTING_USER_ID));
+    Set<Long> mappingReadIds = queryIds("""
+        SELECT alarm_id FROM admin_alarm_user_mappings WHERE user_id = ? AND deleted_at IS NULL AND read_at IS NOT NULL
+        """, EXISTING_USER_ID);
+
+    // when (두 번 실행해도 결과가 같음)
+    for (int i = 0; i < 2; i++) {
+      announcementReadStateRepository.backfillExceptionsFromMappingsByUserIdRange(0L, 10L);
+      announcementReadStateRepository.backfillUnmappedExceptionsByUserIdRange(0L, 10L);
+      announcementReadStateRepository.backfillStatesFromMappingsByUserIdRange(0L, 10L);
+    }
+
+    // then
+    assertEquals(Set.of(2L, 5L), mappingVisibleIds);
+    assertEquals(Set.of(2L), mappingReadIds);
+    assertEquals(mappingVisibleIds, ids(announcementReadStateRepository.findAllVisibleByUserId(EXISTING_USER_ID)));
+    assertEquals(mappingReadIds, queryIds("""
+        SELECT a.id
+        FROM admin_alarms a
+        JOIN user_announcement_states s ON s.user_id = ?
+        LEFT JOIN user_announcement_exceptions e ON e.user_id = s.user_id AND e.alarm_id = a.id
+        WHERE a.id > s.last_cleared_announcement_id
+          AND e.deleted_at IS NULL
+          AND (a.id <= s.last_read_announcement_id OR e.read_at IS NOT NULL)
+        """, EXISTING_USER_ID));
+
+    assertTrue(alarmRepository.findAllAdminAlarmsByUserId(LATE_USER_ID).isEmpty());
+    assertTrue(announcementReadStateRepository.findAllVisibleByUserId(LATE_USER_ID).isEmpty());
+    assertFalse(announcementReadStateRepository.existsUserWithoutState());
+  }
+
+  private void createSchema() throws Exception {
+    String script = Files.readString(Path.of("../db/moup.sql"));
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA);
+      statement.execute("CREATE SCHEMA " + SCHEMA);
+      connection.setCatalog(SCHEMA);
+
+      for (String sql : script.split(";")) {
+        String trimmed = sql.strip();
+        // 스크립트의 `moup` 스키마 생성/전환 구문은 건너뛰고 테스트 스키마에 테이블만 생성
+        if (trimmed.isEmpty() || trimmed.matches("(?is)(DROP SCHEMA|CREATE SCHEMA|USE)\\b.*")) { continue; }
+        statement.execute(trimmed);
+      }
+    }
+  }
+
+  /// 워터마크 방식 도입 이전의 매핑 방식 데이터를 생성합니다.
+  private void insertMappings() throws Exception {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("""
+          INSERT INTO users (id, provider, provider_id, nickname)
+          VALUES (%d, 'LOGIN_GOOGLE', 'existing', '기존'), (%d, 'LOGIN_GOOGLE', 'late', '신규')
+          """.formatted(EXISTING_USER_ID, LATE_USER_ID));
+      statement.execute("""
+          INSERT INTO admin_alarms (id, title)
+          VALUES (1, '공지 1'), (2, '공지 2'), (3, '공지 3'), (4, '공지 4'), (5, '공지 5')
+          """);
+      statement.execute("""
+          INSERT INTO admin_alarm_user_mappings (alarm_id, user_id, read_at, deleted_at)
+          VALUES (2, %1$d, NOW(), NULL), (3, %1$d, NOW(), NOW()), (5, %1$d, NULL, NULL)
+          """.formatted(EXISTING_USER_ID));
+    }
+  }
+
+  private Set<Long> ids(List<AdminAlarm> adminAlarms) {
+    Set<Long> ids = new TreeSet<>();
+    adminAlarms.forEach(adminAlarm -> ids.add(adminAlarm.getId()));
+    return ids;
+  }
+
+  private Set<Long> queryIds(String sql, long userId) throws Exception {
+    List<Long> ids = new ArrayList<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, userId);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          ids.add(resultSet.getLong(1));
+        }
+      }
+    }
+    return new TreeSet<>(ids);
+  }
+}
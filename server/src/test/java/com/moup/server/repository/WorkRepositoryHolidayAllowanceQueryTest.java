@@ -0,0 +1,137 @@
+package com.moup.server.repository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/// 급여 변경 일괄 재계산 쿼리(`updateHourlyRateAndPayFromDate` → `updateHolidayAllowancesFromDate`)가
+/// 주 단위 재계산(`SalaryCalculationService.recalculateWorkWeekDetails`)과 같은 주휴수당을 계산하는지 확인하는 테스트
+///
+/// `db/moup.sql`로 별도 스키마(`moup_holiday_allowance`)를 만들어 실행하며, MySQL 호환 DB가 필요하므로 `QUERY_PLAN_DB_URL`이 없으면 건너뜁니다.
+/// (e.g. `QUERY_PLAN_DB_URL=jdbc:mysql://localhost:3306 QUERY_PLAN_DB_USERNAME=root gradle test --tests '*HolidayAllowanceQueryTest'`)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WorkRepositoryHolidayAllowanceQueryTest {
+
+  private static final String SCHEMA = "moup_holiday_allowance";
+  private static final long WORKER_ID = 1L;
+
+  private Connection connection;
+  private SqlSession sqlSession;
+
+  @BeforeAll
+  void setUp() throws Exception {
+    String url = System.getenv("QUERY_PLAN_DB_URL");
+    assumeTrue(url != null && !url.isBlank(), "QUERY_PLAN_DB_URL이 없어 주휴수당 재계산 쿼리 테스트를 건너뜁니다.");
+
+    connection = DriverManager.getConnection(url,
+        System.getenv().getOrDefault("QUERY_PLAN_DB_USERNAME", "root"),
+        System.getenv().getOrDefault("QUERY_PLAN_DB_PASSWORD", ""));
+    createSchema();
+    insertWorks();
+
+    Configuration configuration = new Configuration(new Environment(SCHEMA, new JdbcTransactionFactory(), new UnpooledDataSource()));
+    configuration.setMapUnderscoreToCamelCase(true);
+    configuration.addMapper(WorkRepository.class);
+    SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    sqlSession = sqlSessionFactory.openSession(connection);
+  }
+
+  @AfterAll
+  void tearDown() throws Exception {
+    if (connection == null) { return; }
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA);
+    }
+    connection.close();
+  }
+
+  @Test
+  @DisplayName("시급 적용일이 주 중간이면 그 주의 주휴수당은 첫 근무(변경 전) 시급, 다음 주부터는 새 시급으로 계산")
+  void midWeekEffectiveDateUsesFirstWorkHourlyRate() throws Exception {
+    WorkRepository workRepository = sqlSession.getMapper(WorkRepository.class);
+
+    // when (2025-11-05 수요일부터 시급 10,030 → 12,000)
+    workRepository.updateHourlyRateAndPayFromDate(WORKER_ID, LocalDate.of(2025, 11, 5), 12_000, false);
+    workRepository.updateHolidayAllowancesFromDate(WORKER_ID, LocalDate.of(2025, 11, 3), true);
+
+    // then (주 40시간, 5일 → 하루 평균 8시간분 시급을 5일로 분배)
+    // 11월 3일 주: 8 × 10,030 = 80,240 → 일 16,048 / 11월 10일 주: 8 × 12,000 = 96,000 → 일 19,200
+    assertEquals(List.of(
+        List.of(80_240, 16_048, 96_288), List.of(80_240, 16_048, 96_288),
+        List.of(96_000, 16_048, 112_048), List.of(96_000, 16_048, 112_048), List.of(96_000, 16_048, 112_048),
+        List.of(96_000, 19_200, 115_200), List.of(96_000, 19_200, 115_200), List.of(96_000, 19_200, 115_200),
+        List.of(96_000, 19_200, 115_200), List.of(96_000, 19_200, 115_200)), findPays());
+  }
+
+  private void createSchema() throws Exception {
+    String script = Files.readString(Path.of("../db/moup.sql"));
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA);
+      statement.execute("CREATE SCHEMA " + SCHEMA);
+      connection.setCatalog(SCHEMA);
+
+      for (String sql : script.split(";")) {
+        String trimmed = sql.strip();
+        // 스크립트의 `moup` 스키마 생성/전환 구문은 건너뛰고 테스트 스키마에 테이블만 생성
+        if (trimmed.isEmpty() || trimmed.matches("(?is)(DROP SCHEMA|CREATE SCHEMA|USE)\\b.*")) { continue; }
+        statement.execute(trimmed);
+      }
+    }
+  }
+
+  /// 2025-11-03(월)부터 2주간 평일 09:00 ~ 18:00(휴게 60분) 근무를 시급 10,030원으로 생성합니다.
+  private void insertWorks() throws Exception {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+      statement.execute("""
+          INSERT INTO works (worker_id, work_date, start_time, end_time, rest_time_minutes, net_work_minutes, hourly_rate, base_pay)
+          WITH RECURSIVE days (d) AS (SELECT 0 UNION ALL SELECT d + 1 FROM days WHERE d < 11)
+          SELECT %d,
+                 DATE_ADD('2025-11-03', INTERVAL days.d DAY),
+                 TIMESTAMP(DATE_ADD('2025-11-03', INTERVAL days.d DAY), '09:00:00'),
+                 TIMESTAMP(DATE_ADD('2025-11-03', INTERVAL days.d DAY), '18:00:00'),
+                 60, 480, 10030, 80240
+          FROM days
+          WHERE WEEKDAY(DATE_ADD('2025-11-03', INTERVAL days.d DAY)) < 5
+          """.formatted(WORKER_ID));
+      statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+    }
+  }
+
+  /// 근무일 순서대로 (기본급, 주휴수당, 세전 일급)을 조회합니다.
+  private List<List<Integer>> findPays() throws Exception {
+    List<List<Integer>> pays = new ArrayList<>();
+    try (PreparedStatement statement = connection.prepareStatement(
+        "SELECT base_pay, holiday_allowance, gross_income FROM works WHERE worker_id = ? ORDER BY work_date")) {
+      statement.setLong(1, WORKER_ID);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          pays.add(List.of(resultSet.getInt(1), resultSet.getInt(2), resultSet.getInt(3)));
+        }
+      }
+    }
+    return pays;
+  }
+}
@@ -0,0 +1,205 @@
+package com.moup.server.repository;
+
+import com.moup.server.model.entity.Work;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.reflection.ParamNameResolver;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/// `WorkRepository`의 모든 조회/수정 쿼리에 대한 실행 계획(EXPLAIN) 회귀 테스트
+///
+/// `db/moup.sql`로 별도 스키마(`moup_query_plan`)를 만들고 근무 데이터를 생성한 뒤,
+/// 각 쿼리의 EXPLAIN 결과에 `works` 테이블 전체 스캔(`ALL`, `index`)이 없는지 확인합니다.
+/// MySQL 호환 DB가 필요하므로 `QUERY_PLAN_DB_URL`이 없으면 건너뜁니다.
+/// (e.g. `QUERY_PLAN_DB_URL=jdbc:mysql://localhost:3306 QUERY_PLAN_DB_USERNAME=root gradle test --tests '*QueryPlanTest'`)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WorkRepositoryQueryPlanTest {
+
+  private static final String SCHEMA = "moup_query_plan";
+  private static final int WORKER_COUNT = 200;
+  private static final LocalDate DATA_START_DATE = LocalDate.of(2025, 1, 1);
+  private static final int DATA_DAYS = 365;
+  private static final List<String> FULL_SCAN_TYPES = List.of("ALL", "index");
+
+  private Connection connection;
+  private final Configuration configuration = new Configuration();
+
+  @BeforeAll
+  void setUp() throws Exception {
+    String url = System.getenv("QUERY_PLAN_DB_URL");
+    assumeTrue(url != null && !url.isBlank(), "QUERY_PLAN_DB_URL이 없어 실행 계획 테스트를 건너뜁니다.");
+
+    connection = DriverManager.getConnection(url,
+        System.getenv().getOrDefault("QUERY_PLAN_DB_USERNAME", "root"),
+        System.getenv().getOrDefault("QUERY_PLAN_DB_PASSWORD", ""));
+    configuration.setMapUnderscoreToCamelCase(true);
+    configuration.addMapper(WorkRepository.class);
+
+    createSchema();
+    generateWorks();
+  }
+
+  @AfterAll
+  void tearDown() throws Exception {
+    if (connection == null) { return; }
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA);
+    }
+    connection.close();
+  }
+
+  @TestFactory
+  @DisplayName("WorkRepository 쿼리는 works 테이블을 전체 스캔하지 않음")
+  Stream<DynamicTest> noFullScanOnWorks() {
+    return Arrays.stream(WorkRepository.class.getDeclaredMethods())
+        .filter(method -> !method.isDefault() && !method.isSynthetic())
+        .sorted(Comparator.comparing(Method::getName))
+        .map(method -> DynamicTest.dynamicTest(method.getName(), () -> assertNoFullScan(method)));
+  }
+
+  private void assertNoFullScan(Method method) throws Exception {
+    MappedStatement mappedStatement = configuration.getMappedStatement(WorkRepository.class.getName() + "." + method.getName());
+    // INSERT의 EXPLAIN은 대상 테이블을 항상 ALL로 표시하므로 읽기 경로가 있는 쿼리만 검사
+    if (mappedStatement.getSqlCommandType() == SqlCommandType.INSERT) { return; }
+
+    Object parameterObject = new ParamNameResolver(configuration, method).getNamedParams(sampleArgs(method));
+    BoundSql boundSql = mappedStatement.getBoundSql(parameterObject);
+
+    List<String> fullScans = new ArrayList<>();
+    try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+      new DefaultParameterHandler(mappedStatement, parameterObject, boundSql).setParameters(statement);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String table = resultSet.getString("table");
+          String type = resultSet.getString("type");
+          // 파생 테이블(`<derived2>` 등)은 이미 범위 조회된 결과이므로 제외
+          if (table != null && !table.startsWith("<") && FULL_SCAN_TYPES.contains(type)) {
+            fullScans.add(table + " (type=" + type + ", key=" + resultSet.getString("key") + ")");
+          }
+        }
+      }
+    }
+
+    assertTrue(fullScans.isEmpty(), () -> method.getName() + " 쿼리가 전체 스캔합니다: " + fullScans + "\n" + boundSql.getSql());
+  }
+
+  private void createSchema() throws Exception {
+    String script = Files.readString(Path.of("../db/moup.sql"));
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA);
+      statement.execute("CREATE SCHEMA " + SCHEMA);
+      connection.setCatalog(SCHEMA);
+
+      for (String sql : script.split(";")) {
+        String trimmed = sql.strip();
+        // 스크립트의 `moup` 스키마 생성/전환 구문은 건너뛰고 테스트 스키마에 테이블만 생성
+        if (trimmed.isEmpty() || trimmed.matches("(?is)(DROP SCHEMA|CREATE SCHEMA|USE)\\b.*")) { continue; }
+        statement.execute(trimmed);
+      }
+    }
+  }
+
+  /// 근무자 `WORKER_COUNT`명 × `DATA_DAYS`일의 근무를 생성합니다. (짝수 근무자는 반복 근무 그룹 `rg-{workerId}`에 속함)
+  private void generateWorks() throws Exception {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+      statement.execute("""
+          INSERT INTO works (worker_id, work_date, start_time, end_time, rest_time_minutes, hourly_rate, repeat_group_id)
+          WITH RECURSIVE worker_ids (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM worker_ids WHERE n < %d),
+                         days (d) AS (SELECT 0 UNION ALL SELECT d + 1 FROM days WHERE d < %d)
+          SELECT worker_ids.n,
+                 DATE_ADD('%s', INTERVAL days.d DAY),
+                 TIMESTAMP(DATE_ADD('%s', INTERVAL days.d DAY), '09:00:00'),
+                 TIMESTAMP(DATE_ADD('%s', INTERVAL days.d DAY), '18:00:00'),
+                 60,
+                 10030,
+                 IF(worker_ids.n %% 2 = 0, CONCAT('rg-', worker_ids.n), NULL)
+          FROM worker_ids CROSS JOIN days
+          """.formatted(WORKER_COUNT, DATA_DAYS - 1, DATA_START_DATE, DATA_START_DATE, DATA_START_DATE));
+      statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+      statement.execute("ANALYZE TABLE works");
+    }
+  }
+
+  private Object[] sampleArgs(Method method) {
+    return Arrays.stream(method.getParameters()).map(this::sampleArg).toArray();
+  }
+
+  private Object sampleArg(Parameter parameter) {
+    Class<?> type = parameter.getType();
+    if (type == Long.class || type == long.class) { return 2L; }
+    if (type == int.class || type == Integer.class) { return 1_000; }
+    if (type == boolean.class || type == Boolean.class) { return true; }
+    if (type == String.class) { return "rg-2"; }
+    if (type == LocalDate.class) { return LocalDate.of(2025, 6, 2); }
+    if (type == LocalDateTime.class) { return LocalDateTime.of(2025, 6, 2, 9, 0); }
+    if (type == Work.class) { return sampleWork(); }
+    if (List.class.isAssignableFrom(type) || type == Collection.class) {
+      Type elementType = ((ParameterizedType) parameter.getParameterizedType()).getActualTypeArguments()[0];
+      if (elementType == Long.class) { return List.of(2L, 3L); }
+      if (elementType == String.class) { return List.of("rg-2", "rg-4"); }
+      if (elementType == Work.class) { return List.of(sampleWork()); }
+      if (elementType == WorkRepository.ActualTimeUpdate.class) {
+        return List.of(new WorkRepository.ActualTimeUpdate(1L, LocalDateTime.of(2025, 6, 2, 9, 0)));
+      }
+      if (elementType == WorkRepository.MonthlyDailyDeduction.class) {
+        return List.of(new WorkRepository.MonthlyDailyDeduction(2025, 6, 3_300));
+      }
+      if (elementType == WorkRepository.WorkerMonthlyDailyDeduction.class) {
+        return List.of(new WorkRepository.WorkerMonthlyDailyDeduction(2L, LocalDate.of(2025, 6, 1), 3_300),
+            new WorkRepository.WorkerMonthlyDailyDeduction(4L, LocalDate.of(2025, 7, 1), 3_300));
+      }
+    }
+    throw new IllegalArgumentException("샘플 파라미터를 만들 수 없는 타입입니다: " + parameter.getParameterizedType());
+  }
+
+  private Work sampleWork() {
+    return Work.builder()
+        .id(1L)
+        .workerId(2L)
+        .workDate(LocalDate.of(2025, 6, 2))
+        .startTime(LocalDateTime.of(2025, 6, 2, 9, 0))
+        .endTime(LocalDateTime.of(2025, 6, 2, 18, 0))
+        .restTimeMinutes(60)
+        .grossWorkMinutes(540)
+        .netWorkMinutes(480)
+        .nightWorkMinutes(0)
+        .hourlyRate(10_030)
+        .basePay(80_240)
+        .nightAllowance(0)
+        .holidayAllowance(0)
+        .grossIncome(80_240)
+        .estimatedNetIncome(80_240)
+        .build();
+  }
+}
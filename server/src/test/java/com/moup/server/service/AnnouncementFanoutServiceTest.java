@@ -0,0 +1,90 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.AnnouncementFanout;
+import com.moup.server.repository.AlarmRepository;
+import com.moup.server.repository.AnnouncementFanoutRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnnouncementFanoutServiceTest {
+
+  @Mock
+  private AnnouncementFanoutRepository announcementFanoutRepository;
+
+  @Mock
+  private AlarmRepository alarmRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @InjectMocks
+  private AnnouncementFanoutService announcementFanoutService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(announcementFanoutService, "chunkSize", 10_000);
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  private AnnouncementFanout fanout(long lastUserId, LocalDateTime completedAt) {
+    return AnnouncementFanout.builder()
+        .alarmId(1L)
+        .lastUserId(lastUserId)
+        .maxUserId(25_000L)
+        .insertedCount(0L)
+        .completedAt(completedAt)
+        .build();
+  }
+
+  @Test
+  @DisplayName("체크포인트 다음 구간부터 사용자 ID 구간 단위로 매핑 생성")
+  void resumesFromCheckpoint() {
+    // given (10,000번 사용자까지 처리된 상태에서 재개)
+    when(announcementFanoutRepository.findByAlarmIdForUpdate(1L)).thenReturn(
+        Optional.of(fanout(10_000L, null)),
+        Optional.of(fanout(20_000L, null)),
+        Optional.of(fanout(25_000L, LocalDateTime.now())));
+    when(alarmRepository.saveAnnouncementMappingsByUserIdRange(eq(1L), anyLong(), anyLong())).thenReturn(10_000, 5_000);
+
+    // when
+    announcementFanoutService.fanOut(1L);
+
+    // then (구간마다 별도 트랜잭션, 마지막 구간은 최대 사용자 ID까지)
+    InOrder inOrder = inOrder(alarmRepository, announcementFanoutRepository);
+    inOrder.verify(alarmRepository).saveAnnouncementMappingsByUserIdRange(1L, 10_000L, 20_000L);
+    inOrder.verify(announcementFanoutRepository).updateCheckpoint(1L, 20_000L, 10_000);
+    inOrder.verify(alarmRepository).saveAnnouncementMappingsByUserIdRange(1L, 20_000L, 25_000L);
+    inOrder.verify(announcementFanoutRepository).updateCheckpoint(1L, 25_000L, 5_000);
+    verify(transactionTemplate, times(3)).execute(any());
+  }
+
+  @Test
+  @DisplayName("이미 완료된 작업은 매핑을 생성하지 않음")
+  void skipsCompletedFanout() {
+    // given
+    when(announcementFanoutRepository.findByAlarmIdForUpdate(1L)).thenReturn(Optional.of(fanout(25_000L, LocalDateTime.now())));
+
+    // when
+    announcementFanoutService.fanOut(1L);
+
+    // then
+    verify(alarmRepository, never()).saveAnnouncementMappingsByUserIdRange(anyLong(), anyLong(), anyLong());
+    verify(announcementFanoutRepository, never()).updateCheckpoint(anyLong(), anyLong(), anyInt());
+  }
+}
@@ -0,0 +1,76 @@
+package com.moup.server.service;
+
+import com.moup.server.repository.AnnouncementReadStateRepository;
+import com.moup.server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnnouncementReadStateBackfillServiceTest {
+
+  @Mock
+  private AnnouncementReadStateRepository announcementReadStateRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @InjectMocks
+  private AnnouncementReadStateBackfillService announcementReadStateBackfillService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(announcementReadStateBackfillService, "chunkSize", 10_000);
+  }
+
+  @Test
+  @DisplayName("워터마크가 없는 사용자가 있으면 사용자 ID 구간마다 예외를 먼저 옮기고 워터마크 생성")
+  void backfillsByUserIdRange() {
+    // given
+    when(announcementReadStateRepository.existsUserWithoutState()).thenReturn(true);
+    when(userRepository.findMaxId()).thenReturn(15_000L);
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+    // when
+    announcementReadStateBackfillService.backfill();
+
+    // then (구간마다 별도 트랜잭션, 마지막 구간은 최대 사용자 ID까지)
+    InOrder inOrder = inOrder(announcementReadStateRepository);
+    inOrder.verify(announcementReadStateRepository).backfillExceptionsFromMappingsByUserIdRange(0L, 10_000L);
+    inOrder.verify(announcementReadStateRepository).backfillUnmappedExceptionsByUserIdRange(0L, 10_000L);
+    inOrder.verify(announcementReadStateRepository).backfillStatesFromMappingsByUserIdRange(0L, 10_000L);
+    inOrder.verify(announcementReadStateRepository).backfillExceptionsFromMappingsByUserIdRange(10_000L, 15_000L);
+    inOrder.verify(announcementReadStateRepository).backfillUnmappedExceptionsByUserIdRange(10_000L, 15_000L);
+    inOrder.verify(announcementReadStateRepository).backfillStatesFromMappingsByUserIdRange(10_000L, 15_000L);
+    verify(transactionTemplate, times(2)).execute(any());
+  }
+
+  @Test
+  @DisplayName("모든 사용자에게 워터마크가 있으면 아무것도 옮기지 않음")
+  void skipsWhenAllUsersHaveState() {
+    // given
+    when(announcementReadStateRepository.existsUserWithoutState()).thenReturn(false);
+
+    // when
+    announcementReadStateBackfillService.backfill();
+
+    // then
+    verifyNoInteractions(userRepository, transactionTemplate);
+    verify(announcementReadStateRepository, never()).backfillStatesFromMappingsByUserIdRange(anyLong(), anyLong());
+  }
+}
@@ -0,0 +1,112 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.Work;
+import com.moup.server.model.entity.Worker;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceStateStoreTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @InjectMocks
+  private AttendanceStateStore attendanceStateStore;
+
+  private Worker worker(long workerId, boolean isNowWorking) {
+    return Worker.builder().id(workerId).userId(workerId + 1000).workplaceId(10L).isNowWorking(isNowWorking).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) { TransactionSynchronizationManager.clearSynchronization(); }
+  }
+
+  /// 트랜잭션 안에서 출근한 뒤 트랜잭션을 `status`로 완료하고, 실행된 Lua 스크립트 목록을 반환합니다.
+  @SuppressWarnings("unchecked")
+  private List<RedisScript<Long>> clockInAndComplete(int status) {
+    Work work = Work.builder().id(500L).workDate(LocalDate.of(2025, 11, 3)).build();
+    when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("attendance:user:1001", "attendance:events", "attendance:started:1001")),
+        any(Object[].class))).thenReturn(1L);
+
+    TransactionSynchronizationManager.initSynchronization();
+    assertTrue(attendanceStateStore.clockIn(1001L, worker(1L, false), work, LocalDateTime.of(2025, 11, 3, 9, 0)));
+    TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(status));
+
+    ArgumentCaptor<RedisScript<Long>> scriptCaptor = ArgumentCaptor.forClass(RedisScript.class);
+    verify(stringRedisTemplate, atLeastOnce()).execute(scriptCaptor.capture(), anyList(), any(Object[].class));
+    return scriptCaptor.getAllValues();
+  }
+
+  @Test
+  @DisplayName("출근 - 트랜잭션이 롤백되면 출근을 취소하는 스크립트 실행")
+  void clockIn_CancelledOnRollback() {
+    // when
+    List<RedisScript<Long>> scriptList = clockInAndComplete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+    // then (출근 → 같은 키로 출근 취소)
+    assertEquals(2, scriptList.size());
+    assertTrue(scriptList.get(1).getScriptAsString().contains("'CLOCK_OUT'"));
+    assertTrue(scriptList.get(1).getScriptAsString().contains("SREM"));
+  }
+
+  @Test
+  @DisplayName("출근 - 트랜잭션이 커밋되면 출근 상태 유지")
+  void clockIn_KeptOnCommit() {
+    // when
+    List<RedisScript<Long>> scriptList = clockInAndComplete(TransactionSynchronization.STATUS_COMMITTED);
+
+    // then
+    assertEquals(1, scriptList.size());
+  }
+
+  @Test
+  @DisplayName("매장 근무 중 목록 - Redis 상태 기준으로 판단하고, 상태 키가 없는 사용자만 DB 값 사용")
+  void findWorkingWorkerIds() {
+    // given
+    // 101: 이 근무자로 출근 (DB 반영 전) / 102: 다른 매장 근무자로 근무 중 / 103: 퇴근 (DB 반영 전) / 104: 상태 키 없음
+    List<Worker> workerList = List.of(worker(101L, false), worker(102L, false), worker(103L, true), worker(104L, true));
+    when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(
+        List.of("WORKING", "101"),
+        List.of("WORKING", "999"),
+        Arrays.asList("IDLE", null),
+        Arrays.asList(null, null)));
+
+    // when
+    List<Long> workingWorkerIdList = attendanceStateStore.findWorkingWorkerIds(workerList);
+
+    // then
+    assertEquals(List.of(101L, 104L), workingWorkerIdList);
+  }
+
+  @Test
+  @DisplayName("매장 근무 중 목록 - 근무자가 없으면 Redis를 조회하지 않음")
+  void findWorkingWorkerIds_Empty() {
+    // when
+    List<Long> workingWorkerIdList = attendanceStateStore.findWorkingWorkerIds(List.of());
+
+    // then
+    assertTrue(workingWorkerIdList.isEmpty());
+    verifyNoInteractions(stringRedisTemplate);
+  }
+}
@@ -0,0 +1,183 @@
+package com.moup.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moup.server.model.entity.Salary;
+import com.moup.server.repository.SalaryRepository;
+import com.moup.server.repository.WorkRepository;
+import com.moup.server.repository.WorkRepository.ActualTimeUpdate;
+import com.moup.server.repository.WorkerRepository;
+import com.moup.server.repository.WorkerRepository.NowWorkingUpdate;
+import com.moup.server.service.AttendanceStateStore.AttendanceEvent;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceWriteBehindFlusherTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private ObjectMapper objectMapper;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Mock
+  private WorkRepository workRepository;
+
+  @Mock
+  private WorkerRepository workerRepository;
+
+  @Mock
+  private SalaryRepository salaryRepository;
+
+  @Mock
+  private SalaryRecalculationCoordinator salaryRecalculationCoordinator;
+
+  @Mock
+  private CalendarVersionStore calendarVersionStore;
+
+  @Mock
+  private AttendanceStateStore attendanceStateStore;
+
+  @InjectMocks
+  private AttendanceWriteBehindFlusher attendanceWriteBehindFlusher;
+
+  private final LocalDate workDate = LocalDate.of(2025, 11, 3);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(attendanceWriteBehindFlusher, "batchSize", 500);
+    ReflectionTestUtils.setField(attendanceWriteBehindFlusher, "maxAttempts", 5);
+  }
+
+  /// 처리 중 목록에 이벤트 하나가 남아 있고, 이번이 `attempt`번째 반영 시도인 상태를 스텁합니다.
+  @SuppressWarnings("unchecked")
+  private void stubClaimedBatch(long attempt) {
+    when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(List.of("event"));
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.increment(AttendanceWriteBehindFlusher.ATTEMPTS_KEY)).thenReturn(attempt);
+  }
+
+  private AttendanceEvent event(AttendanceEvent.Type type, Long workerId, Long workId, int hour) {
+    return new AttendanceEvent(type, workerId * 10, workerId, 1L, workId, workDate, workDate.atTime(hour, 0));
+  }
+
+  @Test
+  @DisplayName("출퇴근 이벤트를 근무/근무자별로 모아 한 번씩 배치 업데이트")
+  void applyCoalescesEvents() {
+    // given (근무자 1: 출근 후 퇴근, 근무자 2: 출근만)
+    Salary salary = Salary.builder().workerId(1L).build();
+    when(salaryRepository.findByWorkerId(1L)).thenReturn(Optional.of(salary));
+    List<AttendanceEvent> eventList = List.of(
+        event(AttendanceEvent.Type.CLOCK_IN, 1L, 100L, 9),
+        event(AttendanceEvent.Type.CLOCK_IN, 2L, 200L, 9),
+        event(AttendanceEvent.Type.CLOCK_OUT, 1L, 100L, 18));
+
+    // when
+    attendanceWriteBehindFlusher.apply(eventList);
+
+    // then
+    verify(workRepository).updateActualStartTimesBatch(List.of(
+        new ActualTimeUpdate(100L, LocalDateTime.of(2025, 11, 3, 9, 0)),
+        new ActualTimeUpdate(200L, LocalDateTime.of(2025, 11, 3, 9, 0))));
+    verify(workRepository).updateActualEndTimesBatch(List.of(
+        new ActualTimeUpdate(100L, LocalDateTime.of(2025, 11, 3, 18, 0))));
+    verify(workerRepository).updateIsNowWorkingBatch(List.of(
+        new NowWorkingUpdate(1L, false),
+        new NowWorkingUpdate(2L, true)));
+    verify(salaryRecalculationCoordinator).markWorkWeekDirty(1L, workDate, salary);
+    verify(salaryRecalculationCoordinator, never()).markWorkWeekDirty(eq(2L), any(), any());
+    verify(calendarVersionStore).markWorkMonthChanged(2L, YearMonth.of(2025, 11));
+  }
+
+  @Test
+  @DisplayName("진행 중인 근무 없이 남아 있던 근무 중 상태는 근무자 상태만 해제")
+  void applyClockOutWithoutWork() {
+    // given
+    List<AttendanceEvent> eventList = List.of(event(AttendanceEvent.Type.CLOCK_OUT, 1L, null, 18));
+
+    // when
+    attendanceWriteBehindFlusher.apply(eventList);
+
+    // then
+    verify(workRepository, never()).updateActualEndTimesBatch(any());
+    verify(workerRepository).updateIsNowWorkingBatch(List.of(new NowWorkingUpdate(1L, false)));
+    verifyNoInteractions(salaryRecalculationCoordinator);
+  }
+
+  @Test
+  @DisplayName("반영에 성공하면 출근 반영 대기 목록을 정리하고 처리 중 목록과 시도 횟수 삭제")
+  void flushBatchClearsPendingStartedWorks() throws Exception {
+    // given
+    stubClaimedBatch(1L);
+    AttendanceEvent clockIn = event(AttendanceEvent.Type.CLOCK_IN, 1L, 100L, 9);
+    when(objectMapper.readValue("event", AttendanceEvent.class)).thenReturn(clockIn);
+
+    // when
+    attendanceWriteBehindFlusher.flushBatch();
+
+    // then
+    InOrder inOrder = inOrder(transactionTemplate, attendanceStateStore, stringRedisTemplate);
+    inOrder.verify(transactionTemplate).executeWithoutResult(any());
+    inOrder.verify(attendanceStateStore).clearPendingStartedWorks(List.of(clockIn));
+    inOrder.verify(stringRedisTemplate).delete(List.of(AttendanceWriteBehindFlusher.PROCESSING_KEY, AttendanceWriteBehindFlusher.ATTEMPTS_KEY));
+  }
+
+  @Test
+  @DisplayName("반영에 실패하면 처리 중 목록을 남겨 다음 실행에서 다시 반영")
+  @SuppressWarnings("unchecked")
+  void flushBatchKeepsProcessingListOnFailure() throws Exception {
+    // given
+    stubClaimedBatch(2L);
+    when(objectMapper.readValue("event", AttendanceEvent.class)).thenReturn(event(AttendanceEvent.Type.CLOCK_IN, 1L, 100L, 9));
+    doThrow(new IllegalStateException("DB 오류")).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+    // when & then
+    assertThrows(IllegalStateException.class, () -> attendanceWriteBehindFlusher.flushBatch());
+    verify(stringRedisTemplate, never()).delete(anyCollection());
+    verifyNoInteractions(attendanceStateStore);
+  }
+
+  @Test
+  @DisplayName("같은 배치가 최대 시도 횟수를 넘게 실패하면 실패 목록으로 옮기고 반영하지 않음")
+  @SuppressWarnings("unchecked")
+  void flushBatchMovesToDeadLetterAfterMaxAttempts() {
+    // given
+    stubClaimedBatch(6L);
+
+    // when
+    int flushedCount = attendanceWriteBehindFlusher.flushBatch();
+
+    // then
+    assertEquals(1, flushedCount);
+    verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(
+        AttendanceWriteBehindFlusher.PROCESSING_KEY, AttendanceWriteBehindFlusher.ATTEMPTS_KEY, AttendanceWriteBehindFlusher.DEAD_LETTER_KEY)));
+    verifyNoInteractions(transactionTemplate, objectMapper);
+  }
+}
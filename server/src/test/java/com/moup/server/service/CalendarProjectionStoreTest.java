@@ -0,0 +1,70 @@
+package com.moup.server.service;
+
+import com.moup.server.model.dto.WorkSummaryResponse;
+import com.moup.server.model.dto.WorkerSummaryResponse;
+import com.moup.server.model.dto.WorkplaceSummaryResponse;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarProjectionStoreTest {
+
+  @Test
+  @DisplayName("근무 요약을 인코딩 후 복원하면 근무 정보는 그대로, 요약 정보와 플래그는 조회 요청 기준")
+  void encodeAndDecode() {
+    // given
+    WorkSummaryResponse recurringWork = WorkSummaryResponse.builder()
+        .workId(12345L)
+        .workDate(LocalDate.of(2025, 11, 3))
+        .startTime(Instant.parse("2025-11-03T00:30:00Z"))
+        .endTime(Instant.parse("2025-11-03T08:30:00.500Z"))
+        .workMinutes(450L)
+        .restTimeMinutes(30)
+        .estimatedNetIncome(-1200)
+        .repeatDays(List.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY))
+        .repeatEndDate(LocalDate.of(2025, 12, 31))
+        .build();
+    WorkSummaryResponse ongoingWork = WorkSummaryResponse.builder()
+        .workId(12346L)
+        .workDate(LocalDate.of(2025, 11, 4))
+        .startTime(Instant.parse("2025-11-04T00:30:00Z"))
+        .workMinutes(0L)
+        .repeatDays(List.of())
+        .build();
+    WorkerSummaryResponse workerSummaryInfo = WorkerSummaryResponse.builder().workerId(1L).nickname("근무자").build();
+    WorkplaceSummaryResponse workplaceSummaryInfo = WorkplaceSummaryResponse.builder().workplaceId(2L).workplaceName("매장").build();
+
+    // when
+    byte[] projection = CalendarProjectionStore.encode(List.of(recurringWork, ongoingWork));
+    List<WorkSummaryResponse> decoded = CalendarProjectionStore.decode(projection, workerSummaryInfo, workplaceSummaryInfo, false, true);
+
+    // then
+    assertEquals(2, decoded.size());
+    WorkSummaryResponse first = decoded.get(0);
+    assertEquals(12345L, first.getWorkId());
+    assertEquals(recurringWork.getWorkDate(), first.getWorkDate());
+    assertEquals(recurringWork.getStartTime(), first.getStartTime());
+    assertEquals(recurringWork.getEndTime(), first.getEndTime());
+    assertEquals(450L, first.getWorkMinutes());
+    assertEquals(30, first.getRestTimeMinutes());
+    assertEquals(-1200, first.getEstimatedNetIncome());
+    assertEquals(List.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY), first.getRepeatDays());
+    assertEquals(recurringWork.getRepeatEndDate(), first.getRepeatEndDate());
+    assertSame(workerSummaryInfo, first.getWorkerSummaryInfo());
+    assertSame(workplaceSummaryInfo, first.getWorkplaceSummaryInfo());
+    assertFalse(first.getIsMyWork());
+    assertTrue(first.getIsEditable());
+
+    WorkSummaryResponse second = decoded.get(1);
+    assertNull(second.getEndTime());
+    assertNull(second.getRestTimeMinutes());
+    assertNull(second.getEstimatedNetIncome());
+    assertNull(second.getRepeatEndDate());
+    assertTrue(second.getRepeatDays().isEmpty());
+  }
+}
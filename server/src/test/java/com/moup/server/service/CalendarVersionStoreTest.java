@@ -0,0 +1,69 @@
+package com.moup.server.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarVersionStoreTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @InjectMocks
+  private CalendarVersionStore calendarVersionStore;
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.unbindResourceIfPossible(calendarVersionStore);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안의 변경은 중복을 제거해 커밋 후 한 번에 버전 증가 및 프로젝션 재생성 등록")
+  void markChangedAfterCommit() {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    calendarVersionStore.markWorkMonthChanged(1L, YearMonth.of(2025, 11));
+    calendarVersionStore.markWorkMonthChanged(1L, YearMonth.of(2025, 11));
+    calendarVersionStore.markWorkerChanged(1L);
+
+    // then
+    verifyNoInteractions(stringRedisTemplate);
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.afterCommit();
+      synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+    }
+    verify(stringRedisTemplate).execute(any(RedisScript.class),
+        eq(List.of("calendar:projection:dirty", "calendar:version:worker:1:2025-11", "calendar:version:worker:1")),
+        eq("1:2025-11"));
+  }
+
+  @Test
+  @DisplayName("If-None-Match 헤더의 ETag 목록 중 하나라도 일치하면 변경 없음 (약한 비교)")
+  void isNotModified() {
+    String eTag = "\"abc\"";
+
+    assertTrue(CalendarVersionStore.isNotModified(eTag, "\"xyz\", W/\"abc\""));
+    assertFalse(CalendarVersionStore.isNotModified(eTag, "\"xyz\""));
+    assertFalse(CalendarVersionStore.isNotModified(null, "\"abc\""));
+  }
+}
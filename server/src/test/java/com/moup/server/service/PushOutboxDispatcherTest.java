@@ -0,0 +1,152 @@
+package com.moup.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.moup.server.model.enums.PushOutboxStatus;
+import com.moup.server.repository.PushOutboxRepository;
+import com.moup.server.repository.PushOutboxRepository.ClaimedPush;
+import com.moup.server.repository.PushOutboxRepository.PushResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PushOutboxDispatcherTest {
+
+  @Mock
+  private PushOutboxRepository pushOutboxRepository;
+
+  @Mock
+  private FirebaseMessaging firebaseMessaging;
+
+  private MockedStatic<FirebaseMessaging> firebaseMessagingStatic;
+
+  private PushOutboxDispatcher pushOutboxDispatcher;
+
+  @BeforeEach
+  void setUp() {
+    pushOutboxDispatcher = new PushOutboxDispatcher(pushOutboxRepository, new ObjectMapper(), new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(pushOutboxDispatcher, "maxAttempts", 5);
+    ReflectionTestUtils.setField(pushOutboxDispatcher, "retryBaseDelaySeconds", 30);
+    ReflectionTestUtils.setField(pushOutboxDispatcher, "retryMaxDelaySeconds", 3600);
+    ReflectionTestUtils.setField(pushOutboxDispatcher, "leaseSeconds", 300);
+
+    firebaseMessagingStatic = mockStatic(FirebaseMessaging.class);
+    firebaseMessagingStatic.when(FirebaseMessaging::getInstance).thenReturn(firebaseMessaging);
+  }
+
+  @AfterEach
+  void tearDown() {
+    firebaseMessagingStatic.close();
+  }
+
+  private ClaimedPush push(Long id, String fcmToken, int attemptCount) {
+    return new ClaimedPush(id, 10L, null, "제목", "내용", "{\"workplaceId\":\"1\"}", attemptCount, fcmToken);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<PushResult> capturedResults() {
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(pushOutboxRepository).updateResults(captor.capture());
+    return captor.getValue();
+  }
+
+  @Test
+  @DisplayName("메시지별 발송 결과를 한 번에 기록")
+  void recordsPerMessageResults() throws Exception {
+    // given
+    when(pushOutboxRepository.claimDispatchable(anyString(), eq(500), eq(300))).thenReturn(3);
+    when(pushOutboxRepository.findAllByClaimId(anyString())).thenReturn(List.of(
+        push(1L, "token-1", 1), push(2L, "token-2", 1), push(3L, null, 1)));
+
+    SendResponse success = mock(SendResponse.class);
+    when(success.isSuccessful()).thenReturn(true);
+    when(success.getMessageId()).thenReturn("message-1");
+    FirebaseMessagingException unregistered = mock(FirebaseMessagingException.class);
+    when(unregistered.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNREGISTERED);
+    SendResponse failure = mock(SendResponse.class);
+    when(failure.getException()).thenReturn(unregistered);
+    BatchResponse batchResponse = mock(BatchResponse.class);
+    when(batchResponse.getResponses()).thenReturn(List.of(success, failure));
+    when(firebaseMessaging.sendEach(anyList())).thenReturn(batchResponse);
+
+    // when
+    int claimedCount = pushOutboxDispatcher.dispatchBatch();
+
+    // then (토큰 없는 메시지는 발송하지 않고 실패 처리)
+    assertEquals(3, claimedCount);
+    verify(firebaseMessaging, times(1)).sendEach(argThat(messageList -> messageList.size() == 2));
+    List<PushResult> resultList = capturedResults();
+    assertEquals(PushOutboxStatus.FAILED, resultList.get(0).status());
+    assertEquals(3L, resultList.get(0).id());
+    assertEquals(new PushResult(1L, PushOutboxStatus.SENT, "message-1", null, 0), resultList.get(1));
+    assertEquals(PushOutboxStatus.FAILED, resultList.get(2).status());
+  }
+
+  @Test
+  @DisplayName("배치 발송 실패 시 지수 백오프로 재시도, 최대 시도 횟수 초과 시 실패 처리")
+  void retriesWithBackoff() throws Exception {
+    // given
+    when(pushOutboxRepository.claimDispatchable(anyString(), anyInt(), anyInt())).thenReturn(3);
+    when(pushOutboxRepository.findAllByClaimId(anyString())).thenReturn(List.of(
+        push(1L, "token-1", 1), push(2L, "token-2", 3), push(3L, "token-3", 5)));
+    FirebaseMessagingException unavailable = mock(FirebaseMessagingException.class);
+    when(unavailable.getMessage()).thenReturn("unavailable");
+    when(firebaseMessaging.sendEach(anyList())).thenThrow(unavailable);
+
+    // when
+    pushOutboxDispatcher.dispatchBatch();
+
+    // then
+    List<PushResult> resultList = capturedResults();
+    assertEquals(new PushResult(1L, PushOutboxStatus.PENDING, null, "unavailable", 30), resultList.get(0));
+    assertEquals(new PushResult(2L, PushOutboxStatus.PENDING, null, "unavailable", 120), resultList.get(1));
+    assertEquals(new PushResult(3L, PushOutboxStatus.FAILED, null, "unavailable", 0), resultList.get(2));
+  }
+
+  @Test
+  @DisplayName("발송할 메시지가 없으면 FCM을 호출하지 않음")
+  void skipsWhenNothingClaimed() throws Exception {
+    // given
+    when(pushOutboxRepository.claimDispatchable(anyString(), anyInt(), anyInt())).thenReturn(0);
+
+    // when
+    pushOutboxDispatcher.dispatch();
+
+    // then
+    verify(firebaseMessaging, never()).sendEach(anyList());
+    verify(pushOutboxRepository, never()).updateResults(any());
+  }
+
+  @Test
+  @DisplayName("보관 기간이 지난 발송 메시지를 1,000개씩 모두 삭제")
+  void purgesSentMessagesInChunks() {
+    // given
+    ReflectionTestUtils.setField(pushOutboxDispatcher, "sentRetentionDays", 7);
+    when(pushOutboxRepository.deleteAllSentBefore(7, 1000)).thenReturn(1000, 1000, 10);
+
+    // when
+    pushOutboxDispatcher.purgeSent();
+
+    // then
+    verify(pushOutboxRepository, times(3)).deleteAllSentBefore(7, 1000);
+    verifyNoInteractions(firebaseMessaging);
+  }
+}
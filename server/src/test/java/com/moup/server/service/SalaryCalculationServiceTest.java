@@ -0,0 +1,302 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.Salary;
+import com.moup.server.model.dto.WorkerMonthlyWorkplaceSummaryResponse;
+import com.moup.server.model.entity.Work;
+import com.moup.server.model.entity.Worker;
+import com.moup.server.model.entity.WorkerMonthSummary;
+import com.moup.server.model.entity.Workplace;
+import com.moup.server.model.enums.SalaryCalculation;
+import com.moup.server.model.enums.SalaryType;
+import com.moup.server.repository.SalaryRepository;
+import com.moup.server.repository.WorkRepository;
+import com.moup.server.repository.WorkerMonthSummaryRepository;
+import com.moup.server.repository.WorkerRepository;
+import com.moup.server.repository.WorkplaceRepository;
+import com.moup.server.support.MaxQueries;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalaryCalculationServiceTest {
+
+  @Mock
+  private WorkRepository workRepository;
+
+  @Mock
+  private WorkerMonthSummaryRepository workerMonthSummaryRepository;
+
+  @Mock
+  private WorkerRepository workerRepository;
+
+  @Mock
+  private SalaryRepository salaryRepository;
+
+  @Mock
+  private WorkplaceRepository workplaceRepository;
+
+  @Spy
+  private SalaryRecalculationMetrics salaryRecalculationMetrics = new SalaryRecalculationMetrics(new SimpleMeterRegistry());
+
+  @InjectMocks
+  private SalaryCalculationService salaryCalculationService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(salaryCalculationService, "incomeTaxRate", 0.03);
+    ReflectionTestUtils.setField(salaryCalculationService, "insuranceMinHours", 60);
+  }
+
+  private Salary salary(SalaryCalculation salaryCalculation, int hourlyRate, boolean hasNightAllowance) {
+    return Salary.builder()
+        .salaryType(SalaryType.SALARY_MONTHLY)
+        .salaryCalculation(salaryCalculation)
+        .hourlyRate(hourlyRate)
+        .fixedRate(2_000_000)
+        .hasNationalPension(false)
+        .hasHealthInsurance(false)
+        .hasEmploymentInsurance(false)
+        .hasIncomeTax(true)
+        .hasHolidayAllowance(true)
+        .hasNightAllowance(hasNightAllowance)
+        .build();
+  }
+
+  /// 2025-11-03(월)부터 `days`일 연속 09:00 ~ 18:00 근무
+  private List<Work> weekWorks(Long workerId, int days) {
+    return IntStream.range(0, days)
+        .mapToObj(day -> Work.builder()
+            .id(workerId * 100 + day)
+            .workerId(workerId)
+            .workDate(LocalDate.of(2025, 11, 3).plusDays(day))
+            .startTime(LocalDate.of(2025, 11, 3).plusDays(day).atTime(9, 0))
+            .endTime(LocalDate.of(2025, 11, 3).plusDays(day).atTime(18, 0))
+            .restTimeMinutes(60)
+            .hourlyRate(10_030)
+            .build())
+        .toList();
+  }
+
+  @Test
+  @MaxQueries(value = 5, perStatement = 2)
+  @DisplayName("주 단위 재계산 - 근무일 수와 관계없이 주/월 조회와 일괄 갱신만 실행")
+  void recalculateWorkWeek_BoundedQueries() {
+    // given (2025-11-03 월요일부터 7일 연속 근무)
+    Long workerId = 1L;
+    Salary salary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 10_030, true);
+    List<Work> weekWorks = weekWorks(workerId, 7);
+    when(workRepository.findAllByWorkerIdAndDateRange(eq(workerId), any(), any())).thenReturn(weekWorks);
+
+    // when
+    salaryCalculationService.recalculateWorkWeek(workerId, LocalDate.of(2025, 11, 5), salary);
+
+    // then
+    verify(workRepository).updateWorkWeekDetailsBatch(argThat((List<Work> workList) -> workList.size() == 7));
+  }
+
+  @Test
+  @MaxQueries(value = 5, perStatement = 2)
+  @DisplayName("여러 근무자 재계산 - 근무자 수와 관계없이 주/월 조회 한 번씩, 고정급은 월간 요약만 갱신")
+  void recalculateForWorkers_GroupedQueries() {
+    // given (1번 시급제, 2번 고정급 근무자가 같은 주에 5일씩 근무)
+    Salary hourlySalary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 10_030, true);
+    Salary fixedSalary = salary(SalaryCalculation.SALARY_CALCULATION_FIXED, 0, true);
+    Map<Long, Salary> salaryMap = Map.of(1L, hourlySalary, 2L, fixedSalary);
+    List<Work> works = Stream.concat(weekWorks(1L, 5).stream(), weekWorks(2L, 5).stream()).toList();
+    when(workRepository.findAllByWorkerIdListInAndDateRange(anyList(), any(), any())).thenAnswer(invocation -> {
+      List<Long> workerIdList = invocation.getArgument(0);
+      return works.stream().filter(work -> workerIdList.contains(work.getWorkerId())).toList();
+    });
+
+    // when
+    salaryCalculationService.recalculateWorkWeekDetailsForWorkers(
+        Map.of(1L, List.of(LocalDate.of(2025, 11, 3)), 2L, List.of(LocalDate.of(2025, 11, 3))), salaryMap);
+    salaryCalculationService.recalculateMonthsForWorkers(
+        Map.of(1L, List.of(YearMonth.of(2025, 11)), 2L, List.of(YearMonth.of(2025, 11))), salaryMap);
+
+    // then
+    verify(workRepository).findAllByWorkerIdListInAndDateRange(List.of(1L), LocalDate.of(2025, 11, 3), LocalDate.of(2025, 11, 9));
+    verify(workRepository).updateWorkWeekDetailsBatch(argThat((List<Work> workList) ->
+        workList.size() == 5 && workList.stream().allMatch(work -> work.getWorkerId() == 1L)));
+    verify(workRepository).updateEstimatedNetIncomesByWorkerMonth(argThat((List<WorkRepository.WorkerMonthlyDailyDeduction> deductionList) ->
+        deductionList.size() == 1 && deductionList.get(0).workerId() == 1L));
+    verify(workerMonthSummaryRepository).upsertBatch(argThat((List<WorkerMonthSummary> summaryList) -> summaryList.size() == 2));
+    verify(workRepository, never()).findAllByWorkerIdAndDateRange(anyLong(), any(), any());
+  }
+
+  @Test
+  @MaxQueries(value = 5, perStatement = 1)
+  @DisplayName("시급 변경 - 집합 단위 쿼리로 적용일부터 시급, 주 단위부터 주휴수당 일괄 재계산")
+  void recalculateWorksForSalaryChange_Hourly() {
+    // given (2025-11-01은 토요일 → 10월 27일 월요일부터 재계산)
+    Long workerId = 1L;
+    Salary oldSalary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 10_030, true);
+    Salary newSalary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 12_000, true);
+    when(workRepository.findMonthlyIncomeSumsFromDate(workerId, LocalDate.of(2025, 10, 1))).thenReturn(List.of(
+        new WorkRepository.WorkMonthIncomeDto(2025, 11, 10, 2_400, 0, 600, 480_000, 0, 0, 1_000_000, 2_400)));
+
+    // when
+    salaryCalculationService.recalculateWorksForSalaryChange(workerId, LocalDate.of(2025, 11, 1), oldSalary, newSalary);
+
+    // then (소득세 30,000 + 지방소득세 3,000 = 33,000원 → 근무일 10일로 나누어 일 3,300원)
+    LocalDate fromWeekStartDate = LocalDate.of(2025, 10, 27);
+    verify(workRepository).updateHourlyRateAndPayFromDate(workerId, LocalDate.of(2025, 11, 1), 12_000, true);
+    verify(workRepository, never()).findAllByWorkerIdFromDate(anyLong(), any());
+    verify(workRepository).updateHolidayAllowancesFromDate(workerId, fromWeekStartDate, true);
+    verify(workRepository).updateEstimatedNetIncomesByMonth(workerId, LocalDate.of(2025, 10, 1),
+        List.of(new WorkRepository.MonthlyDailyDeduction(2025, 11, 3_300)));
+    verify(workerMonthSummaryRepository).upsertBatch(argThat((List<WorkerMonthSummary> summaryList) ->
+        summaryList.size() == 1 && summaryList.get(0).getTotalDeductions() == 33_000));
+  }
+
+  @Test
+  @MaxQueries(value = 5, perStatement = 1)
+  @DisplayName("시급 변경 - 적용일이 주 중간이면 시급은 적용일부터, 주휴수당은 그 주 월요일부터 주별 첫 근무 시급으로 재계산")
+  void recalculateWorksForSalaryChange_MidWeek() {
+    // given (2025-11-05는 수요일 → 11월 3일 월요일부터 주휴수당 재계산)
+    Long workerId = 1L;
+    Salary oldSalary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 10_030, true);
+    Salary newSalary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 12_000, true);
+    when(workRepository.findMonthlyIncomeSumsFromDate(workerId, LocalDate.of(2025, 11, 1))).thenReturn(List.of(
+        new WorkRepository.WorkMonthIncomeDto(2025, 11, 5, 2_400, 0, 300, 536_000, 0, 80_240, 616_240, 2_400)));
+
+    // when
+    salaryCalculationService.recalculateWorksForSalaryChange(workerId, LocalDate.of(2025, 11, 5), oldSalary, newSalary);
+
+    // then (월·화 근무는 변경 전 시급 유지, 주휴수당 시급은 쿼리가 주별 첫 근무에서 가져옴 → WorkRepositoryHolidayAllowanceQueryTest)
+    verify(workRepository).updateHourlyRateAndPayFromDate(workerId, LocalDate.of(2025, 11, 5), 12_000, true);
+    verify(workRepository).updateHolidayAllowancesFromDate(workerId, LocalDate.of(2025, 11, 3), true);
+    verify(workRepository).updateEstimatedNetIncomesByMonth(eq(workerId), eq(LocalDate.of(2025, 11, 1)), anyList());
+  }
+
+  @Test
+  @MaxQueries(value = 5, perStatement = 1)
+  @DisplayName("시급 변경 - 적용일 이전 달의 근무는 변경 전 시급과 공제 기준 유지")
+  void recalculateWorksForSalaryChange_KeepsPreviousMonth() {
+    // given (적용일 2025-11-01이 포함된 주는 10월 27일부터, 변경 전에는 소득세 미적용)
+    Long workerId = 1L;
+    Salary oldSalary = Salary.builder()
+        .salaryType(SalaryType.SALARY_MONTHLY)
+        .salaryCalculation(SalaryCalculation.SALARY_CALCULATION_HOURLY)
+        .hourlyRate(10_030)
+        .hasNationalPension(false)
+        .hasHealthInsurance(false)
+        .hasEmploymentInsurance(false)
+        .hasIncomeTax(false)
+        .hasHolidayAllowance(true)
+        .hasNightAllowance(true)
+        .build();
+    Salary newSalary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 12_000, true);
+    when(workRepository.findMonthlyIncomeSumsFromDate(workerId, LocalDate.of(2025, 10, 1))).thenReturn(List.of(
+        new WorkRepository.WorkMonthIncomeDto(2025, 10, 10, 2_400, 0, 600, 480_000, 0, 0, 1_000_000, 2_400),
+        new WorkRepository.WorkMonthIncomeDto(2025, 11, 10, 2_400, 0, 600, 480_000, 0, 0, 1_000_000, 2_400)));
+
+    // when
+    salaryCalculationService.recalculateWorksForSalaryChange(workerId, LocalDate.of(2025, 11, 1), oldSalary, newSalary);
+
+    // then (새 시급은 적용일부터, 주휴수당만 그 주의 월요일부터 재계산)
+    verify(workRepository).updateHourlyRateAndPayFromDate(workerId, LocalDate.of(2025, 11, 1), 12_000, true);
+    verify(workRepository, never()).updateHourlyRateAndPayFromDate(eq(workerId), eq(LocalDate.of(2025, 10, 27)), anyInt(), anyBoolean());
+    verify(workRepository).updateHolidayAllowancesFromDate(workerId, LocalDate.of(2025, 10, 27), true);
+
+    // then (10월 공제액은 변경 전 급여 정보로 추정)
+    verify(workRepository).updateEstimatedNetIncomesByMonth(workerId, LocalDate.of(2025, 10, 1), List.of(
+        new WorkRepository.MonthlyDailyDeduction(2025, 10, 0),
+        new WorkRepository.MonthlyDailyDeduction(2025, 11, 3_300)));
+    verify(workerMonthSummaryRepository).upsertBatch(argThat((List<WorkerMonthSummary> summaryList) ->
+        summaryList.size() == 2 && summaryList.get(0).getTotalDeductions() == 0 && summaryList.get(1).getTotalDeductions() == 33_000));
+  }
+
+  @Test
+  @MaxQueries(value = 5, perStatement = 1)
+  @DisplayName("월간 급여 조회 - 요약 행이 없으면 근무 기록으로 공제액까지 계산하고 저장하지 않음")
+  void getWorkerMonthlyWorkplaceSummaryList_ComputesMissingSummary() {
+    // given (요약 테이블 도입 이전 근무 5일, 일 200,000원)
+    Long workerId = 1L;
+    Long userId = 1_000L;
+    Salary salary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 10_030, true);
+    ReflectionTestUtils.setField(salary, "workerId", workerId);
+    List<Work> monthWorks = weekWorks(workerId, 5).stream()
+        .map(work -> work.toBuilder().netWorkMinutes(480).basePay(200_000).nightAllowance(0).holidayAllowance(0).grossIncome(200_000).build())
+        .toList();
+    when(workerRepository.findAllByUserId(userId)).thenReturn(List.of(
+        Worker.builder().id(workerId).userId(userId).workplaceId(10L).isNowWorking(false).build()));
+    when(salaryRepository.findAllByWorkerIdListIn(List.of(workerId))).thenReturn(List.of(salary));
+    when(workerMonthSummaryRepository.findAllByWorkerIdListInAndWorkMonth(List.of(workerId), LocalDate.of(2025, 11, 1))).thenReturn(List.of());
+    when(workRepository.findAllByWorkerIdListInAndDateRange(List.of(workerId), LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30))).thenReturn(monthWorks);
+    when(workplaceRepository.findAllByIdListIn(List.of(10L))).thenReturn(List.of(Workplace.builder().id(10L).workplaceName("매장").build()));
+
+    // when
+    List<WorkerMonthlyWorkplaceSummaryResponse> responseList = salaryCalculationService.getWorkerMonthlyWorkplaceSummaryList(userId, 2025, 11);
+
+    // then (소득세 30,000 + 지방소득세 3,000 = 33,000원을 요약 갱신과 같은 방식으로 추정, 조회 요청이므로 저장하지 않음)
+    assertEquals(1_000_000, responseList.get(0).getGrossIncome());
+    assertEquals(967_000, responseList.get(0).getNetIncome());
+    verify(workerMonthSummaryRepository, never()).createAllIfAbsent(any());
+    verify(workerMonthSummaryRepository, never()).upsertBatch(any());
+  }
+
+  @Test
+  @MaxQueries(value = 4, perStatement = 1)
+  @DisplayName("월간 급여 요약 백필 - 요약 행이 없는 근무 월만 근무 기록으로 계산해 저장")
+  void backfillWorkerMonthSummaries() {
+    // given (요약 테이블 도입 이전 근무 5일, 일 200,000원)
+    Long workerId = 1L;
+    Salary salary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 10_030, true);
+    ReflectionTestUtils.setField(salary, "workerId", workerId);
+    List<Work> monthWorks = weekWorks(workerId, 5).stream()
+        .map(work -> work.toBuilder().netWorkMinutes(480).basePay(200_000).nightAllowance(0).holidayAllowance(0).grossIncome(200_000).build())
+        .toList();
+    when(workerMonthSummaryRepository.findAllWorkMonthsWithoutSummaryByWorkerIdRange(0L, 1_000L))
+        .thenReturn(List.of(new WorkerMonthSummaryRepository.WorkerMonth(workerId, LocalDate.of(2025, 11, 1))));
+    when(salaryRepository.findAllByWorkerIdListIn(List.of(workerId))).thenReturn(List.of(salary));
+    when(workRepository.findAllByWorkerIdListInAndDateRange(List.of(workerId), LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30))).thenReturn(monthWorks);
+
+    // when
+    int summaryCount = salaryCalculationService.backfillWorkerMonthSummaries(0L, 1_000L);
+
+    // then (이미 있는 요약은 덮어쓰지 않는 INSERT, 근무 행은 갱신하지 않음)
+    assertEquals(1, summaryCount);
+    verify(workerMonthSummaryRepository).createAllIfAbsent(argThat((List<WorkerMonthSummary> summaryList) ->
+        summaryList.size() == 1 && summaryList.get(0).getWorkCount() == 5
+            && summaryList.get(0).getGrossIncome() == 1_000_000 && summaryList.get(0).getTotalDeductions() == 33_000));
+    verify(workRepository, never()).updateEstimatedNetIncomesByWorkerMonth(any());
+  }
+
+  @Test
+  @MaxQueries(value = 3, perStatement = 1)
+  @DisplayName("고정급 변경 - 근무별 일급은 재계산하지 않음")
+  void recalculateWorksForSalaryChange_Fixed() {
+    // given
+    Long workerId = 1L;
+    Salary oldSalary = salary(SalaryCalculation.SALARY_CALCULATION_HOURLY, 10_030, true);
+    Salary newSalary = salary(SalaryCalculation.SALARY_CALCULATION_FIXED, 0, true);
+    when(workRepository.findMonthlyIncomeSumsFromDate(anyLong(), any())).thenReturn(List.of());
+
+    // when
+    salaryCalculationService.recalculateWorksForSalaryChange(workerId, LocalDate.of(2025, 11, 1), oldSalary, newSalary);
+
+    // then
+    verify(workRepository, never()).updateHourlyRateAndPayFromDate(anyLong(), any(), anyInt(), anyBoolean());
+    verify(workRepository, never()).updateHolidayAllowancesFromDate(anyLong(), any(), anyBoolean());
+    verify(workRepository, never()).updateEstimatedNetIncomesByMonth(anyLong(), any(), any());
+  }
+}
@@ -0,0 +1,113 @@
+package com.moup.server.service;
+
+import com.moup.server.model.entity.Salary;
+import com.moup.server.model.enums.SalaryCalculation;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalaryRecalculationCoordinatorTest {
+
+  @Mock
+  private SalaryCalculationService salaryCalculationService;
+
+  @Mock
+  private CalendarVersionStore calendarVersionStore;
+
+  @InjectMocks
+  private SalaryRecalculationCoordinator salaryRecalculationCoordinator;
+
+  private final Salary hourlySalary = Salary.builder()
+      .salaryCalculation(SalaryCalculation.SALARY_CALCULATION_HOURLY)
+      .build();
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.unbindResourceIfPossible(salaryRecalculationCoordinator);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private void commit() {
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.beforeCommit(false);
+    }
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+    }
+  }
+
+  @Test
+  @DisplayName("같은 주/월 변경은 커밋 직전에 한 번씩만 재계산")
+  void coalescesWeeksAndMonths() {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+    Long workerId = 1L;
+
+    // when (같은 주의 월/수/금 + 다음 주 월요일)
+    salaryRecalculationCoordinator.markWorkWeekDirty(workerId, LocalDate.of(2025, 11, 3), hourlySalary);
+    salaryRecalculationCoordinator.markWorkWeekDirty(workerId, LocalDate.of(2025, 11, 5), hourlySalary);
+    salaryRecalculationCoordinator.markWorkWeekDirty(workerId, LocalDate.of(2025, 11, 7), hourlySalary);
+    salaryRecalculationCoordinator.markWorkWeekDirty(workerId, LocalDate.of(2025, 11, 10), hourlySalary);
+
+    // then (커밋 전에는 재계산하지 않음)
+    verifyNoInteractions(salaryCalculationService);
+
+    commit();
+
+    verify(salaryCalculationService, times(1)).recalculateWorkWeekDetailsForWorkers(
+        Map.of(workerId, List.of(LocalDate.of(2025, 11, 3), LocalDate.of(2025, 11, 10))), Map.of(workerId, hourlySalary));
+    verify(salaryCalculationService, times(1)).recalculateMonthsForWorkers(
+        Map.of(workerId, List.of(YearMonth.of(2025, 11))), Map.of(workerId, hourlySalary));
+    verify(salaryCalculationService, never()).recalculateWorkWeek(anyLong(), any(), any());
+  }
+
+  @Test
+  @DisplayName("여러 근무자의 변경은 근무자 수와 관계없이 주/월 재계산 한 번씩으로 묶음")
+  void groupsWorkersIntoOneRecalculation() {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+    Salary fixedSalary = Salary.builder().salaryCalculation(SalaryCalculation.SALARY_CALCULATION_FIXED).build();
+
+    // when
+    salaryRecalculationCoordinator.markWorkWeekDirty(1L, LocalDate.of(2025, 11, 3), hourlySalary);
+    salaryRecalculationCoordinator.markWorkWeekDirty(2L, LocalDate.of(2025, 11, 3), hourlySalary);
+    salaryRecalculationCoordinator.markWorkWeekDirty(3L, LocalDate.of(2025, 11, 3), fixedSalary);
+    commit();
+
+    // then
+    verify(salaryCalculationService, times(1)).recalculateWorkWeekDetailsForWorkers(
+        Map.of(1L, List.of(LocalDate.of(2025, 11, 3)), 2L, List.of(LocalDate.of(2025, 11, 3)), 3L, List.of(LocalDate.of(2025, 11, 3))),
+        Map.of(1L, hourlySalary, 2L, hourlySalary, 3L, fixedSalary));
+    verify(salaryCalculationService, times(1)).recalculateMonthsForWorkers(any(), any());
+    verify(salaryCalculationService, never()).recalculateWorkWeekDetails(anyLong(), any(), any());
+    verify(salaryCalculationService, never()).recalculateEstimatedNetIncomeForMonth(anyLong(), anyInt(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("트랜잭션 밖에서는 즉시 재계산")
+  void recalculatesImmediatelyWithoutTransaction() {
+    // when
+    salaryRecalculationCoordinator.markWorkWeekDirty(1L, LocalDate.of(2025, 11, 3), hourlySalary);
+
+    // then
+    verify(salaryCalculationService, times(1)).recalculateWorkWeek(1L, LocalDate.of(2025, 11, 3), hourlySalary);
+  }
+}
@@ -0,0 +1,70 @@
+package com.moup.server.service;
+
+import com.moup.server.service.SalaryRecalculationMetrics.Operation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryRecalculationMetricsTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private SalaryRecalculationMetrics salaryRecalculationMetrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    salaryRecalculationMetrics = new SalaryRecalculationMetrics(meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  private DistributionSummary callsPerRequest(Operation operation) {
+    return meterRegistry.get("salary.recalculation.calls.per.request")
+        .tag("operation", operation.name().toLowerCase())
+        .summary();
+  }
+
+  @Test
+  @DisplayName("요청이 끝날 때 요청 안에서 실행된 재계산 횟수를 한 번 기록")
+  void recordsCallsPerRequestOnCompletion() {
+    // given
+    ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+    RequestContextHolder.setRequestAttributes(attributes);
+
+    // when
+    salaryRecalculationMetrics.record(Operation.WEEK, System.nanoTime(), 5);
+    salaryRecalculationMetrics.record(Operation.WEEK, System.nanoTime(), 3);
+    salaryRecalculationMetrics.record(Operation.MONTH, System.nanoTime(), 22);
+    assertEquals(0, callsPerRequest(Operation.WEEK).count());
+    attributes.requestCompleted();
+
+    // then
+    assertEquals(1, callsPerRequest(Operation.WEEK).count());
+    assertEquals(2, callsPerRequest(Operation.WEEK).totalAmount());
+    assertEquals(1, callsPerRequest(Operation.MONTH).totalAmount());
+    assertEquals(8, meterRegistry.get("salary.recalculation.rows").tag("operation", "week").summary().totalAmount());
+    assertEquals(2, meterRegistry.get("salary.recalculation").tag("operation", "week").timer().count());
+  }
+
+  @Test
+  @DisplayName("요청 밖(스케줄러 등)에서는 시간과 행 수만 기록")
+  void skipsCallsPerRequestOutsideRequest() {
+    // when
+    salaryRecalculationMetrics.record(Operation.MONTH, System.nanoTime(), 10);
+
+    // then
+    assertEquals(1, meterRegistry.get("salary.recalculation").tag("operation", "month").timer().count());
+    assertEquals(0, callsPerRequest(Operation.MONTH).count());
+  }
+}
@@ -0,0 +1,99 @@
+package com.moup.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moup.server.common.Login;
+import com.moup.server.common.Role;
+import com.moup.server.model.entity.User;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private UserPrincipalCache userPrincipalCache;
+
+  private final User user = User.builder()
+      .id(1L)
+      .provider(Login.LOGIN_GOOGLE)
+      .providerId("google-1")
+      .username("moup")
+      .nickname("모업")
+      .role(Role.ROLE_WORKER)
+      .build();
+
+  @BeforeEach
+  void setUp() {
+    userPrincipalCache = new UserPrincipalCache(stringRedisTemplate, new ObjectMapper());
+    ReflectionTestUtils.setField(userPrincipalCache, "localMaxSize", 2);
+    ReflectionTestUtils.setField(userPrincipalCache, "localTtl", 30_000L);
+    ReflectionTestUtils.setField(userPrincipalCache, "redisTtl", 600_000L);
+    lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+  }
+
+  @Test
+  @DisplayName("로컬 캐시 적중 시 Redis를 조회하지 않음")
+  void localHit() {
+    // given
+    userPrincipalCache.put(user);
+
+    // when
+    Optional<User> cachedUser = userPrincipalCache.get(1L);
+
+    // then
+    assertTrue(cachedUser.isPresent());
+    assertEquals("모업", cachedUser.get().getNickname());
+    assertEquals(Role.ROLE_WORKER, cachedUser.get().getRole());
+    verify(valueOperations, never()).get(anyString());
+  }
+
+  @Test
+  @DisplayName("Redis에 저장된 값으로 로컬 캐시를 채움")
+  void redisHit() throws Exception {
+    // given (다른 인스턴스가 저장한 값)
+    String value = new ObjectMapper().writeValueAsString(UserPrincipalCache.CachedPrincipal.from(user));
+    when(valueOperations.get("user:principal:1")).thenReturn(value);
+
+    // when
+    Optional<User> cachedUser = userPrincipalCache.get(1L);
+
+    // then
+    assertTrue(cachedUser.isPresent());
+    assertEquals(Login.LOGIN_GOOGLE, cachedUser.get().getProvider());
+    assertFalse(cachedUser.get().isDeleted());
+
+    userPrincipalCache.get(1L);
+    verify(valueOperations, times(1)).get("user:principal:1");
+  }
+
+  @Test
+  @DisplayName("삭제 후에는 로컬/Redis 캐시 모두 비어 있음")
+  void evict() {
+    // given
+    userPrincipalCache.put(user);
+
+    // when
+    userPrincipalCache.evict(1L);
+
+    // then
+    assertTrue(userPrincipalCache.get(1L).isEmpty());
+    verify(stringRedisTemplate).delete("user:principal:1");
+  }
+}
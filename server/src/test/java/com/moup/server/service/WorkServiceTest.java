@@ -0,0 +1,432 @@
+package com.moup.server.service;
+
+import com.moup.server.exception.WorkerAlreadyWorkingException;
+import com.moup.server.model.dto.MyWorkCreateRequest;
+import com.moup.server.model.dto.MyWorkUpdateRequest;
+import com.moup.server.model.dto.WorkersWorkCreateRequest;
+import com.moup.server.model.dto.WorkersWorkCreateResponse;
+import com.moup.server.model.entity.User;
+import com.moup.server.model.entity.Work;
+import com.moup.server.model.entity.Worker;
+import com.moup.server.model.entity.WorkRepeatGroup;
+import com.moup.server.model.entity.Workplace;
+import com.moup.server.repository.SalaryRepository;
+import com.moup.server.repository.UserRepository;
+import com.moup.server.repository.WorkRepeatGroupRepository;
+import com.moup.server.repository.WorkRepository;
+import com.moup.server.repository.WorkTombstoneRepository;
+import com.moup.server.repository.WorkerRepository;
+import com.moup.server.repository.WorkplaceRepository;
+import com.moup.server.support.MaxQueries;
+import com.moup.server.util.PermissionVerifyUtil;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static com.moup.server.common.TimeConstants.SEOUL_ZONE_ID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkServiceTest {
+
+  @Mock
+  private WorkRepository workRepository;
+
+  @Mock
+  private WorkRepeatGroupRepository workRepeatGroupRepository;
+
+  @Mock
+  private SalaryRepository salaryRepository;
+
+  @Mock
+  private WorkerRepository workerRepository;
+
+  @Mock
+  private WorkplaceRepository workplaceRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private SalaryCalculationService salaryCalculationService;
+
+  @Mock
+  private SalaryRecalculationCoordinator salaryRecalculationCoordinator;
+
+  @Mock
+  private WorkplaceEventHub workplaceEventHub;
+
+  @Mock
+  private PermissionVerifyUtil permissionVerifyUtil;
+
+  @Mock
+  private WorkTombstoneRepository workTombstoneRepository;
+
+  @Mock
+  private CalendarVersionStore calendarVersionStore;
+
+  @Mock
+  private AccessContextResolver accessContextResolver;
+
+  @Mock
+  private RoutineService routineService;
+
+  @Mock
+  private AttendanceStateStore attendanceStateStore;
+
+  @InjectMocks
+  private WorkService workService;
+
+  private static final Long OWNER_USER_ID = 1L;
+  private static final Long WORKPLACE_ID = 10L;
+  private static final int WORKER_COUNT = 40;
+  private static final Long WORKER_ID = 101L;
+  private static final String REPEAT_GROUP_ID = "rg-101";
+
+  private final List<Long> workerIdList = LongStream.rangeClosed(101, 100 + WORKER_COUNT).boxed().toList();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(workService, "bulkInsertChunkSize", 1000);
+  }
+
+  /// 여러 근무자 일괄 생성 대상 근무지/근무자/사용자 조회를 스텁합니다.
+  private void stubBulkTargets() {
+    when(workplaceRepository.findById(WORKPLACE_ID)).thenReturn(Optional.of(Workplace.builder().id(WORKPLACE_ID).ownerId(OWNER_USER_ID).build()));
+    when(workerRepository.findAllByIdInAndWorkplaceId(workerIdList, WORKPLACE_ID)).thenReturn(workerIdList.stream()
+        .map(workerId -> Worker.builder().id(workerId).userId(workerId + 1000).workplaceId(WORKPLACE_ID).build())
+        .toList());
+    when(userRepository.findAllByIdListIn(anyList())).thenReturn(workerIdList.stream()
+        .map(workerId -> User.builder().id(workerId + 1000).nickname("알바" + workerId).build())
+        .toList());
+  }
+
+  private WorkersWorkCreateRequest recurringRequest(LocalDate repeatEndDate) {
+    return WorkersWorkCreateRequest.builder()
+        .workerIdList(workerIdList)
+        .startTime(LocalDateTime.of(2025, 11, 3, 9, 0).atZone(SEOUL_ZONE_ID).toInstant())
+        .endTime(LocalDateTime.of(2025, 11, 3, 18, 0).atZone(SEOUL_ZONE_ID).toInstant())
+        .restTimeMinutes(60)
+        .repeatDays(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY))
+        .repeatEndDate(repeatEndDate)
+        .build();
+  }
+
+  @Test
+  @MaxQueries(value = 7, perStatement = 2)
+  @DisplayName("여러 근무자 반복 근무 일괄 생성 - 근무자 수와 관계없이 조회/삽입을 묶고, 다시 조회하지 않고 ID 반환")
+  void createWorkForWorkerIdList_Bulk() {
+    // given (40명 × 2025-11-03 ~ 2026-01-31 월/수/금 39일 = 1,560건 → 1,000건씩 2번 INSERT)
+    stubBulkTargets();
+    when(salaryRepository.findAllByWorkerIdListIn(workerIdList)).thenReturn(List.of());
+    when(salaryCalculationService.calculateDailyIncome(any(), eq(0), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(0));
+    AtomicLong generatedId = new AtomicLong();
+    when(workRepository.createBatch(anyList())).thenAnswer(invocation -> {
+      List<Work> works = invocation.getArgument(0);
+      works.forEach(work -> ReflectionTestUtils.setField(work, "id", generatedId.incrementAndGet()));
+      return (long) works.size();
+    });
+
+    // when
+    WorkersWorkCreateResponse response = workService.createWorkForWorkerIdList(OWNER_USER_ID, WORKPLACE_ID, recurringRequest(LocalDate.of(2026, 1, 31)));
+
+    // then
+    assertEquals(WORKER_COUNT * 39, response.getSuccessWorkIdList().size());
+    assertTrue(response.getFailedWorkerInfoList().isEmpty());
+    verify(workRepository, times(2)).createBatch(anyList());
+    verify(workRepeatGroupRepository).createBatch(argThat(workRepeatGroupList -> workRepeatGroupList.size() == WORKER_COUNT));
+    verify(workRepository, never()).findAllByWorkerIdAndDateRange(anyLong(), any(), any());
+    verify(salaryRecalculationCoordinator, times(WORKER_COUNT * 13)).markWorkWeekDirty(anyLong(), any(), isNull());
+  }
+
+  @Test
+  @DisplayName("여러 근무자 반복 근무 일괄 생성 - 반복 규칙 오류는 모든 근무자를 실패로 응답")
+  void createWorkForWorkerIdList_InvalidRepeatEndDate() {
+    // given
+    stubBulkTargets();
+
+    // when
+    WorkersWorkCreateResponse response = workService.createWorkForWorkerIdList(OWNER_USER_ID, WORKPLACE_ID, recurringRequest(LocalDate.of(2025, 11, 1)));
+
+    // then
+    assertTrue(response.getSuccessWorkIdList().isEmpty());
+    assertEquals(WORKER_COUNT, response.getFailedWorkerInfoList().size());
+    assertEquals("알바101", response.getFailedWorkerInfoList().get(0).getNickname());
+    verifyNoInteractions(workRepository, workRepeatGroupRepository, salaryRecalculationCoordinator);
+  }
+
+  @Test
+  @DisplayName("출근 - 출근 후 퇴근했지만 아직 DB에 반영되지 않은 근무는 다시 출근 대상으로 고르지 않음")
+  void updateActualStartTime_ExcludesPendingStartedWorks() {
+    // given (근무 100을 출근/퇴근한 이벤트가 아직 반영 전)
+    Worker worker = Worker.builder().id(WORKER_ID).userId(WORKER_ID + 1000).workplaceId(WORKPLACE_ID).build();
+    Workplace workplace = Workplace.builder().id(WORKPLACE_ID).ownerId(OWNER_USER_ID).build();
+    when(accessContextResolver.resolveMyWorker(worker.getUserId(), WORKPLACE_ID)).thenReturn(new AccessContextResolver.WorkerAccess(workplace, worker));
+    when(attendanceStateStore.findPendingStartedWorkIds(worker.getUserId())).thenReturn(Set.of(100L));
+    when(workRepository.findEligibleWorkForClockIn(eq(WORKER_ID), any(), eq(Set.of(100L)))).thenReturn(Optional.empty());
+
+    // when
+    boolean started = workService.updateActualStartTime(worker.getUserId(), WORKPLACE_ID);
+
+    // then (DB 기준으로는 출근 가능해 보이는 근무 100을 덮어쓰지 않음)
+    assertFalse(started);
+    verify(attendanceStateStore, never()).clockIn(anyLong(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("근무 생성 후 출근 - 그 사이 이미 근무 중이 되었으면 예외로 근무 생성까지 롤백되도록 같은 트랜잭션에서 거절")
+  void createAndStartWork_AlreadyWorking() {
+    // given
+    Worker worker = Worker.builder().id(WORKER_ID).userId(WORKER_ID + 1000).workplaceId(WORKPLACE_ID).build();
+    Workplace workplace = Workplace.builder().id(WORKPLACE_ID).ownerId(OWNER_USER_ID).build();
+    when(accessContextResolver.resolveMyWorker(worker.getUserId(), WORKPLACE_ID)).thenReturn(new AccessContextResolver.WorkerAccess(workplace, worker));
+    when(salaryCalculationService.calculateDailyIncome(any(), eq(0), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(attendanceStateStore.clockIn(eq(worker.getUserId()), eq(worker), any(), any())).thenReturn(false);
+    Instant now = LocalDateTime.of(2025, 11, 3, 9, 0).atZone(SEOUL_ZONE_ID).toInstant();
+    MyWorkCreateRequest request = MyWorkCreateRequest.builder()
+        .routineIdList(List.of())
+        .startTime(now)
+        .actualStartTime(now)
+        .restTimeMinutes(0)
+        .repeatDays(List.of())
+        .build();
+
+    // when & then
+    assertThrows(WorkerAlreadyWorkingException.class, () -> workService.createAndStartWork(worker.getUserId(), WORKPLACE_ID, request));
+    verify(workRepository).create(any());
+    verifyNoInteractions(workplaceEventHub);
+  }
+
+  /// 2025-11-03 ~ 2025-11-28 월/수/금 반복 그룹(`REPEAT_GROUP_ID`)의 근무 하나를 수정/삭제 대상으로 스텁합니다.
+  private Work stubRecurringWorkAccess(LocalDate workDate) {
+    Work work = Work.builder()
+        .id(1L)
+        .workerId(WORKER_ID)
+        .workDate(workDate)
+        .startTime(workDate.atTime(9, 0))
+        .endTime(workDate.atTime(18, 0))
+        .restTimeMinutes(60)
+        .repeatGroupId(REPEAT_GROUP_ID)
+        .build();
+    Worker worker = Worker.builder().id(WORKER_ID).userId(WORKER_ID + 1000).workplaceId(WORKPLACE_ID).build();
+    Workplace workplace = Workplace.builder().id(WORKPLACE_ID).ownerId(OWNER_USER_ID).build();
+    when(accessContextResolver.resolveWork(work.getId())).thenReturn(new AccessContextResolver.WorkAccess(work, worker, workplace, null));
+    return work;
+  }
+
+  private WorkRepeatGroup repeatGroup() {
+    return WorkRepeatGroup.builder()
+        .id(REPEAT_GROUP_ID)
+        .workerId(WORKER_ID)
+        .repeatDays("MONDAY,WEDNESDAY,FRIDAY")
+        .startDate(LocalDate.of(2025, 11, 3))
+        .endDate(LocalDate.of(2025, 11, 28))
+        .build();
+  }
+
+  @Test
+  @DisplayName("반복 근무의 마지막 근무 삭제 - 반복 규칙 종료일을 남은 마지막 근무일로 맞추고 그룹 근무를 동기화 대상으로 갱신")
+  void deleteWork_LastOccurrenceSyncsRepeatGroup() {
+    // given
+    Work work = stubRecurringWorkAccess(LocalDate.of(2025, 11, 28));
+    when(workRepeatGroupRepository.findById(REPEAT_GROUP_ID)).thenReturn(Optional.of(repeatGroup()));
+
+    // when
+    workService.deleteWork(OWNER_USER_ID, work.getId());
+
+    // then
+    verify(workRepository).delete(work.getId(), WORKER_ID);
+    verify(workRepeatGroupRepository).updateDateRangeToWorks(REPEAT_GROUP_ID);
+    verify(workRepeatGroupRepository).deleteIfNoWorks(REPEAT_GROUP_ID);
+    verify(workRepository).touchAllByRepeatGroupId(REPEAT_GROUP_ID);
+    verify(calendarVersionStore).markWorkerChanged(WORKER_ID);
+  }
+
+  @Test
+  @DisplayName("반복 근무의 중간 근무 삭제 - 반복 규칙은 그대로 유지")
+  void deleteWork_MiddleOccurrenceKeepsRepeatGroup() {
+    // given
+    Work work = stubRecurringWorkAccess(LocalDate.of(2025, 11, 12));
+    when(workRepeatGroupRepository.findById(REPEAT_GROUP_ID)).thenReturn(Optional.of(repeatGroup()));
+
+    // when
+    workService.deleteWork(OWNER_USER_ID, work.getId());
+
+    // then
+    verify(workRepository).delete(work.getId(), WORKER_ID);
+    verify(workRepeatGroupRepository, never()).updateDateRangeToWorks(any());
+    verify(workRepeatGroupRepository, never()).deleteIfNoWorks(any());
+    verify(workRepository, never()).touchAllByRepeatGroupId(any());
+  }
+
+  @Test
+  @DisplayName("반복 근무 이후 일정 삭제 - 반복 규칙 종료일을 '전날'이 아닌 남은 마지막 근무일로 맞춤")
+  void deleteRecurringWorkIncludingDate_ClampsEndDateToLastOccurrence() {
+    // given (수요일 근무부터 삭제하면 종료일은 화요일이 아닌 직전 월요일 근무)
+    Work work = stubRecurringWorkAccess(LocalDate.of(2025, 11, 19));
+    when(workRepository.findDistinctWorkMonthsAfter(WORKER_ID, work.getWorkDate())).thenReturn(List.of());
+
+    // when
+    workService.deleteRecurringWorkIncludingDate(OWNER_USER_ID, work.getId());
+
+    // then (규칙 종료일은 삭제 후 남은 근무 기준으로 갱신, 남은 근무가 없으면 규칙 삭제)
+    InOrder inOrder = inOrder(workRepository, workRepeatGroupRepository);
+    inOrder.verify(workRepository).deleteRecurringWorkFromDate(REPEAT_GROUP_ID, work.getWorkDate());
+    inOrder.verify(workRepeatGroupRepository).updateDateRangeToWorks(REPEAT_GROUP_ID);
+    inOrder.verify(workRepeatGroupRepository).deleteIfNoWorks(REPEAT_GROUP_ID);
+    inOrder.verify(workRepository).touchAllByRepeatGroupId(REPEAT_GROUP_ID);
+    verify(calendarVersionStore).markWorkerChanged(WORKER_ID);
+  }
+
+  /// `repeatGroup()`의 근무 중 `fromDate` 포함 이후 근무를 반복 수정 대상으로 스텁합니다. (근무 ID는 날짜의 일)
+  /// 수정 대상 근무 이전의 근무가 남아 있으면 그룹을 나누므로 `fromDate` 이전 근무도 그룹 근무로 함께 반환합니다.
+  private Work stubRecurringWorkUpdate(LocalDate fromDate) {
+    Work work = stubRecurringWorkAccess(fromDate);
+    List<Work> groupWorks = Stream.iterate(LocalDate.of(2025, 11, 3), date -> !date.isAfter(LocalDate.of(2025, 11, 28)), date -> date.plusDays(1))
+        .filter(date -> Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY).contains(date.getDayOfWeek()))
+        .map(date -> Work.builder()
+            .id((long) date.getDayOfMonth())
+            .workerId(WORKER_ID)
+            .workDate(date)
+            .startTime(date.atTime(9, 0))
+            .endTime(date.atTime(18, 0))
+            .restTimeMinutes(60)
+            .hourlyRate(0)
+            .repeatGroupId(REPEAT_GROUP_ID)
+            .build())
+        .toList();
+    when(workRepository.findAllByRepeatGroupId(REPEAT_GROUP_ID)).thenReturn(groupWorks);
+    when(salaryCalculationService.calculateDailyIncome(any(), eq(0), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(0));
+    return work;
+  }
+
+  private MyWorkUpdateRequest recurringUpdateRequest(LocalDateTime startTime, LocalDateTime endTime, String memo,
+                                                     List<DayOfWeek> repeatDays, LocalDate repeatEndDate) {
+    return MyWorkUpdateRequest.builder()
+        .routineIdList(List.of())
+        .startTime(startTime.atZone(SEOUL_ZONE_ID).toInstant())
+        .endTime(endTime.atZone(SEOUL_ZONE_ID).toInstant())
+        .restTimeMinutes(60)
+        .memo(memo)
+        .repeatDays(repeatDays)
+        .repeatEndDate(repeatEndDate)
+        .build();
+  }
+
+  @Test
+  @DisplayName("반복 근무 수정 - 메모만 바뀌면 메모만 일괄 갱신하고 급여 재계산 주는 등록하지 않음")
+  void updateMyRecurringWork_MemoOnly() {
+    // given
+    Work work = stubRecurringWorkUpdate(LocalDate.of(2025, 11, 3));
+    when(workRepeatGroupRepository.findById(REPEAT_GROUP_ID)).thenReturn(Optional.of(repeatGroup()));
+    MyWorkUpdateRequest request = recurringUpdateRequest(LocalDateTime.of(2025, 11, 3, 9, 0), LocalDateTime.of(2025, 11, 3, 18, 0),
+        "새 메모", List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY), LocalDate.of(2025, 11, 28));
+
+    // when
+    workService.updateMyRecurringWork(WORKER_ID + 1000, work.getId(), request);
+
+    // then
+    verify(workRepository).updateMemoAndRepeatGroupIdBatch(
+        argThat(workIdList -> Set.copyOf(workIdList).equals(Set.of(3L, 5L, 7L, 10L, 12L, 14L, 17L, 19L, 21L, 24L, 26L, 28L))),
+        eq(WORKER_ID), eq("새 메모"), eq(REPEAT_GROUP_ID));
+    verify(calendarVersionStore).markWorkMonthChanged(WORKER_ID, YearMonth.of(2025, 11));
+    verify(workRepository, never()).updateRecurringWorkTimesBatch(any(), any(), any(), any(), anyLong(), any());
+    verify(workRepository, never()).deleteAllByIdListInAndWorkerId(any(), any());
+    verify(workRepository, never()).createBatch(any());
+    verify(workRepository, never()).touchAllByRepeatGroupId(any());
+    verifyNoInteractions(salaryRecalculationCoordinator, workTombstoneRepository);
+  }
+
+  @Test
+  @MaxQueries(value = 6, perStatement = 1)
+  @DisplayName("반복 근무 수정 - 근무 시간만 바뀌면 한 번의 일괄 UPDATE로 기존 근무(ID 유지) 수정")
+  void updateMyRecurringWork_TimeShift() {
+    // given
+    Work work = stubRecurringWorkUpdate(LocalDate.of(2025, 11, 3));
+    when(workRepeatGroupRepository.findById(REPEAT_GROUP_ID)).thenReturn(Optional.of(repeatGroup()));
+    MyWorkUpdateRequest request = recurringUpdateRequest(LocalDateTime.of(2025, 11, 3, 10, 0), LocalDateTime.of(2025, 11, 3, 19, 0),
+        null, List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY), LocalDate.of(2025, 11, 28));
+
+    // when
+    workService.updateMyRecurringWork(WORKER_ID + 1000, work.getId(), request);
+
+    // then
+    verify(workRepository).updateRecurringWorkTimesBatch(argThat(workIdList -> workIdList.size() == 12), eq(WORKER_ID),
+        eq(LocalTime.of(10, 0)), eq(LocalTime.of(19, 0)), eq(0L), any());
+    verify(workRepository, never()).updateMemoAndRepeatGroupIdBatch(any(), any(), any(), any());
+    verify(workRepository, never()).deleteAllByIdListInAndWorkerId(any(), any());
+    verify(workRepository, never()).createBatch(any());
+    verify(salaryRecalculationCoordinator, times(12)).markWorkWeekDirty(eq(WORKER_ID), any(), isNull());
+  }
+
+  @Test
+  @DisplayName("반복 근무 수정 - 요일/종료일이 바뀌면 사라진 날짜만 삭제(삭제 기록 포함)하고 새로 생긴 날짜만 삽입")
+  void updateMyRecurringWork_RepeatDaysAndEndDateChanged() {
+    // given (월/수/금 ~ 11-28 → 월/화 ~ 11-21)
+    Work work = stubRecurringWorkUpdate(LocalDate.of(2025, 11, 3));
+    when(workRepeatGroupRepository.findById(REPEAT_GROUP_ID)).thenReturn(Optional.of(repeatGroup()));
+    MyWorkUpdateRequest request = recurringUpdateRequest(LocalDateTime.of(2025, 11, 3, 9, 0), LocalDateTime.of(2025, 11, 3, 18, 0),
+        null, List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), LocalDate.of(2025, 11, 21));
+
+    // when
+    workService.updateMyRecurringWork(WORKER_ID + 1000, work.getId(), request);
+
+    // then (월요일 근무 3, 10, 17은 그대로 유지)
+    List<Long> removedWorkIdList = List.of(5L, 7L, 12L, 14L, 19L, 21L, 24L, 26L, 28L);
+    verify(workTombstoneRepository).createAll(removedWorkIdList, WORKER_ID);
+    verify(workRepository).deleteAllByIdListInAndWorkerId(removedWorkIdList, WORKER_ID);
+    verify(workRepository).createBatch(argThat(works -> works.stream().map(Work::getWorkDate).toList()
+        .equals(List.of(LocalDate.of(2025, 11, 4), LocalDate.of(2025, 11, 11), LocalDate.of(2025, 11, 18)))));
+    verify(workRepository, never()).updateRecurringWorkTimesBatch(any(), any(), any(), any(), anyLong(), any());
+    verify(workRepository, never()).updateMemoAndRepeatGroupIdBatch(any(), any(), any(), any());
+    verify(workRepeatGroupRepository).createOrUpdate(argThat(workRepeatGroup -> workRepeatGroup.getId().equals(REPEAT_GROUP_ID)
+        && workRepeatGroup.getRepeatDays().equals("MONDAY,TUESDAY") && workRepeatGroup.getEndDate().equals(LocalDate.of(2025, 11, 18))));
+    verify(workRepository).touchAllByRepeatGroupId(REPEAT_GROUP_ID);
+    verify(calendarVersionStore).markWorkerChanged(WORKER_ID);
+  }
+
+  @Test
+  @DisplayName("반복 근무 수정 - 이전 근무가 남아 있으면 새 그룹으로 나누고 기존 규칙은 남은 근무에 맞춤")
+  void updateMyRecurringWork_SplitsWhenEarlierWorksExist() {
+    // given (11-12부터 메모 변경 → 11-03 ~ 11-10 근무는 기존 그룹에 남음)
+    Work work = stubRecurringWorkUpdate(LocalDate.of(2025, 11, 12));
+    MyWorkUpdateRequest request = recurringUpdateRequest(LocalDateTime.of(2025, 11, 12, 9, 0), LocalDateTime.of(2025, 11, 12, 18, 0),
+        "새 메모", List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY), LocalDate.of(2025, 11, 28));
+
+    // when
+    workService.updateMyRecurringWork(WORKER_ID + 1000, work.getId(), request);
+
+    // then (11-12 이후 근무만 새 그룹으로 옮기고 삭제/삽입 없음)
+    verify(workRepository).updateMemoAndRepeatGroupIdBatch(
+        argThat(workIdList -> Set.copyOf(workIdList).equals(Set.of(12L, 14L, 17L, 19L, 21L, 24L, 26L, 28L))),
+        eq(WORKER_ID), eq("새 메모"), argThat(repeatGroupId -> !repeatGroupId.equals(REPEAT_GROUP_ID)));
+    verify(workRepeatGroupRepository).create(argThat(workRepeatGroup -> !workRepeatGroup.getId().equals(REPEAT_GROUP_ID)
+        && workRepeatGroup.getStartDate().equals(LocalDate.of(2025, 11, 12))));
+    verify(workRepeatGroupRepository, never()).createOrUpdate(any());
+    verify(workRepeatGroupRepository).updateDateRangeToWorks(REPEAT_GROUP_ID);
+    verify(workRepeatGroupRepository).deleteIfNoWorks(REPEAT_GROUP_ID);
+    verify(workRepository, never()).deleteAllByIdListInAndWorkerId(any(), any());
+    verify(workRepository, never()).createBatch(any());
+    verifyNoInteractions(salaryRecalculationCoordinator);
+  }
+}
@@ -0,0 +1,49 @@
+package com.moup.server.service;
+
+import com.moup.server.repository.WorkRepository;
+import com.moup.server.repository.WorkTombstoneRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkTombstonePurgeSchedulerTest {
+
+  @Mock
+  private WorkRepository workRepository;
+
+  @Mock
+  private WorkTombstoneRepository workTombstoneRepository;
+
+  @InjectMocks
+  private WorkTombstonePurgeScheduler workTombstonePurgeScheduler;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(workTombstonePurgeScheduler, "retentionDays", 30L);
+  }
+
+  @Test
+  @DisplayName("DB 현재 시각 기준으로 보관 기간이 지난 삭제 기록을 1,000개씩 모두 정리")
+  void purgesByDatabaseClock() {
+    // given (DB 시계는 UTC로 서버(KST)보다 9시간 늦음)
+    LocalDateTime databaseNow = LocalDateTime.of(2025, 11, 30, 15, 0);
+    LocalDateTime cutoff = LocalDateTime.of(2025, 10, 31, 15, 0);
+    when(workRepository.getCurrentTimestamp()).thenReturn(databaseNow);
+    when(workTombstoneRepository.deleteAllByDeletedAtBefore(cutoff, 1000)).thenReturn(1000, 1000, 10);
+
+    // when
+    workTombstonePurgeScheduler.purgeExpiredWorkTombstones();
+
+    // then
+    verify(workTombstoneRepository, times(3)).deleteAllByDeletedAtBefore(cutoff, 1000);
+  }
+}
@@ -0,0 +1,74 @@
+package com.moup.server.service;
+
+import com.moup.server.repository.WorkerMonthSummaryRepository;
+import com.moup.server.repository.WorkerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkerMonthSummaryBackfillServiceTest {
+
+  @Mock
+  private WorkerMonthSummaryRepository workerMonthSummaryRepository;
+
+  @Mock
+  private WorkerRepository workerRepository;
+
+  @Mock
+  private SalaryCalculationService salaryCalculationService;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @InjectMocks
+  private WorkerMonthSummaryBackfillService workerMonthSummaryBackfillService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(workerMonthSummaryBackfillService, "chunkSize", 1_000);
+  }
+
+  @Test
+  @DisplayName("요약 행이 없는 근무 월이 있으면 근무자 ID 구간마다 별도 트랜잭션으로 요약 생성")
+  void backfillsByWorkerIdRange() {
+    // given
+    when(workerMonthSummaryRepository.existsWorkMonthWithoutSummary()).thenReturn(true);
+    when(workerRepository.findMaxId()).thenReturn(1_500L);
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+    // when
+    workerMonthSummaryBackfillService.backfill();
+
+    // then (마지막 구간은 최대 근무자 ID까지)
+    InOrder inOrder = inOrder(salaryCalculationService);
+    inOrder.verify(salaryCalculationService).backfillWorkerMonthSummaries(0L, 1_000L);
+    inOrder.verify(salaryCalculationService).backfillWorkerMonthSummaries(1_000L, 1_500L);
+    verify(transactionTemplate, times(2)).execute(any());
+  }
+
+  @Test
+  @DisplayName("모든 근무 월에 요약 행이 있으면 아무것도 생성하지 않음")
+  void skipsWhenAllWorkMonthsHaveSummary() {
+    // given
+    when(workerMonthSummaryRepository.existsWorkMonthWithoutSummary()).thenReturn(false);
+
+    // when
+    workerMonthSummaryBackfillService.backfill();
+
+    // then
+    verifyNoInteractions(workerRepository, salaryCalculationService, transactionTemplate);
+  }
+}
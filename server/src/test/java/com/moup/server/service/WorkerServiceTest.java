@@ -3,14 +3,18 @@ package com.moup.server.service;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.moup.server.common.AlarmContent;
 import com.moup.server.common.AlarmTitle;
+import com.moup.server.exception.BadRequestException;
 import com.moup.server.exception.CustomFirebaseMessagingException;
 import com.moup.server.exception.WorkplaceNotFoundException;
 import com.moup.server.model.entity.Worker;
 import com.moup.server.model.entity.Workplace;
+import com.moup.server.repository.WorkRepository;
+import com.moup.server.repository.WorkRepository.AttendanceRow;
 import com.moup.server.repository.WorkerRepository;
 import com.moup.server.repository.WorkplaceRepository;
 import com.moup.server.util.PermissionVerifyUtil;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +23,7 @@ import org.mockito.Mock;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +41,12 @@ public class WorkerServiceTest {
   @Mock // 4. 가짜 의존성 선언
   private FCMService fCMService;
 
+  @Mock
+  private WorkRepository workRepository;
+
+  @Mock
+  private AccessContextResolver accessContextResolver;
+
   @InjectMocks // 가짜 의존성들을 이 클래스에 주입
   private WorkerService workerService; // 테스트 대상 클래스
 
@@ -64,16 +75,14 @@ public class WorkerServiceTest {
         .build();
 
     // 3. Mock 객체 행동 정의
-    // 3-1. workplaceRepository.findById(workplaceId)가 호출되면, mockWorkplace를 포함한 Optional 반환
-    when(workplaceRepository.findById(workplaceId)).thenReturn(Optional.of(mockWorkplace));
+    // 3-1. accessContextResolver.resolveWorker(...)가 호출되면, mockWorkplace와 mockWorker를 함께 반환
+    when(accessContextResolver.resolveWorker(workplaceId, workerId))
+        .thenReturn(new AccessContextResolver.WorkerAccess(mockWorkplace, mockWorker));
 
     // 3-2. permissionVerifyUtil.verifyOwnerPermission()은 아무것도 하지 않음 (void 메서드)
     doNothing().when(permissionVerifyUtil).verifyOwnerPermission(ownerUserId, ownerUserId);
 
-    // 3-3. workerRepository.findByIdAndWorkplaceId(...)가 호출되면, mockWorker를 포함한 Optional 반환
-    when(workerRepository.findByIdAndWorkplaceId(workerId, workplaceId)).thenReturn(Optional.of(mockWorker));
-
-    // 3-4. fCMService.sendToSingleUser(...)는 아무것도 하지 않음 (성공 시)
+    // 3-3. fCMService.sendToSingleUser(...)는 아무것도 하지 않음 (성공 시)
     doNothing().when(fCMService).sendToSingleUser(anyLong(), anyLong(), anyString(), anyString(), null);
 
     // when (테스트할 메서드 실제 호출)
@@ -81,8 +90,8 @@ public class WorkerServiceTest {
 
     // then (결과 검증)
 
-    // 1. workplaceRepository.findById가 1번 호출되었는지 검증
-    verify(workplaceRepository, times(1)).findById(workplaceId);
+    // 1. accessContextResolver.resolveWorker가 1번 호출되었는지 검증 (근무지와 근무자를 한 번에 조회)
+    verify(accessContextResolver, times(1)).resolveWorker(workplaceId, workerId);
 
     // 2. permissionVerifyUtil.verifyOwnerPermission이 1번 호출되었는지 검증
     verify(permissionVerifyUtil, times(1)).verifyOwnerPermission(ownerUserId, ownerUserId);
@@ -105,8 +114,8 @@ public class WorkerServiceTest {
     Long workplaceId = 10L;
     Long workerId = 100L;
 
-    // workplaceRepository.findById()가 빈 Optional을 반환하도록 설정
-    when(workplaceRepository.findById(workplaceId)).thenReturn(Optional.empty());
+    // accessContextResolver.resolveWorker()가 근무지 없음 예외를 던지도록 설정
+    when(accessContextResolver.resolveWorker(workplaceId, workerId)).thenThrow(new WorkplaceNotFoundException());
 
     // when & then
     // WorkplaceNotFoundException 예외가 발생하는지 검증
@@ -132,9 +141,9 @@ public class WorkerServiceTest {
     Workplace mockWorkplace = Workplace.builder().id(workplaceId).ownerId(ownerUserId).workplaceName(workplaceName).build();
     Worker mockWorker = Worker.builder().id(workerId).userId(workerUserId).workplaceId(workplaceId).build();
 
-    when(workplaceRepository.findById(workplaceId)).thenReturn(Optional.of(mockWorkplace));
+    when(accessContextResolver.resolveWorker(workplaceId, workerId))
+        .thenReturn(new AccessContextResolver.WorkerAccess(mockWorkplace, mockWorker));
     doNothing().when(permissionVerifyUtil).verifyOwnerPermission(ownerUserId, ownerUserId);
-    when(workerRepository.findByIdAndWorkplaceId(workerId, workplaceId)).thenReturn(Optional.of(mockWorker));
 
     // 3-4. fCMService.sendToSingleUser()가 호출되면 FirebaseMessagingException 예외를 던지도록 설정
     fCMService.sendToSingleUser(anyLong(), anyLong(), anyString(), anyString(), null);
@@ -149,4 +158,30 @@ public class WorkerServiceTest {
     verify(workerRepository, never()).updateIsAccepted(anyLong(), anyLong(), anyLong(), anyBoolean());
   }
 
+  @Test
+  @DisplayName("근태 기록 조회 - 다음 페이지가 있으면 마지막 근무로 커서를 만들고, 커서로 다음 페이지 조회")
+  void findAttendancePage_NextCursor() {
+    // given (페이지 크기 2, 3개 조회되면 다음 페이지 존재)
+    LocalDateTime startTime = LocalDateTime.of(2025, 11, 3, 9, 0);
+    List<AttendanceRow> rowList = List.of(
+        new AttendanceRow(3L, startTime.toLocalDate(), startTime, null, startTime.plusHours(8), null),
+        new AttendanceRow(2L, startTime.toLocalDate(), startTime, null, startTime.plusHours(8), null),
+        new AttendanceRow(1L, startTime.toLocalDate(), startTime, null, startTime.plusHours(8), null));
+    when(workRepository.findAttendancePageByWorkerId(100L, null, null, null, null, 3)).thenReturn(rowList);
+
+    // when
+    WorkerService.AttendancePage firstPage = workerService.findAttendancePage(100L, null, null, null, 2);
+    workerService.findAttendancePage(100L, null, null, firstPage.nextCursor(), 2);
+
+    // then (같은 출근 시간이면 ID로 이어서 조회)
+    assertEquals(2, firstPage.workAttendanceInfoList().size());
+    verify(workRepository).findAttendancePageByWorkerId(100L, null, null, startTime, 2L, 3);
+  }
+
+  @Test
+  @DisplayName("근태 기록 조회 - 잘못된 커서면 예외")
+  void findAttendancePage_Fail_InvalidCursor() {
+    assertThrows(BadRequestException.class, () -> workerService.findAttendancePage(100L, null, null, "invalid", 30));
+    verifyNoInteractions(workRepository);
+  }
 }
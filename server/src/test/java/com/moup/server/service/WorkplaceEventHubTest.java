@@ -0,0 +1,88 @@
+package com.moup.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.moup.server.model.dto.WorkplaceEventResponse;
+import com.moup.server.model.enums.WorkplaceEventType;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkplaceEventHubTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  private WorkplaceEventHub workplaceEventHub;
+
+  @BeforeEach
+  void setUp() {
+    workplaceEventHub = new WorkplaceEventHub(stringRedisTemplate, objectMapper);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 발행한 이벤트는 커밋 후에 Redis 채널로 발행")
+  void publishAfterCommit() throws Exception {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // when
+      workplaceEventHub.publish(WorkplaceEventType.SCHEDULE_CHANGED, 1L, 2L);
+
+      // then
+      verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+      List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+      synchronizations.forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+    verify(stringRedisTemplate).convertAndSend(eq("workplace:events:1"), payloadCaptor.capture());
+    WorkplaceEventResponse event = objectMapper.readValue(payloadCaptor.getValue(), WorkplaceEventResponse.class);
+    assertEquals(WorkplaceEventType.SCHEDULE_CHANGED, event.getType());
+    assertEquals(2L, event.getWorkerId());
+  }
+
+  @Test
+  @DisplayName("Redis 채널로 받은 이벤트는 해당 매장 구독자에게만 전달되고, 완료된 연결은 정리")
+  void deliverToWorkplaceSubscribers() throws Exception {
+    // given
+    SseEmitter emitter = workplaceEventHub.subscribe(1L, List.of());
+    workplaceEventHub.subscribe(2L, List.of());
+    WorkplaceEventResponse event = WorkplaceEventResponse.builder()
+        .type(WorkplaceEventType.CLOCK_IN)
+        .workplaceId(1L)
+        .workerId(3L)
+        .occurredAt(Instant.parse("2025-11-03T00:00:00Z"))
+        .build();
+    byte[] body = objectMapper.writeValueAsBytes(event);
+
+    // when
+    workplaceEventHub.onMessage(new DefaultMessage("workplace:events:1".getBytes(), body), null);
+    emitter.complete();
+    workplaceEventHub.onMessage(new DefaultMessage("workplace:events:1".getBytes(), body), null);
+
+    // then (완료된 연결에 전송하면 구독자 목록에서 제거)
+    assertEquals(0, workplaceEventHub.getSubscriberCount(1L));
+    assertEquals(1, workplaceEventHub.getSubscriberCount(2L));
+  }
+}
@@ -0,0 +1,23 @@
+package com.moup.server.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/// 테스트 실행 중 호출된 쿼리(매퍼 메서드) 수의 상한
+///
+/// `perStatement`로 같은 매퍼 메서드의 반복 호출 횟수를 제한하면, 데이터 수에 비례해 쿼리가 늘어나는 N+1 회귀를 잡을 수 있습니다.
+/// 클래스에 붙이면 모든 테스트 메서드에 적용되며, 메서드에 붙인 값이 우선합니다. (`QueryCountExtension` 참고)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface MaxQueries {
+
+  /// 전체 쿼리 수 상한
+  int value();
+
+  /// 같은 매퍼 메서드의 호출 횟수 상한
+  int perStatement() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,94 @@
+package com.moup.server.support;
+
+import com.moup.server.config.StatementLog;
+import java.lang.reflect.Field;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.ibatis.annotations.Mapper;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.mockito.MockingDetails;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/// `@MaxQueries`의 상한을 검사하는 JUnit 확장
+///
+/// 테스트 메서드 실행 구간(`@BeforeEach` 이후)에 실행된 쿼리를 `StatementLog`로 모아 상한과 비교합니다.
+/// - 실제 DB로 실행한 구문: `MyBatisStatementInspector`가 기록
+/// - Mockito 매퍼(`@Mapper`) mock 호출: 테스트 인스턴스의 mock 필드에서 호출 1회를 구문 1회로 기록 (`when(...)` 스터빙 호출은 제외)
+class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+  private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryCountExtension.class);
+
+  private record QueryCountState(StatementLog statementLog, Map<Object, Integer> mapperInvocationBaseline) {}
+
+  @Override
+  public void beforeTestExecution(ExtensionContext context) throws Exception {
+    if (findMaxQueries(context).isEmpty()) { return; }
+
+    Map<Object, Integer> mapperInvocationBaseline = new IdentityHashMap<>();
+    for (Object mapperMock : findMapperMocks(context.getRequiredTestInstance())) {
+      mapperInvocationBaseline.put(mapperMock, Mockito.mockingDetails(mapperMock).getInvocations().size());
+    }
+    context.getStore(NAMESPACE).put(context.getUniqueId(), new QueryCountState(StatementLog.open(), mapperInvocationBaseline));
+  }
+
+  @Override
+  public void afterTestExecution(ExtensionContext context) {
+    QueryCountState state = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCountState.class);
+    if (state == null) { return; }
+
+    StatementLog statementLog = state.statementLog();
+    statementLog.close();
+    state.mapperInvocationBaseline().forEach((mapperMock, baseline) -> recordMapperInvocations(statementLog, mapperMock, baseline));
+
+    // 테스트가 이미 실패했다면 그 실패를 그대로 보고합니다.
+    if (context.getExecutionException().isPresent()) { return; }
+
+    MaxQueries maxQueries = findMaxQueries(context).orElseThrow();
+    if (statementLog.totalCount() > maxQueries.value()) {
+      fail("쿼리 " + statementLog.totalCount() + "개가 상한 " + maxQueries.value() + "개를 넘었습니다. " + statementLog.statementCounts());
+    }
+    // 반복 호출 상한이 없으면(기본값) 검사하지 않습니다. (`perStatement() + 1`이 음수로 넘치지 않도록)
+    if (maxQueries.perStatement() == Integer.MAX_VALUE) { return; }
+    Map<String, Integer> repeatedStatementMap = statementLog.repeatedStatements(maxQueries.perStatement() + 1);
+    if (!repeatedStatementMap.isEmpty()) {
+      fail("같은 쿼리가 상한 " + maxQueries.perStatement() + "번을 넘게 반복 실행되었습니다. (N+1 의심) " + repeatedStatementMap);
+    }
+  }
+
+  private static Optional<MaxQueries> findMaxQueries(ExtensionContext context) {
+    return AnnotationSupport.findAnnotation(context.getTestMethod(), MaxQueries.class)
+        .or(() -> AnnotationSupport.findAnnotation(context.getTestClass(), MaxQueries.class));
+  }
+
+  private static Iterable<Object> findMapperMocks(Object testInstance) throws IllegalAccessException {
+    Map<Object, Boolean> mapperMocks = new IdentityHashMap<>();
+    for (Class<?> type = testInstance.getClass(); type != Object.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (!field.getType().isAnnotationPresent(Mapper.class)) { continue; }
+        field.setAccessible(true);
+        Object value = field.get(testInstance);
+        if (value != null && Mockito.mockingDetails(value).isMock()) {
+          mapperMocks.put(value, true);
+        }
+      }
+    }
+    return mapperMocks.keySet();
+  }
+
+  /// 기준 시점 이후의 mock 호출을 `WorkRepository.findById` 형태의 구문 이름으로 기록합니다.
+  private static void recordMapperInvocations(StatementLog statementLog, Object mapperMock, int baseline) {
+    MockingDetails mockingDetails = Mockito.mockingDetails(mapperMock);
+    String mapperName = mockingDetails.getMockCreationSettings().getTypeToMock().getSimpleName();
+    mockingDetails.getInvocations().stream()
+        .skip(baseline)
+        .map(Invocation::getMethod)
+        .forEach(method -> statementLog.record(mapperName + "." + method.getName()));
+  }
+}
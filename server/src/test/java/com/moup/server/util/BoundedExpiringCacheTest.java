@@ -0,0 +1,72 @@
+package com.moup.server.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedExpiringCacheTest {
+
+  @Test
+  @DisplayName("만료된 값은 반환하지 않고 삭제")
+  void getExpired() {
+    // given
+    BoundedExpiringCache<String, String> cache = new BoundedExpiringCache<>(() -> 10);
+    cache.put("token", "claims", 1_000L);
+
+    // when & then
+    assertEquals("claims", cache.get("token", 999L));
+    assertNull(cache.get("token", 1_000L));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  @DisplayName("최대 개수를 넘으면 만료된 항목, 만료가 가까운 항목 순으로 최대 개수의 90%까지 정리")
+  void evictsExpiredThenEarliestExpiring() {
+    // given (1은 이미 만료, 나머지는 키가 작을수록 먼저 만료)
+    long now = System.currentTimeMillis();
+    BoundedExpiringCache<Integer, Integer> cache = new BoundedExpiringCache<>(() -> 10);
+    cache.put(1, 1, now - 1);
+    for (int key = 2; key <= 10; key++) {
+      cache.put(key, key, now + key * 60_000L);
+    }
+
+    // when
+    cache.put(11, 11, now + 11 * 60_000L);
+
+    // then (만료된 1 삭제 후 10개 → 9개가 되도록 2 삭제)
+    assertEquals(9, cache.size());
+    assertNull(cache.get(1, now));
+    assertNull(cache.get(2, now));
+    assertEquals(3, cache.get(3, now));
+    assertEquals(11, cache.get(11, now));
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 동시에 저장해도 정리 후 최대 개수를 넘지 않음")
+  void concurrentPut() throws Exception {
+    // given
+    long expiresAt = System.currentTimeMillis() + 60_000L;
+    BoundedExpiringCache<Integer, Integer> cache = new BoundedExpiringCache<>(() -> 100);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // when
+    for (int thread = 0; thread < 8; thread++) {
+      int offset = thread * 10_000;
+      executor.execute(() -> {
+        for (int key = offset; key < offset + 10_000; key++) {
+          cache.put(key, key, expiresAt + key);
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    cache.put(-1, -1, expiresAt);
+
+    // then
+    assertTrue(cache.size() <= 100, () -> "size: " + cache.size());
+  }
+}
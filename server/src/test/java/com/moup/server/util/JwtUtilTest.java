@@ -0,0 +1,70 @@
+package com.moup.server.util;
+
+import com.moup.server.common.Role;
+import com.moup.server.model.dto.TokenCreateRequest;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+  private JwtUtil jwtUtil;
+
+  private final TokenCreateRequest tokenCreateRequest = TokenCreateRequest.builder()
+      .userId(1L)
+      .role(Role.ROLE_WORKER)
+      .username("moup")
+      .build();
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil = new JwtUtil("moup-test-secret-key-for-hmac-sha-256-signature");
+    ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 1_200_000L);
+    ReflectionTestUtils.setField(jwtUtil, "verifiedTokenCacheMaxSize", 2);
+  }
+
+  @Test
+  @DisplayName("한 번 검증한 토큰은 같은 Claims를 재사용")
+  void verifyCachesClaims() {
+    // given
+    String token = jwtUtil.createAccessToken(tokenCreateRequest);
+
+    // when
+    Claims claims = jwtUtil.verify(token);
+
+    // then
+    assertEquals(1L, jwtUtil.getUserId(claims));
+    assertEquals("ROLE_WORKER", claims.get("role"));
+    assertSame(claims, jwtUtil.verify(token));
+    assertEquals("moup", jwtUtil.getUsername(token));
+  }
+
+  @Test
+  @DisplayName("서명이 변조된 토큰은 검증 실패")
+  void verifyRejectsTamperedToken() {
+    // given
+    String token = jwtUtil.createAccessToken(tokenCreateRequest);
+    jwtUtil.verify(token);
+    String tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+    // when & then
+    assertThrows(JwtException.class, () -> jwtUtil.verify(tamperedToken));
+    assertFalse(jwtUtil.isValidToken(tamperedToken));
+  }
+
+  @Test
+  @DisplayName("만료된 토큰은 검증 실패")
+  void verifyRejectsExpiredToken() {
+    // given
+    ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", -1_000L);
+    String token = jwtUtil.createAccessToken(tokenCreateRequest);
+
+    // when & then
+    assertThrows(JwtException.class, () -> jwtUtil.verify(token));
+  }
+}
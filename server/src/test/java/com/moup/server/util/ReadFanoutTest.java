@@ -0,0 +1,68 @@
+package com.moup.server.util;
+
+import com.moup.server.exception.UserNotFoundException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadFanoutTest {
+
+  private ExecutorService executor;
+  private ReadFanout readFanout;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(2);
+    readFanout = new ReadFanout(executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("범위 안의 작업은 동시에 실행되고 join 이후 결과 반환")
+  void forkRunsConcurrently() {
+    // given (두 작업이 서로를 기다리므로 순서대로 실행하면 시간 초과)
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    Supplier<String> task = () -> {
+      bothStarted.countDown();
+      try {
+        return bothStarted.await(5, TimeUnit.SECONDS) ? "done" : "timeout";
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    };
+
+    // when
+    try (ReadFanout.Scope scope = readFanout.open()) {
+      Supplier<String> first = scope.fork(task);
+      Supplier<String> second = scope.fork(task);
+      scope.join();
+
+      // then
+      assertEquals("done", first.get());
+      assertEquals("done", second.get());
+    }
+  }
+
+  @Test
+  @DisplayName("작업이 실패하면 join에서 원래 예외를 그대로 던짐")
+  void joinRethrowsOriginalException() {
+    try (ReadFanout.Scope scope = readFanout.open()) {
+      scope.fork(() -> "ok");
+      scope.fork(() -> { throw new UserNotFoundException(); });
+
+      assertThrows(UserNotFoundException.class, scope::join);
+    }
+  }
+}
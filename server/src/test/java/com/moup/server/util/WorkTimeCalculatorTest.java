@@ -0,0 +1,87 @@
+package com.moup.server.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WorkTimeCalculatorTest {
+
+  private static final LocalTime NIGHT_START_TIME = LocalTime.of(22, 0);
+  private static final LocalTime NIGHT_END_TIME = LocalTime.of(6, 0);
+
+  /// 기존 1분 단위 순회 방식 (기준 구현)
+  private static long[] legacyMinutes(LocalDateTime start, LocalDateTime end) {
+    long gross = 0;
+    long night = 0;
+    LocalDateTime cursor = start;
+    while (cursor.isBefore(end)) {
+      gross++;
+      LocalTime cursorTime = cursor.toLocalTime();
+      if (!cursorTime.isBefore(NIGHT_START_TIME) || cursorTime.isBefore(NIGHT_END_TIME)) {
+        night++;
+      }
+      cursor = cursor.plusMinutes(1);
+    }
+    return new long[]{gross, night};
+  }
+
+  private static void assertSameAsLegacy(LocalDateTime start, LocalDateTime end) {
+    long[] expected = legacyMinutes(start, end);
+    String message = start + " ~ " + end;
+    assertEquals(expected[0], WorkTimeCalculator.calculateGrossMinutes(start, end), message);
+    assertEquals(expected[1], WorkTimeCalculator.calculateNightMinutes(start, end), message);
+    assertEquals(Duration.between(start, end).toMinutes(), WorkTimeCalculator.calculateElapsedMinutes(start, end), message);
+  }
+
+  @Test
+  @DisplayName("주간 근무 - 야간 시간 없음")
+  void dayShift() {
+    LocalDateTime start = LocalDateTime.of(2025, 11, 3, 9, 0);
+    LocalDateTime end = LocalDateTime.of(2025, 11, 3, 18, 0);
+
+    assertEquals(540, WorkTimeCalculator.calculateGrossMinutes(start, end));
+    assertEquals(0, WorkTimeCalculator.calculateNightMinutes(start, end));
+  }
+
+  @Test
+  @DisplayName("자정을 넘기는 근무 - 22:00 ~ 06:00 전체가 야간")
+  void overnightShift() {
+    LocalDateTime start = LocalDateTime.of(2025, 11, 3, 20, 0);
+    LocalDateTime end = LocalDateTime.of(2025, 11, 4, 7, 0);
+
+    assertEquals(660, WorkTimeCalculator.calculateGrossMinutes(start, end));
+    assertEquals(480, WorkTimeCalculator.calculateNightMinutes(start, end));
+  }
+
+  @Test
+  @DisplayName("여러 날에 걸친 근무 및 경계값 - 기존 1분 순회와 결과 동일")
+  void multiDayAndBoundaries() {
+    LocalDateTime base = LocalDateTime.of(2025, 12, 31, 0, 0);
+    assertSameAsLegacy(base.withHour(22), base.withHour(22));
+    assertSameAsLegacy(base.withHour(22), base.withHour(21));
+    assertSameAsLegacy(base.withHour(21).withMinute(59), base.withHour(22).withMinute(1));
+    assertSameAsLegacy(base.withHour(5).withMinute(59), base.withHour(6).withMinute(1));
+    assertSameAsLegacy(base.withHour(21).withSecond(30), base.withHour(23).withNano(1));
+    assertSameAsLegacy(base.minusDays(2).withHour(13), base.plusDays(1).withHour(3).withMinute(17));
+  }
+
+  @Test
+  @DisplayName("임의의 근무 구간 - 기존 1분 순회와 결과 동일")
+  void randomIntervals() {
+    Random random = new Random(20251103L);
+    LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    for (int i = 0; i < 2_000; i++) {
+      LocalDateTime start = base.plusSeconds(random.nextInt(60 * 60 * 24 * 365))
+          .withNano(random.nextBoolean() ? 0 : random.nextInt(1_000_000_000));
+      LocalDateTime end = start.plusSeconds(random.nextInt(60 * 60 * 60) - 60 * 60)
+          .plusNanos(random.nextBoolean() ? 0 : random.nextInt(1_000_000_000));
+      assertSameAsLegacy(start, end);
+    }
+  }
+}